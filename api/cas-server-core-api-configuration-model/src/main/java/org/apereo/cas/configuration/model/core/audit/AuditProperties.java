@@ -78,6 +78,13 @@ public class AuditProperties implements Serializable {
      */
     private boolean useServerHostAddress;
 
+    /**
+     * Settings that control how audit records are queued
+     * and saved in batches by asynchronous audit destinations.
+     */
+    @NestedConfigurationProperty
+    private AuditQueueProperties queue = new AuditQueueProperties();
+
     /**
      * Family of sub-properties pertaining to Jdbc-based audit destinations.
      */
@@ -0,0 +1,74 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link AuditQueueProperties} that controls how audit records
+ * are queued and saved in batches, when audit destinations record asynchronously.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiresModule(name = "cas-server-core-audit", automated = true)
+@Getter
+@Setter
+public class AuditQueueProperties implements Serializable {
+
+    private static final long serialVersionUID = -2683472715290446376L;
+
+    /**
+     * Maximum number of audit records that may be waiting in the queue
+     * before the overflow policy is applied.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of audit records that are saved together in a single batch.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum amount of time audit records may wait in the queue
+     * before they are saved, even if the batch is not full.
+     * This settings supports the {@code java.time.Duration} syntax.
+     */
+    private String flushInterval = "PT1S";
+
+    /**
+     * Indicates what should happen to audit records once the queue is full. Accepted values are:
+     *
+     * <ul>
+     * <li>{@code BLOCK}: Block the caller until there is room in the queue.</li>
+     * <li>{@code DROP}: Discard the audit record.</li>
+     * <li>{@code SPILL}: Append the audit record to the spill file.</li>
+     * </ul>
+     */
+    private OverflowPolicies overflowPolicy = OverflowPolicies.BLOCK;
+
+    /**
+     * Location of the file that receives audit records as JSON,
+     * one per line, when the queue is full and the overflow policy is {@code SPILL}.
+     * If undefined, a file in the system temporary directory is used.
+     */
+    private String spillFile;
+
+    public enum OverflowPolicies {
+        /**
+         * Block the caller until there is room in the queue.
+         */
+        BLOCK,
+        /**
+         * Discard the audit record.
+         */
+        DROP,
+        /**
+         * Append the audit record to the spill file.
+         */
+        SPILL
+    }
+}
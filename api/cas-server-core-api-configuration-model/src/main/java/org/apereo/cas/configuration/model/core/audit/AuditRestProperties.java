@@ -23,4 +23,11 @@ public class AuditRestProperties extends RestEndpointProperties {
      * Make storage requests asynchronously.
      */
     private boolean asynchronous = true;
+
+    /**
+     * Send audit records that are saved together in a single request, as a JSON array,
+     * rather than sending one request per audit record. The endpoint must be able to accept
+     * an array of audit records. Only applies if audit records are saved asynchronously.
+     */
+    private boolean batchRequests;
 }
@@ -30,6 +30,27 @@ public class AuthenticationEngineProperties implements Serializable {
      */
     private Groovy groovyPostProcessor = new Groovy();
 
+    /**
+     * Indicates whether authentication handlers that support a credential should be executed
+     * concurrently rather than one after another. Handler results are always processed in the order
+     * in which handlers are defined, and handlers still running are cancelled once authentication policies
+     * are satisfied. Handlers are executed outside the request thread, and must not rely on state
+     * that is bound to the request thread.
+     */
+    private boolean parallelHandlerExecution;
+
+    /**
+     * Maximum number of threads used to execute authentication handlers concurrently.
+     */
+    private int handlerExecutionPoolSize = 16;
+
+    /**
+     * Maximum amount of time to wait for each authentication handler
+     * to respond when handlers are executed concurrently.
+     * This settings supports the {@code java.time.Duration} syntax.
+     */
+    private String handlerExecutionTimeout = "PT10S";
+
     @RequiresModule(name = "cas-server-core-authentication", automated = true)
     @Getter
     @Setter
@@ -71,6 +71,38 @@ public class PrincipalAttributesProperties implements Serializable {
      */
     private String merger = "REPLACE";
 
+    /**
+     * Indicates whether attribute repository sources should be queried concurrently
+     * rather than one after another. Results are always merged in the order
+     * in which sources are defined, regardless of which source responds first.
+     */
+    private boolean parallel;
+
+    /**
+     * Maximum number of threads used to query attribute repository sources concurrently.
+     */
+    private int poolSize = 16;
+
+    /**
+     * Maximum amount of time to wait for each attribute repository source
+     * to respond when sources are queried concurrently. Each source is given
+     * the full amount of time, measured from when the query to that source begins.
+     * This settings supports the {@code java.time.Duration} syntax.
+     */
+    private String queryTimeout = "PT5S";
+
+    /**
+     * Indicates what should happen when an attribute repository source fails or times out.
+     * Accepted values are:
+     *
+     * <ul>
+     * <li>{@code IGNORE}: Skip the source and merge results from the remaining sources.</li>
+     * <li>{@code FAIL}: Abort attribute resolution.</li>
+     * </ul>
+     * If undefined, the default behavior of the attribute repository is retained.
+     */
+    private FailurePolicies failurePolicy;
+
     /**
      * CAS provides the ability to release a bundle of principal attributes to all services by default.
      * This bundle is not defined on a per-service basis and is always combined with attributes
@@ -139,4 +171,15 @@ public class PrincipalAttributesProperties implements Serializable {
      * </pre>
      */
     private GrouperPrincipalAttributesProperties grouper = new GrouperPrincipalAttributesProperties();
+
+    public enum FailurePolicies {
+        /**
+         * Skip the source and merge results from the remaining sources.
+         */
+        IGNORE,
+        /**
+         * Abort attribute resolution.
+         */
+        FAIL
+    }
 }
@@ -61,6 +61,11 @@ public class RiskBasedAuthenticationProperties implements Serializable {
      */
     private long daysInRecentHistory = 30;
 
+    /**
+     * Control how risk profiles of principals are built from authentication history and cached.
+     */
+    private Profile profile = new Profile();
+
     @Getter
     @Setter
     public static class IpAddress implements Serializable {
@@ -119,6 +124,32 @@ public class RiskBasedAuthenticationProperties implements Serializable {
         private int windowInHours = 2;
     }
 
+    @Getter
+    @Setter
+    public static class Profile implements Serializable {
+
+        private static final long serialVersionUID = -6132784417209383612L;
+
+        /**
+         * How long the risk profile of a principal is kept in memory before
+         * it is built again from the authentication history. Authentication events
+         * that occur on this node are added to cached profiles as they happen.
+         */
+        private String expiration = "PT10M";
+
+        /**
+         * Maximum number of risk profiles to keep in memory.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * The half-life of authentication events in the risk profile, allowing
+         * recent events to weigh more than older ones. A zero duration disables decay
+         * and weighs all events in recent history equally.
+         */
+        private String decayHalfLife = "PT0S";
+    }
+
     @Getter
     @Setter
     public static class Response implements Serializable {
@@ -43,6 +43,11 @@ public class EventsProperties implements Serializable {
      */
     private boolean trackConfigurationModifications = true;
 
+    /**
+     * Track authentication events inside memory.
+     */
+    private Memory memory = new Memory();
+
     /**
      * Track authentication events inside a database.
      */
@@ -63,6 +68,25 @@ public class EventsProperties implements Serializable {
      */
     private CouchDb couchDb = new CouchDb();
 
+    @RequiresModule(name = "cas-server-support-events-memory")
+    @Getter
+    @Setter
+    public static class Memory implements Serializable {
+
+        private static final long serialVersionUID = 5213829347212309851L;
+
+        /**
+         * Maximum number of events to keep in memory.
+         * Events are evicted once the limit is reached.
+         */
+        private long maximumSize = 1_000_000;
+
+        /**
+         * How long events should be kept in memory after they are recorded.
+         */
+        private String expiration = "PT2H";
+    }
+
     @RequiresModule(name = "cas-server-support-events-jpa")
     @Getter
     @Setter
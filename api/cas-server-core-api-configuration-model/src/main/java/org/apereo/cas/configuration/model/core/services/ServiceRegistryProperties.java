@@ -112,6 +112,11 @@ public class ServiceRegistryProperties implements Serializable {
      */
     @NestedConfigurationProperty
     private SchedulingProperties schedule = new SchedulingProperties();
+    /**
+     * Scheduled reloads apply only the changes made to service definitions, where the service registry
+     * keeps track of changes, and load all service definitions again once this interval has passed.
+     */
+    private String fullReloadInterval = "PT30M";
     /**
      * Email settings for notifications.
      */
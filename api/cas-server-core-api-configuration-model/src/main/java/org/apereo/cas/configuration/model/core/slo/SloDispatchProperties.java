@@ -0,0 +1,59 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link SloDispatchProperties} that controls how back-channel logout messages
+ * are queued and sent when SLO callbacks are done asynchronously.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+public class SloDispatchProperties implements Serializable {
+
+    private static final long serialVersionUID = 5390412467013628843L;
+
+    /**
+     * Maximum number of logout messages that may be pending delivery.
+     * Logout messages are rejected once the limit is reached.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Number of threads used to send logout messages.
+     */
+    private int poolSize = 8;
+
+    /**
+     * Maximum number of logout messages that may be sent
+     * to the same host at the same time.
+     */
+    private int maxConcurrentRequestsPerHost = 4;
+
+    /**
+     * Maximum number of attempts to deliver a logout message.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Amount of time to wait before retrying a logout message that could not be delivered.
+     * The delay is doubled with every subsequent attempt.
+     * This settings supports the {@code java.time.Duration} syntax.
+     */
+    private String retryDelay = "PT2S";
+
+    /**
+     * Directory where pending logout messages are stored
+     * so they can be delivered once CAS is restarted.
+     * If undefined, pending logout messages are only kept in memory.
+     */
+    private String persistenceDirectory;
+}
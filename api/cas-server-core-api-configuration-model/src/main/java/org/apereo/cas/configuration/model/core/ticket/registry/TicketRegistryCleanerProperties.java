@@ -0,0 +1,42 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * This is {@link TicketRegistryCleanerProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@NoArgsConstructor
+public class TicketRegistryCleanerProperties extends ScheduledJobProperties {
+
+    private static final long serialVersionUID = 2196734154637413279L;
+
+    /**
+     * Maximum number of tickets that are due for expiration
+     * to examine and clean in a single batch. Only applicable to registries
+     * that keep track of ticket expiration, such as the default in-memory registry.
+     */
+    private int batchSize = 1_000;
+
+    /**
+     * Maximum amount of time a single cleaner run may spend on tickets
+     * that are due for expiration. Tickets left over are processed in the next run.
+     * Only applicable to registries that keep track of ticket expiration,
+     * such as the default in-memory registry.
+     */
+    private String maxCleanDuration = "PT30S";
+
+    public TicketRegistryCleanerProperties(final String startDelay, final String repeatInterval) {
+        super(startDelay, repeatInterval);
+    }
+}
@@ -13,7 +13,6 @@ import org.apereo.cas.configuration.model.support.jms.JmsTicketRegistryPropertie
 import org.apereo.cas.configuration.model.support.jpa.ticketregistry.JpaTicketRegistryProperties;
 import org.apereo.cas.configuration.model.support.memcached.MemcachedTicketRegistryProperties;
 import org.apereo.cas.configuration.model.support.mongo.ticketregistry.MongoTicketRegistryProperties;
-import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
 import org.apereo.cas.configuration.model.support.redis.RedisTicketRegistryProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -113,6 +112,10 @@ public class TicketRegistryProperties implements Serializable {
      */
     private InMemory inMemory = new InMemory();
 
+    /**
+     * Settings relevant for the local near-cache kept in front of a distributed ticket registry.
+     */
+    private NearCache nearCache = new NearCache();
 
     /**
      * CouchDb registry settings.
@@ -124,7 +127,33 @@ public class TicketRegistryProperties implements Serializable {
      * Ticket registry cleaner settings.
      */
     @NestedConfigurationProperty
-    private ScheduledJobProperties cleaner = new ScheduledJobProperties("PT10S", "PT1M");
+    private TicketRegistryCleanerProperties cleaner = new TicketRegistryCleanerProperties("PT10S", "PT1M");
+
+    @RequiresModule(name = "cas-server-core-tickets", automated = true)
+    @Getter
+    @Setter
+    public static class NearCache implements Serializable {
+
+        private static final long serialVersionUID = 4476204853372830184L;
+
+        /**
+         * Keep tickets that are read or written by this server in a local cache
+         * in front of the ticket registry, invalidated across servers as tickets change.
+         */
+        private boolean enabled;
+
+        /**
+         * Maximum number of tickets kept in the cache.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Duration for which tickets are kept in the cache once written.
+         * This bounds how long a server may see a ticket that is changed by another server,
+         * should an invalidation message be delayed or lost.
+         */
+        private String timeToLive = "PT5S";
+    }
 
     @RequiresModule(name = "cas-server-core-tickets", automated = true)
     @Getter
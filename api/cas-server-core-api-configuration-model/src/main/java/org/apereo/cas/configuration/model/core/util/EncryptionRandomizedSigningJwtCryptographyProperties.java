@@ -41,6 +41,8 @@ public class EncryptionRandomizedSigningJwtCryptographyProperties implements Ser
 
     /**
      * The signing/encryption algorithm to use.
+     * Ticket registries may also use {@code AES_GCM} for authenticated
+     * encryption, in which case the signing settings are ignored.
      */
     private String alg = "AES";
 }
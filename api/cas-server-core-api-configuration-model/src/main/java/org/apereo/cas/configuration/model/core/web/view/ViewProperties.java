@@ -64,6 +64,14 @@ public class ViewProperties implements Serializable {
     @NestedConfigurationProperty
     private Cas30ViewProperties cas3 = new Cas30ViewProperties();
 
+    /**
+     * Service validation view types, i.e. {@code cas2}, {@code cas3} or {@code json},
+     * whose validation responses are written straight to the response stream
+     * rather than rendered via view templates. Responses that are streamed
+     * can no longer be customized via the templates of the CAS2 and CAS3 views.
+     */
+    private List<String> streamingValidationViewTypes = new ArrayList<>();
+
     /**
      * Resolve CAS views via REST.
      */
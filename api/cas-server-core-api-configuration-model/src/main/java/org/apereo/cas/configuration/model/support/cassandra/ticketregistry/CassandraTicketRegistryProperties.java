@@ -24,6 +24,12 @@ public class CassandraTicketRegistryProperties extends BaseCassandraProperties {
      */
     private boolean dropTablesOnStartup;
 
+    /**
+     * Maximum number of requests that may be in flight against the cluster
+     * at any given time. Requests beyond this limit wait until earlier requests complete.
+     */
+    private int maxInFlightRequests = 256;
+
     /**
      * Crypto settings for the registry.
      */
@@ -45,6 +45,20 @@ public class DynamoDbTicketRegistryProperties extends AbstractDynamoDbProperties
      */
     private String transientSessionTicketsTableName = "transientSessionTicketsTable";
 
+    /**
+     * Number of segments that are scanned in parallel
+     * when tickets are fetched or counted from a table.
+     */
+    private int scanSegments = 4;
+
+    /**
+     * Whether tickets should be removed by DynamoDb once they expire.
+     * Tickets are stored with an expiration attribute that is registered with the time-to-live
+     * setting of each table. When enabled, expired tickets are not cleaned up by CAS, and the ticket
+     * registry cleaner does not scan the tables.
+     */
+    private boolean timeToLiveEnabled = true;
+
     /**
      * Crypto settings for the registry.
      */
@@ -105,6 +105,12 @@ public class TrustedDevicesMultifactorProperties implements Serializable {
     @NestedConfigurationProperty
     private EncryptionJwtSigningJwtCryptographyProperties crypto = new EncryptionJwtSigningJwtCryptographyProperties();
 
+    /**
+     * Cache the most recent records of devices found to be trusted,
+     * to avoid querying the storage again when the same device is verified.
+     */
+    private DeviceCache deviceCache = new DeviceCache();
+
     public TrustedDevicesMultifactorProperties() {
         crypto.getEncryption().setKeySize(CipherExecutor.DEFAULT_STRINGABLE_ENCRYPTION_KEY_SIZE);
         crypto.getSigning().setKeySize(CipherExecutor.DEFAULT_STRINGABLE_SIGNING_KEY_SIZE);
@@ -148,6 +154,26 @@ public class TrustedDevicesMultifactorProperties implements Serializable {
         }
     }
 
+    @Getter
+    @Setter
+    @RequiresModule(name = "cas-server-support-trusted-mfa")
+    public static class DeviceCache implements Serializable {
+        private static final long serialVersionUID = -2170461829413924532L;
+
+        /**
+         * Maximum number of trusted devices to keep in the cache.
+         * Set to zero to disable the cache.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * How long a device found to be trusted is remembered before the storage is queried again.
+         * Devices whose records are removed from the storage via another node may continue
+         * to be trusted for up to this period.
+         */
+        private String timeToLive = "PT1M";
+    }
+
     @Getter
     @Setter
     @RequiresModule(name = "cas-server-support-trusted-mfa")
@@ -26,6 +26,12 @@ public class RedisTicketRegistryProperties extends BaseRedisProperties {
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * Number of tickets that are fetched or removed in a single batch
+     * when the registry is scanned or cleared, using {@code SCAN}, {@code MGET} and {@code UNLINK} commands.
+     */
+    private int pageSize = 500;
+
     public RedisTicketRegistryProperties() {
         this.crypto.setEnabled(false);
     }
@@ -65,6 +65,13 @@ public class ThrottleProperties implements Serializable {
      */
     private String appCode = DEFAULT_APPLICATION_CODE;
 
+    /**
+     * Maximum number of throttling records, one per IP address or IP address and username,
+     * that are kept in memory. Once the limit is reached, records that are least likely
+     * to be used again are evicted.
+     */
+    private long maximumSize = 100_000;
+
     /**
      * Scheduler settings to clean up throttled attempts.
      */
@@ -117,13 +124,33 @@ public class ThrottleProperties implements Serializable {
         private static final String SQL_AUDIT_QUERY = "SELECT AUD_DATE FROM COM_AUDIT_TRAIL WHERE AUD_CLIENT_IP = ? AND AUD_USER = ? "
             + "AND AUD_ACTION = ? AND APPLIC_CD = ? AND AUD_DATE >= ? ORDER BY AUD_DATE DESC";
 
+        /**
+         * SQL reconciliation query.
+         */
+        private static final String SQL_RECONCILIATION_QUERY = "SELECT AUD_CLIENT_IP, AUD_USER, AUD_DATE FROM COM_AUDIT_TRAIL "
+            + "WHERE AUD_ACTION = ? AND APPLIC_CD = ? AND AUD_DATE >= ?";
+
         private static final long serialVersionUID = -9199878384425691919L;
 
         /**
          * Audit query to execute against the database
          * to locate audit records based on IP, user, date and
          * an application code along with the relevant audit action.
+         * This query is only used on each submission if the reconciliation query
+         * is undefined, or if this query is customized while the reconciliation query is not.
          */
         private String auditQuery = SQL_AUDIT_QUERY;
+
+        /**
+         * Audit query to execute against the database
+         * to locate all recent audit records based on the relevant audit action,
+         * an application code and date. Failed attempts that are kept in memory
+         * are periodically reconciled with the results of this query
+         * so that failed attempts recorded by other CAS nodes are taken into account.
+         * The query is expected to return the {@code AUD_CLIENT_IP}, {@code AUD_USER}
+         * and {@code AUD_DATE} columns of each audit record.
+         * Leave this query blank to query audit records on each submission instead.
+         */
+        private String reconciliationQuery = SQL_RECONCILIATION_QUERY;
     }
 }
@@ -52,10 +52,41 @@ public class WebflowSessionManagementProperties implements Serializable {
      */
     private boolean storage;
 
+    /**
+     * Keep webflow state in a store on the server side that may be shared by all CAS nodes,
+     * and only hand the client a signed and encrypted reference to that state.
+     * The store is in memory by default, unless a distributed store such as Redis or Hazelcast
+     * is made available via the relevant session management module.
+     * Only relevant if session storage is not done via the server session.
+     */
+    private StateStore stateStore = new StateStore();
+
     /**
      * If sessions are to be replicated via Hazelcast, defines the location of a {@code hazelcast.xml}
      * file that defines how state should be replicated.
      * Only relevant if session storage is done on the server.
      */
     private transient Resource hzLocation = new ClassPathResource("hazelcast.xml");
+
+    @Getter
+    @Setter
+    public static class StateStore implements Serializable {
+
+        private static final long serialVersionUID = -2785326198734580213L;
+
+        /**
+         * Whether webflow state should be kept in the state store.
+         */
+        private boolean enabled;
+
+        /**
+         * How long webflow state should be kept in the store after it's recorded.
+         */
+        private String timeout = "PT30M";
+
+        /**
+         * Maximum number of webflow states to keep, when the store is in memory.
+         */
+        private long maximumSize = 100_000;
+    }
 }
@@ -19,6 +19,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.MapKeyColumn;
 import javax.persistence.Table;
@@ -32,7 +33,11 @@ import java.util.Map;
  * @since 5.0.0
  */
 @Entity
-@Table(name = "CasEvent")
+@Table(name = "CasEvent", indexes = {
+    @Index(name = "CasEvent_principalId_type", columnList = "principalId,type,creationTime"),
+    @Index(name = "CasEvent_type", columnList = "type,creationTime"),
+    @Index(name = "CasEvent_creationTime", columnList = "creationTime")
+})
 @ToString
 @Getter
 @Setter
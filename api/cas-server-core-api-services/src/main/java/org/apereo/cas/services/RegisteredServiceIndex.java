@@ -0,0 +1,32 @@
+package org.apereo.cas.services;
+
+import java.util.Collection;
+
+/**
+ * This is {@link RegisteredServiceIndex} that maps registered services onto exact keys,
+ * such as the client id of an OAuth relying party, so that services can be located
+ * by key without examining every service definition.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@FunctionalInterface
+public interface RegisteredServiceIndex {
+
+    /**
+     * Gets the keys under which the registered service is indexed.
+     *
+     * @param registeredService the registered service
+     * @return the keys, or an empty collection if the service is not indexed.
+     */
+    Collection<String> getKeys(RegisteredService registeredService);
+
+    /**
+     * Gets the name of the index, which uniquely identifies the index.
+     *
+     * @return the name
+     */
+    default String getName() {
+        return getClass().getName();
+    }
+}
@@ -51,6 +51,32 @@ public interface ServiceRegistry {
         return load().stream();
     }
 
+    /**
+     * Gets the version of the data store that advances as services are saved or removed.
+     * Registries that do not keep track of changes return a negative value,
+     * in which case services can only be loaded in full.
+     *
+     * @return the change version, or a negative value
+     * @since 6.1.0
+     */
+    default long getChangeVersion() {
+        return -1;
+    }
+
+    /**
+     * Load the services that are saved or removed after the given version,
+     * as reported by {@link #getChangeVersion()} or by an earlier set of changes.
+     * Services that are saved more than once are reported once, as they are currently stored.
+     *
+     * @param version the version after which changes are loaded
+     * @return the changes, or null if changes after the given version are not tracked,
+     * in which case all services should be loaded.
+     * @since 6.1.0
+     */
+    default ServiceRegistryChanges loadChanges(final long version) {
+        return null;
+    }
+
     /**
      * Find service by the numeric id.
      *
@@ -0,0 +1,35 @@
+package org.apereo.cas.services;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collection;
+
+/**
+ * This is {@link ServiceRegistryChanges} that carries the services saved
+ * and removed in a service registry after a given version, along with the
+ * version of the registry that the changes lead up to.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ServiceRegistryChanges {
+    private final long version;
+
+    private final Collection<RegisteredService> savedServices;
+
+    private final Collection<Long> deletedServiceIds;
+
+    /**
+     * Whether there are no changes.
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return savedServices.isEmpty() && deletedServiceIds.isEmpty();
+    }
+}
@@ -2,6 +2,8 @@ package org.apereo.cas.services;
 
 import org.apereo.cas.authentication.principal.Service;
 
+import lombok.val;
+
 import java.util.Collection;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -127,6 +129,51 @@ public interface ServicesManager {
         return getAllServices().stream();
     }
 
+    /**
+     * Register the index, so that services can be located by its keys.
+     * Indexes are kept in step with services as they are loaded, saved or removed.
+     *
+     * @param index the index
+     */
+    default void registerServiceIndex(final RegisteredServiceIndex index) {
+    }
+
+    /**
+     * Find the registered service that is indexed under the given key.
+     * If more than one service is indexed under the key, the service that is evaluated first is returned.
+     * The index is registered first, if it is not yet known to the manager.
+     * The service found is checked the same way as {@link #findServiceBy(long)},
+     * and is not returned if it's expired or not assigned to the current environment.
+     *
+     * @param index the index
+     * @param key   the key
+     * @return the registered service, or null.
+     */
+    default RegisteredService findServiceByIndex(final RegisteredServiceIndex index, final String key) {
+        return getAllServicesStream()
+            .filter(service -> index.getKeys(service).contains(key))
+            .findFirst()
+            .map(service -> findServiceBy(service.getId()))
+            .orElse(null);
+    }
+
+    /**
+     * Find the registered service that is indexed under the given key, if it is of the given type.
+     *
+     * @param <T>   the type of registered service
+     * @param index the index
+     * @param key   the key
+     * @param clazz the type of registered service
+     * @return the registered service, or null.
+     */
+    default <T extends RegisteredService> T findServiceByIndex(final RegisteredServiceIndex index, final String key, final Class<T> clazz) {
+        val service = findServiceByIndex(index, key);
+        if (clazz.isInstance(service)) {
+            return clazz.cast(service);
+        }
+        return null;
+    }
+
     /**
      * Inform the ServicesManager to load or reload its list of services if its cached
      * them. Note that this is a suggestion and that ServicesManagers are free
@@ -136,6 +183,17 @@ public interface ServicesManager {
      */
     Collection<RegisteredService> load();
 
+    /**
+     * Inform the ServicesManager to apply the changes made to its services since they were last loaded,
+     * where the service registry keeps track of changes, and to load all services otherwise.
+     *
+     * @return the services that are saved or loaded
+     * @since 6.1.0
+     */
+    default Collection<RegisteredService> loadChanges() {
+        return load();
+    }
+
     /**
      * Return a count of loaded services by this manager.
      *
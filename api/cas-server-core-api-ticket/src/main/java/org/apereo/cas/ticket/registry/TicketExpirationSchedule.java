@@ -0,0 +1,68 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+
+/**
+ * Expiry-ordered schedule maintained alongside a {@link TicketRegistry}
+ * that allows the registry cleaner to only visit tickets that are due for expiration
+ * instead of scanning the entire registry.
+ * <p>
+ * Tickets are scheduled when they are added to or updated in the registry, at the earliest
+ * moment they may be considered expired by their expiration policy. Once due, the ticket is handed
+ * to the cleaner which is expected to verify the actual state of the ticket and either remove it,
+ * or schedule it again if the ticket is still valid.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public interface TicketExpirationSchedule {
+
+    /**
+     * Schedule (or reschedule) the ticket for expiration.
+     *
+     * @param ticket the ticket
+     */
+    void schedule(Ticket ticket);
+
+    /**
+     * Remove the ticket from the schedule once it's removed from the registry.
+     *
+     * @param ticketId the ticket id
+     */
+    void cancel(String ticketId);
+
+    /**
+     * Remove all entries from the schedule.
+     */
+    void clear();
+
+    /**
+     * Remove and return ticket ids that are due for expiration at the given time,
+     * oldest first.
+     *
+     * @param now   the current time
+     * @param limit the maximum number of ticket ids to return
+     * @return the ticket ids
+     */
+    Collection<String> pollDue(ZonedDateTime now, int limit);
+
+    /**
+     * How far behind the schedule is at the given time, measured as the age
+     * of the oldest entry that is due for expiration.
+     *
+     * @param now the current time
+     * @return the lag, or {@link Duration#ZERO} if nothing is overdue
+     */
+    Duration getLag(ZonedDateTime now);
+
+    /**
+     * Number of tickets that are scheduled.
+     *
+     * @return the count
+     */
+    long size();
+}
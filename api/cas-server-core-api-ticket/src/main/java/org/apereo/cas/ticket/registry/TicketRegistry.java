@@ -1,8 +1,12 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import lombok.val;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -25,6 +29,16 @@ public interface TicketRegistry {
      */
     void addTicket(Ticket ticket);
 
+    /**
+     * Add tickets to the registry. Registries may store
+     * the tickets in a single batch, where supported by the underlying store.
+     *
+     * @param tickets the tickets
+     */
+    default void addTickets(final Collection<? extends Ticket> tickets) {
+        tickets.forEach(this::addTicket);
+    }
+
     /**
      * Retrieve a ticket from the registry. If the ticket retrieved does not
      * match the expected class, an InvalidTicketException is thrown.
@@ -71,6 +85,18 @@ public interface TicketRegistry {
      */
     int deleteTicket(Ticket ticketId);
 
+    /**
+     * Remove the given tickets from the registry, along with their related tickets
+     * as {@link #deleteTicket(String)} would. Registries may remove the tickets
+     * in batches, where supported by the underlying store.
+     *
+     * @param ticketIds the ticket ids
+     * @return the number of tickets deleted including children.
+     */
+    default int deleteTickets(final Collection<String> ticketIds) {
+        return ticketIds.stream().mapToInt(this::deleteTicket).sum();
+    }
+
     /**
      * Delete all tickets from the registry.
      *
@@ -106,6 +132,58 @@ public interface TicketRegistry {
      */
     Ticket updateTicket(Ticket ticket);
 
+    /**
+     * Update the ticket-granting ticket once it has granted a service or proxy ticket.
+     * In doing so, the ticket-granting ticket has tracked the service of the granted ticket,
+     * may have stopped tracking services of earlier tickets and has been used once more.
+     * <p>
+     * Registries may write only these changes to the stored ticket, rather than rewriting the
+     * ticket along with its authentication and every earlier service, where supported by the underlying store.
+     * The default implementation updates the whole ticket.
+     *
+     * @param ticketGrantingTicket    the ticket-granting ticket
+     * @param serviceTicketId         the id of the granted ticket
+     * @param removedServiceTicketIds the ids of tickets whose services are no longer tracked
+     * @return the updated ticket
+     */
+    default Ticket updateTicketGrantingTicket(final TicketGrantingTicket ticketGrantingTicket,
+                                              final String serviceTicketId,
+                                              final Collection<String> removedServiceTicketIds) {
+        return updateTicket(ticketGrantingTicket);
+    }
+
+    /**
+     * Consume the ticket: fetch the ticket, pass it to the given consumer to be checked and updated,
+     * and store the outcome, as a single step with respect to other attempts to consume the same ticket.
+     * The ticket is removed from the registry if it has expired once consumed, and is updated otherwise.
+     * The consumer may reject the ticket by throwing an exception, which is rethrown once the outcome is stored.
+     * <p>
+     * The default implementation does not guard against concurrent attempts to consume the ticket;
+     * registries should override this to lock or conditionally update the ticket, where supported by the underlying store.
+     *
+     * @param <T>      the generic ticket type
+     * @param ticketId the ticket id
+     * @param clazz    the expected class of the ticket
+     * @param consumer the consumer that checks and updates the ticket
+     * @return the consumed ticket, or null if the ticket cannot be found.
+     */
+    default <T extends Ticket> T consumeTicket(final String ticketId, final Class<T> clazz, final Consumer<T> consumer) {
+        val ticket = getTicket(ticketId, clazz);
+        if (ticket == null) {
+            return null;
+        }
+        try {
+            consumer.accept(ticket);
+        } finally {
+            if (ticket.isExpired()) {
+                deleteTicket(ticket);
+            } else {
+                updateTicket(ticket);
+            }
+        }
+        return ticket;
+    }
+
     /**
      * Computes the number of SSO sessions stored in the ticket registry.
      *
@@ -120,6 +198,33 @@ public interface TicketRegistry {
      */
     long serviceTicketCount();
 
+    /**
+     * Gets the unexpired ticket-granting tickets that belong to the given principal.
+     * <p>
+     * The returning stream may be bound to an IO channel (such as database connection),
+     * so it should be properly closed after usage.
+     *
+     * @param principalId the principal id, matched case-insensitively
+     * @return the ticket-granting tickets
+     */
+    default Stream<? extends TicketGrantingTicket> getSessionsFor(final String principalId) {
+        return getTickets(ticket -> ticket instanceof TicketGrantingTicket && !ticket.isExpired())
+            .map(TicketGrantingTicket.class::cast)
+            .filter(ticket -> ticket.getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId));
+    }
+
+    /**
+     * Counts the unexpired ticket-granting tickets that belong to the given principal.
+     *
+     * @param principalId the principal id, matched case-insensitively
+     * @return the number of sessions for the principal
+     */
+    default long countSessionsFor(final String principalId) {
+        try (val sessions = getSessionsFor(principalId)) {
+            return sessions.count();
+        }
+    }
+
     /**
      * Gets tickets stream.
      * <p>
@@ -132,4 +237,14 @@ public interface TicketRegistry {
         return getTickets().stream();
     }
 
+    /**
+     * Gets the expiration schedule maintained by this registry, if any.
+     * Registries that do not keep track of ticket expiration
+     * require the cleaner to scan all tickets.
+     *
+     * @return the schedule, or null
+     */
+    default TicketExpirationSchedule getTicketExpirationSchedule() {
+        return null;
+    }
 }
@@ -0,0 +1,63 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import java.util.Set;
+
+/**
+ * Secondary index maintained alongside a {@link TicketRegistry} to answer
+ * counting and per-principal queries without scanning
+ * and decoding every ticket in the registry.
+ * <p>
+ * Implementations are notified as tickets are added, updated and removed
+ * from the registry. Node-local registries may use an in-memory index, while
+ * distributed registries may back the index with native structures in the
+ * underlying store (i.e. sets, counters or indexed fields) so the index remains
+ * consistent across the cluster.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public interface TicketRegistryIndex {
+
+    /**
+     * Index (or re-index) the ticket after it's added or updated in the registry.
+     *
+     * @param ticket the ticket
+     */
+    void index(Ticket ticket);
+
+    /**
+     * Remove the ticket from the index after it's removed from the registry.
+     *
+     * @param ticketId the ticket id
+     */
+    void unindex(String ticketId);
+
+    /**
+     * Remove all entries from the index.
+     */
+    void clear();
+
+    /**
+     * Number of ticket-granting tickets that are indexed.
+     *
+     * @return the count
+     */
+    long getTicketGrantingTicketCount();
+
+    /**
+     * Number of service tickets that are indexed.
+     *
+     * @return the count
+     */
+    long getServiceTicketCount();
+
+    /**
+     * Ticket-granting ticket ids that belong to the given principal.
+     *
+     * @param principalId the principal id, matched case-insensitively
+     * @return the ticket ids
+     */
+    Set<String> getTicketGrantingTicketsFor(String principalId);
+}
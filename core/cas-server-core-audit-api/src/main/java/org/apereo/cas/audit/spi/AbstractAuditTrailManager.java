@@ -1,15 +1,17 @@
 package org.apereo.cas.audit.spi;
 
-import lombok.AllArgsConstructor;
+import org.apereo.cas.configuration.model.core.audit.AuditQueueProperties;
+
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
+import org.springframework.beans.factory.DisposableBean;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
 
 /**
  * This is {@link AbstractAuditTrailManager}.
@@ -21,28 +23,68 @@ import java.util.concurrent.Executors;
 @Setter
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
-public abstract class AbstractAuditTrailManager implements AuditTrailManager {
+public abstract class AbstractAuditTrailManager implements AuditTrailManager, DisposableBean {
 
     /**
      * Save records asynchronously.
      */
     protected boolean asynchronous;
 
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    /**
+     * Settings that control how records are queued and
+     * saved in batches when recorded asynchronously.
+     */
+    protected AuditQueueProperties queueProperties = new AuditQueueProperties();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile AuditActionContextQueue queue;
+
+    public AbstractAuditTrailManager(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
 
     @Override
     public void record(final AuditActionContext audit) {
         if (this.asynchronous) {
-            this.executorService.execute(() -> saveAuditRecord(audit));
+            getQueue().offer(audit);
         } else {
             saveAuditRecord(audit);
         }
     }
 
+    @Override
+    public void destroy() {
+        if (this.queue != null) {
+            this.queue.close();
+        }
+    }
+
     /**
      * Actual audit record save method.
      * @param audit Audit record to be saved.
      */
     protected abstract void saveAuditRecord(AuditActionContext audit);
+
+    /**
+     * Save a batch of audit records that were recorded asynchronously.
+     * Audit destinations that are able to store multiple records at once
+     * should override this method to do so natively.
+     *
+     * @param audits Audit records to be saved.
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        audits.forEach(this::saveAuditRecord);
+    }
+
+    private AuditActionContextQueue getQueue() {
+        if (this.queue == null) {
+            synchronized (this) {
+                if (this.queue == null) {
+                    this.queue = new AuditActionContextQueue(getClass().getSimpleName(), this.queueProperties, this::saveAuditRecords);
+                }
+            }
+        }
+        return this.queue;
+    }
 }
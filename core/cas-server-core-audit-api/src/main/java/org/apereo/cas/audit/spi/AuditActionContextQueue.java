@@ -0,0 +1,248 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditQueueProperties;
+import org.apereo.cas.configuration.support.Beans;
+
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link AuditActionContextQueue} that holds audit records in a bounded queue
+ * and hands them over to the audit destination in batches from a dedicated thread.
+ * A batch is saved once it reaches the configured size, or once the oldest record in the batch
+ * has waited for the configured flush interval. Once the queue is full, records are handled
+ * according to the overflow policy.
+ * <p>
+ * The queue depth, flush latency and the number of dropped or spilled records
+ * are reported as metrics, tagged with the name of the audit destination.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class AuditActionContextQueue implements AutoCloseable {
+    private static final String METRIC_TAG = "destination";
+
+    private final BlockingQueue<AuditActionContext> queue;
+
+    private final Consumer<List<AuditActionContext>> destination;
+
+    private final AuditQueueProperties.OverflowPolicies overflowPolicy;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final Path spillFile;
+
+    private final AuditActionContextJsonSerializer serializer = new AuditActionContextJsonSerializer(new MinimalPrettyPrinter());
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final LongAdder spilledCount = new LongAdder();
+
+    private final Timer flushTimer;
+
+    private final List<Meter> meters;
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    public AuditActionContextQueue(final String name, final AuditQueueProperties properties,
+                                   final Consumer<List<AuditActionContext>> destination) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+        this.destination = destination;
+        this.overflowPolicy = properties.getOverflowPolicy();
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.flushIntervalNanos = Math.max(1, Beans.newDuration(properties.getFlushInterval()).toNanos());
+        this.spillFile = StringUtils.isNotBlank(properties.getSpillFile())
+            ? Paths.get(properties.getSpillFile())
+            : FileUtils.getTempDirectory().toPath().resolve("cas-audit-" + name + "-spill.log");
+
+        this.flushTimer = Timer.builder("cas.audit.queue.flush")
+            .tag(METRIC_TAG, name).register(Metrics.globalRegistry);
+        this.meters = List.of(
+            Gauge.builder("cas.audit.queue.depth", queue, BlockingQueue::size)
+                .tag(METRIC_TAG, name).register(Metrics.globalRegistry),
+            FunctionCounter.builder("cas.audit.queue.dropped", droppedCount, LongAdder::sum)
+                .tag(METRIC_TAG, name).register(Metrics.globalRegistry),
+            FunctionCounter.builder("cas.audit.queue.spilled", spilledCount, LongAdder::sum)
+                .tag(METRIC_TAG, name).register(Metrics.globalRegistry),
+            flushTimer);
+
+        this.worker = new Thread(this::process, "cas-audit-queue-" + name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queue the audit record. Once the queue is closed, records are saved immediately.
+     *
+     * @param audit the audit
+     */
+    public void offer(final AuditActionContext audit) {
+        if (!running) {
+            flush(List.of(audit));
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP:
+                if (!queue.offer(audit)) {
+                    droppedCount.increment();
+                    LOGGER.warn("Audit queue is full; audit record for action [{}] is dropped", audit.getActionPerformed());
+                }
+                break;
+            case SPILL:
+                if (!queue.offer(audit)) {
+                    spill(audit);
+                }
+                break;
+            case BLOCK:
+            default:
+                try {
+                    queue.put(audit);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    flush(List.of(audit));
+                }
+                break;
+        }
+    }
+
+    /**
+     * Number of records waiting in the queue.
+     *
+     * @return the depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Number of records dropped since the queue was full.
+     *
+     * @return the count
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Number of records written to the spill file since the queue was full.
+     *
+     * @return the count
+     */
+    public long getSpilledCount() {
+        return spilledCount.sum();
+    }
+
+    /**
+     * Stop accepting records into the queue, save the records that remain,
+     * and remove the metrics of the queue from the registry.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + 1);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushRemaining();
+        meters.forEach(Metrics.globalRegistry::remove);
+    }
+
+    private void process() {
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        while (running) {
+            try {
+                val first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    fillBatch(batch, System.nanoTime() + flushIntervalNanos);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+        }
+        flushRemaining();
+    }
+
+    private void fillBatch(final List<AuditActionContext> batch, final long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            val remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            val next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private synchronized void flushRemaining() {
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(final List<AuditActionContext> batch) {
+        val start = System.nanoTime();
+        try {
+            destination.accept(List.copyOf(batch));
+        } catch (final Exception e) {
+            LOGGER.error("Unable to save [{}] audit record(s): [{}]", batch.size(), e.getMessage(), e);
+        } finally {
+            val elapsed = System.nanoTime() - start;
+            flushTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            LOGGER.trace("Saved [{}] audit record(s) in [{}] ms with [{}] record(s) remaining in queue",
+                batch.size(), TimeUnit.NANOSECONDS.toMillis(elapsed), queue.size());
+        }
+    }
+
+    private synchronized void spill(final AuditActionContext audit) {
+        try {
+            val json = serializer.toString(audit).replace('\n', ' ') + System.lineSeparator();
+            Files.writeString(spillFile, json, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            spilledCount.increment();
+            LOGGER.warn("Audit queue is full; audit record for action [{}] is written to [{}]", audit.getActionPerformed(), spillFile);
+        } catch (final Exception e) {
+            droppedCount.increment();
+            LOGGER.error("Unable to write audit record to [{}]: [{}]", spillFile, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditQueueProperties;
+
+import io.micrometer.core.instrument.Metrics;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuditActionContextQueueTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class AuditActionContextQueueTests {
+
+    private static AuditActionContext getAuditActionContext(final int index) {
+        return new AuditActionContext("casuser" + index, "TEST", "TEST",
+            "CAS", new Date(), "1.2.3.4", "1.2.3.4");
+    }
+
+    @Test
+    public void verifyRecordsSavedInBatches() {
+        val properties = new AuditQueueProperties();
+        properties.setBatchSize(10);
+        properties.setFlushInterval("PT5S");
+        val batches = new CopyOnWriteArrayList<List<AuditActionContext>>();
+        val queue = new AuditActionContextQueue("batches", properties, batches::add);
+        for (var i = 0; i < 25; i++) {
+            queue.offer(getAuditActionContext(i));
+        }
+        queue.close();
+        assertEquals(25, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 10));
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    public void verifyRecordsFlushedOnInterval() throws Exception {
+        val properties = new AuditQueueProperties();
+        properties.setBatchSize(100);
+        properties.setFlushInterval("PT0.1S");
+        val latch = new CountDownLatch(1);
+        val queue = new AuditActionContextQueue("interval", properties, batch -> latch.countDown());
+        queue.offer(getAuditActionContext(1));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        queue.close();
+    }
+
+    @Test
+    public void verifyRecordsDroppedWhenFull() throws Exception {
+        val properties = new AuditQueueProperties();
+        properties.setCapacity(1);
+        properties.setOverflowPolicy(AuditQueueProperties.OverflowPolicies.DROP);
+        val release = new CountDownLatch(1);
+        val saved = new CopyOnWriteArrayList<AuditActionContext>();
+        val queue = new AuditActionContextQueue("drop", properties, batch -> {
+            await(release);
+            saved.addAll(batch);
+        });
+        for (var i = 0; i < 10; i++) {
+            queue.offer(getAuditActionContext(i));
+        }
+        assertTrue(queue.getDroppedCount() > 0);
+        release.countDown();
+        queue.close();
+        assertEquals(10, saved.size() + queue.getDroppedCount());
+    }
+
+    @Test
+    public void verifyRecordsSpilledWhenFull() throws Exception {
+        val spillFile = File.createTempFile("audit", ".log");
+        val properties = new AuditQueueProperties();
+        properties.setCapacity(1);
+        properties.setOverflowPolicy(AuditQueueProperties.OverflowPolicies.SPILL);
+        properties.setSpillFile(spillFile.getCanonicalPath());
+        val release = new CountDownLatch(1);
+        val queue = new AuditActionContextQueue("spill", properties, batch -> await(release));
+        for (var i = 0; i < 10; i++) {
+            queue.offer(getAuditActionContext(i));
+        }
+        release.countDown();
+        queue.close();
+        assertTrue(queue.getSpilledCount() > 0);
+        val lines = Files.readAllLines(spillFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals(queue.getSpilledCount(), lines.size());
+        assertTrue(lines.get(0).contains("casuser"));
+    }
+
+    @Test
+    public void verifyMetricsRemovedOnClose() {
+        val queue = new AuditActionContextQueue("metrics", new AuditQueueProperties(), batch -> {
+        });
+        assertNotNull(Metrics.globalRegistry.find("cas.audit.queue.depth").tag("destination", "metrics").gauge());
+        queue.close();
+        assertTrue(Metrics.globalRegistry.find("cas.audit.queue.depth").tag("destination", "metrics").meters().isEmpty());
+        assertTrue(Metrics.globalRegistry.find("cas.audit.queue.flush").tag("destination", "metrics").meters().isEmpty());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
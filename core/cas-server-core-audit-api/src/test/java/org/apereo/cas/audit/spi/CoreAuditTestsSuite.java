@@ -17,6 +17,7 @@ import org.junit.runner.RunWith;
  */
 @SelectClasses({
     AuditActionContextJsonSerializerTests.class,
+    AuditActionContextQueueTests.class,
     ServiceResourceResolverTests.class,
     TicketAsFirstParameterResourceResolverTests.class,
     ChainingAuditPrincipalIdProviderTests.class,
@@ -0,0 +1,114 @@
+package org.apereo.cas.authentication;
+
+import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionStartedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link ParallelPolicyBasedAuthenticationManager} that executes all authentication handlers
+ * that support a credential concurrently, and waits for each handler up to the configured timeout.
+ * Handler results are processed in the order in which handlers are defined, so successes,
+ * failures and the resolved principal are the same as executing handlers one after another.
+ * Once authentication policies are satisfied, handlers that are still running are cancelled.
+ * <p>
+ * Handlers are executed on threads other than the request thread, and should not depend
+ * on state that is bound to the request thread. The executor service is owned by this
+ * authentication manager and is shut down when it is destroyed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class ParallelPolicyBasedAuthenticationManager extends PolicyBasedAuthenticationManager implements DisposableBean {
+    private final ExecutorService executorService;
+
+    private final Duration timeout;
+
+    public ParallelPolicyBasedAuthenticationManager(final AuthenticationEventExecutionPlan authenticationEventExecutionPlan,
+                                                    final boolean principalResolutionFailureFatal,
+                                                    final ApplicationEventPublisher eventPublisher,
+                                                    final ExecutorService executorService,
+                                                    final Duration timeout) {
+        super(authenticationEventExecutionPlan, principalResolutionFailureFatal, eventPublisher);
+        this.executorService = executorService;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    @Override
+    protected void authenticateCredential(final AuthenticationBuilder builder,
+                                          final Credential credential,
+                                          final Set<AuthenticationHandler> handlerSet,
+                                          final AuthenticationTransaction transaction) {
+        val handlers = handlerSet
+            .stream()
+            .filter(handler -> handler.supports(credential))
+            .collect(Collectors.toList());
+        if (handlers.size() <= 1) {
+            super.authenticateCredential(builder, credential, handlerSet, transaction);
+            return;
+        }
+
+        LOGGER.debug("Attempting authentication of [{}] using [{}] handlers concurrently", credential.getId(), handlers.size());
+        val deadline = System.nanoTime() + timeout.toNanos();
+        val futures = new ArrayList<Future<AuthenticationHandlerExecutionResult>>(handlers.size());
+        handlers.forEach(handler -> {
+            publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential));
+            futures.add(executorService.submit(() -> executeAuthenticationHandler(handler, credential)));
+        });
+
+        try {
+            for (var i = 0; i < handlers.size(); i++) {
+                val handler = handlers.get(i);
+                try {
+                    val result = getAuthenticationHandlerResult(handler, futures.get(i), deadline);
+                    val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+                    addAuthenticationHandlerResult(builder, credential, resolver, handler, result);
+                    if (isAuthenticationPolicySatisfied(builder, transaction, handlerSet)) {
+                        LOGGER.debug("Authentication policies are satisfied after [{}]; remaining handlers are cancelled", handler.getName());
+                        break;
+                    }
+                } catch (final Exception e) {
+                    handleAuthenticationHandlerFailure(e, credential, handler, builder);
+                }
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private AuthenticationHandlerExecutionResult getAuthenticationHandlerResult(final AuthenticationHandler handler,
+                                                                                final Future<AuthenticationHandlerExecutionResult> future,
+                                                                                final long deadline) throws Exception {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            throw new PreventedException("Authentication handler " + handler.getName() + " did not respond within " + timeout);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw new PreventedException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PreventedException(e);
+        }
+    }
+}
@@ -11,6 +11,8 @@ import org.apereo.cas.support.events.authentication.CasAuthenticationTransaction
 import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionStartedEvent;
 import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionSuccessfulEvent;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +29,7 @@ import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -194,8 +197,52 @@ public class PolicyBasedAuthenticationManager implements AuthenticationManager {
                                                    final AuthenticationHandler handler) throws GeneralSecurityException, PreventedException {
 
         publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential));
+        val result = executeAuthenticationHandler(handler, credential);
+        addAuthenticationHandlerResult(builder, credential, resolver, handler, result);
+    }
+
+    /**
+     * Execute the authentication handler, and record the time spent doing so as a metric,
+     * tagged with the handler name and the outcome of the authentication attempt.
+     *
+     * @param handler    the handler
+     * @param credential the credential
+     * @return the authentication handler execution result
+     * @throws GeneralSecurityException the general security exception
+     * @throws PreventedException       the prevented exception
+     */
+    protected AuthenticationHandlerExecutionResult executeAuthenticationHandler(final AuthenticationHandler handler,
+                                                                                final Credential credential)
+        throws GeneralSecurityException, PreventedException {
+        val start = System.nanoTime();
+        var outcome = "failure";
+        try {
+            val result = handler.authenticate(credential);
+            outcome = "success";
+            return result;
+        } finally {
+            Timer.builder("cas.authentication.handler")
+                .tag("handler", handler.getName())
+                .tag("outcome", outcome)
+                .register(Metrics.globalRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
 
-        val result = handler.authenticate(credential);
+    /**
+     * Add the successful result of the authentication handler to the builder and resolve the principal.
+     *
+     * @param builder    the builder
+     * @param credential the credential
+     * @param resolver   the resolver
+     * @param handler    the handler
+     * @param result     the authentication handler execution result
+     */
+    protected void addAuthenticationHandlerResult(final AuthenticationBuilder builder,
+                                                  final Credential credential,
+                                                  final PrincipalResolver resolver,
+                                                  final AuthenticationHandler handler,
+                                                  final AuthenticationHandlerExecutionResult result) {
         val authenticationHandlerName = handler.getName();
         builder.addSuccess(authenticationHandlerName, result);
         LOGGER.debug("Authentication handler [{}] successfully authenticated [{}]", authenticationHandlerName, credential);
@@ -296,34 +343,7 @@ public class PolicyBasedAuthenticationManager implements AuthenticationManager {
             while (it.hasNext()) {
                 val credential = it.next();
                 LOGGER.debug("Attempting to authenticate credential [{}]", credential);
-
-                val itHandlers = handlerSet.iterator();
-                var proceedWithNextHandler = true;
-                while (proceedWithNextHandler && itHandlers.hasNext()) {
-                    val handler = itHandlers.next();
-                    if (handler.supports(credential)) {
-                        try {
-                            val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
-                            LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
-                            authenticateAndResolvePrincipal(builder, credential, resolver, handler);
-
-                            val authnResult = builder.build();
-                            AuthenticationCredentialsThreadLocalBinder.bindInProgress(authnResult);
-                            val failures = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
-                            proceedWithNextHandler = !failures.getKey();
-                        } catch (final Exception e) {
-                            LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
-                                + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
-                                + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
-                                + "the authentication event.", credential, credential.getClass().getSimpleName());
-
-                            handleAuthenticationException(e, handler.getName(), builder);
-                            proceedWithNextHandler = true;
-                        }
-                    } else {
-                        LOGGER.debug("Authentication handler [{}] does not support the credential type [{}]. Trying next...", handler.getName(), credential);
-                    }
-                }
+                authenticateCredential(builder, credential, handlerSet, transaction);
             }
             evaluateFinalAuthentication(builder, transaction, handlerSet);
             return builder;
@@ -332,6 +352,73 @@ public class PolicyBasedAuthenticationManager implements AuthenticationManager {
         }
     }
 
+    /**
+     * Authenticate the credential with the authentication handlers that support it, one after another
+     * in the given order, until the authentication policies are satisfied.
+     *
+     * @param builder     the builder
+     * @param credential  the credential
+     * @param handlerSet  the authentication handlers
+     * @param transaction the transaction
+     */
+    protected void authenticateCredential(final AuthenticationBuilder builder,
+                                          final Credential credential,
+                                          final Set<AuthenticationHandler> handlerSet,
+                                          final AuthenticationTransaction transaction) {
+        val itHandlers = handlerSet.iterator();
+        var proceedWithNextHandler = true;
+        while (proceedWithNextHandler && itHandlers.hasNext()) {
+            val handler = itHandlers.next();
+            if (handler.supports(credential)) {
+                try {
+                    val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+                    LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
+                    authenticateAndResolvePrincipal(builder, credential, resolver, handler);
+                    proceedWithNextHandler = !isAuthenticationPolicySatisfied(builder, transaction, handlerSet);
+                } catch (final Exception e) {
+                    handleAuthenticationHandlerFailure(e, credential, handler, builder);
+                    proceedWithNextHandler = true;
+                }
+            } else {
+                LOGGER.debug("Authentication handler [{}] does not support the credential type [{}]. Trying next...", handler.getName(), credential);
+            }
+        }
+    }
+
+    /**
+     * Determine whether the authentication produced so far satisfies the authentication policies.
+     *
+     * @param builder     the builder
+     * @param transaction the transaction
+     * @param handlerSet  the authentication handlers
+     * @return true if policies are satisfied
+     */
+    protected boolean isAuthenticationPolicySatisfied(final AuthenticationBuilder builder,
+                                                      final AuthenticationTransaction transaction,
+                                                      final Set<AuthenticationHandler> handlerSet) {
+        val authnResult = builder.build();
+        AuthenticationCredentialsThreadLocalBinder.bindInProgress(authnResult);
+        val failures = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
+        return failures.getKey();
+    }
+
+    /**
+     * Handle the failure of an authentication handler to authenticate the credential.
+     *
+     * @param e          the exception
+     * @param credential the credential
+     * @param handler    the handler
+     * @param builder    the builder
+     */
+    protected void handleAuthenticationHandlerFailure(final Throwable e, final Credential credential,
+                                                      final AuthenticationHandler handler, final AuthenticationBuilder builder) {
+        LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
+            + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
+            + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
+            + "the authentication event.", credential, credential.getClass().getSimpleName());
+        handleAuthenticationException(e, handler.getName(), builder);
+    }
+
     /**
      * Evaluate produced authentication context.
      * We apply an implicit security policy of at least one successful authentication.
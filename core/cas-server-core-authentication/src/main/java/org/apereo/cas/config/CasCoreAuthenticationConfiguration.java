@@ -7,8 +7,10 @@ import org.apereo.cas.authentication.AuthenticationTransactionManager;
 import org.apereo.cas.authentication.DefaultAuthenticationAttributeReleasePolicy;
 import org.apereo.cas.authentication.DefaultAuthenticationEventExecutionPlan;
 import org.apereo.cas.authentication.DefaultAuthenticationTransactionManager;
+import org.apereo.cas.authentication.ParallelPolicyBasedAuthenticationManager;
 import org.apereo.cas.authentication.PolicyBasedAuthenticationManager;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
 
 import lombok.extern.slf4j.Slf4j;
@@ -23,9 +25,11 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
 
 /**
  * This is {@link CasCoreAuthenticationConfiguration}.
@@ -57,6 +61,17 @@ public class CasCoreAuthenticationConfiguration {
     @ConditionalOnMissingBean(name = "casAuthenticationManager")
     @Bean
     public AuthenticationManager casAuthenticationManager() {
+        val engine = casProperties.getAuthn().getEngine();
+        if (engine.isParallelHandlerExecution()) {
+            return new ParallelPolicyBasedAuthenticationManager(
+                authenticationEventExecutionPlan.getIfAvailable(),
+                casProperties.getPersonDirectory().isPrincipalResolutionFailureFatal(),
+                applicationContext,
+                Executors.newFixedThreadPool(Math.max(1, engine.getHandlerExecutionPoolSize()),
+                    new CustomizableThreadFactory("cas-authentication-handler-")),
+                Beans.newDuration(engine.getHandlerExecutionTimeout())
+            );
+        }
         return new PolicyBasedAuthenticationManager(
             authenticationEventExecutionPlan.getIfAvailable(),
             casProperties.getPersonDirectory().isPrincipalResolutionFailureFatal(),
@@ -9,6 +9,7 @@ import org.apereo.cas.authentication.DefaultAuthenticationTests;
 import org.apereo.cas.authentication.DefaultPasswordEncoderTests;
 import org.apereo.cas.authentication.FileTrustStoreSslSocketFactoryTests;
 import org.apereo.cas.authentication.OneTimePasswordCredentialTests;
+import org.apereo.cas.authentication.ParallelPolicyBasedAuthenticationManagerTests;
 import org.apereo.cas.authentication.RememberMePasswordCredentialTests;
 import org.apereo.cas.authentication.UsernamePasswordCredentialTests;
 import org.apereo.cas.authentication.handler.ConvertCasePrincipalNameTransformerTests;
@@ -60,7 +61,8 @@ import org.junit.runner.RunWith;
     OneTimePasswordCredentialTests.class,
     UniquePrincipalAuthenticationPolicyTests.class,
     RestfulAuthenticationPolicyTests.class,
-    FileTrustStoreSslSocketFactoryTests.class
+    FileTrustStoreSslSocketFactoryTests.class,
+    ParallelPolicyBasedAuthenticationManagerTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
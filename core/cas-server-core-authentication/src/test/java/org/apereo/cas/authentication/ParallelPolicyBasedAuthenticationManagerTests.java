@@ -0,0 +1,135 @@
+package org.apereo.cas.authentication;
+
+import org.apereo.cas.authentication.handler.DefaultAuthenticationHandlerResolver;
+import org.apereo.cas.authentication.policy.AtLeastOneCredentialValidatedAuthenticationPolicy;
+import org.apereo.cas.authentication.principal.DefaultPrincipalFactory;
+import org.apereo.cas.authentication.principal.PrincipalResolver;
+
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.security.auth.login.FailedLoginException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ParallelPolicyBasedAuthenticationManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class ParallelPolicyBasedAuthenticationManagerTests {
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    private final AuthenticationTransaction transaction = DefaultAuthenticationTransaction.of(CoreAuthenticationTestUtils.getService(),
+        mock(Credential.class, withSettings().serializable()));
+
+    @SneakyThrows
+    private static AuthenticationHandler newMockHandler(final String name, final String principal, final long delay) {
+        val mock = mock(AuthenticationHandler.class);
+        when(mock.getName()).thenReturn(name);
+        when(mock.supports(any(Credential.class))).thenReturn(true);
+        when(mock.authenticate(any(Credential.class))).thenAnswer(invocation -> {
+            Thread.sleep(delay);
+            if (principal == null) {
+                throw new FailedLoginException();
+            }
+            return new DefaultAuthenticationHandlerExecutionResult(mock, mock(CredentialMetaData.class),
+                new DefaultPrincipalFactory().createPrincipal(principal));
+        });
+        return mock;
+    }
+
+    private static AuthenticationEventExecutionPlan getAuthenticationExecutionPlan(final Map<AuthenticationHandler, PrincipalResolver> map) {
+        val plan = new DefaultAuthenticationEventExecutionPlan();
+        plan.registerAuthenticationHandlerWithPrincipalResolver(map);
+        plan.registerAuthenticationHandlerResolver(new DefaultAuthenticationHandlerResolver());
+        plan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        return plan;
+    }
+
+    private AuthenticationManager getAuthenticationManager(final Map<AuthenticationHandler, PrincipalResolver> map, final Duration timeout) {
+        return new ParallelPolicyBasedAuthenticationManager(getAuthenticationExecutionPlan(map), false,
+            mock(ApplicationEventPublisher.class), executorService, timeout);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void verifyResultsFollowHandlerOrder() {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newMockHandler("HandlerA", null, 100), null);
+        map.put(newMockHandler("HandlerB", "slow", 300), null);
+        map.put(newMockHandler("HandlerC", "fast", 0), null);
+
+        val auth = getAuthenticationManager(map, Duration.ofSeconds(5)).authenticate(transaction);
+        assertEquals("slow", auth.getPrincipal().getId());
+        assertEquals(1, auth.getSuccesses().size());
+        assertTrue(auth.getSuccesses().containsKey("HandlerB"));
+        assertEquals(1, auth.getFailures().size());
+        assertTrue(auth.getFailures().containsKey("HandlerA"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void verifyRemainingHandlersCancelled() {
+        val interrupted = new CountDownLatch(1);
+        val blocking = mock(AuthenticationHandler.class);
+        when(blocking.getName()).thenReturn("HandlerB");
+        when(blocking.supports(any(Credential.class))).thenReturn(true);
+        when(blocking.authenticate(any(Credential.class))).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+            }
+            throw new FailedLoginException();
+        });
+
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newMockHandler("HandlerA", "casuser", 0), null);
+        map.put(blocking, null);
+
+        val auth = getAuthenticationManager(map, Duration.ofSeconds(30)).authenticate(transaction);
+        assertEquals("casuser", auth.getPrincipal().getId());
+        assertTrue(auth.getFailures().isEmpty());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void verifyHandlerTimeout() {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newMockHandler("HandlerA", "slow", 5000), null);
+        map.put(newMockHandler("HandlerB", "fast", 0), null);
+
+        val auth = getAuthenticationManager(map, Duration.ofMillis(200)).authenticate(transaction);
+        assertEquals("fast", auth.getPrincipal().getId());
+        assertTrue(auth.getFailures().get("HandlerA") instanceof PreventedException);
+    }
+
+    @Test
+    public void verifyAllHandlersFail() {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newMockHandler("HandlerA", null, 50), null);
+        map.put(newMockHandler("HandlerB", null, 0), null);
+
+        val e = assertThrows(AuthenticationException.class,
+            () -> getAuthenticationManager(map, Duration.ofSeconds(5)).authenticate(transaction));
+        assertEquals(2, e.getHandlerErrors().size());
+    }
+}
@@ -42,7 +42,7 @@ public abstract class AbstractCasEventRepository implements CasEventRepository {
             .stream()
             .filter(e -> {
                 val dt = convertEventCreationTime(e);
-                return dt.isEqual(dt) || dt.isAfter(dt);
+                return dt.isEqual(dateTime) || dt.isAfter(dateTime);
             })
             .collect(Collectors.toSet());
     }
@@ -13,6 +13,7 @@ import org.apereo.cas.util.http.HttpClient;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -40,6 +41,13 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
     private final boolean asynchronous;
     private final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies;
 
+    /**
+     * Delivers logout messages when SLO callbacks are asynchronous.
+     * If undefined, asynchronous logout messages are handed over to the http client without confirmation.
+     */
+    @Setter
+    private SingleLogoutMessageDispatcher messageDispatcher;
+
     @Override
     public Collection<SingleLogoutRequest> handle(final WebApplicationService singleLogoutService, final String ticketId,
                                                   final TicketGrantingTicket ticketGrantingTicket) {
@@ -191,6 +199,9 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
      * @return the boolean
      */
     protected boolean sendMessageToEndpoint(final LogoutHttpMessage msg, final SingleLogoutRequest request, final SingleLogoutMessage logoutMessage) {
+        if (isDispatchingMessages()) {
+            return this.messageDispatcher.dispatch(msg);
+        }
         return this.httpClient.sendMessageToEndPoint(msg);
     }
 
@@ -202,7 +213,17 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
      * @return the logout http message to send
      */
     protected LogoutHttpMessage getLogoutHttpMessageToSend(final SingleLogoutRequest request, final SingleLogoutMessage logoutMessage) {
-        return new LogoutHttpMessage(request.getLogoutUrl(), logoutMessage.getPayload(), this.asynchronous);
+        return new LogoutHttpMessage(request.getLogoutUrl(), logoutMessage.getPayload(), this.asynchronous && !isDispatchingMessages());
+    }
+
+    /**
+     * Whether asynchronous logout messages are delivered by the message dispatcher,
+     * in which case messages are sent synchronously from the dispatcher threads.
+     *
+     * @return true if messages are dispatched
+     */
+    protected boolean isDispatchingMessages() {
+        return this.asynchronous && this.messageDispatcher != null;
     }
 
     @Override
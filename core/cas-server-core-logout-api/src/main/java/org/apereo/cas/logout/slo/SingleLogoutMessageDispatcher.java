@@ -0,0 +1,302 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.configuration.model.core.slo.SloDispatchProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.logout.LogoutHttpMessage;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.serialization.SerializationUtils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher} that delivers back-channel logout messages
+ * asynchronously from a dedicated pool of threads. The number of pending messages is bounded,
+ * and identical messages to the same endpoint that are already pending are coalesced.
+ * Messages are sent to each host with limited concurrency; messages that cannot be delivered
+ * are retried with an exponential backoff until the maximum number of attempts is reached.
+ * Hosts are only tracked while messages to them are in flight or waiting.
+ * <p>
+ * If a persistence directory is defined, pending messages are also written to disk
+ * and are delivered once CAS is restarted.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class SingleLogoutMessageDispatcher implements DisposableBean {
+    private static final String FILE_EXTENSION = ".slo";
+
+    private static final String METRIC_NAME = "cas.slo.dispatch";
+
+    /**
+     * Cap on the exponent of the retry backoff, so the delay does not overflow.
+     */
+    private static final int MAX_RETRY_BACKOFF_SHIFT = 16;
+
+    private final HttpClient httpClient;
+
+    private final SloDispatchProperties properties;
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final Map<String, PendingLogoutMessage> pendingMessages = new ConcurrentHashMap<>();
+
+    private final Map<String, HostQueue> hosts = new ConcurrentHashMap<>();
+
+    private final long retryDelayMillis;
+
+    private final Path persistenceDirectory;
+
+    public SingleLogoutMessageDispatcher(final HttpClient httpClient, final SloDispatchProperties properties) {
+        this.httpClient = httpClient;
+        this.properties = properties;
+        this.retryDelayMillis = Beans.newDuration(properties.getRetryDelay()).toMillis();
+        this.persistenceDirectory = StringUtils.isNotBlank(properties.getPersistenceDirectory())
+            ? Paths.get(properties.getPersistenceDirectory())
+            : null;
+        this.executor = new ScheduledThreadPoolExecutor(Math.max(1, properties.getPoolSize()),
+            new CustomizableThreadFactory("cas-slo-dispatch-"));
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+
+        Gauge.builder(METRIC_NAME + ".pending", pendingMessages, Map::size).register(Metrics.globalRegistry);
+        loadPersistedMessages();
+    }
+
+    private static String getMessageKey(final LogoutHttpMessage message) {
+        return DigestUtils.sha256(message.getUrl().toExternalForm() + '\n' + message.getMessage());
+    }
+
+    private static void count(final String outcome) {
+        Metrics.counter(METRIC_NAME + ".messages", "outcome", outcome).increment();
+    }
+
+    /**
+     * Queue the logout message for delivery.
+     * The message is expected to be sent synchronously by the underlying http client,
+     * so that its delivery may be confirmed and retried.
+     *
+     * @param message the message
+     * @return true if the message is accepted for delivery, or if an identical message is already pending.
+     */
+    public boolean dispatch(final LogoutHttpMessage message) {
+        val key = getMessageKey(message);
+        if (pendingMessages.containsKey(key)) {
+            LOGGER.debug("Logout message to [{}] is already pending delivery", message.getUrl());
+            count("coalesced");
+            return true;
+        }
+        if (pendingMessages.size() >= properties.getCapacity()) {
+            LOGGER.warn("Logout message to [{}] is rejected since [{}] messages are pending delivery", message.getUrl(), pendingMessages.size());
+            count("rejected");
+            return false;
+        }
+        val pending = new PendingLogoutMessage(key, message);
+        if (pendingMessages.putIfAbsent(key, pending) != null) {
+            count("coalesced");
+            return true;
+        }
+        persist(pending);
+        submit(pending);
+        return true;
+    }
+
+    /**
+     * Number of logout messages that are pending delivery.
+     *
+     * @return the count
+     */
+    public int getPendingCount() {
+        return pendingMessages.size();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        executor.shutdown();
+        executor.awaitTermination(retryDelayMillis, TimeUnit.MILLISECONDS);
+        executor.shutdownNow();
+        LOGGER.debug("Stopped dispatching logout messages with [{}] message(s) pending delivery", pendingMessages.size());
+    }
+
+    private void submit(final PendingLogoutMessage pending) {
+        val hostName = pending.getMessage().getUrl().getHost();
+        val maxConcurrentRequests = Math.max(1, properties.getMaxConcurrentRequestsPerHost());
+        var host = hosts.computeIfAbsent(hostName, HostQueue::new);
+        var admission = host.offer(pending, maxConcurrentRequests);
+        while (admission == Admission.RETIRED) {
+            host = hosts.computeIfAbsent(hostName, HostQueue::new);
+            admission = host.offer(pending, maxConcurrentRequests);
+        }
+        if (admission == Admission.STARTED) {
+            val activeHost = host;
+            execute(() -> send(pending, activeHost));
+        }
+    }
+
+    private void send(final PendingLogoutMessage pending, final HostQueue host) {
+        try {
+            val attempt = ++pending.attempts;
+            val start = System.nanoTime();
+            val delivered = deliver(pending);
+            Timer.builder(METRIC_NAME + ".request")
+                .tag("outcome", delivered ? "success" : "failure")
+                .register(Metrics.globalRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (delivered) {
+                LOGGER.debug("Delivered logout message to [{}] after [{}] attempt(s)", pending.getMessage().getUrl(), attempt);
+                complete(pending, "success");
+            } else if (attempt < properties.getMaxAttempts()) {
+                val delay = retryDelayMillis << Math.min(attempt - 1, MAX_RETRY_BACKOFF_SHIFT);
+                LOGGER.debug("Unable to deliver logout message to [{}]; retrying in [{}] ms", pending.getMessage().getUrl(), delay);
+                schedule(pending, delay);
+            } else {
+                LOGGER.warn("Unable to deliver logout message to [{}] after [{}] attempt(s)", pending.getMessage().getUrl(), attempt);
+                complete(pending, "failure");
+            }
+        } finally {
+            val next = host.next();
+            if (next != null) {
+                execute(() -> send(next, host));
+            } else if (host.retireIfIdle()) {
+                hosts.remove(host.getName(), host);
+            }
+        }
+    }
+
+    private boolean deliver(final PendingLogoutMessage pending) {
+        try {
+            return httpClient.sendMessageToEndPoint(pending.getMessage());
+        } catch (final Exception e) {
+            LOGGER.debug(e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private void execute(final Runnable task) {
+        if (!executor.isShutdown()) {
+            executor.execute(task);
+        }
+    }
+
+    private void schedule(final PendingLogoutMessage pending, final long delay) {
+        if (!executor.isShutdown()) {
+            executor.schedule(() -> submit(pending), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void complete(final PendingLogoutMessage pending, final String outcome) {
+        pendingMessages.remove(pending.getKey());
+        count(outcome);
+        if (persistenceDirectory != null) {
+            try {
+                Files.deleteIfExists(persistenceDirectory.resolve(pending.getKey() + FILE_EXTENSION));
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to remove logout message [{}]: [{}]", pending.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private void persist(final PendingLogoutMessage pending) {
+        if (persistenceDirectory != null) {
+            try {
+                Files.createDirectories(persistenceDirectory);
+                Files.write(persistenceDirectory.resolve(pending.getKey() + FILE_EXTENSION), SerializationUtils.serialize(pending.getMessage()));
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to store logout message to [{}]: [{}]", pending.getMessage().getUrl(), e.getMessage());
+            }
+        }
+    }
+
+    private void loadPersistedMessages() {
+        if (persistenceDirectory == null || !Files.isDirectory(persistenceDirectory)) {
+            return;
+        }
+        try (val files = Files.list(persistenceDirectory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION)).forEach(file -> {
+                try {
+                    val message = SerializationUtils.deserialize(Files.readAllBytes(file), LogoutHttpMessage.class);
+                    val pending = new PendingLogoutMessage(StringUtils.removeEnd(file.getFileName().toString(), FILE_EXTENSION), message);
+                    if (pendingMessages.putIfAbsent(pending.getKey(), pending) == null) {
+                        submit(pending);
+                    }
+                } catch (final Exception e) {
+                    LOGGER.warn("Unable to load logout message from [{}]: [{}]", file, e.getMessage());
+                }
+            });
+            LOGGER.info("Loaded [{}] pending logout message(s) from [{}]", pendingMessages.size(), persistenceDirectory);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to load logout messages from [{}]: [{}]", persistenceDirectory, e.getMessage());
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingLogoutMessage {
+        private final String key;
+
+        private final LogoutHttpMessage message;
+
+        private int attempts;
+    }
+
+    private enum Admission {
+        STARTED, QUEUED, RETIRED
+    }
+
+    @RequiredArgsConstructor
+    private static class HostQueue {
+        @Getter
+        private final String name;
+
+        private final Queue<PendingLogoutMessage> waiting = new ArrayDeque<>();
+
+        private int active;
+
+        private boolean retired;
+
+        synchronized Admission offer(final PendingLogoutMessage pending, final int maxConcurrentRequests) {
+            if (retired) {
+                return Admission.RETIRED;
+            }
+            if (active >= maxConcurrentRequests) {
+                waiting.add(pending);
+                return Admission.QUEUED;
+            }
+            active++;
+            return Admission.STARTED;
+        }
+
+        synchronized PendingLogoutMessage next() {
+            val next = waiting.poll();
+            if (next == null) {
+                active--;
+            }
+            return next;
+        }
+
+        synchronized boolean retireIfIdle() {
+            retired = active == 0 && waiting.isEmpty();
+            return retired;
+        }
+    }
+}
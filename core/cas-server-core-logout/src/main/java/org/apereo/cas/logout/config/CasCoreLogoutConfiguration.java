@@ -11,6 +11,7 @@ import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
 import org.apereo.cas.services.ServicesManager;
@@ -74,12 +75,20 @@ public class CasCoreLogoutConfiguration {
     @ConditionalOnMissingBean(name = "defaultSingleLogoutServiceMessageHandler")
     @Bean
     public SingleLogoutServiceMessageHandler defaultSingleLogoutServiceMessageHandler() {
-        return new DefaultSingleLogoutServiceMessageHandler(httpClient.getObject(),
+        val handler = new DefaultSingleLogoutServiceMessageHandler(httpClient.getObject(),
             defaultSingleLogoutMessageCreator(),
             servicesManager.getObject(),
             singleLogoutServiceLogoutUrlBuilder(),
             casProperties.getSlo().isAsynchronous(),
             authenticationServiceSelectionPlan.getObject());
+        handler.setMessageDispatcher(singleLogoutMessageDispatcher());
+        return handler;
+    }
+
+    @ConditionalOnMissingBean(name = "singleLogoutMessageDispatcher")
+    @Bean
+    public SingleLogoutMessageDispatcher singleLogoutMessageDispatcher() {
+        return new SingleLogoutMessageDispatcher(httpClient.getObject(), casProperties.getSlo().getDispatch());
     }
 
     @ConditionalOnMissingBean(name = "logoutManager")
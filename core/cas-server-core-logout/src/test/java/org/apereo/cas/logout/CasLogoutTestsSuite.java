@@ -14,7 +14,8 @@ import org.junit.runner.RunWith;
     DefaultLogoutManagerTests.class,
     DefaultSingleLogoutServiceLogoutUrlBuilderTests.class,
     LogoutHttpMessageTests.class,
-    SamlCompliantLogoutMessageCreatorTests.class
+    SamlCompliantLogoutMessageCreatorTests.class,
+    SingleLogoutMessageDispatcherTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class CasLogoutTestsSuite {
@@ -0,0 +1,90 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.configuration.model.core.slo.SloDispatchProperties;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpMessage;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class SingleLogoutMessageDispatcherTests {
+
+    private static LogoutHttpMessage getLogoutMessage(final String payload) throws Exception {
+        return new LogoutHttpMessage(new URL("https://app.example.org/logout"), payload, false);
+    }
+
+    @Test
+    public void verifyMessageRetriedUntilDelivered() throws Exception {
+        val client = mock(HttpClient.class);
+        when(client.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false, false, true);
+        val properties = new SloDispatchProperties();
+        properties.setRetryDelay("PT0.01S");
+        properties.setMaxAttempts(3);
+        val dispatcher = new SingleLogoutMessageDispatcher(client, properties);
+        assertTrue(dispatcher.dispatch(getLogoutMessage("ST-1")));
+        verify(client, timeout(5000).times(3)).sendMessageToEndPoint(any(HttpMessage.class));
+        dispatcher.destroy();
+    }
+
+    @Test
+    public void verifyIdenticalMessagesCoalesced() throws Exception {
+        val client = mock(HttpClient.class);
+        when(client.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        val properties = new SloDispatchProperties();
+        properties.setRetryDelay("PT5S");
+        val dispatcher = new SingleLogoutMessageDispatcher(client, properties);
+        assertTrue(dispatcher.dispatch(getLogoutMessage("ST-1")));
+        assertTrue(dispatcher.dispatch(getLogoutMessage("ST-1")));
+        assertEquals(1, dispatcher.getPendingCount());
+        dispatcher.destroy();
+    }
+
+    @Test
+    public void verifyMessagesRejectedWhenFull() throws Exception {
+        val client = mock(HttpClient.class);
+        when(client.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        val properties = new SloDispatchProperties();
+        properties.setCapacity(1);
+        properties.setRetryDelay("PT5S");
+        val dispatcher = new SingleLogoutMessageDispatcher(client, properties);
+        assertTrue(dispatcher.dispatch(getLogoutMessage("ST-1")));
+        assertFalse(dispatcher.dispatch(getLogoutMessage("ST-2")));
+        dispatcher.destroy();
+    }
+
+    @Test
+    public void verifyPendingMessagesSurviveRestarts() throws Exception {
+        val directory = Files.createTempDirectory("slo");
+        val client = mock(HttpClient.class);
+        when(client.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        val properties = new SloDispatchProperties();
+        properties.setRetryDelay("PT5S");
+        properties.setPersistenceDirectory(directory.toString());
+        val dispatcher = new SingleLogoutMessageDispatcher(client, properties);
+        assertTrue(dispatcher.dispatch(getLogoutMessage("ST-1")));
+        dispatcher.destroy();
+
+        val restartedClient = mock(HttpClient.class);
+        when(restartedClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+        val restarted = new SingleLogoutMessageDispatcher(restartedClient, properties);
+        verify(restartedClient, timeout(5000)).sendMessageToEndPoint(any(HttpMessage.class));
+        restarted.destroy();
+        try (val files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
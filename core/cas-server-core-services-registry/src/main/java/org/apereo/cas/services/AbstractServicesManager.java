@@ -19,6 +19,9 @@ import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -31,6 +34,13 @@ import java.util.stream.Stream;
 
 /**
  * This is {@link AbstractServicesManager}.
+ * Besides the loaded services, the manager keeps an immutable snapshot of services
+ * that are filtered by environment, sorted and initialized, along with the registered
+ * {@link RegisteredServiceIndex} entries computed from the snapshot. The snapshot is sorted
+ * once as services are loaded; saved services are inserted in order and removed services
+ * are dropped without sorting again. Both are handed out as is to readers.
+ * Where the service registry keeps track of changes, services may be reloaded by
+ * applying only the changes made since they were last loaded.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -45,15 +55,17 @@ public abstract class AbstractServicesManager implements ServicesManager {
 
     private Map<Long, RegisteredService> services = new ConcurrentHashMap<>();
 
+    private final Map<String, RegisteredServiceIndex> serviceIndexes = new ConcurrentHashMap<>();
+
+    private volatile List<RegisteredService> orderedServices = List.of();
+
+    private volatile Map<String, Map<String, RegisteredService>> indexedServices = Map.of();
+
+    private volatile long serviceRegistryVersion = -1;
+
     @Override
     public Collection<RegisteredService> getAllServices() {
-        return this.services.values()
-            .stream()
-            .filter(this::validateAndFilterServiceByEnvironment)
-            .filter(getRegisteredServicesFilteringPredicate())
-            .sorted()
-            .peek(RegisteredService::initialize)
-            .collect(Collectors.toList());
+        return this.orderedServices;
     }
 
 
@@ -66,8 +78,6 @@ public abstract class AbstractServicesManager implements ServicesManager {
         return getAllServices()
             .stream()
             .filter(getRegisteredServicesFilteringPredicate(predicate))
-            .sorted()
-            .peek(RegisteredService::initialize)
             .collect(Collectors.toList());
 
     }
@@ -120,6 +130,27 @@ public abstract class AbstractServicesManager implements ServicesManager {
         return validateRegisteredService(result);
     }
 
+    @Override
+    public void registerServiceIndex(final RegisteredServiceIndex index) {
+        if (this.serviceIndexes.putIfAbsent(index.getName(), index) == null) {
+            LOGGER.debug("Registered service index [{}]", index.getName());
+            refreshOrderedServices();
+        }
+    }
+
+    @Override
+    public RegisteredService findServiceByIndex(final RegisteredServiceIndex index, final String key) {
+        if (StringUtils.isBlank(key)) {
+            return null;
+        }
+        var entries = this.indexedServices.get(index.getName());
+        if (entries == null) {
+            registerServiceIndex(index);
+            entries = this.indexedServices.getOrDefault(index.getName(), Map.of());
+        }
+        return validateRegisteredService(entries.get(key));
+    }
+
     @Override
     public int count() {
         return services.size();
@@ -143,6 +174,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             publishEvent(new CasRegisteredServicePreDeleteEvent(this, service));
             this.serviceRegistry.delete(service);
             this.services.remove(service.getId());
+            removeFromOrderedServices(service);
             deleteInternal(service);
             publishEvent(new CasRegisteredServiceDeletedEvent(this, service));
         }
@@ -165,6 +197,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService));
         val r = this.serviceRegistry.save(registeredService);
         this.services.put(r.getId(), r);
+        addToOrderedServices(r);
         saveInternal(registeredService);
 
         if (publishEvent) {
@@ -179,12 +212,14 @@ public abstract class AbstractServicesManager implements ServicesManager {
     @Override
     public Collection<RegisteredService> load() {
         LOGGER.trace("Loading services from [{}]", serviceRegistry.getName());
+        this.serviceRegistryVersion = this.serviceRegistry.getChangeVersion();
         this.services = this.serviceRegistry.load()
             .stream()
             .collect(Collectors.toConcurrentMap(r -> {
                 LOGGER.debug("Adding registered service [{}] with name [{}] and internal identifier [{}]", r.getServiceId(), r.getName(), r.getId());
                 return r.getId();
             }, Function.identity(), (r, s) -> s));
+        refreshOrderedServices();
         loadInternal();
         publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices()));
         evaluateExpiredServiceDefinitions();
@@ -192,13 +227,101 @@ public abstract class AbstractServicesManager implements ServicesManager {
         return services.values();
     }
 
+    /**
+     * Apply the services saved or removed by the DAO since services were last loaded,
+     * or load all services if the DAO does not keep track of changes.
+     */
+    @Override
+    public synchronized Collection<RegisteredService> loadChanges() {
+        if (this.serviceRegistryVersion < 0) {
+            return load();
+        }
+        val changes = this.serviceRegistry.loadChanges(this.serviceRegistryVersion);
+        if (changes == null) {
+            LOGGER.debug("Changes since version [{}] are not tracked by [{}]; loading all services", this.serviceRegistryVersion, serviceRegistry.getName());
+            return load();
+        }
+        if (!changes.isEmpty()) {
+            changes.getSavedServices().forEach(r -> {
+                LOGGER.debug("Updating registered service [{}] with name [{}] and internal identifier [{}]", r.getServiceId(), r.getName(), r.getId());
+                this.services.put(r.getId(), r);
+            });
+            changes.getDeletedServiceIds().forEach(this.services::remove);
+            refreshOrderedServices();
+            loadInternal();
+            publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices()));
+            LOGGER.info("Updated [{}] and removed [{}] service(s) from [{}].", changes.getSavedServices().size(),
+                changes.getDeletedServiceIds().size(), this.serviceRegistry.getName());
+        }
+        this.serviceRegistryVersion = changes.getVersion();
+        evaluateExpiredServiceDefinitions();
+        return changes.getSavedServices();
+    }
+
     @Override
     public synchronized void deleteAll() {
-        this.services.forEach((k, v) -> delete(v));
+        val deleted = new ArrayList<RegisteredService>(this.services.values());
+        deleted.forEach(service -> {
+            publishEvent(new CasRegisteredServicePreDeleteEvent(this, service));
+            this.serviceRegistry.delete(service);
+        });
         this.services.clear();
+        refreshOrderedServices();
+        loadInternal();
+        deleted.forEach(service -> publishEvent(new CasRegisteredServiceDeletedEvent(this, service)));
         publishEvent(new CasRegisteredServicesDeletedEvent(this));
     }
 
+    private synchronized void refreshOrderedServices() {
+        val ordered = this.services.values()
+            .stream()
+            .filter(this::validateAndFilterServiceByEnvironment)
+            .sorted()
+            .peek(RegisteredService::initialize)
+            .collect(Collectors.toUnmodifiableList());
+        setOrderedServices(ordered);
+    }
+
+    private synchronized void addToOrderedServices(final RegisteredService service) {
+        val ordered = this.orderedServices
+            .stream()
+            .filter(r -> r.getId() != service.getId())
+            .collect(Collectors.toCollection(ArrayList::new));
+        if (validateAndFilterServiceByEnvironment(service)) {
+            service.initialize();
+            val position = Collections.binarySearch(ordered, service);
+            ordered.add(position < 0 ? -position - 1 : position, service);
+        }
+        setOrderedServices(ordered);
+    }
+
+    private synchronized void removeFromOrderedServices(final RegisteredService service) {
+        val ordered = this.orderedServices
+            .stream()
+            .filter(r -> r.getId() != service.getId())
+            .collect(Collectors.toList());
+        setOrderedServices(ordered);
+    }
+
+    private void setOrderedServices(final List<RegisteredService> ordered) {
+        val snapshot = List.copyOf(ordered);
+        this.indexedServices = buildServiceIndexes(snapshot);
+        this.orderedServices = snapshot;
+    }
+
+    private Map<String, Map<String, RegisteredService>> buildServiceIndexes(final List<RegisteredService> ordered) {
+        val indexes = new HashMap<String, Map<String, RegisteredService>>();
+        this.serviceIndexes.forEach((name, index) -> {
+            val entries = new HashMap<String, RegisteredService>();
+            ordered.forEach(service -> index.getKeys(service)
+                .stream()
+                .filter(Objects::nonNull)
+                .forEach(key -> entries.putIfAbsent(key, service)));
+            indexes.put(name, Map.copyOf(entries));
+        });
+        return Map.copyOf(indexes);
+    }
+
     private void evaluateExpiredServiceDefinitions() {
         this.services.values()
             .stream()
@@ -272,7 +395,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
     }
 
     /**
-     * Load internal.
+     * Load internal, once services are loaded or all services are removed.
      */
     protected void loadInternal() {
     }
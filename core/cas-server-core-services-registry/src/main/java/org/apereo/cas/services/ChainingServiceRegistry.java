@@ -10,10 +10,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link ChainingServiceRegistry}.
+ * Changes are tracked by the chain if there is a single registry in the chain
+ * that is not immutable and that registry keeps track of changes.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
@@ -101,6 +104,20 @@ public class ChainingServiceRegistry extends AbstractServiceRegistry {
             .orElse(null);
     }
 
+    @Override
+    public long getChangeVersion() {
+        return getMutableServiceRegistry()
+            .map(ServiceRegistry::getChangeVersion)
+            .orElse(-1L);
+    }
+
+    @Override
+    public ServiceRegistryChanges loadChanges(final long version) {
+        return getMutableServiceRegistry()
+            .map(registry -> registry.loadChanges(version))
+            .orElse(null);
+    }
+
     @Override
     public long size() {
         val filter = Predicates.not(Predicates.instanceOf(ImmutableServiceRegistry.class));
@@ -120,4 +137,12 @@ public class ChainingServiceRegistry extends AbstractServiceRegistry {
             .collect(Collectors.joining(","));
         return StringUtils.defaultIfBlank(name, getClass().getSimpleName());
     }
+
+    private Optional<ServiceRegistry> getMutableServiceRegistry() {
+        val filter = Predicates.not(Predicates.instanceOf(ImmutableServiceRegistry.class));
+        val registries = serviceRegistries.stream()
+            .filter(filter)
+            .collect(Collectors.toList());
+        return registries.size() == 1 ? Optional.of(registries.get(0)) : Optional.empty();
+    }
 }
@@ -1,20 +1,23 @@
 package org.apereo.cas.services;
 
+import org.apereo.cas.services.matching.RegisteredServiceMatchingIndex;
+
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collection;
 import java.util.Set;
-import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Default implementation of the {@link ServicesManager} interface.
+ * Candidate services are located via a {@link RegisteredServiceMatchingIndex}
+ * that is rebuilt from the ordered services as services are loaded, saved or removed.
  *
  * @author Scott Battaglia
  * @since 3.1
  */
 public class DefaultServicesManager extends AbstractServicesManager {
 
-    private final Set<RegisteredService> orderedServices = new ConcurrentSkipListSet<>();
+    private volatile RegisteredServiceMatchingIndex matchingIndex = RegisteredServiceMatchingIndex.empty();
 
     public DefaultServicesManager(final ServiceRegistry serviceRegistry, final ApplicationEventPublisher eventPublisher, final Set<String> environments) {
         super(serviceRegistry, eventPublisher, environments);
@@ -22,23 +25,25 @@ public class DefaultServicesManager extends AbstractServicesManager {
 
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
-        return this.orderedServices;
+        return this.matchingIndex.getCandidates(serviceId);
     }
 
     @Override
     protected void deleteInternal(final RegisteredService service) {
-        this.orderedServices.remove(service);
+        rebuildMatchingIndex();
     }
 
     @Override
     protected void saveInternal(final RegisteredService service) {
-        this.orderedServices.clear();
-        this.orderedServices.addAll(getAllServices());
+        rebuildMatchingIndex();
     }
 
     @Override
     protected void loadInternal() {
-        this.orderedServices.clear();
-        this.orderedServices.addAll(getAllServices());
+        rebuildMatchingIndex();
+    }
+
+    private void rebuildMatchingIndex() {
+        this.matchingIndex = RegisteredServiceMatchingIndex.of(getAllServices());
     }
 }
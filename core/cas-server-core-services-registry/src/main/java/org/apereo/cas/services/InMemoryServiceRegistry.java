@@ -9,12 +9,16 @@ import org.springframework.context.ApplicationEventPublisher;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
  * Default In Memory Service Registry Dao for test/demonstration purposes.
+ * The registry keeps track of the version at which each service was last saved or removed.
  *
  * @author Scott Battaglia
  * @since 3.1
@@ -24,6 +28,10 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
 
     private final List<RegisteredService> registeredServices;
 
+    private final Map<Long, Long> changedServiceVersions = new HashMap<>();
+
+    private long changeVersion;
+
     public InMemoryServiceRegistry(final ApplicationEventPublisher eventPublisher) {
         this(eventPublisher, new ArrayList<>(), new ArrayList<>());
     }
@@ -37,7 +45,9 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
 
     @Override
     public boolean delete(final RegisteredService registeredService) {
-        return this.registeredServices.remove(registeredService);
+        val result = this.registeredServices.remove(registeredService);
+        recordChange(registeredService.getId());
+        return result;
     }
 
     @Override
@@ -70,9 +80,37 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
             this.registeredServices.remove(svc);
         }
         this.registeredServices.add(registeredService);
+        recordChange(registeredService.getId());
         return registeredService;
     }
 
+    @Override
+    public synchronized long getChangeVersion() {
+        return this.changeVersion;
+    }
+
+    @Override
+    public synchronized ServiceRegistryChanges loadChanges(final long version) {
+        val saved = new ArrayList<RegisteredService>();
+        val deleted = new ArrayList<Long>();
+        this.changedServiceVersions.forEach((id, changed) -> {
+            if (changed > version) {
+                val service = Optional.ofNullable(findServiceById(id))
+                    .map(this::invokeServiceRegistryListenerPostLoad);
+                if (service.isPresent()) {
+                    saved.add(service.get());
+                } else {
+                    deleted.add(id);
+                }
+            }
+        });
+        return new ServiceRegistryChanges(this.changeVersion, saved, deleted);
+    }
+
+    private synchronized void recordChange(final long id) {
+        this.changedServiceVersions.put(id, ++this.changeVersion);
+    }
+
     /**
      * This isn't super-fast but we don't expect thousands of services.
      *
@@ -1,20 +1,45 @@
 package org.apereo.cas.services;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
 /**
  * This is {@link ServicesManagerScheduledLoader}.
+ * Each run applies the changes made to services since they were last loaded,
+ * and all services are loaded again once the full reload interval has passed.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
  */
-@RequiredArgsConstructor
 @Slf4j
 public class ServicesManagerScheduledLoader implements Runnable {
     private final ServicesManager servicesManager;
 
+    private final Duration fullReloadInterval;
+
+    private final Clock clock;
+
+    private Instant lastFullReload;
+
+    public ServicesManagerScheduledLoader(final ServicesManager servicesManager) {
+        this(servicesManager, Duration.ZERO);
+    }
+
+    public ServicesManagerScheduledLoader(final ServicesManager servicesManager, final Duration fullReloadInterval) {
+        this(servicesManager, fullReloadInterval, Clock.systemUTC());
+    }
+
+    public ServicesManagerScheduledLoader(final ServicesManager servicesManager, final Duration fullReloadInterval, final Clock clock) {
+        this.servicesManager = servicesManager;
+        this.fullReloadInterval = fullReloadInterval;
+        this.clock = clock;
+    }
+
     /**
      * No op runnable.
      *
@@ -31,6 +56,14 @@ public class ServicesManagerScheduledLoader implements Runnable {
     )
     @Override
     public void run() {
-        servicesManager.load();
+        val now = clock.instant();
+        if (lastFullReload == null || !now.isBefore(lastFullReload.plus(fullReloadInterval))) {
+            LOGGER.trace("Loading all services");
+            servicesManager.load();
+            lastFullReload = now;
+        } else {
+            LOGGER.trace("Loading changes made to services");
+            servicesManager.loadChanges();
+        }
     }
 }
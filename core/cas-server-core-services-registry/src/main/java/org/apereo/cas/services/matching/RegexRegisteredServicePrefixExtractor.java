@@ -0,0 +1,283 @@
+package org.apereo.cas.services.matching;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * This is {@link RegexRegisteredServicePrefixExtractor}.
+ * Calculates the set of literal prefixes that any string matched by a service definition
+ * pattern must start with. The extraction is deliberately conservative: whenever a construct
+ * is encountered that cannot be safely reasoned about, extraction stops and the prefixes
+ * collected so far are returned. An empty string in the result indicates that the pattern
+ * may match anything and cannot be narrowed down.
+ * <p>
+ * Prefixes are folded to lower case, as service patterns are compiled case-insensitively,
+ * and only contain US-ASCII characters to match the default case-folding rules of the regex engine.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@UtilityClass
+public class RegexRegisteredServicePrefixExtractor {
+
+    /**
+     * Maximum number of prefixes produced for a single pattern, to guard
+     * against combinatorial explosion of optional atoms and alternations.
+     */
+    private static final int MAX_PREFIXES = 32;
+
+    /**
+     * Characters beyond this range are not US-ASCII, and may be folded differently by the regex engine.
+     */
+    private static final char MAX_ASCII_CHARACTER = 127;
+
+    private static final String NON_CAPTURING_GROUP = "(?:";
+
+    private static final Set<String> MATCH_ANYTHING = Set.of(StringUtils.EMPTY);
+
+    /**
+     * Extract the literal prefixes for the given pattern.
+     *
+     * @param pattern the pattern
+     * @return the set of prefixes, which is never empty.
+     */
+    public static Set<String> extract(final String pattern) {
+        if (StringUtils.isBlank(pattern)) {
+            return MATCH_ANYTHING;
+        }
+        try {
+            val parser = new PrefixParser(pattern);
+            val result = parser.parseAlternation();
+            if (result.getPrefixes().isEmpty() || result.getPrefixes().contains(StringUtils.EMPTY)) {
+                return MATCH_ANYTHING;
+            }
+            return result.getPrefixes();
+        } catch (final Exception e) {
+            return MATCH_ANYTHING;
+        }
+    }
+
+    /**
+     * Parsed prefixes of a sequence, along with whether the sequence
+     * was entirely made up of literals and may be followed by more prefix characters.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Prefixes {
+        private final Set<String> prefixes;
+
+        private final boolean complete;
+    }
+
+    private static class PrefixParser {
+        private final String pattern;
+
+        private int position;
+
+        PrefixParser(final String pattern) {
+            this.pattern = pattern;
+        }
+
+        private static Set<String> concat(final Collection<String> heads, final Collection<String> tails) {
+            val results = new LinkedHashSet<String>();
+            heads.forEach(h -> tails.forEach(t -> results.add(h + t)));
+            return results;
+        }
+
+        private static boolean isAsciiLiteral(final char c) {
+            return c <= MAX_ASCII_CHARACTER && ".[]{}()*+?^$|\\".indexOf(c) < 0;
+        }
+
+        /**
+         * Parse alternatives until the end of the pattern or the closing
+         * parenthesis of the enclosing group.
+         */
+        Prefixes parseAlternation() {
+            val results = new LinkedHashSet<String>();
+            var complete = true;
+            while (true) {
+                val sequence = parseSequence();
+                results.addAll(sequence.getPrefixes());
+                complete &= sequence.isComplete();
+                if (position < pattern.length() && pattern.charAt(position) == '|') {
+                    position++;
+                    continue;
+                }
+                break;
+            }
+            return new Prefixes(results, complete);
+        }
+
+        private Prefixes parseSequence() {
+            Set<String> current = new LinkedHashSet<>();
+            current.add(StringUtils.EMPTY);
+
+            if (position < pattern.length() && pattern.charAt(position) == '^') {
+                position++;
+            }
+
+            while (position < pattern.length()) {
+                val c = pattern.charAt(position);
+                if (c == '|' || c == ')') {
+                    return new Prefixes(current, true);
+                }
+                val atomStart = position;
+                val atom = parseAtom();
+                if (atom == null) {
+                    position = atomStart;
+                    skipAlternative();
+                    return new Prefixes(current, false);
+                }
+                if (position < pattern.length()) {
+                    val quantifier = pattern.charAt(position);
+                    if (quantifier == '*' || quantifier == '{') {
+                        skipAlternative();
+                        return new Prefixes(current, false);
+                    }
+                    if (quantifier == '?') {
+                        position++;
+                        skipQuantifierModifier();
+                        val optional = new LinkedHashSet<>(current);
+                        optional.addAll(concat(current, atom.getPrefixes()));
+                        if (optional.size() > MAX_PREFIXES) {
+                            skipAlternative();
+                            return new Prefixes(current, false);
+                        }
+                        if (!atom.isComplete()) {
+                            skipAlternative();
+                            return new Prefixes(optional, false);
+                        }
+                        current = optional;
+                        continue;
+                    }
+                    if (quantifier == '+') {
+                        val required = concat(current, atom.getPrefixes());
+                        skipAlternative();
+                        return required.size() > MAX_PREFIXES
+                            ? new Prefixes(current, false)
+                            : new Prefixes(required, false);
+                    }
+                }
+                val next = concat(current, atom.getPrefixes());
+                if (next.size() > MAX_PREFIXES) {
+                    skipAlternative();
+                    return new Prefixes(current, false);
+                }
+                current = next;
+                if (!atom.isComplete()) {
+                    skipAlternative();
+                    return new Prefixes(current, false);
+                }
+            }
+            return new Prefixes(current, true);
+        }
+
+        /**
+         * Parse a single literal character or a group of literal alternatives.
+         *
+         * @return the atom prefixes, or null if the atom is not a literal construct.
+         */
+        private Prefixes parseAtom() {
+            val c = pattern.charAt(position);
+            if (c == '\\') {
+                if (position + 1 >= pattern.length()) {
+                    return null;
+                }
+                val escaped = pattern.charAt(position + 1);
+                if (Character.isLetterOrDigit(escaped) || escaped > MAX_ASCII_CHARACTER) {
+                    return null;
+                }
+                position += 2;
+                return literal(escaped);
+            }
+            if (c == '(') {
+                if (pattern.startsWith(NON_CAPTURING_GROUP, position)) {
+                    position += NON_CAPTURING_GROUP.length();
+                } else if (pattern.startsWith("(?", position)) {
+                    return null;
+                } else {
+                    position++;
+                }
+                val group = parseAlternation();
+                if (position >= pattern.length() || pattern.charAt(position) != ')') {
+                    return null;
+                }
+                position++;
+                return group;
+            }
+            if (isAsciiLiteral(c)) {
+                position++;
+                return literal(c);
+            }
+            return null;
+        }
+
+        private Prefixes literal(final char c) {
+            val values = new LinkedHashSet<String>();
+            values.add(String.valueOf(Character.toLowerCase(c)));
+            return new Prefixes(values, true);
+        }
+
+        private void skipQuantifierModifier() {
+            if (position < pattern.length()) {
+                val c = pattern.charAt(position);
+                if (c == '?' || c == '+') {
+                    position++;
+                }
+            }
+        }
+
+        /**
+         * Skip to the next alternation operator or closing parenthesis
+         * that belongs to the current nesting level.
+         */
+        private void skipAlternative() {
+            var depth = 0;
+            var characterClassDepth = 0;
+            while (position < pattern.length()) {
+                val c = pattern.charAt(position);
+                if (c == '\\') {
+                    position += 2;
+                    continue;
+                }
+                if (c == '[') {
+                    characterClassDepth++;
+                    skipLeadingCharacterClassBracket();
+                } else if (characterClassDepth > 0) {
+                    if (c == ']') {
+                        characterClassDepth--;
+                    }
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    if (depth == 0) {
+                        return;
+                    }
+                    depth--;
+                } else if (c == '|' && depth == 0) {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        /**
+         * A closing bracket that immediately follows the opening bracket
+         * (optionally negated) is a literal member of the character class.
+         */
+        private void skipLeadingCharacterClassBracket() {
+            if (pattern.startsWith("^]", position + 1)) {
+                position += 2;
+            } else if (pattern.startsWith("]", position + 1)) {
+                position++;
+            }
+        }
+    }
+}
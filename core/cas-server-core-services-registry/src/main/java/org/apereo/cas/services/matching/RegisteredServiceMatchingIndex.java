@@ -0,0 +1,189 @@
+package org.apereo.cas.services.matching;
+
+import org.apereo.cas.services.RegexRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndex}.
+ * An immutable, precompiled index of registered services used to narrow down
+ * the set of definitions whose patterns must be evaluated against a service identifier.
+ * <p>
+ * Literal prefixes of regex-based service definitions (i.e. scheme, host and path fragments)
+ * are extracted via {@link RegexRegisteredServicePrefixExtractor} and organized into a character trie.
+ * Walking the trie along the requested service identifier yields only those definitions
+ * whose prefix is compatible with the identifier. Definitions that cannot be narrowed down
+ * (i.e. patterns that begin with wildcards, or service types with custom matching rules)
+ * are always considered candidates. Candidates are always returned in the original
+ * evaluation order of the indexed services, so the first matching definition is identical
+ * to the one produced by a linear scan.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RegisteredServiceMatchingIndex {
+
+    private static final Map<Class<?>, Boolean> INDEXABLE_TYPES = new ConcurrentHashMap<>();
+
+    private final List<RegisteredService> services;
+
+    private final TrieNode root;
+
+    /**
+     * Build an index from the given services.
+     * The iteration order of the collection defines the evaluation order of the index.
+     *
+     * @param services the services, sorted by evaluation order
+     * @return the index
+     */
+    public static RegisteredServiceMatchingIndex of(final Collection<RegisteredService> services) {
+        val ordered = services.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableList());
+        val root = new TrieNode();
+        for (var rank = 0; rank < ordered.size(); rank++) {
+            val service = ordered.get(rank);
+            val prefixes = isIndexable(service)
+                ? RegexRegisteredServicePrefixExtractor.extract(service.getServiceId())
+                : List.of(StringUtils.EMPTY);
+            for (val prefix : prefixes) {
+                LOGGER.trace("Indexing registered service [{}] under prefix [{}]", service.getServiceId(), prefix);
+                root.insert(prefix, rank);
+            }
+        }
+        root.compact();
+        return new RegisteredServiceMatchingIndex(ordered, root);
+    }
+
+    /**
+     * Empty index.
+     *
+     * @return the index
+     */
+    public static RegisteredServiceMatchingIndex empty() {
+        return of(List.of());
+    }
+
+    /**
+     * Service definitions whose pattern matching follows the default regex semantics
+     * can be indexed safely; anything else is always a candidate for matching.
+     */
+    private static boolean isIndexable(final RegisteredService service) {
+        if (!(service instanceof RegexRegisteredService) || StringUtils.isBlank(service.getServiceId())) {
+            return false;
+        }
+        return INDEXABLE_TYPES.computeIfAbsent(service.getClass(), type -> {
+            try {
+                return type.getMethod("matches", String.class).getDeclaringClass().equals(RegexRegisteredService.class);
+            } catch (final NoSuchMethodException e) {
+                return Boolean.FALSE;
+            }
+        });
+    }
+
+    private static char fold(final char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Gets the candidate services that may match the service identifier,
+     * in evaluation order.
+     *
+     * @param serviceId the service id
+     * @return the candidates
+     */
+    public List<RegisteredService> getCandidates(final String serviceId) {
+        if (services.isEmpty()) {
+            return List.of();
+        }
+        val collected = new ArrayList<int[]>();
+        var total = 0;
+        var node = root;
+        var index = 0;
+        while (node != null) {
+            if (node.ranks.length > 0) {
+                collected.add(node.ranks);
+                total += node.ranks.length;
+            }
+            if (serviceId == null || index >= serviceId.length()) {
+                break;
+            }
+            node = node.children.get(fold(serviceId.charAt(index++)));
+        }
+        val ranks = new int[total];
+        var position = 0;
+        for (val entries : collected) {
+            System.arraycopy(entries, 0, ranks, position, entries.length);
+            position += entries.length;
+        }
+        Arrays.sort(ranks);
+        val candidates = new ArrayList<RegisteredService>(ranks.length);
+        for (var i = 0; i < ranks.length; i++) {
+            if (i == 0 || ranks[i] != ranks[i - 1]) {
+                candidates.add(services.get(ranks[i]));
+            }
+        }
+        LOGGER.trace("Located [{}] candidate service(s) out of [{}] for [{}]", candidates.size(), services.size(), serviceId);
+        return candidates;
+    }
+
+    /**
+     * All indexed services in evaluation order.
+     *
+     * @return the services
+     */
+    public List<RegisteredService> getServices() {
+        return this.services;
+    }
+
+    /**
+     * Size of the index.
+     *
+     * @return the size
+     */
+    public int size() {
+        return this.services.size();
+    }
+
+    private static class TrieNode {
+        private static final int[] NO_RANKS = new int[0];
+
+        private Map<Character, TrieNode> children = new HashMap<>(0);
+
+        private List<Integer> pending = new ArrayList<>(0);
+
+        private int[] ranks = NO_RANKS;
+
+        void insert(final String prefix, final int rank) {
+            var node = this;
+            for (var i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(fold(prefix.charAt(i)), c -> new TrieNode());
+            }
+            node.pending.add(rank);
+        }
+
+        void compact() {
+            this.ranks = pending.stream().mapToInt(Integer::intValue).toArray();
+            this.pending = null;
+            this.children = Map.copyOf(children);
+            this.children.values().forEach(TrieNode::compact);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.apereo.cas.services;
 
+import org.apereo.cas.services.matching.RegexRegisteredServicePrefixExtractorTests;
+import org.apereo.cas.services.matching.RegisteredServiceMatchingIndexTests;
 import org.apereo.cas.services.resource.CreateResourceBasedRegisteredServiceWatcherTests;
 import org.apereo.cas.services.resource.DeleteResourceBasedRegisteredServiceWatcherTests;
 import org.apereo.cas.services.resource.ModifyResourceBasedRegisteredServiceWatcherTests;
@@ -18,7 +20,9 @@ import org.junit.runner.RunWith;
     ServiceRegistryInitializerTests.class,
     DeleteResourceBasedRegisteredServiceWatcherTests.class,
     CreateResourceBasedRegisteredServiceWatcherTests.class,
-    ModifyResourceBasedRegisteredServiceWatcherTests.class
+    ModifyResourceBasedRegisteredServiceWatcherTests.class,
+    RegexRegisteredServicePrefixExtractorTests.class,
+    RegisteredServiceMatchingIndexTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllServiceRegistryTestsSuite {
@@ -0,0 +1,57 @@
+package org.apereo.cas.services.matching;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegexRegisteredServicePrefixExtractorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class RegexRegisteredServicePrefixExtractorTests {
+
+    @Test
+    public void verifyLiteralPrefix() {
+        assertEquals(Set.of("https://app.example.org/"),
+            RegexRegisteredServicePrefixExtractor.extract("^https://app\\.example\\.org/.*"));
+        assertEquals(Set.of("https://app.example.org"),
+            RegexRegisteredServicePrefixExtractor.extract("https://APP\\.example\\.org$"));
+        assertEquals(Set.of("https://app"),
+            RegexRegisteredServicePrefixExtractor.extract("https://app.example.org"));
+    }
+
+    @Test
+    public void verifyOptionalAndAlternatives() {
+        assertEquals(Set.of("http://app.example.org/", "https://app.example.org/"),
+            RegexRegisteredServicePrefixExtractor.extract("^https?://app\\.example\\.org/.+"));
+        assertEquals(Set.of("https://app.example.org", "imaps://app.example.org"),
+            RegexRegisteredServicePrefixExtractor.extract("^(https|imaps)://app\\.example\\.org.*"));
+        assertEquals(Set.of("https://a.org", "http://b.org"),
+            RegexRegisteredServicePrefixExtractor.extract("^https://a\\.org.*|^http://b\\.org.*"));
+        assertEquals(Set.of("https://ap"),
+            RegexRegisteredServicePrefixExtractor.extract("^https://app*\\.example\\.org"));
+    }
+
+    @Test
+    public void verifyUnsafeConstructs() {
+        assertEquals(Set.of(StringUtils.EMPTY), RegexRegisteredServicePrefixExtractor.extract("^(?i)https://.*"));
+        assertEquals(Set.of(StringUtils.EMPTY), RegexRegisteredServicePrefixExtractor.extract(".*"));
+        assertEquals(Set.of(StringUtils.EMPTY), RegexRegisteredServicePrefixExtractor.extract("^https://.*|.*\\.org"));
+        assertEquals(Set.of("https://"), RegexRegisteredServicePrefixExtractor.extract("^https://[a-z|]+\\.org"));
+        assertEquals(Set.of("http"), RegexRegisteredServicePrefixExtractor.extract("^http\\w+://"));
+        assertEquals(Set.of(StringUtils.EMPTY), RegexRegisteredServicePrefixExtractor.extract(null));
+    }
+
+    @Test
+    public void verifyPrefixesAreBounded() {
+        val result = RegexRegisteredServicePrefixExtractor.extract("^a?b?c?d?e?f?g?h?i?j?k?l?m?n?o?p?$");
+        assertTrue(result.size() <= 32);
+        assertTrue(result.contains(StringUtils.EMPTY));
+    }
+}
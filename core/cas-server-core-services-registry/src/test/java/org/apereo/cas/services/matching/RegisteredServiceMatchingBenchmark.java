@@ -0,0 +1,106 @@
+package org.apereo.cas.services.matching;
+
+import org.apereo.cas.services.RegexRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link RegisteredServiceMatchingBenchmark}.
+ * Compares locating a service definition via {@link RegisteredServiceMatchingIndex}
+ * with a linear scan over all ordered service definitions.
+ * Run via {@link #main(String[])} from the test classpath.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegisteredServiceMatchingBenchmark {
+    private static final int EVALUATION_ORDER_GROUPS = 100;
+
+    @Param({"100", "1000", "8000"})
+    private int numberOfServices;
+
+    private List<RegisteredService> orderedServices;
+
+    private RegisteredServiceMatchingIndex index;
+
+    private String[] requests;
+
+    private int counter;
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(RegisteredServiceMatchingBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    @Setup
+    public void setup() {
+        val services = new TreeSet<RegisteredService>();
+        for (var i = 0; i < numberOfServices; i++) {
+            val service = new RegexRegisteredService();
+            service.setId(i);
+            service.setName("Application " + i);
+            service.setEvaluationOrder(i % EVALUATION_ORDER_GROUPS);
+            service.setServiceId(i % 2 == 0
+                ? "^https://app" + i + "\\.example\\.org/.*"
+                : "^(https|http)://portal\\.example\\.org/app" + i + "(/.*)?");
+            services.add(service);
+        }
+        val fallback = new RegexRegisteredService();
+        fallback.setId(Integer.MAX_VALUE);
+        fallback.setName("Fallback");
+        fallback.setServiceId("^https://.*");
+        fallback.setEvaluationOrder(Integer.MAX_VALUE);
+        services.add(fallback);
+
+        this.orderedServices = new ArrayList<>(services);
+        this.index = RegisteredServiceMatchingIndex.of(orderedServices);
+        this.requests = new String[]{
+            "https://app" + (numberOfServices - 2) + ".example.org/cas/login",
+            "http://portal.example.org/app" + (numberOfServices - 1) + "/index.html",
+            "https://app" + (numberOfServices / 2) + ".example.org/",
+            "https://unknown.example.net/path"
+        };
+    }
+
+    @Benchmark
+    public RegisteredService linearScan() {
+        val request = nextRequest();
+        return orderedServices.stream().filter(r -> r.matches(request)).findFirst().orElse(null);
+    }
+
+    @Benchmark
+    public RegisteredService indexedLookup() {
+        val request = nextRequest();
+        return index.getCandidates(request).stream().filter(r -> r.matches(request)).findFirst().orElse(null);
+    }
+
+    private String nextRequest() {
+        return requests[Math.abs(counter++ % requests.length)];
+    }
+}
@@ -0,0 +1,80 @@
+package org.apereo.cas.services.matching;
+
+import org.apereo.cas.services.RegexRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class RegisteredServiceMatchingIndexTests {
+
+    private static RegexRegisteredService newService(final long id, final String serviceId, final int order) {
+        val service = new RegexRegisteredService();
+        service.setId(id);
+        service.setName("Service" + id);
+        service.setServiceId(serviceId);
+        service.setEvaluationOrder(order);
+        return service;
+    }
+
+    private static RegisteredService findFirst(final List<RegisteredService> services, final String serviceId) {
+        return services.stream().filter(r -> r.matches(serviceId)).findFirst().orElse(null);
+    }
+
+    @Test
+    public void verifyCandidatesKeepEvaluationOrder() {
+        val services = new TreeSet<RegisteredService>();
+        services.add(newService(1, "^https://app\\.example\\.org/.*", 10));
+        services.add(newService(2, "^https://app\\.example\\.org/admin.*", 5));
+        services.add(newService(3, "^https?://.*", 100));
+        services.add(newService(4, ".*", 1000));
+        services.add(newService(5, "^imaps://mail\\.example\\.org.*", 1));
+
+        val index = RegisteredServiceMatchingIndex.of(services);
+        assertEquals(5, index.size());
+
+        val candidates = index.getCandidates("https://APP.example.org/admin/page");
+        assertEquals(List.of(2L, 1L, 3L, 4L), candidates.stream().map(RegisteredService::getId).collect(Collectors.toList()));
+        assertEquals(2, findFirst(candidates, "https://APP.example.org/admin/page").getId());
+
+        val other = index.getCandidates("https://other.example.org");
+        assertEquals(List.of(3L, 4L), other.stream().map(RegisteredService::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void verifyIndexAgreesWithLinearScan() {
+        val services = new TreeSet<RegisteredService>();
+        for (var i = 0; i < 200; i++) {
+            services.add(newService(i, "^https://app" + i + "\\.example\\.org(/.*)?", i % 7));
+        }
+        services.add(newService(1000, "^(https|http)://app1\\d\\.example\\.org/secure/.*", 0));
+        services.add(newService(1001, "^https://app.*", 50));
+        val ordered = new ArrayList<>(services);
+        val index = RegisteredServiceMatchingIndex.of(ordered);
+
+        val requests = List.of("https://app12.example.org/secure/x", "https://app150.example.org",
+            "http://app11.example.org/secure/", "https://application.example.org", "ftp://app1.example.org",
+            "https://app7.example.org/", "HTTPS://APP9.EXAMPLE.ORG/path");
+        requests.forEach(request -> assertEquals(findFirst(ordered, request),
+            findFirst(index.getCandidates(request), request), request));
+    }
+
+    @Test
+    public void verifyEmptyIndex() {
+        val index = RegisteredServiceMatchingIndex.empty();
+        assertTrue(index.getCandidates("https://example.org").isEmpty());
+    }
+}
@@ -10,6 +10,7 @@ import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.authentication.principal.WebApplicationServiceResponseBuilder;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.core.services.ServiceRegistryProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ChainingServiceRegistry;
 import org.apereo.cas.services.DefaultServiceRegistryExecutionPlan;
 import org.apereo.cas.services.DefaultServicesManager;
@@ -189,7 +190,8 @@ public class CasCoreServicesConfiguration {
         if (!plan.find(filter).isEmpty()) {
             LOGGER.trace("Background task to load services is enabled to run every [{}]",
                 casProperties.getServiceRegistry().getSchedule().getRepeatInterval());
-            return new ServicesManagerScheduledLoader(servicesManager());
+            return new ServicesManagerScheduledLoader(servicesManager(),
+                Beans.newDuration(casProperties.getServiceRegistry().getFullReloadInterval()));
         }
         LOGGER.trace("Background task to load services is disabled");
         return ServicesManagerScheduledLoader.noOp();
@@ -30,6 +30,7 @@ import org.apereo.cas.services.RegisteredServicePublicKeyImplTests;
 import org.apereo.cas.services.RegisteredServicesEventListenerTests;
 import org.apereo.cas.services.RemoteEndpointServiceAccessStrategyTests;
 import org.apereo.cas.services.ScriptedRegisteredServiceUsernameProviderTests;
+import org.apereo.cas.services.ServicesManagerScheduledLoaderTests;
 import org.apereo.cas.services.SimpleServiceTests;
 import org.apereo.cas.services.TimeBasedRegisteredServiceAccessStrategyTests;
 import org.apereo.cas.services.UnauthorizedProxyingExceptionTests;
@@ -94,7 +95,8 @@ import org.junit.runner.RunWith;
     RegisteredServiceMutantRegexAttributeFilterTests.class,
     RegisteredServiceScriptedAttributeFilterTests.class,
     GroovyRegisteredServiceAccessStrategyTests.class,
-    DefaultRegisteredServiceJsonSerializerTests.class
+    DefaultRegisteredServiceJsonSerializerTests.class,
+    ServicesManagerScheduledLoaderTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllServicesTestsSuite {
@@ -38,6 +38,7 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
 
 /**
  * Abstracted service registry tests for all implementations.
@@ -145,6 +146,28 @@ public abstract class AbstractServiceRegistryTests {
         assertEquals(0, this.serviceRegistry.size());
     }
 
+    @ParameterizedTest
+    @MethodSource(GET_PARAMETERS)
+    public void verifyLoadChanges(final Class<? extends RegisteredService> registeredServiceClass) {
+        val version = this.serviceRegistry.getChangeVersion();
+        assumeTrue(version >= 0);
+
+        val svc1 = this.serviceRegistry.save(buildRegisteredServiceInstance(300, registeredServiceClass));
+        val svc2 = this.serviceRegistry.save(buildRegisteredServiceInstance(301, registeredServiceClass));
+        val changes = this.serviceRegistry.loadChanges(version);
+        assertNotNull(changes, registeredServiceClass.getName());
+        assertEquals(2, changes.getSavedServices().size(), registeredServiceClass.getName());
+        assertTrue(changes.getDeletedServiceIds().isEmpty());
+        assertTrue(changes.getVersion() > version);
+
+        this.serviceRegistry.delete(svc1);
+        val changes2 = this.serviceRegistry.loadChanges(changes.getVersion());
+        assertTrue(changes2.getSavedServices().isEmpty());
+        assertTrue(changes2.getDeletedServiceIds().contains(svc1.getId()));
+        assertTrue(this.serviceRegistry.loadChanges(changes2.getVersion()).isEmpty());
+        assertNotNull(this.serviceRegistry.findServiceById(svc2.getId()));
+    }
+
     @Test
     public void verifyNonExistingService() {
         assertNull(this.serviceRegistry.findServiceById(9999991));
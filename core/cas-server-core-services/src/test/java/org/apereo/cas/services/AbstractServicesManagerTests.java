@@ -70,4 +70,95 @@ public abstract class AbstractServicesManagerTests {
         this.servicesManager.delete(r);
         assertNull(this.servicesManager.findServiceBy(r.getId()));
     }
+
+    @Test
+    public void verifyOrderedServicesSnapshot() {
+        val r1 = new RegexRegisteredService();
+        r1.setId(1000);
+        r1.setName(TEST + 1000);
+        r1.setServiceId(TEST + 1000);
+        r1.setEvaluationOrder(2000);
+        this.servicesManager.save(r1);
+
+        val r2 = new RegexRegisteredService();
+        r2.setId(1001);
+        r2.setName(TEST + 1001);
+        r2.setServiceId(TEST + 1001);
+        r2.setEvaluationOrder(1);
+        this.servicesManager.save(r2);
+
+        val services = new ArrayList<>(this.servicesManager.getAllServices());
+        assertEquals(3, services.size());
+        assertEquals(1001, services.get(0).getId());
+        assertEquals(1000, services.get(2).getId());
+        assertSame(this.servicesManager.getAllServices(), this.servicesManager.getAllServices());
+        assertThrows(UnsupportedOperationException.class, () -> this.servicesManager.getAllServices().clear());
+
+        this.servicesManager.delete(r2);
+        assertEquals(2, this.servicesManager.getAllServices().size());
+        assertTrue(this.servicesManager.getAllServices().stream().noneMatch(r -> r.getId() == 1001));
+
+        r1.setEvaluationOrder(0);
+        this.servicesManager.save(r1);
+        val reordered = new ArrayList<>(this.servicesManager.getAllServices());
+        assertEquals(2, reordered.size());
+        assertEquals(1000, reordered.get(0).getId());
+
+        this.servicesManager.deleteAll();
+        assertTrue(this.servicesManager.getAllServices().isEmpty());
+    }
+
+    @Test
+    public void verifyServiceIndex() {
+        val index = (RegisteredServiceIndex) service -> List.of(service.getName());
+        assertEquals(2500, this.servicesManager.findServiceByIndex(index, "serviceName").getId());
+        assertNull(this.servicesManager.findServiceByIndex(index, TEST));
+
+        val r1 = new RegexRegisteredService();
+        r1.setId(1000);
+        r1.setName(TEST);
+        r1.setServiceId(TEST + 1000);
+        r1.setEvaluationOrder(2000);
+        this.servicesManager.save(r1);
+        assertEquals(1000, this.servicesManager.findServiceByIndex(index, TEST).getId());
+
+        val r2 = new RegexRegisteredService();
+        r2.setId(1001);
+        r2.setName(TEST);
+        r2.setServiceId(TEST + 1001);
+        r2.setEvaluationOrder(1);
+        this.servicesManager.save(r2);
+        assertEquals(1001, this.servicesManager.findServiceByIndex(index, TEST, RegexRegisteredService.class).getId());
+
+        this.servicesManager.delete(r2);
+        assertEquals(1000, this.servicesManager.findServiceByIndex(index, TEST).getId());
+        this.servicesManager.delete(r1);
+        assertNull(this.servicesManager.findServiceByIndex(index, TEST));
+    }
+
+    @Test
+    public void verifyLoadChanges() {
+        val r1 = new RegexRegisteredService();
+        r1.setId(1000);
+        r1.setName(TEST);
+        r1.setServiceId(TEST + 1000);
+        this.serviceRegistry.save(r1);
+        assertNull(this.servicesManager.findServiceBy(r1.getId()));
+
+        this.servicesManager.loadChanges();
+        assertNotNull(this.servicesManager.findServiceBy(r1.getId()));
+        assertNotNull(this.servicesManager.findServiceBy(r1.getServiceId()));
+
+        val r2 = new RegexRegisteredService();
+        r2.setId(1000);
+        r2.setName(TEST);
+        r2.setServiceId(TEST + 1001);
+        this.serviceRegistry.save(r2);
+        this.serviceRegistry.delete(listOfDefaultServices.get(0));
+        this.servicesManager.loadChanges();
+        assertNull(this.servicesManager.findServiceBy(r1.getServiceId()));
+        assertNotNull(this.servicesManager.findServiceBy(r2.getServiceId()));
+        assertNull(this.servicesManager.findServiceBy(2500));
+        assertEquals(1, this.servicesManager.getAllServices().size());
+    }
 }
@@ -0,0 +1,53 @@
+package org.apereo.cas.services;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ServicesManagerScheduledLoaderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class ServicesManagerScheduledLoaderTests {
+
+    @Test
+    public void verifyChangesLoadedBetweenFullReloads() {
+        val servicesManager = mock(ServicesManager.class);
+        val clock = mock(Clock.class);
+        val now = Instant.now();
+        when(clock.instant()).thenReturn(now, now.plusSeconds(60), now.plusSeconds(120), now.plusSeconds(180));
+
+        val loader = new ServicesManagerScheduledLoader(servicesManager, Duration.ofMinutes(2), clock);
+        loader.run();
+        verify(servicesManager).load();
+        verify(servicesManager, never()).loadChanges();
+
+        loader.run();
+        verify(servicesManager).load();
+        verify(servicesManager).loadChanges();
+
+        loader.run();
+        verify(servicesManager, times(2)).load();
+
+        loader.run();
+        verify(servicesManager, times(2)).load();
+        verify(servicesManager, times(2)).loadChanges();
+    }
+
+    @Test
+    public void verifyFullReloadsByDefault() {
+        val servicesManager = mock(ServicesManager.class);
+        val loader = new ServicesManagerScheduledLoader(servicesManager);
+        loader.run();
+        loader.run();
+        verify(servicesManager, times(2)).load();
+        verify(servicesManager, never()).loadChanges();
+    }
+}
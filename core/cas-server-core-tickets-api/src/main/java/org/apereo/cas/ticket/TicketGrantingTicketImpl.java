@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.Column;
 import javax.persistence.DiscriminatorColumn;
@@ -32,6 +33,9 @@ import java.util.List;
  * single-sign on access to any service that opts into single-sign on.
  * Expiration of a TicketGrantingTicket is controlled by the ExpirationPolicy
  * specified as object creation.
+ * <p>
+ * Updates to the ticket only write the columns that have changed, so that
+ * tracking a service does not rewrite the authentication of the ticket.
  *
  * @author Scott Battaglia
  * @since 3.0.0
@@ -40,6 +44,7 @@ import java.util.List;
 @Table(name = "TICKETGRANTINGTICKET")
 @DiscriminatorColumn(name = "TYPE")
 @DiscriminatorValue(TicketGrantingTicket.PREFIX)
+@DynamicUpdate
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
 @Getter
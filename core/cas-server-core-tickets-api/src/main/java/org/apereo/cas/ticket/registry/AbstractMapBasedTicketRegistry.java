@@ -3,7 +3,6 @@ package org.apereo.cas.ticket.registry;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
-import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -20,15 +19,23 @@ import java.util.function.Predicate;
  * @since 5.2.0
  */
 @Slf4j
-@NoArgsConstructor
 public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegistry {
 
+    /**
+     * Creates a new, empty registry, indexed and scheduled for expiration in memory.
+     */
+    public AbstractMapBasedTicketRegistry() {
+        setTicketRegistryIndex(new DefaultTicketRegistryIndex());
+        setTicketExpirationSchedule(new DefaultTicketExpirationSchedule());
+    }
+
     /**
      * Creates a new, empty registry with the cipher.
      *
      * @param cipherExecutor the cipher executor
      */
     public AbstractMapBasedTicketRegistry(final CipherExecutor cipherExecutor) {
+        this();
         setCipherExecutor(cipherExecutor);
     }
 
@@ -37,6 +44,8 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
         val encTicket = encodeTicket(ticket);
         LOGGER.debug("Added ticket [{}] to registry.", ticket.getId());
         getMapInstance().put(encTicket.getId(), encTicket);
+        indexTicket(ticket);
+        scheduleTicketExpiration(ticket);
     }
 
     @Override
@@ -63,13 +72,21 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     @Override
     public boolean deleteSingleTicket(final String ticketId) {
         val encTicketId = encodeTicketId(ticketId);
-        return !StringUtils.isBlank(encTicketId) && getMapInstance().remove(encTicketId) != null;
+        if (StringUtils.isBlank(encTicketId)) {
+            return false;
+        }
+        val removed = getMapInstance().remove(encTicketId) != null;
+        unindexTicket(ticketId);
+        cancelTicketExpiration(ticketId);
+        return removed;
     }
 
     @Override
     public long deleteAll() {
         val size = getMapInstance().size();
         getMapInstance().clear();
+        clearTicketRegistryIndex();
+        clearTicketExpirationSchedule();
         return size;
     }
 
@@ -6,21 +6,23 @@ import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
-import org.apereo.cas.util.serialization.SerializationUtils;
 
-import com.google.common.io.ByteSource;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.util.concurrent.Striped;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.Setter;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,11 +40,38 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     private static final String MESSAGE = "Ticket encryption is not enabled. Falling back to default behavior";
 
+    private static final int MAXIMUM_CACHED_TICKET_ID_DIGESTS = 10_000;
+
+    private static final int TICKET_LOCK_STRIPES = 1024;
+
     /**
      * The cipher executor for ticket objects.
      */
     protected CipherExecutor cipherExecutor;
 
+    /**
+     * The codec that turns tickets into bytes prior to encryption.
+     * Defaults to Java serialization, which keeps tickets encrypted by earlier versions readable.
+     */
+    protected BinaryTicketCodec binaryTicketCodec = new DefaultBinaryTicketCodec();
+
+    /**
+     * Secondary index kept in sync with the registry, if any.
+     */
+    protected TicketRegistryIndex ticketRegistryIndex;
+
+    /**
+     * Expiration schedule kept in sync with the registry, if any.
+     */
+    @Getter
+    protected TicketExpirationSchedule ticketExpirationSchedule;
+
+    private final LoadingCache<String, String> ticketIdDigests = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_CACHED_TICKET_ID_DIGESTS)
+        .build(DigestUtils::sha512);
+
+    private final Striped<Lock> ticketLocks = Striped.lazyWeakLock(TICKET_LOCK_STRIPES);
+
     @Override
     public Ticket getTicket(final String ticketId) {
         return getTicket(ticketId, ticket -> {
@@ -67,8 +96,42 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return (T) ticket;
     }
 
+    /**
+     * Consume the ticket while holding a lock that is striped by ticket id,
+     * so that attempts to consume the same ticket in this server are serialized
+     * while different tickets are consumed concurrently.
+     * Registries that are shared across servers should override this to lock or
+     * conditionally update the ticket in the underlying store.
+     *
+     * @param <T>      the generic ticket type
+     * @param ticketId the ticket id
+     * @param clazz    the expected class of the ticket
+     * @param consumer the consumer that checks and updates the ticket
+     * @return the consumed ticket, or null if the ticket cannot be found.
+     */
+    @Override
+    public <T extends Ticket> T consumeTicket(final String ticketId, final @NonNull Class<T> clazz, final Consumer<T> consumer) {
+        if (StringUtils.isBlank(ticketId)) {
+            return null;
+        }
+        val lock = this.ticketLocks.get(ticketId);
+        lock.lock();
+        try {
+            return consumeLockedTicket(ticketId, clazz, consumer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T extends Ticket> T consumeLockedTicket(final String ticketId, final Class<T> clazz, final Consumer<T> consumer) {
+        return TicketRegistry.super.consumeTicket(ticketId, clazz, consumer);
+    }
+
     @Override
     public long sessionCount() {
+        if (isTicketRegistryIndexEnabled()) {
+            return this.ticketRegistryIndex.getTicketGrantingTicketCount();
+        }
         try (val tgtStream = getTickets().stream().filter(TicketGrantingTicket.class::isInstance)) {
             return tgtStream.count();
         } catch (final Exception t) {
@@ -80,6 +143,9 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long serviceTicketCount() {
+        if (isTicketRegistryIndexEnabled()) {
+            return this.ticketRegistryIndex.getServiceTicketCount();
+        }
         try (val stStream = getTicketsStream().filter(ServiceTicket.class::isInstance)) {
             return stStream.count();
         } catch (final Exception t) {
@@ -89,6 +155,18 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         }
     }
 
+    @Override
+    public Stream<? extends TicketGrantingTicket> getSessionsFor(final String principalId) {
+        if (isTicketRegistryIndexEnabled()) {
+            return this.ticketRegistryIndex.getTicketGrantingTicketsFor(principalId)
+                .stream()
+                .map(this::getTicket)
+                .filter(ticket -> ticket instanceof TicketGrantingTicket && !ticket.isExpired())
+                .map(TicketGrantingTicket.class::cast);
+        }
+        return TicketRegistry.super.getSessionsFor(principalId);
+    }
+
     @Override
     public int deleteTicket(final String ticketId) {
         if (StringUtils.isBlank(ticketId)) {
@@ -123,13 +201,8 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return count.intValue();
     }
 
-    /**
-     * Delete tickets.
-     *
-     * @param tickets the tickets
-     * @return the total number of deleted tickets
-     */
-    protected int deleteTickets(final Set<String> tickets) {
+    @Override
+    public int deleteTickets(final Collection<String> tickets) {
         return deleteTickets(tickets.stream());
     }
 
@@ -166,18 +239,30 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      * @return the count of tickets that were removed including child tickets and zero if the ticket was not deleted
      */
     protected int deleteChildren(final TicketGrantingTicket ticket) {
-        val count = new AtomicInteger(0);
         val services = ticket.getServices();
         if (services != null && !services.isEmpty()) {
-            services.keySet().forEach(ticketId -> {
-                if (deleteSingleTicket(ticketId)) {
-                    LOGGER.debug("Removed ticket [{}]", ticketId);
-                    count.incrementAndGet();
-                } else {
-                    LOGGER.debug("Unable to remove ticket [{}]", ticketId);
-                }
-            });
+            return deleteSingleTickets(services.keySet());
         }
+        return 0;
+    }
+
+    /**
+     * Delete a number of ticket instances from the store, without processing
+     * related tickets. Registries may override this to remove all tickets in a single batch.
+     *
+     * @param ticketIds the ticket ids
+     * @return the count of tickets that were removed
+     */
+    protected int deleteSingleTickets(final Collection<String> ticketIds) {
+        val count = new AtomicInteger(0);
+        ticketIds.forEach(ticketId -> {
+            if (deleteSingleTicket(ticketId)) {
+                LOGGER.debug("Removed ticket [{}]", ticketId);
+                count.incrementAndGet();
+            } else {
+                LOGGER.debug("Unable to remove ticket [{}]", ticketId);
+            }
+        });
         return count.intValue();
     }
 
@@ -189,8 +274,80 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      */
     public abstract boolean deleteSingleTicket(String ticketId);
 
+    /**
+     * Index the ticket once it's added to or updated in the registry.
+     *
+     * @param ticket the ticket
+     */
+    protected void indexTicket(final Ticket ticket) {
+        if (isTicketRegistryIndexEnabled()) {
+            this.ticketRegistryIndex.index(ticket);
+        }
+    }
+
+    /**
+     * Remove the ticket from the index once it's removed from the registry.
+     *
+     * @param ticketId the ticket id
+     */
+    protected void unindexTicket(final String ticketId) {
+        if (isTicketRegistryIndexEnabled()) {
+            this.ticketRegistryIndex.unindex(ticketId);
+        }
+    }
+
+    /**
+     * Remove all entries from the index.
+     */
+    protected void clearTicketRegistryIndex() {
+        if (isTicketRegistryIndexEnabled()) {
+            this.ticketRegistryIndex.clear();
+        }
+    }
+
+    /**
+     * Schedule the expiration of the ticket once it's added to or updated in the registry.
+     *
+     * @param ticket the ticket
+     */
+    protected void scheduleTicketExpiration(final Ticket ticket) {
+        if (isTicketExpirationScheduleEnabled()) {
+            this.ticketExpirationSchedule.schedule(ticket);
+        }
+    }
+
+    /**
+     * Remove the ticket from the expiration schedule once it's removed from the registry.
+     *
+     * @param ticketId the ticket id
+     */
+    protected void cancelTicketExpiration(final String ticketId) {
+        if (isTicketExpirationScheduleEnabled()) {
+            this.ticketExpirationSchedule.cancel(ticketId);
+        }
+    }
+
+    /**
+     * Remove all entries from the expiration schedule.
+     */
+    protected void clearTicketExpirationSchedule() {
+        if (isTicketExpirationScheduleEnabled()) {
+            this.ticketExpirationSchedule.clear();
+        }
+    }
+
+    protected boolean isTicketRegistryIndexEnabled() {
+        return this.ticketRegistryIndex != null;
+    }
+
+    protected boolean isTicketExpirationScheduleEnabled() {
+        return this.ticketExpirationSchedule != null;
+    }
+
     /**
      * Encode ticket id into a SHA-512.
+     * Digests of recently used ticket ids are cached, since the same ticket id
+     * is typically encoded several times as the ticket is added, fetched and updated.
      *
      * @param ticketId the ticket id
      * @return the ticket
@@ -203,7 +360,7 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         if (StringUtils.isBlank(ticketId)) {
             return ticketId;
         }
-        val encodedId = DigestUtils.sha512(ticketId);
+        val encodedId = ticketIdDigests.get(ticketId);
         LOGGER.debug("Encoded original ticket id [{}] to [{}]", ticketId, encodedId);
         return encodedId;
     }
@@ -214,7 +371,6 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      * @param ticket the ticket
      * @return the ticket
      */
-    @SneakyThrows
     protected Ticket encodeTicket(final Ticket ticket) {
         if (!isCipherExecutorEnabled()) {
             LOGGER.trace(MESSAGE);
@@ -225,9 +381,9 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
             return null;
         }
         LOGGER.debug("Encoding ticket [{}]", ticket);
-        val encodedTicketObject = SerializationUtils.serializeAndEncodeObject(this.cipherExecutor, ticket);
+        val encodedTicketObject = (byte[]) this.cipherExecutor.encode(this.binaryTicketCodec.encode(ticket));
         val encodedTicketId = encodeTicketId(ticket.getId());
-        val encodedTicket = new EncodedTicket(encodedTicketId, ByteSource.wrap(encodedTicketObject).read());
+        val encodedTicket = new EncodedTicket(encodedTicketId, encodedTicketObject);
         LOGGER.debug("Created encoded ticket [{}]", encodedTicket);
         return encodedTicket;
     }
@@ -238,7 +394,6 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      * @param result the result
      * @return the ticket
      */
-    @SneakyThrows
     protected Ticket decodeTicket(final Ticket result) {
         if (!isCipherExecutorEnabled()) {
             LOGGER.trace(MESSAGE);
@@ -254,7 +409,7 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         }
         LOGGER.debug("Attempting to decode [{}]", result);
         val encodedTicket = (EncodedTicket) result;
-        val ticket = SerializationUtils.decodeAndDeserializeObject(encodedTicket.getEncodedTicket(), this.cipherExecutor, Ticket.class);
+        val ticket = this.binaryTicketCodec.decode((byte[]) this.cipherExecutor.decode(encodedTicket.getEncodedTicket()));
         LOGGER.debug("Decoded ticket to [{}]", ticket);
         return ticket;
     }
@@ -0,0 +1,29 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+/**
+ * This is {@link BinaryTicketCodec} that turns tickets into bytes and back,
+ * before they are encrypted and once they are decrypted by the ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public interface BinaryTicketCodec {
+
+    /**
+     * Encode the ticket.
+     *
+     * @param ticket the ticket
+     * @return the bytes
+     */
+    byte[] encode(Ticket ticket);
+
+    /**
+     * Decode the ticket.
+     *
+     * @param value the value
+     * @return the ticket
+     */
+    Ticket decode(byte[] value);
+}
@@ -0,0 +1,40 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.serialization.SerializationUtils;
+
+/**
+ * This is {@link DefaultBinaryTicketCodec} that relies on Java serialization.
+ * This codec is used by all ticket registries unless a registry is configured otherwise;
+ * at the moment, only the memcached ticket registry switches to a Kryo-based codec
+ * when its Kryo transcoder is configured.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class DefaultBinaryTicketCodec implements BinaryTicketCodec {
+    private static final byte STREAM_MAGIC_FIRST_BYTE = (byte) 0xAC;
+
+    private static final byte STREAM_MAGIC_SECOND_BYTE = (byte) 0xED;
+
+    /**
+     * Whether the value was produced by Java serialization,
+     * by looking for the serialization stream header.
+     *
+     * @param value the value
+     * @return true/false
+     */
+    public static boolean isSerializedObject(final byte[] value) {
+        return value != null && value.length > 1 && value[0] == STREAM_MAGIC_FIRST_BYTE && value[1] == STREAM_MAGIC_SECOND_BYTE;
+    }
+
+    @Override
+    public byte[] encode(final Ticket ticket) {
+        return SerializationUtils.serialize(ticket);
+    }
+
+    @Override
+    public Ticket decode(final byte[] value) {
+        return SerializationUtils.deserializeAndCheckObject(value, Ticket.class);
+    }
+}
@@ -0,0 +1,213 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketState;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * This is {@link DefaultTicketExpirationSchedule} that keeps
+ * scheduled tickets in memory, grouped into fixed-width time buckets ordered by expiration time.
+ * A bucket becomes due once its entire time window has passed.
+ * <p>
+ * Tickets are scheduled at the earliest moment they may expire, based on the creation or last-used
+ * time of the ticket and the shortest duration reported by its expiration policy. Tickets that turn out to be
+ * still valid once due are rescheduled, which accommodates sliding expiration policies.
+ * This is only suitable for ticket registries whose contents are fully available on the local node.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class DefaultTicketExpirationSchedule implements TicketExpirationSchedule {
+
+    /**
+     * Default width of each time bucket.
+     */
+    public static final Duration DEFAULT_BUCKET_WIDTH = Duration.ofSeconds(10);
+
+    private final long bucketWidth;
+
+    private final Map<String, Long> scheduledTickets = new ConcurrentHashMap<>();
+
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    private final NavigableSet<Long> bucketKeys = new ConcurrentSkipListSet<>();
+
+    public DefaultTicketExpirationSchedule() {
+        this(DEFAULT_BUCKET_WIDTH);
+    }
+
+    public DefaultTicketExpirationSchedule(final Duration bucketWidth) {
+        this.bucketWidth = Math.max(1, bucketWidth.toMillis());
+    }
+
+    private static long getShortestExpirationInSeconds(final Ticket ticket) {
+        val policy = ticket.getExpirationPolicy();
+        if (policy == null) {
+            return 0;
+        }
+        val timeToLive = ticket instanceof TicketState
+            ? policy.getTimeToLive((TicketState) ticket)
+            : policy.getTimeToLive();
+        val timeToIdle = policy.getTimeToIdle();
+        var result = Long.MAX_VALUE;
+        if (timeToLive != null && timeToLive > 0) {
+            result = timeToLive;
+        }
+        if (timeToIdle != null && timeToIdle > 0) {
+            result = Math.min(result, timeToIdle);
+        }
+        return result == Long.MAX_VALUE ? 0 : Math.min(result, Integer.MAX_VALUE);
+    }
+
+    private static long toEpochMillis(final ZonedDateTime time) {
+        return time.toInstant().toEpochMilli();
+    }
+
+    @Override
+    public void schedule(final Ticket ticket) {
+        if (ticket == null || StringUtils.isBlank(ticket.getId())) {
+            return;
+        }
+        val dueTime = calculateDueTime(ticket, toEpochMillis(ZonedDateTime.now(ZoneOffset.UTC)));
+        val bucket = Math.floorDiv(dueTime, bucketWidth) * bucketWidth;
+        val previous = scheduledTickets.put(ticket.getId(), bucket);
+        if (previous == null || previous != bucket) {
+            addToBucket(bucket, ticket.getId());
+            if (previous != null) {
+                removeFromBucket(previous, ticket.getId());
+            }
+        }
+        LOGGER.trace("Scheduled ticket [{}] for expiration at [{}]", ticket.getId(), dueTime);
+    }
+
+    @Override
+    public void cancel(final String ticketId) {
+        if (StringUtils.isBlank(ticketId)) {
+            return;
+        }
+        val bucket = scheduledTickets.remove(ticketId);
+        if (bucket != null) {
+            removeFromBucket(bucket, ticketId);
+            LOGGER.trace("Removed ticket [{}] from expiration schedule", ticketId);
+        }
+    }
+
+    @Override
+    public void clear() {
+        scheduledTickets.clear();
+        buckets.clear();
+        bucketKeys.clear();
+    }
+
+    @Override
+    public Collection<String> pollDue(final ZonedDateTime now, final int limit) {
+        val results = new ArrayList<String>(Math.max(0, Math.min(limit, scheduledTickets.size())));
+        val currentTime = toEpochMillis(now);
+        while (results.size() < limit && !bucketKeys.isEmpty()) {
+            val bucket = bucketKeys.first();
+            if (bucket + bucketWidth > currentTime) {
+                break;
+            }
+            buckets.compute(bucket, (key, ids) -> {
+                if (ids != null) {
+                    val iterator = ids.iterator();
+                    while (iterator.hasNext() && results.size() < limit) {
+                        val ticketId = iterator.next();
+                        iterator.remove();
+                        if (scheduledTickets.remove(ticketId, key)) {
+                            results.add(ticketId);
+                        }
+                    }
+                }
+                if (ids == null || ids.isEmpty()) {
+                    bucketKeys.remove(key);
+                    return null;
+                }
+                return ids;
+            });
+        }
+        return results;
+    }
+
+    @Override
+    public Duration getLag(final ZonedDateTime now) {
+        if (bucketKeys.isEmpty()) {
+            return Duration.ZERO;
+        }
+        val overdue = toEpochMillis(now) - (bucketKeys.first() + bucketWidth);
+        return overdue > 0 ? Duration.ofMillis(overdue) : Duration.ZERO;
+    }
+
+    @Override
+    public long size() {
+        return scheduledTickets.size();
+    }
+
+    /**
+     * Calculate the earliest time at which the ticket may be considered expired.
+     * Tickets that are already expired are immediately due, and tickets whose expiration
+     * cannot be determined up front are checked again once the next bucket is due.
+     *
+     * @param ticket      the ticket
+     * @param currentTime the current time in milliseconds
+     * @return the due time in milliseconds
+     */
+    protected long calculateDueTime(final Ticket ticket, final long currentTime) {
+        if (ticket.isExpired()) {
+            return currentTime - bucketWidth;
+        }
+        val recheckTime = currentTime + bucketWidth;
+        val expiration = getShortestExpirationInSeconds(ticket) * 1000;
+        if (expiration <= 0) {
+            return recheckTime;
+        }
+        if (ticket.getCreationTime() != null) {
+            val dueTime = toEpochMillis(ticket.getCreationTime()) + expiration;
+            if (dueTime > currentTime) {
+                return dueTime;
+            }
+        }
+        if (ticket instanceof TicketState && ((TicketState) ticket).getLastTimeUsed() != null) {
+            val dueTime = toEpochMillis(((TicketState) ticket).getLastTimeUsed()) + expiration;
+            if (dueTime > currentTime) {
+                return dueTime;
+            }
+        }
+        return recheckTime;
+    }
+
+    private void addToBucket(final long bucket, final String ticketId) {
+        buckets.compute(bucket, (key, ids) -> {
+            val values = ids == null ? ConcurrentHashMap.<String>newKeySet() : ids;
+            values.add(ticketId);
+            bucketKeys.add(key);
+            return values;
+        });
+    }
+
+    private void removeFromBucket(final long bucket, final String ticketId) {
+        buckets.computeIfPresent(bucket, (key, ids) -> {
+            ids.remove(ticketId);
+            if (ids.isEmpty()) {
+                bucketKeys.remove(key);
+                return null;
+            }
+            return ids;
+        });
+    }
+}
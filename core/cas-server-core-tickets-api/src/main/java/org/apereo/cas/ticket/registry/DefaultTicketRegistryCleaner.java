@@ -5,15 +5,32 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.TimeGauge;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This is {@link DefaultTicketRegistryCleaner}.
+ * If the ticket registry maintains a {@link TicketExpirationSchedule}, only tickets that are
+ * due for expiration are visited in bounded batches, until the schedule is caught up or
+ * the time allotted to the cleanup run passes. Otherwise, all tickets in the registry are scanned.
+ * <p>
+ * The number of tickets removed per batch is recorded under {@value #METRIC_NAME}{@code .removed};
+ * a full scan of the registry counts as a single batch. The size of the expiration schedule
+ * and how far it is behind, as observed by the most recent cleanup run, are reported as gauges.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -22,12 +39,46 @@ import java.io.Serializable;
 @Slf4j
 @RequiredArgsConstructor
 public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner, Serializable {
+    /**
+     * Metric name.
+     */
+    public static final String METRIC_NAME = "cas.ticket.registry.cleaner";
+
     private static final long serialVersionUID = -8581398063126547772L;
 
+    private static final AtomicLong SCHEDULED_TICKETS = new AtomicLong();
+
+    private static final AtomicLong SCHEDULE_LAG = new AtomicLong();
+
+    private static final DistributionSummary REMOVED_TICKETS = DistributionSummary.builder(METRIC_NAME + ".removed")
+        .description("Expired tickets removed per batch")
+        .register(Metrics.globalRegistry);
+
+    static {
+        Gauge.builder(METRIC_NAME + ".schedule.size", SCHEDULED_TICKETS, AtomicLong::get)
+            .description("Tickets held by the expiration schedule")
+            .register(Metrics.globalRegistry);
+        TimeGauge.builder(METRIC_NAME + ".schedule.lag", SCHEDULE_LAG, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("How far the expiration schedule is behind")
+            .register(Metrics.globalRegistry);
+    }
+
     private final transient LockingStrategy lockingStrategy;
     private final transient LogoutManager logoutManager;
     private final transient TicketRegistry ticketRegistry;
 
+    /**
+     * Maximum number of scheduled tickets visited per batch.
+     */
+    @Setter
+    private int batchSize = 1_000;
+
+    /**
+     * Maximum amount of time a single cleanup run may spend on scheduled tickets.
+     */
+    @Setter
+    private Duration maxCleanDuration = Duration.ofSeconds(30);
+
     @Override
     public int clean() {
         try {
@@ -59,15 +110,76 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner, Seri
      * @return the int
      */
     protected int cleanInternal() {
+        val schedule = ticketRegistry.getTicketExpirationSchedule();
+        if (schedule != null) {
+            return cleanScheduledTickets(schedule);
+        }
         try (val expiredTickets = ticketRegistry.getTicketsStream().filter(Ticket::isExpired)) {
             val ticketsDeleted = expiredTickets
                 .mapToInt(this::cleanTicket)
                 .sum();
             LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
+            REMOVED_TICKETS.record(ticketsDeleted);
             return ticketsDeleted;
         }
     }
 
+    /**
+     * Clean tickets that are due for expiration in the schedule.
+     * Tickets that are still valid are rescheduled.
+     *
+     * @param schedule the schedule
+     * @return the int
+     */
+    protected int cleanScheduledTickets(final TicketExpirationSchedule schedule) {
+        val startTime = ZonedDateTime.now(ZoneOffset.UTC);
+        val deadline = startTime.plus(maxCleanDuration);
+        recordSchedule(schedule, startTime);
+        LOGGER.debug("Ticket expiration schedule holds [{}] ticket(s) and is behind by [{}]", SCHEDULED_TICKETS.get(),
+            Duration.ofMillis(SCHEDULE_LAG.get()));
+
+        var ticketsDeleted = 0;
+        var batches = 0;
+        var now = startTime;
+        while (!now.isAfter(deadline)) {
+            val dueTickets = schedule.pollDue(now, batchSize);
+            if (dueTickets.isEmpty()) {
+                break;
+            }
+            var batchDeleted = 0;
+            for (val ticketId : dueTickets) {
+                val ticket = ticketRegistry.getTicket(ticketId, t -> true);
+                if (ticket == null) {
+                    continue;
+                }
+                if (ticket.isExpired()) {
+                    batchDeleted += cleanTicket(ticket);
+                } else {
+                    schedule.schedule(ticket);
+                }
+            }
+            batches++;
+            ticketsDeleted += batchDeleted;
+            REMOVED_TICKETS.record(batchDeleted);
+            LOGGER.debug("Visited [{}] scheduled ticket(s) in batch [{}] and removed [{}] expired ticket(s)", dueTickets.size(), batches, batchDeleted);
+            now = ZonedDateTime.now(ZoneOffset.UTC);
+        }
+        val lag = recordSchedule(schedule, now);
+        if (!lag.isZero()) {
+            LOGGER.warn("Ticket expiration schedule is behind by [{}] after [{}] batch(es). Remaining tickets are cleaned in the next run.", lag, batches);
+        }
+        LOGGER.info("[{}] expired tickets removed in [{}] batch(es) over [{}]",
+            ticketsDeleted, batches, Duration.between(startTime, now));
+        return ticketsDeleted;
+    }
+
+    private static Duration recordSchedule(final TicketExpirationSchedule schedule, final ZonedDateTime now) {
+        val lag = schedule.getLag(now);
+        SCHEDULED_TICKETS.set(schedule.size());
+        SCHEDULE_LAG.set(lag.toMillis());
+        return lag;
+    }
+
     @Override
     public int cleanTicket(final Ticket ticket) {
         if (ticket instanceof TicketGrantingTicket) {
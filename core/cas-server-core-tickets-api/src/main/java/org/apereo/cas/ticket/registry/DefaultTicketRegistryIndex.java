@@ -0,0 +1,148 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link DefaultTicketRegistryIndex} that keeps
+ * all index entries in memory. This is only suitable for ticket registries
+ * whose contents are fully available on the local node.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class DefaultTicketRegistryIndex implements TicketRegistryIndex {
+
+    private final Map<String, IndexedTicket> tickets = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> principals = new ConcurrentHashMap<>();
+
+    private final LongAdder ticketGrantingTicketCount = new LongAdder();
+
+    private final LongAdder serviceTicketCount = new LongAdder();
+
+    private static String getPrincipalKey(final String principalId) {
+        return StringUtils.lowerCase(principalId);
+    }
+
+    private static IndexedTicket toIndexedTicket(final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket) {
+            val authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+            val principal = authentication != null && authentication.getPrincipal() != null
+                ? getPrincipalKey(authentication.getPrincipal().getId())
+                : null;
+            return new IndexedTicket(true, false, principal);
+        }
+        if (ticket instanceof ServiceTicket) {
+            return new IndexedTicket(false, true, null);
+        }
+        return new IndexedTicket(false, false, null);
+    }
+
+    private static void addToSet(final Map<String, Set<String>> map, final String key, final String value) {
+        if (key != null) {
+            map.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(value);
+        }
+    }
+
+    private static void removeFromSet(final Map<String, Set<String>> map, final String key, final String value) {
+        if (key != null) {
+            map.computeIfPresent(key, (k, values) -> {
+                values.remove(value);
+                return values.isEmpty() ? null : values;
+            });
+        }
+    }
+
+    @Override
+    public void index(final Ticket ticket) {
+        if (ticket == null || StringUtils.isBlank(ticket.getId())) {
+            return;
+        }
+        val entry = toIndexedTicket(ticket);
+        tickets.compute(ticket.getId(), (id, previous) -> {
+            if (previous != null) {
+                detach(id, previous);
+            }
+            attach(id, entry);
+            return entry;
+        });
+        LOGGER.trace("Indexed ticket [{}]", ticket.getId());
+    }
+
+    @Override
+    public void unindex(final String ticketId) {
+        if (StringUtils.isBlank(ticketId)) {
+            return;
+        }
+        tickets.computeIfPresent(ticketId, (id, previous) -> {
+            detach(id, previous);
+            return null;
+        });
+        LOGGER.trace("Removed ticket [{}] from index", ticketId);
+    }
+
+    @Override
+    public void clear() {
+        tickets.clear();
+        principals.clear();
+        ticketGrantingTicketCount.reset();
+        serviceTicketCount.reset();
+    }
+
+    @Override
+    public long getTicketGrantingTicketCount() {
+        return ticketGrantingTicketCount.sum();
+    }
+
+    @Override
+    public long getServiceTicketCount() {
+        return serviceTicketCount.sum();
+    }
+
+    @Override
+    public Set<String> getTicketGrantingTicketsFor(final String principalId) {
+        return Set.copyOf(principals.getOrDefault(getPrincipalKey(principalId), Set.of()));
+    }
+
+    private void attach(final String ticketId, final IndexedTicket entry) {
+        if (entry.isTicketGrantingTicket()) {
+            ticketGrantingTicketCount.increment();
+            addToSet(principals, entry.getPrincipal(), ticketId);
+        } else if (entry.isServiceTicket()) {
+            serviceTicketCount.increment();
+        }
+    }
+
+    private void detach(final String ticketId, final IndexedTicket entry) {
+        if (entry.isTicketGrantingTicket()) {
+            ticketGrantingTicketCount.decrement();
+            removeFromSet(principals, entry.getPrincipal(), ticketId);
+        } else if (entry.isServiceTicket()) {
+            serviceTicketCount.decrement();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class IndexedTicket {
+        private final boolean ticketGrantingTicket;
+
+        private final boolean serviceTicket;
+
+        private final String principal;
+    }
+}
@@ -0,0 +1,48 @@
+package org.apereo.cas.ticket.registry;
+
+import java.util.function.Consumer;
+
+/**
+ * This is {@link NearCacheInvalidationChannel} that carries {@link NearCacheInvalidationMessage}s
+ * between servers that keep a near-cache in front of the same ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@FunctionalInterface
+public interface NearCacheInvalidationChannel {
+
+    /**
+     * Channel that does not carry messages,
+     * for deployments where a single server is reading and writing tickets.
+     *
+     * @return the channel
+     */
+    static NearCacheInvalidationChannel noOp() {
+        return message -> {
+        };
+    }
+
+    /**
+     * Send the message to other servers.
+     *
+     * @param message the message
+     */
+    void publish(NearCacheInvalidationMessage message);
+
+    /**
+     * Receive messages sent by servers, possibly including this server.
+     *
+     * @param listener the listener
+     */
+    default void subscribe(final Consumer<NearCacheInvalidationMessage> listener) {
+    }
+
+    /**
+     * Stop receiving messages for a listener that was previously subscribed.
+     *
+     * @param listener the listener
+     */
+    default void unsubscribe(final Consumer<NearCacheInvalidationMessage> listener) {
+    }
+}
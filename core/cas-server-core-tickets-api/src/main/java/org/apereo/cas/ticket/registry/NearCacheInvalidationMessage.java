@@ -0,0 +1,30 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * This is {@link NearCacheInvalidationMessage} that is sent to other servers once tickets
+ * have changed, so that copies of these tickets kept in their near-cache are discarded.
+ * An empty collection of ticket ids indicates that all tickets are to be discarded.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@ToString
+@Getter
+@RequiredArgsConstructor
+public class NearCacheInvalidationMessage implements Serializable {
+
+    private static final long serialVersionUID = -2950176924478627946L;
+
+    private final String registryId;
+
+    private final Collection<String> ticketIds;
+
+    private final long timestamp;
+}
@@ -0,0 +1,323 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link NearCacheTicketRegistry} that keeps tickets read or written by this server
+ * in a bounded local cache in front of another ticket registry. Tickets are written through
+ * to the registry, and other servers are told to discard their copies of tickets that are updated
+ * or removed via a {@link NearCacheInvalidationChannel}. Tickets are also discarded once they have
+ * been cached for the configured time to live, which bounds how long a server may see a stale ticket
+ * should an invalidation message be delayed or lost.
+ * <p>
+ * Tickets are cached in their encoded form and are decoded on every read, so that each caller
+ * receives its own copy of the ticket, as it would from a distributed ticket registry,
+ * and changes to a ticket are only visible to other callers once the ticket is updated.
+ * <p>
+ * Cache hits and misses are recorded as cache metrics under the name {@value #METRIC_NAME},
+ * along with the time taken by invalidation messages to arrive from other servers.
+ * Closing the registry stops listening for invalidation messages and removes its metrics,
+ * so that a registry created in its place, i.e. when the configuration is refreshed, reports its own cache.
+ * Closing the registry also closes the ticket registry in front of which tickets are cached.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@Getter
+public class NearCacheTicketRegistry implements TicketRegistry, AutoCloseable {
+    /**
+     * Metric name.
+     */
+    public static final String METRIC_NAME = "cas.ticket.registry.near-cache";
+
+    private final TicketRegistry ticketRegistry;
+
+    private final NearCacheInvalidationChannel invalidationChannel;
+
+    private final String registryId = UUID.randomUUID().toString();
+
+    private final Cache<String, byte[]> cache;
+
+    private final Timer invalidationLag;
+
+    @Getter(AccessLevel.NONE)
+    private final Consumer<NearCacheInvalidationMessage> invalidationListener = this::invalidate;
+
+    /**
+     * The codec that turns cached tickets into bytes and back.
+     */
+    @Setter
+    private BinaryTicketCodec binaryTicketCodec = new DefaultBinaryTicketCodec();
+
+    public NearCacheTicketRegistry(final TicketRegistry ticketRegistry,
+                                   final long maximumSize,
+                                   final Duration timeToLive,
+                                   final NearCacheInvalidationChannel invalidationChannel) {
+        this.ticketRegistry = ticketRegistry;
+        this.invalidationChannel = invalidationChannel;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, this.cache, METRIC_NAME);
+        this.invalidationLag = Timer.builder(METRIC_NAME + ".invalidation.lag").register(Metrics.globalRegistry);
+        invalidationChannel.subscribe(invalidationListener);
+    }
+
+    /**
+     * Discard the tickets named by a message sent by another server.
+     *
+     * @param message the message
+     */
+    public void invalidate(final NearCacheInvalidationMessage message) {
+        if (registryId.equals(message.getRegistryId())) {
+            return;
+        }
+        LOGGER.trace("Discarding cached tickets [{}] as instructed by [{}]", message.getTicketIds(), message.getRegistryId());
+        if (message.getTicketIds().isEmpty()) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(message.getTicketIds());
+        }
+        invalidationLag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - message.getTimestamp())));
+    }
+
+    @Override
+    public void close() throws Exception {
+        invalidationChannel.unsubscribe(invalidationListener);
+        val meters = Metrics.globalRegistry.getMeters()
+            .stream()
+            .filter(meter -> METRIC_NAME.equals(meter.getId().getTag("cache")) || meter.getId().equals(invalidationLag.getId()))
+            .collect(Collectors.toList());
+        meters.forEach(Metrics.globalRegistry::remove);
+        cache.invalidateAll();
+        if (ticketRegistry instanceof DisposableBean) {
+            ((DisposableBean) ticketRegistry).destroy();
+        } else if (ticketRegistry instanceof AutoCloseable) {
+            ((AutoCloseable) ticketRegistry).close();
+        }
+    }
+
+    @Override
+    public void addTicket(final Ticket ticket) {
+        ticketRegistry.addTicket(ticket);
+        cacheTicket(ticket);
+    }
+
+    @Override
+    public void addTickets(final Collection<? extends Ticket> tickets) {
+        ticketRegistry.addTickets(tickets);
+        tickets.forEach(this::cacheTicket);
+    }
+
+    @Override
+    public <T extends Ticket> T getTicket(final String ticketId, final Class<T> clazz) {
+        val ticket = getTicket(ticketId);
+        if (ticket == null) {
+            return null;
+        }
+        if (!clazz.isAssignableFrom(ticket.getClass())) {
+            throw new ClassCastException("Ticket [" + ticket.getId() + " is of type " + ticket.getClass() + " when we were expecting " + clazz);
+        }
+        return clazz.cast(ticket);
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketId) {
+        if (StringUtils.isBlank(ticketId)) {
+            return ticketRegistry.getTicket(ticketId);
+        }
+        val cached = getCachedTicket(ticketId);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+        val ticket = ticketRegistry.getTicket(ticketId);
+        if (ticket == null) {
+            cache.invalidate(ticketId);
+        } else {
+            cacheTicket(ticket);
+        }
+        return ticket;
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
+        return ticketRegistry.getTicket(ticketId, predicate);
+    }
+
+    @Override
+    public int deleteTicket(final String ticketId) {
+        val ticketIds = getRelatedTicketIds(ticketId, getCachedTicket(ticketId));
+        val result = ticketRegistry.deleteTicket(ticketId);
+        invalidateAndPublish(ticketIds);
+        return result;
+    }
+
+    @Override
+    public int deleteTicket(final Ticket ticket) {
+        val ticketIds = getRelatedTicketIds(ticket.getId(), ticket);
+        val result = ticketRegistry.deleteTicket(ticket);
+        invalidateAndPublish(ticketIds);
+        return result;
+    }
+
+    @Override
+    public int deleteTickets(final Collection<String> ticketIds) {
+        val relatedTicketIds = new LinkedHashSet<String>();
+        ticketIds.forEach(id -> relatedTicketIds.addAll(getRelatedTicketIds(id, getCachedTicket(id))));
+        val result = ticketRegistry.deleteTickets(ticketIds);
+        invalidateAndPublish(relatedTicketIds);
+        return result;
+    }
+
+    @Override
+    public long deleteAll() {
+        val result = ticketRegistry.deleteAll();
+        cache.invalidateAll();
+        publish(List.of());
+        return result;
+    }
+
+    @Override
+    public Collection<? extends Ticket> getTickets() {
+        return ticketRegistry.getTickets();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getTickets(final Predicate<Ticket> predicate) {
+        return ticketRegistry.getTickets(predicate);
+    }
+
+    @Override
+    public Ticket updateTicket(final Ticket ticket) {
+        val result = ticketRegistry.updateTicket(ticket);
+        cacheTicket(ticket);
+        publish(List.of(ticket.getId()));
+        return result;
+    }
+
+    @Override
+    public Ticket updateTicketGrantingTicket(final TicketGrantingTicket ticketGrantingTicket,
+                                             final String serviceTicketId,
+                                             final Collection<String> removedServiceTicketIds) {
+        val result = ticketRegistry.updateTicketGrantingTicket(ticketGrantingTicket, serviceTicketId, removedServiceTicketIds);
+        cacheTicket(ticketGrantingTicket);
+        publish(List.of(ticketGrantingTicket.getId()));
+        return result;
+    }
+
+    @Override
+    public <T extends Ticket> T consumeTicket(final String ticketId, final Class<T> clazz, final Consumer<T> consumer) {
+        if (StringUtils.isBlank(ticketId)) {
+            return ticketRegistry.consumeTicket(ticketId, clazz, consumer);
+        }
+        cache.invalidate(ticketId);
+        try {
+            val ticket = ticketRegistry.consumeTicket(ticketId, clazz, consumer);
+            if (ticket != null && !ticket.isExpired()) {
+                cacheTicket(ticket);
+            }
+            return ticket;
+        } finally {
+            publish(List.of(ticketId));
+        }
+    }
+
+    @Override
+    public long sessionCount() {
+        return ticketRegistry.sessionCount();
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return ticketRegistry.serviceTicketCount();
+    }
+
+    @Override
+    public Stream<? extends TicketGrantingTicket> getSessionsFor(final String principalId) {
+        return ticketRegistry.getSessionsFor(principalId);
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return ticketRegistry.countSessionsFor(principalId);
+    }
+
+    @Override
+    public Stream<? extends Ticket> getTicketsStream() {
+        return ticketRegistry.getTicketsStream();
+    }
+
+    @Override
+    public TicketExpirationSchedule getTicketExpirationSchedule() {
+        return ticketRegistry.getTicketExpirationSchedule();
+    }
+
+    private Ticket getCachedTicket(final String ticketId) {
+        if (StringUtils.isBlank(ticketId)) {
+            return null;
+        }
+        val cached = cache.getIfPresent(ticketId);
+        return cached == null ? null : binaryTicketCodec.decode(cached);
+    }
+
+    private void cacheTicket(final Ticket ticket) {
+        cache.put(ticket.getId(), binaryTicketCodec.encode(ticket));
+    }
+
+    private static Collection<String> getRelatedTicketIds(final String ticketId, final Ticket ticket) {
+        val ticketIds = new ArrayList<String>();
+        if (StringUtils.isNotBlank(ticketId)) {
+            ticketIds.add(ticketId);
+        }
+        if (ticket instanceof TicketGrantingTicket) {
+            val tgt = (TicketGrantingTicket) ticket;
+            ticketIds.addAll(tgt.getServices().keySet());
+            ticketIds.addAll(tgt.getProxyGrantingTickets().keySet());
+            ticketIds.addAll(tgt.getDescendantTickets());
+        }
+        return ticketIds;
+    }
+
+    private void invalidateAndPublish(final Collection<String> ticketIds) {
+        if (!ticketIds.isEmpty()) {
+            cache.invalidateAll(ticketIds);
+            publish(ticketIds);
+        }
+    }
+
+    private void publish(final Collection<String> ticketIds) {
+        try {
+            invalidationChannel.publish(new NearCacheInvalidationMessage(registryId, new ArrayList<>(ticketIds), System.currentTimeMillis()));
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to publish invalidation of tickets [{}]: [{}]", ticketIds, e.getMessage());
+        }
+    }
+}
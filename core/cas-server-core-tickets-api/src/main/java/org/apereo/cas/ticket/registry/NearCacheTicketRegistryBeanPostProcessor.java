@@ -0,0 +1,67 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.aop.scope.ScopedObject;
+import org.springframework.aop.scope.ScopedProxyUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+/**
+ * This is {@link NearCacheTicketRegistryBeanPostProcessor} that keeps a {@link NearCacheTicketRegistry}
+ * in front of the ticket registry, regardless of the module that provides the ticket registry,
+ * as long as an invalidation channel is available to carry invalidation messages between servers.
+ * If the ticket registry is refreshable, the near-cache is recreated along with the ticket registry.
+ * <p>
+ * The near-cache is applied after all other post-processors, so that proxies created for the ticket registry,
+ * i.e. to manage transactions, remain in place.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class NearCacheTicketRegistryBeanPostProcessor implements BeanPostProcessor, Ordered {
+    /**
+     * Name of the ticket registry bean.
+     */
+    public static final String TICKET_REGISTRY_BEAN_NAME = "ticketRegistry";
+
+    private final ObjectProvider<CasConfigurationProperties> casProperties;
+
+    private final ObjectProvider<NearCacheInvalidationChannel> invalidationChannel;
+
+    private static boolean isTicketRegistry(final Object bean, final String beanName) {
+        if (!(bean instanceof TicketRegistry) || bean instanceof NearCacheTicketRegistry || bean instanceof ScopedObject) {
+            return false;
+        }
+        return TICKET_REGISTRY_BEAN_NAME.equals(beanName) || ScopedProxyUtils.getTargetBeanName(TICKET_REGISTRY_BEAN_NAME).equals(beanName);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!isTicketRegistry(bean, beanName)) {
+            return bean;
+        }
+        val channel = invalidationChannel.getIfUnique();
+        if (channel == null) {
+            LOGGER.warn("Near-cache is enabled, yet no unique invalidation channel is available to keep [{}] consistent across servers. "
+                + "Tickets are not cached locally.", bean.getClass().getSimpleName());
+            return bean;
+        }
+        val nearCache = casProperties.getObject().getTicket().getRegistry().getNearCache();
+        LOGGER.debug("Keeping a near-cache in front of ticket registry [{}]", bean.getClass().getSimpleName());
+        return new NearCacheTicketRegistry((TicketRegistry) bean, nearCache.getMaximumSize(),
+            Beans.newDuration(nearCache.getTimeToLive()), channel);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
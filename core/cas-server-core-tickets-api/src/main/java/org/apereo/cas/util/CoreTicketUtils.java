@@ -1,6 +1,7 @@
 package org.apereo.cas.util;
 
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.util.cipher.AesGcmTicketCipherExecutor;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -56,6 +57,13 @@ public class CoreTicketUtils {
 
 
         if (enabled || forceIfBlankKeys) {
+            if (AesGcmTicketCipherExecutor.ALGORITHM_NAME.equalsIgnoreCase(registry.getAlg())) {
+                LOGGER.debug("Ticket registry authenticated encryption via AES/GCM is enabled for [{}]", registryName);
+                return new AesGcmTicketCipherExecutor(
+                    registry.getEncryption().getKey(),
+                    registry.getEncryption().getKeySize(),
+                    registryName);
+            }
             LOGGER.debug("Ticket registry encryption/signing is enabled for [{}]", registryName);
             return new DefaultTicketCipherExecutor(
                 registry.getEncryption().getKey(),
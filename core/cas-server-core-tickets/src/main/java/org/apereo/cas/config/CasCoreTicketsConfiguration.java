@@ -39,6 +39,8 @@ import org.apereo.cas.ticket.proxy.support.Cas20ProxyHandler;
 import org.apereo.cas.ticket.registry.CachingTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
+import org.apereo.cas.ticket.registry.NearCacheInvalidationChannel;
+import org.apereo.cas.ticket.registry.NearCacheTicketRegistryBeanPostProcessor;
 import org.apereo.cas.ticket.registry.NoOpLockingStrategy;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
@@ -62,6 +64,7 @@ import org.jasig.cas.client.validation.Cas30ServiceTicketValidator;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -283,6 +286,13 @@ public class CasCoreTicketsConfiguration implements TransactionManagementConfigu
         return new DefaultTicketRegistry(storageMap, cipher);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "cas.ticket.registry.nearCache", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor nearCacheTicketRegistryBeanPostProcessor(final ObjectProvider<CasConfigurationProperties> casProperties,
+                                                                            final ObjectProvider<NearCacheInvalidationChannel> channel) {
+        return new NearCacheTicketRegistryBeanPostProcessor(casProperties, channel);
+    }
+
     @ConditionalOnMissingBean(name = "defaultTicketRegistrySupport")
     @Bean
     public TicketRegistrySupport defaultTicketRegistrySupport() {
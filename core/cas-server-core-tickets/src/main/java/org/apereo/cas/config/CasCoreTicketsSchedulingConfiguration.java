@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
@@ -49,10 +50,13 @@ public class CasCoreTicketsSchedulingConfiguration {
     public TicketRegistryCleaner ticketRegistryCleaner(@Qualifier("lockingStrategy") final LockingStrategy lockingStrategy,
                                                        @Qualifier("logoutManager") final LogoutManager logoutManager,
                                                        @Qualifier("ticketRegistry") final TicketRegistry ticketRegistry) {
-        val isCleanerEnabled = casProperties.getTicket().getRegistry().getCleaner().getSchedule().isEnabled();
-        if (isCleanerEnabled) {
+        val cleaner = casProperties.getTicket().getRegistry().getCleaner();
+        if (cleaner.getSchedule().isEnabled()) {
             LOGGER.debug("Ticket registry cleaner is enabled.");
-            return new DefaultTicketRegistryCleaner(lockingStrategy, logoutManager, ticketRegistry);
+            val registryCleaner = new DefaultTicketRegistryCleaner(lockingStrategy, logoutManager, ticketRegistry);
+            registryCleaner.setBatchSize(cleaner.getBatchSize());
+            registryCleaner.setMaxCleanDuration(Beans.newDuration(cleaner.getMaxCleanDuration()));
+            return registryCleaner;
         }
         LOGGER.debug("Ticket registry cleaner is not enabled. "
             + "Expired tickets are not forcefully collected and cleaned by CAS. It is up to the ticket registry itself to "
@@ -19,9 +19,13 @@ import org.apereo.cas.ticket.factory.DefaultServiceTicketFactoryTests;
 import org.apereo.cas.ticket.proxy.support.Cas10ProxyHandlerTests;
 import org.apereo.cas.ticket.proxy.support.Cas20ProxyHandlerTests;
 import org.apereo.cas.ticket.registry.CachingTicketRegistryTests;
+import org.apereo.cas.ticket.registry.DefaultTicketExpirationScheduleTests;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleanerTests;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistryIndexTests;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryTests;
 import org.apereo.cas.ticket.registry.DistributedTicketRegistryTests;
+import org.apereo.cas.ticket.registry.NearCacheTicketRegistryBeanPostProcessorTests;
+import org.apereo.cas.ticket.registry.NearCacheTicketRegistryTests;
 import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManagerTests;
 import org.apereo.cas.util.DefaultUniqueTicketIdGeneratorTests;
 import org.apereo.cas.util.TicketEncryptionDecryptionTests;
@@ -50,8 +54,12 @@ import org.junit.runner.RunWith;
     TicketGrantingTicketExpirationPolicyTests.class,
     TimeoutExpirationPolicyTests.class,
     DefaultTicketRegistryTests.class,
+    DefaultTicketRegistryIndexTests.class,
+    DefaultTicketExpirationScheduleTests.class,
     CachingTicketRegistryTests.class,
     DistributedTicketRegistryTests.class,
+    NearCacheTicketRegistryTests.class,
+    NearCacheTicketRegistryBeanPostProcessorTests.class,
     Cas10ProxyHandlerTests.class,
     TicketEncryptionDecryptionTests.class,
     DefaultUniqueTicketIdGeneratorTests.class,
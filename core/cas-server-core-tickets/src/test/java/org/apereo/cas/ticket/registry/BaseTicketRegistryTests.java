@@ -15,9 +15,11 @@ import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TicketState;
 import org.apereo.cas.ticket.TransientSessionTicket;
 import org.apereo.cas.ticket.TransientSessionTicketImpl;
 import org.apereo.cas.ticket.expiration.AlwaysExpiresExpirationPolicy;
+import org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.util.CollectionUtils;
@@ -40,6 +42,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -95,6 +99,14 @@ public abstract class BaseTicketRegistryTests {
 
     protected abstract TicketRegistry getNewTicketRegistry();
 
+    /**
+     * Build another registry that shares the storage of the tested registry,
+     * as another CAS server would. Registries that are not shared return null.
+     */
+    protected TicketRegistry getNewTicketRegistryForAnotherNode() {
+        return null;
+    }
+
     private void setUpEncryption() {
         var registry = (AbstractTicketRegistry) AopTestUtils.getTargetObject(ticketRegistry);
         if (this.useEncryption) {
@@ -199,6 +211,28 @@ public abstract class BaseTicketRegistryTests {
         assertEquals(Collections.singleton("ST1"), tgt.getServices().keySet());
     }
 
+    @RepeatedTest(2)
+    public void verifyUpdateTicketGrantingTicketServices() {
+        ticketRegistry.addTicket(new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE));
+
+        var tgt = ticketRegistry.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+        tgt.grantServiceTicket("ST1", RegisteredServiceTestUtils.getService("TGT_UPDATE_TEST"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        ticketRegistry.updateTicketGrantingTicket(tgt, "ST1", List.of());
+
+        tgt = ticketRegistry.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+        assertEquals(Collections.singleton("ST1"), tgt.getServices().keySet());
+        tgt.grantServiceTicket("ST2", RegisteredServiceTestUtils.getService("TGT_UPDATE_TEST"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        ticketRegistry.updateTicketGrantingTicket(tgt, "ST2", List.of("ST1"));
+
+        tgt = ticketRegistry.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+        assertEquals(Collections.singleton("ST2"), tgt.getServices().keySet());
+        assertEquals(2, ((TicketState) tgt).getCountOfUses());
+        assertNotNull(tgt.getAuthentication());
+    }
+
     @RepeatedTest(2)
     public void verifyDeleteAllExistingTickets() {
         assumeTrue(isIterableRegistry());
@@ -314,6 +348,45 @@ public abstract class BaseTicketRegistryTests {
     }
 
 
+    @RepeatedTest(2)
+    @Transactional
+    public void verifyGetSessionsForPrincipal() {
+        assumeTrue(isIterableRegistry());
+        ticketRegistry.addTicket(new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication("casuser"), NeverExpiresExpirationPolicy.INSTANCE));
+        ticketRegistry.addTicket(new TicketGrantingTicketImpl(ticketGrantingTicketId + '1',
+            CoreAuthenticationTestUtils.getAuthentication("otheruser"), NeverExpiresExpirationPolicy.INSTANCE));
+
+        assertEquals(1, ticketRegistry.countSessionsFor("CASUSER"));
+        try (val sessions = ticketRegistry.getSessionsFor("casuser")) {
+            assertEquals(ticketGrantingTicketId, sessions.findFirst().orElseThrow().getId());
+        }
+        ticketRegistry.deleteTicket(ticketGrantingTicketId);
+        assertEquals(0, ticketRegistry.countSessionsFor("casuser"));
+        assertEquals(1, ticketRegistry.countSessionsFor("otheruser"));
+    }
+
+    @RepeatedTest(2)
+    @Transactional
+    public void verifyAddAndDeleteTicketsInBatch() {
+        val tickets = new ArrayList<Ticket>();
+        IntStream.range(0, 5).forEach(i -> tickets.add(new TicketGrantingTicketImpl(ticketGrantingTicketId + '-' + i,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE)));
+        ticketRegistry.addTickets(tickets);
+        tickets.forEach(ticket -> assertNotNull(ticketRegistry.getTicket(ticket.getId())));
+
+        val tgt = ticketRegistry.getTicket(ticketGrantingTicketId + "-0", TicketGrantingTicket.class);
+        val st = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService("TGT_DELETE_TEST"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        ticketRegistry.addTicket(st);
+        ticketRegistry.updateTicket(tgt);
+
+        assertEquals(6, ticketRegistry.deleteTickets(List.of(ticketGrantingTicketId + "-0", ticketGrantingTicketId + "-1",
+            ticketGrantingTicketId + "-2", ticketGrantingTicketId + "-3", ticketGrantingTicketId + "-4")));
+        assertNull(ticketRegistry.getTicket(serviceTicketId));
+        tickets.forEach(ticket -> assertNull(ticketRegistry.getTicket(ticket.getId())));
+    }
+
     @RepeatedTest(2)
     @Transactional
     public void verifyDeleteTicketWithChildren() {
@@ -378,6 +451,58 @@ public abstract class BaseTicketRegistryTests {
         assertNull(ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class));
     }
 
+    @RepeatedTest(2)
+    @Transactional
+    public void verifyConsumeTicket() {
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId, CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(tgt);
+        val service = RegisteredServiceTestUtils.getService("TGT_CONSUME_TEST");
+        val st = tgt.grantServiceTicket(serviceTicketId, service, new MultiTimeUseOrTimeoutExpirationPolicy(1, 60), false, true);
+        ticketRegistry.addTicket(st);
+        ticketRegistry.updateTicket(tgt);
+
+        assertThrows(IllegalArgumentException.class, () -> ticketRegistry.consumeTicket(serviceTicketId, ServiceTicket.class, ticket -> {
+            throw new IllegalArgumentException();
+        }));
+        assertNotNull(ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class));
+
+        val consumed = ticketRegistry.consumeTicket(serviceTicketId, ServiceTicket.class, ticket -> TicketState.class.cast(ticket).update());
+        assertNotNull(consumed);
+        assertTrue(consumed.isExpired());
+        assertNull(ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class));
+        assertNull(ticketRegistry.consumeTicket(serviceTicketId, ServiceTicket.class, ticket -> fail("Ticket should not be consumed again")));
+    }
+
+    @RepeatedTest(2)
+    public void verifyConsumeTicketOnceAcrossNodes() {
+        val anotherNode = getNewTicketRegistryForAnotherNode();
+        assumeTrue(anotherNode != null);
+        val registry = (AbstractTicketRegistry) AopTestUtils.getTargetObject(ticketRegistry);
+        ((AbstractTicketRegistry) AopTestUtils.getTargetObject(anotherNode)).setCipherExecutor(registry.cipherExecutor);
+
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId, CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(tgt);
+        val service = RegisteredServiceTestUtils.getService("TGT_CONSUME_TEST");
+        val st = tgt.grantServiceTicket(serviceTicketId, service, new MultiTimeUseOrTimeoutExpirationPolicy(1, 60), false, true);
+        ticketRegistry.addTicket(st);
+        ticketRegistry.updateTicket(tgt);
+
+        val attempts = new AtomicInteger();
+        val consumed = ticketRegistry.consumeTicket(serviceTicketId, ServiceTicket.class, ticket -> {
+            if (attempts.getAndIncrement() == 0) {
+                val consumedByAnotherNode = anotherNode.consumeTicket(serviceTicketId, ServiceTicket.class,
+                    other -> TicketState.class.cast(other).update());
+                assertNotNull(consumedByAnotherNode);
+            }
+            TicketState.class.cast(ticket).update();
+        });
+        assertNull(consumed);
+        assertEquals(1, attempts.get());
+        assertNull(ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class));
+    }
+
     @RepeatedTest(2)
     public void verifyExpiredTicket() {
         val authn = CoreAuthenticationTestUtils.getAuthentication();
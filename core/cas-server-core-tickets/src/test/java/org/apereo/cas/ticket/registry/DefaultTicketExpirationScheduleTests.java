@@ -0,0 +1,87 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultTicketExpirationScheduleTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class DefaultTicketExpirationScheduleTests {
+
+    @Test
+    public void verifyTicketsAreDueOnExpiration() {
+        val schedule = new DefaultTicketExpirationSchedule(Duration.ofSeconds(1));
+        val tgt = new TicketGrantingTicketImpl("TGT-1",
+            CoreAuthenticationTestUtils.getAuthentication("casuser"), new HardTimeoutExpirationPolicy(60));
+        schedule.schedule(tgt);
+        schedule.schedule(tgt);
+        assertEquals(1, schedule.size());
+
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        assertTrue(schedule.pollDue(now, 10).isEmpty());
+        assertEquals(Duration.ZERO, schedule.getLag(now));
+
+        val later = now.plusMinutes(2);
+        assertFalse(schedule.getLag(later).isZero());
+        val due = schedule.pollDue(later, 10);
+        assertEquals(1, due.size());
+        assertTrue(due.contains("TGT-1"));
+        assertEquals(0, schedule.size());
+        assertTrue(schedule.pollDue(later, 10).isEmpty());
+    }
+
+    @Test
+    public void verifyExpiredTicketsAreImmediatelyDue() {
+        val schedule = new DefaultTicketExpirationSchedule();
+        val tgt = new MockTicketGrantingTicket("casuser");
+        tgt.markTicketExpired();
+        schedule.schedule(tgt);
+        assertTrue(schedule.pollDue(ZonedDateTime.now(ZoneOffset.UTC), 10).contains(tgt.getId()));
+    }
+
+    @Test
+    public void verifyPollingIsBounded() {
+        val schedule = new DefaultTicketExpirationSchedule();
+        for (var i = 0; i < 5; i++) {
+            val tgt = new MockTicketGrantingTicket("casuser");
+            tgt.markTicketExpired();
+            schedule.schedule(tgt);
+        }
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        assertEquals(2, schedule.pollDue(now, 2).size());
+        assertEquals(2, schedule.pollDue(now, 2).size());
+        assertEquals(1, schedule.pollDue(now, 2).size());
+        assertEquals(0, schedule.size());
+    }
+
+    @Test
+    public void verifyCancelAndClear() {
+        val schedule = new DefaultTicketExpirationSchedule();
+        val tgt1 = new TicketGrantingTicketImpl("TGT-1",
+            CoreAuthenticationTestUtils.getAuthentication("casuser"), NeverExpiresExpirationPolicy.INSTANCE);
+        val tgt2 = new TicketGrantingTicketImpl("TGT-2",
+            CoreAuthenticationTestUtils.getAuthentication("casuser"), NeverExpiresExpirationPolicy.INSTANCE);
+        schedule.schedule(tgt1);
+        schedule.schedule(tgt2);
+        schedule.cancel(tgt1.getId());
+        assertEquals(1, schedule.size());
+        schedule.clear();
+        assertEquals(0, schedule.size());
+        assertTrue(schedule.pollDue(ZonedDateTime.now(ZoneOffset.UTC).plusYears(100), 10).isEmpty());
+    }
+}
@@ -3,9 +3,13 @@ package org.apereo.cas.ticket.registry;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -29,4 +33,52 @@ public class DefaultTicketRegistryCleanerTests {
         c.clean();
         assertTrue(ticketRegistry.sessionCount() == 0);
     }
+
+    @Test
+    public void verifyScheduledTicketsAreCleanedInBatches() {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketRegistry = new DefaultTicketRegistry();
+        for (var i = 0; i < 5; i++) {
+            val tgt = new MockTicketGrantingTicket("casuser");
+            tgt.markTicketExpired();
+            ticketRegistry.addTicket(tgt);
+        }
+        val valid = new MockTicketGrantingTicket("casuser");
+        ticketRegistry.addTicket(valid);
+        assertEquals(6, ticketRegistry.getTicketExpirationSchedule().size());
+
+        val c = new DefaultTicketRegistryCleaner(new NoOpLockingStrategy(), logoutManager, ticketRegistry);
+        c.setBatchSize(2);
+        assertEquals(5, c.clean());
+        assertEquals(1, ticketRegistry.sessionCount());
+        assertEquals(1, ticketRegistry.getTicketExpirationSchedule().size());
+        assertNotNull(ticketRegistry.getTicket(valid.getId()));
+    }
+
+    @Test
+    public void verifyCleanupMetricsAreRecorded() {
+        val meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        try {
+            val ticketRegistry = new DefaultTicketRegistry();
+            for (var i = 0; i < 3; i++) {
+                val tgt = new MockTicketGrantingTicket("casuser");
+                tgt.markTicketExpired();
+                ticketRegistry.addTicket(tgt);
+            }
+            ticketRegistry.addTicket(new MockTicketGrantingTicket("casuser"));
+
+            val c = new DefaultTicketRegistryCleaner(new NoOpLockingStrategy(), mock(LogoutManager.class), ticketRegistry);
+            c.setBatchSize(2);
+            assertEquals(3, c.clean());
+
+            val removed = meterRegistry.find(DefaultTicketRegistryCleaner.METRIC_NAME + ".removed").summary();
+            assertNotNull(removed);
+            assertEquals(3, removed.totalAmount());
+            assertEquals(1, meterRegistry.find(DefaultTicketRegistryCleaner.METRIC_NAME + ".schedule.size").gauge().value());
+            assertEquals(0, meterRegistry.find(DefaultTicketRegistryCleaner.METRIC_NAME + ".schedule.lag").timeGauge().value(TimeUnit.SECONDS));
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultTicketRegistryIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class DefaultTicketRegistryIndexTests {
+
+    @Test
+    public void verifyIndexOperations() {
+        val index = new DefaultTicketRegistryIndex();
+        val tgt = new TicketGrantingTicketImpl("TGT-1",
+            CoreAuthenticationTestUtils.getAuthentication("casuser"), NeverExpiresExpirationPolicy.INSTANCE);
+        index.index(tgt);
+        index.index(tgt);
+        assertEquals(1, index.getTicketGrantingTicketCount());
+        assertEquals(1, index.getTicketGrantingTicketsFor("CasUser").size());
+
+        val st = tgt.grantServiceTicket("ST-1", RegisteredServiceTestUtils.getService(),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        index.index(st);
+        assertEquals(1, index.getServiceTicketCount());
+
+        index.unindex("ST-1");
+        assertEquals(0, index.getServiceTicketCount());
+
+        index.unindex("TGT-1");
+        assertEquals(0, index.getTicketGrantingTicketCount());
+        assertTrue(index.getTicketGrantingTicketsFor("casuser").isEmpty());
+    }
+
+    @Test
+    public void verifyRegistryMaintainsIndex() {
+        val registry = new DefaultTicketRegistry();
+        val tgt = new TicketGrantingTicketImpl("TGT-1",
+            CoreAuthenticationTestUtils.getAuthentication("casuser"), NeverExpiresExpirationPolicy.INSTANCE);
+        registry.addTicket(tgt);
+        val st = tgt.grantServiceTicket("ST-1", RegisteredServiceTestUtils.getService(),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        registry.addTicket(st);
+        assertEquals(1, registry.sessionCount());
+        assertEquals(1, registry.serviceTicketCount());
+        assertEquals(1, registry.countSessionsFor("casuser"));
+
+        assertEquals(2, registry.deleteTicket("TGT-1"));
+        assertEquals(0, registry.sessionCount());
+        assertEquals(0, registry.serviceTicketCount());
+
+        registry.addTicket(tgt);
+        registry.deleteAll();
+        assertEquals(0, registry.sessionCount());
+    }
+}
@@ -1,8 +1,30 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TicketState;
+import org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.cipher.AesGcmTicketCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
+import lombok.val;
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Test case to test the DefaultTicketRegistry based on test cases to test all
@@ -17,4 +39,62 @@ public class DefaultTicketRegistryTests extends BaseTicketRegistryTests {
     public TicketRegistry getNewTicketRegistry() {
         return new DefaultTicketRegistry(new ConcurrentHashMap<>(10, 10, 5), CipherExecutor.noOp());
     }
+
+    @RepeatedTest(2)
+    public void verifyAuthenticatedEncryption() {
+        val crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
+        crypto.setAlg(AesGcmTicketCipherExecutor.ALGORITHM_NAME);
+        val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(crypto, "[tests]");
+        assertTrue(cipher instanceof AesGcmTicketCipherExecutor);
+
+        val registry = new DefaultTicketRegistry(cipher);
+        val ticket = new TicketGrantingTicketImpl("TGT-GCM-1", CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        registry.addTicket(ticket);
+        assertEquals(ticket, registry.getTicket(ticket.getId(), TicketGrantingTicket.class));
+        assertEquals(1, registry.deleteTicket(ticket.getId()));
+    }
+
+    @RepeatedTest(2)
+    public void verifyServiceTicketIsConsumedOnceConcurrently() throws Exception {
+        val registry = new DefaultTicketRegistry();
+        val tgt = new TicketGrantingTicketImpl("TGT-CONSUME-1", CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        registry.addTicket(tgt);
+        val st = tgt.grantServiceTicket("ST-CONSUME-1", RegisteredServiceTestUtils.getService(),
+            new MultiTimeUseOrTimeoutExpirationPolicy(1, 60), false, true);
+        registry.addTicket(st);
+
+        val threads = 8;
+        val executor = Executors.newFixedThreadPool(threads);
+        try {
+            val consumed = new AtomicInteger();
+            val latch = new CountDownLatch(1);
+            val tasks = new ArrayList<Future<ServiceTicket>>();
+            for (var i = 0; i < threads; i++) {
+                tasks.add(executor.submit((Callable<ServiceTicket>) () -> {
+                    latch.await();
+                    return registry.consumeTicket(st.getId(), ServiceTicket.class, ticket -> {
+                        if (ticket.isExpired()) {
+                            throw new IllegalStateException();
+                        }
+                        TicketState.class.cast(ticket).update();
+                        consumed.incrementAndGet();
+                    });
+                }));
+            }
+            latch.countDown();
+            for (val task : tasks) {
+                try {
+                    task.get();
+                } catch (final Exception e) {
+                    assertTrue(e.getCause() instanceof IllegalStateException);
+                }
+            }
+            assertEquals(1, consumed.get());
+            assertNull(registry.getTicket(st.getId()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.scope.ScopedObject;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link NearCacheTicketRegistryBeanPostProcessorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class NearCacheTicketRegistryBeanPostProcessorTests {
+
+    @SuppressWarnings("unchecked")
+    private static NearCacheTicketRegistryBeanPostProcessor getBeanPostProcessor(final NearCacheInvalidationChannel channel) {
+        val casProperties = mock(ObjectProvider.class);
+        when(casProperties.getObject()).thenReturn(new CasConfigurationProperties());
+        val channels = mock(ObjectProvider.class);
+        when(channels.getIfUnique()).thenReturn(channel);
+        return new NearCacheTicketRegistryBeanPostProcessor(casProperties, channels);
+    }
+
+    @Test
+    public void verifyTicketRegistryIsWrapped() throws Exception {
+        val postProcessor = getBeanPostProcessor(NearCacheInvalidationChannel.noOp());
+        val registry = new DefaultTicketRegistry();
+
+        val result = postProcessor.postProcessAfterInitialization(registry, "ticketRegistry");
+        assertTrue(result instanceof NearCacheTicketRegistry);
+        assertSame(registry, ((NearCacheTicketRegistry) result).getTicketRegistry());
+        assertSame(result, postProcessor.postProcessAfterInitialization(result, "ticketRegistry"));
+        ((NearCacheTicketRegistry) result).close();
+
+        val refreshable = postProcessor.postProcessAfterInitialization(registry, "scopedTarget.ticketRegistry");
+        assertTrue(refreshable instanceof NearCacheTicketRegistry);
+        ((NearCacheTicketRegistry) refreshable).close();
+    }
+
+    @Test
+    public void verifyOtherBeansAreNotWrapped() {
+        val postProcessor = getBeanPostProcessor(NearCacheInvalidationChannel.noOp());
+        val registry = new DefaultTicketRegistry();
+        assertSame(registry, postProcessor.postProcessAfterInitialization(registry, "otherTicketRegistry"));
+
+        val proxy = mock(TicketRegistry.class, withSettings().extraInterfaces(ScopedObject.class));
+        assertSame(proxy, postProcessor.postProcessAfterInitialization(proxy, "ticketRegistry"));
+    }
+
+    @Test
+    public void verifyTicketRegistryIsNotWrappedWithoutChannel() {
+        val postProcessor = getBeanPostProcessor(null);
+        val registry = new DefaultTicketRegistry();
+        assertSame(registry, postProcessor.postProcessAfterInitialization(registry, "ticketRegistry"));
+    }
+}
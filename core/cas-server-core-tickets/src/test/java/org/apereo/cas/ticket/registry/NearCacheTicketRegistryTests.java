@@ -0,0 +1,216 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TicketState;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link NearCacheTicketRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class NearCacheTicketRegistryTests {
+
+    private static TicketGrantingTicket getTicketGrantingTicket(final String id) {
+        return new TicketGrantingTicketImpl(id, CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+    }
+
+    @Test
+    public void verifyTicketsAreReadFromCache() {
+        val delegate = spy(new DefaultTicketRegistry());
+        val registry = new NearCacheTicketRegistry(delegate, 100, Duration.ofMinutes(1), NearCacheInvalidationChannel.noOp());
+        val tgt = getTicketGrantingTicket("TGT-NEAR-1");
+        registry.addTicket(tgt);
+        assertEquals(tgt, registry.getTicket(tgt.getId(), TicketGrantingTicket.class));
+        assertEquals(tgt, registry.getTicket(tgt.getId()));
+        verify(delegate, never()).getTicket(tgt.getId());
+
+        registry.getCache().invalidateAll();
+        assertNotNull(registry.getTicket(tgt.getId()));
+        assertNotNull(registry.getTicket(tgt.getId()));
+        verify(delegate, times(1)).getTicket(tgt.getId());
+        assertNull(registry.getTicket("TGT-UNKNOWN"));
+        assertNull(registry.getTicket(null));
+    }
+
+    @Test
+    public void verifyExpiredTicketsAreNotReadFromCache() {
+        val delegate = new DefaultTicketRegistry();
+        val registry = new NearCacheTicketRegistry(delegate, 100, Duration.ofMinutes(1), NearCacheInvalidationChannel.noOp());
+        val tgt = new TicketGrantingTicketImpl("TGT-NEAR-2", CoreAuthenticationTestUtils.getAuthentication(),
+            new HardTimeoutExpirationPolicy(60));
+        registry.addTicket(tgt);
+        tgt.markTicketExpired();
+        registry.updateTicket(tgt);
+        assertNull(registry.getTicket(tgt.getId()));
+        assertNull(registry.getCache().getIfPresent(tgt.getId()));
+    }
+
+    @Test
+    public void verifyCachedTicketsAreCopies() {
+        val registry = new NearCacheTicketRegistry(new DefaultTicketRegistry(), 100, Duration.ofMinutes(1),
+            NearCacheInvalidationChannel.noOp());
+        val tgt = getTicketGrantingTicket("TGT-NEAR-7");
+        registry.addTicket(tgt);
+        val first = registry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        val second = registry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertNotSame(tgt, first);
+        assertNotSame(first, second);
+
+        first.grantServiceTicket("ST-NEAR-7", RegisteredServiceTestUtils.getService(),
+            new MultiTimeUseOrTimeoutExpirationPolicy(1, 60), false, true);
+        assertTrue(registry.getTicket(tgt.getId(), TicketGrantingTicket.class).getServices().isEmpty());
+        registry.updateTicket(first);
+        assertTrue(registry.getTicket(tgt.getId(), TicketGrantingTicket.class).getServices().containsKey("ST-NEAR-7"));
+    }
+
+    @Test
+    public void verifyClosedRegistryClosesTicketRegistry() throws Exception {
+        val delegate = mock(TicketRegistry.class, withSettings().extraInterfaces(DisposableBean.class));
+        val registry = new NearCacheTicketRegistry(delegate, 100, Duration.ofMinutes(1), NearCacheInvalidationChannel.noOp());
+        registry.close();
+        verify((DisposableBean) delegate).destroy();
+    }
+
+    @Test
+    public void verifyChangesInvalidateOtherServers() {
+        val channel = new InMemoryNearCacheInvalidationChannel();
+        val delegate = new DefaultTicketRegistry();
+        val server1 = new NearCacheTicketRegistry(delegate, 100, Duration.ofMinutes(1), channel);
+        val server2 = new NearCacheTicketRegistry(delegate, 100, Duration.ofMinutes(1), channel);
+
+        val tgt = getTicketGrantingTicket("TGT-NEAR-3");
+        server1.addTicket(tgt);
+        assertNotNull(server2.getTicket(tgt.getId()));
+        assertNotNull(server2.getCache().getIfPresent(tgt.getId()));
+
+        server1.updateTicket(tgt);
+        assertNull(server2.getCache().getIfPresent(tgt.getId()));
+        assertNotNull(server1.getCache().getIfPresent(tgt.getId()));
+
+        val st = tgt.grantServiceTicket("ST-NEAR-3", RegisteredServiceTestUtils.getService(),
+            new MultiTimeUseOrTimeoutExpirationPolicy(1, 60), false, true);
+        server1.addTicket(st);
+        server1.updateTicket(tgt);
+        assertNotNull(server2.getTicket(tgt.getId()));
+        assertNotNull(server2.getTicket(st.getId(), ServiceTicket.class));
+
+        server1.deleteTicket(tgt.getId());
+        assertNull(server1.getCache().getIfPresent(st.getId()));
+        assertNull(server2.getCache().getIfPresent(tgt.getId()));
+        assertNull(server2.getCache().getIfPresent(st.getId()));
+        assertNull(server2.getTicket(st.getId()));
+
+        server2.addTicket(getTicketGrantingTicket("TGT-NEAR-4"));
+        assertNotNull(server1.getTicket("TGT-NEAR-4"));
+        server2.deleteAll();
+        assertEquals(0, server1.getCache().estimatedSize());
+        assertTrue(channel.getMessages().stream().noneMatch(message -> message.getTicketIds().contains("TGT-NEAR-4")));
+    }
+
+    @Test
+    public void verifyConsumedTicketsInvalidateOtherServers() {
+        val channel = new InMemoryNearCacheInvalidationChannel();
+        val delegate = new DefaultTicketRegistry();
+        val server1 = new NearCacheTicketRegistry(delegate, 100, Duration.ofMinutes(1), channel);
+        val server2 = new NearCacheTicketRegistry(delegate, 100, Duration.ofMinutes(1), channel);
+
+        val tgt = getTicketGrantingTicket("TGT-NEAR-5");
+        server1.addTicket(tgt);
+        val st = tgt.grantServiceTicket("ST-NEAR-5", RegisteredServiceTestUtils.getService(),
+            new MultiTimeUseOrTimeoutExpirationPolicy(1, 60), false, true);
+        server1.addTicket(st);
+        assertNotNull(server2.getTicket(st.getId()));
+
+        val consumed = server1.consumeTicket(st.getId(), ServiceTicket.class, ticket -> TicketState.class.cast(ticket).update());
+        assertNotNull(consumed);
+        assertNull(server1.getCache().getIfPresent(st.getId()));
+        assertNull(server2.getCache().getIfPresent(st.getId()));
+        assertNull(server2.getTicket(st.getId()));
+    }
+
+    @Test
+    public void verifyClosedRegistryStopsListeningAndRemovesMetrics() throws Exception {
+        val meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        try {
+            val channel = new InMemoryNearCacheInvalidationChannel();
+            val delegate = new DefaultTicketRegistry();
+            val server1 = new NearCacheTicketRegistry(delegate, 100, Duration.ofMinutes(1), channel);
+            val server2 = new NearCacheTicketRegistry(delegate, 100, Duration.ofMinutes(1), channel);
+            assertEquals(2, channel.getListeners().size());
+
+            server2.close();
+            assertEquals(1, channel.getListeners().size());
+            server1.close();
+            assertTrue(channel.getListeners().isEmpty());
+            assertNull(Metrics.globalRegistry.find("cache.gets").tag("cache", NearCacheTicketRegistry.METRIC_NAME).meter());
+            assertNull(Metrics.globalRegistry.find(NearCacheTicketRegistry.METRIC_NAME + ".invalidation.lag").timer());
+
+            val refreshed = new NearCacheTicketRegistry(delegate, 100, Duration.ofMinutes(1), channel);
+            val tgt = getTicketGrantingTicket("TGT-NEAR-6");
+            refreshed.addTicket(tgt);
+            refreshed.getTicket(tgt.getId());
+            val hits = Metrics.globalRegistry.find("cache.gets")
+                .tag("cache", NearCacheTicketRegistry.METRIC_NAME)
+                .tag("result", "hit")
+                .functionCounter();
+            assertNotNull(hits);
+            assertEquals(1, hits.count());
+            refreshed.close();
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+
+    private static class InMemoryNearCacheInvalidationChannel implements NearCacheInvalidationChannel {
+        private final List<Consumer<NearCacheInvalidationMessage>> listeners = new ArrayList<>();
+
+        private final List<NearCacheInvalidationMessage> messages = new ArrayList<>();
+
+        @Override
+        public void publish(final NearCacheInvalidationMessage message) {
+            messages.add(message);
+            listeners.forEach(listener -> listener.accept(message));
+        }
+
+        @Override
+        public void subscribe(final Consumer<NearCacheInvalidationMessage> listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void unsubscribe(final Consumer<NearCacheInvalidationMessage> listener) {
+            listeners.remove(listener);
+        }
+
+        List<Consumer<NearCacheInvalidationMessage>> getListeners() {
+            return listeners;
+        }
+
+        List<NearCacheInvalidationMessage> getMessages() {
+            return messages;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.apereo.cas.util.cipher;
+
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.crypto.DecryptionException;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import java.security.SecureRandom;
+
+/**
+ * This is {@link AesGcmTicketCipherExecutor} that handles the encryption
+ * of tickets during replication using {@code AES/GCM}, which provides authenticated encryption.
+ * Unlike {@link DefaultTicketCipherExecutor}, values are not separately signed as
+ * the authentication tag produced by the cipher protects the integrity of the value.
+ * Cipher instances are reused per thread, and a random initialization vector
+ * is generated for every value and prepended to the encrypted result.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class AesGcmTicketCipherExecutor extends BaseBinaryCipherExecutor {
+    /**
+     * Algorithm name used in settings to activate this cipher.
+     */
+    public static final String ALGORITHM_NAME = "AES_GCM";
+
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+
+    private static final int IV_LENGTH = 12;
+
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private static final SecureRandom RANDOM = RandomUtils.getNativeInstance();
+
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(AesGcmTicketCipherExecutor::newCipher);
+
+    public AesGcmTicketCipherExecutor(final String encryptionSecretKey, final int encryptionKeySize, final String cipherName) {
+        super(encryptionSecretKey, null, 0, encryptionKeySize, cipherName);
+    }
+
+    @SneakyThrows
+    private static Cipher newCipher() {
+        return Cipher.getInstance(CIPHER_ALGORITHM);
+    }
+
+    @Override
+    @SneakyThrows
+    public byte[] encode(final byte[] value, final Object[] parameters) {
+        val iv = new byte[IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        val cipher = CIPHERS.get();
+        cipher.init(Cipher.ENCRYPT_MODE, getEncryptionKey(), new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+        val result = new byte[IV_LENGTH + cipher.getOutputSize(value.length)];
+        System.arraycopy(iv, 0, result, 0, IV_LENGTH);
+        cipher.doFinal(value, 0, value.length, result, IV_LENGTH);
+        return result;
+    }
+
+    @Override
+    @SneakyThrows
+    public byte[] decode(final byte[] value, final Object[] parameters) {
+        if (value.length <= IV_LENGTH) {
+            throw new DecryptionException();
+        }
+        val cipher = CIPHERS.get();
+        cipher.init(Cipher.DECRYPT_MODE, getEncryptionKey(), new GCMParameterSpec(TAG_LENGTH_BITS, value, 0, IV_LENGTH));
+        try {
+            return cipher.doFinal(value, IV_LENGTH, value.length - IV_LENGTH);
+        } catch (final AEADBadTagException e) {
+            if (LOGGER.isTraceEnabled()) {
+                throw new DecryptionException(e);
+            }
+            throw new DecryptionException();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return getEncryptionKey() != null;
+    }
+
+    @Override
+    public String getName() {
+        return "Ticketing";
+    }
+
+    @Override
+    protected boolean isSigningRequired() {
+        return false;
+    }
+
+    @Override
+    protected String getEncryptionKeySetting() {
+        return "cas.ticket.registry." + this.cipherName + "crypto.encryption.key";
+    }
+
+    @Override
+    protected String getSigningKeySetting() {
+        return "cas.ticket.registry." + this.cipherName + "crypto.signing.key";
+    }
+}
@@ -61,7 +61,9 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
     public BaseBinaryCipherExecutor(final String encryptionSecretKey, final String signingSecretKey,
                                     final int signingKeySize, final int encryptionKeySize, final String cipherName) {
         this.cipherName = cipherName;
-        ensureSigningKeyExists(signingSecretKey, signingKeySize);
+        if (isSigningRequired()) {
+            ensureSigningKeyExists(signingSecretKey, signingKeySize);
+        }
         ensureEncryptionKeyExists(encryptionSecretKey, encryptionKeySize);
         this.encryptionKey = new SecretKeySpec(this.encryptionSecretKey, this.secretKeyAlgorithm);
     }
@@ -97,6 +99,16 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
         }
     }
 
+    /**
+     * Whether values produced by this cipher are signed separately.
+     * Ciphers that provide authenticated encryption need not sign values.
+     *
+     * @return true/false
+     */
+    protected boolean isSigningRequired() {
+        return true;
+    }
+
     /**
      * Gets encryption key setting.
      *
@@ -11,6 +11,7 @@ import org.apereo.cas.util.RegexUtilsTests;
 import org.apereo.cas.util.ResourceUtilsTests;
 import org.apereo.cas.util.ScriptingUtilsTests;
 import org.apereo.cas.util.SystemUtilsTests;
+import org.apereo.cas.util.cipher.AesGcmTicketCipherExecutorTests;
 import org.apereo.cas.util.cipher.BinaryCipherExecutorTests;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutorTests;
 import org.apereo.cas.util.cipher.JsonWebKeySetStringCipherExecutorTests;
@@ -61,6 +62,7 @@ import org.junit.runner.RunWith;
     HexRandomStringGeneratorTests.class,
     RegexUtilsTests.class,
     BinaryCipherExecutorTests.class,
+    AesGcmTicketCipherExecutorTests.class,
     ResourceUtilsTests.class,
     ScriptingUtilsTests.class,
     GroovySmsSenderTests.class,
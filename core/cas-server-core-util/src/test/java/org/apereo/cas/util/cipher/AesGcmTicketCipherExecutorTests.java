@@ -0,0 +1,45 @@
+package org.apereo.cas.util.cipher;
+
+import org.apereo.cas.util.crypto.DecryptionException;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AesGcmTicketCipherExecutorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class AesGcmTicketCipherExecutorTests {
+    @Test
+    public void verifyAction() {
+        val cipher = new AesGcmTicketCipherExecutor(null, 16, "webflow");
+        assertTrue(cipher.isEnabled());
+        val encoded = cipher.encode("ST-1234567890".getBytes(StandardCharsets.UTF_8));
+        assertEquals("ST-1234567890", new String(cipher.decode(encoded), StandardCharsets.UTF_8));
+        assertNotNull(cipher.getName());
+        assertNotNull(cipher.getSigningKeySetting());
+        assertNotNull(cipher.getEncryptionKeySetting());
+    }
+
+    @Test
+    public void verifyUniqueValues() {
+        val cipher = new AesGcmTicketCipherExecutor(null, 16, "webflow");
+        val value = "ST-1234567890".getBytes(StandardCharsets.UTF_8);
+        assertFalse(Arrays.equals(cipher.encode(value), cipher.encode(value)));
+    }
+
+    @Test
+    public void verifyTamperedValue() {
+        val cipher = new AesGcmTicketCipherExecutor(null, 16, "webflow");
+        val encoded = cipher.encode("ST-1234567890".getBytes(StandardCharsets.UTF_8));
+        encoded[encoded.length - 1] ^= 1;
+        assertThrows(DecryptionException.class, () -> cipher.decode(encoded));
+    }
+}
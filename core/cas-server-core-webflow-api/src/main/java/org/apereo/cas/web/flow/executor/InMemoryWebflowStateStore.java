@@ -0,0 +1,38 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * This is {@link InMemoryWebflowStateStore} that keeps webflow state in memory of the CAS node.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class InMemoryWebflowStateStore implements WebflowStateStore {
+    private final Cache<String, byte[]> storage;
+
+    public InMemoryWebflowStateStore(final long maximumSize, final Duration timeout) {
+        this.storage = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeout)
+            .build();
+    }
+
+    @Override
+    public void put(final String id, final byte[] state) {
+        storage.put(id, state);
+    }
+
+    @Override
+    public byte[] get(final String id) {
+        return storage.getIfPresent(id);
+    }
+
+    @Override
+    public void remove(final String id) {
+        storage.invalidate(id);
+    }
+}
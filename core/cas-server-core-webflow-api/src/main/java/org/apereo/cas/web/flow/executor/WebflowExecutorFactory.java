@@ -32,6 +32,7 @@ public class WebflowExecutorFactory {
     private final FlowDefinitionRegistry flowDefinitionRegistry;
     private final CipherExecutor webflowCipherExecutor;
     private final FlowExecutionListener[] executionListeners;
+    private final WebflowStateStore webflowStateStore;
 
     /**
      * Build flow executor.
@@ -42,6 +43,9 @@ public class WebflowExecutorFactory {
         if (webflowProperties.getSession().isStorage()) {
             return buildFlowExecutorViaServerSessionBindingExecution();
         }
+        if (webflowProperties.getSession().getStateStore().isEnabled()) {
+            return buildFlowExecutorViaStateStoreFlowExecution();
+        }
         return buildFlowExecutorViaClientFlowExecution();
     }
 
@@ -76,6 +80,19 @@ public class WebflowExecutorFactory {
         return new FlowExecutorImpl(this.flowDefinitionRegistry, factory, repository);
     }
 
+    private FlowExecutor buildFlowExecutorViaStateStoreFlowExecution() {
+        val transcoder = new WebflowStateStoreTranscoder(this.webflowStateStore,
+            new WebflowCipherBean(this.webflowCipherExecutor), webflowProperties.getSession().isCompress());
+        val repository = new WebflowStateStoreFlowExecutionRepository(transcoder);
+        repository.setFlowDefinitionLocator(this.flowDefinitionRegistry);
+
+        val factory = new FlowExecutionImplFactory();
+        factory.setExecutionKeyFactory(repository);
+        factory.setExecutionListenerLoader(new StaticFlowExecutionListenerLoader(executionListeners));
+        repository.setFlowExecutionFactory(factory);
+        return new FlowExecutorImpl(this.flowDefinitionRegistry, factory, repository);
+    }
+
     @SneakyThrows
     private Transcoder getWebflowStateTranscoder() {
         val cipherBean = new WebflowCipherBean(this.webflowCipherExecutor);
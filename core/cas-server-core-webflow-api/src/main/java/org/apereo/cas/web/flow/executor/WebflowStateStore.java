@@ -0,0 +1,34 @@
+package org.apereo.cas.web.flow.executor;
+
+/**
+ * This is {@link WebflowStateStore} that keeps serialized webflow state on the server side,
+ * so that clients only need to carry a reference to it.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public interface WebflowStateStore {
+
+    /**
+     * Store webflow state.
+     *
+     * @param id    the id
+     * @param state the serialized state
+     */
+    void put(String id, byte[] state);
+
+    /**
+     * Get webflow state.
+     *
+     * @param id the id
+     * @return the serialized state, or null if none is found or it has expired
+     */
+    byte[] get(String id);
+
+    /**
+     * Remove webflow state.
+     *
+     * @param id the id
+     */
+    void remove(String id);
+}
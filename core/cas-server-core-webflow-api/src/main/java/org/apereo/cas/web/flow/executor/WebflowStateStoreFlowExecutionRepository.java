@@ -0,0 +1,38 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.spring.webflow.plugin.ClientFlowExecutionKey;
+import org.apereo.spring.webflow.plugin.ClientFlowExecutionRepository;
+import org.springframework.webflow.execution.FlowExecution;
+
+/**
+ * This is {@link WebflowStateStoreFlowExecutionRepository} that hands out flow execution keys
+ * referencing webflow state kept in a {@link WebflowStateStore}, and removes the state
+ * once the flow execution ends.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class WebflowStateStoreFlowExecutionRepository extends ClientFlowExecutionRepository {
+    private final WebflowStateStoreTranscoder transcoder;
+
+    public WebflowStateStoreFlowExecutionRepository(final WebflowStateStoreTranscoder transcoder) {
+        this.transcoder = transcoder;
+        setTranscoder(transcoder);
+    }
+
+    @Override
+    public void removeFlowExecution(final FlowExecution flowExecution) {
+        val key = flowExecution.getKey();
+        if (key instanceof ClientFlowExecutionKey) {
+            try {
+                transcoder.remove(((ClientFlowExecutionKey) key).getData());
+            } catch (final Exception e) {
+                LOGGER.debug("Unable to remove webflow state for [{}]: [{}]", key, e.getMessage());
+            }
+        }
+        super.removeFlowExecution(flowExecution);
+    }
+}
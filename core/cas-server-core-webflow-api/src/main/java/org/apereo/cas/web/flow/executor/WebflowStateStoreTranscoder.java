@@ -0,0 +1,89 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.RandomUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.spring.webflow.plugin.Transcoder;
+import org.cryptacular.bean.CipherBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This is {@link WebflowStateStoreTranscoder} that keeps serialized webflow state
+ * in a {@link WebflowStateStore}, and only encodes a random identifier of the stored state
+ * for the client. The identifier is signed and encrypted with the webflow cipher, so that
+ * the client can neither read nor forge references to webflow state.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class WebflowStateStoreTranscoder implements Transcoder {
+    private final WebflowStateStore webflowStateStore;
+
+    private final CipherBean cipherBean;
+
+    private final boolean compress;
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        val id = RandomUtils.generateSecureRandomId();
+        webflowStateStore.put(id, serialize(o));
+        LOGGER.trace("Stored webflow state under [{}]", id);
+        return cipherBean.encrypt(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Object decode(final byte[] encoded) throws IOException {
+        val id = getStateId(encoded);
+        val state = webflowStateStore.get(id);
+        if (state == null) {
+            throw new IOException("Webflow state " + id + " cannot be found or has expired");
+        }
+        return deserialize(state);
+    }
+
+    /**
+     * Remove the webflow state referenced by the encoded identifier.
+     *
+     * @param encoded the encoded identifier
+     */
+    public void remove(final byte[] encoded) {
+        val id = getStateId(encoded);
+        LOGGER.trace("Removing webflow state [{}]", id);
+        webflowStateStore.remove(id);
+    }
+
+    private String getStateId(final byte[] encoded) {
+        return new String(cipherBean.decrypt(encoded), StandardCharsets.UTF_8);
+    }
+
+    private byte[] serialize(final Object o) throws IOException {
+        val outBuffer = new ByteArrayOutputStream();
+        try (val out = new ObjectOutputStream(compress ? new GZIPOutputStream(outBuffer) : (OutputStream) outBuffer)) {
+            out.writeObject(o);
+        }
+        return outBuffer.toByteArray();
+    }
+
+    private Object deserialize(final byte[] state) throws IOException {
+        val inBuffer = new ByteArrayInputStream(state);
+        try (val in = new ObjectInputStream(compress ? new GZIPInputStream(inBuffer) : (InputStream) inBuffer)) {
+            return in.readObject();
+        } catch (final ClassNotFoundException e) {
+            throw new IOException("Unable to deserialize webflow state", e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.apereo.cas;
 
 import org.apereo.cas.web.flow.decorator.GroovyLoginWebflowDecoratorTests;
 import org.apereo.cas.web.flow.decorator.RestfulLoginWebflowDecoratorTests;
+import org.apereo.cas.web.flow.executor.WebflowStateStoreTranscoderTests;
 
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.platform.suite.api.SelectClasses;
@@ -16,7 +17,8 @@ import org.junit.runner.RunWith;
  */
 @SelectClasses({
     GroovyLoginWebflowDecoratorTests.class,
-    RestfulLoginWebflowDecoratorTests.class
+    RestfulLoginWebflowDecoratorTests.class,
+    WebflowStateStoreTranscoderTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
@@ -0,0 +1,85 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutor;
+
+import lombok.val;
+import org.apereo.spring.webflow.plugin.EncryptedTranscoder;
+import org.apereo.spring.webflow.plugin.Transcoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link WebflowStateStorageBenchmark}.
+ * Compares a round trip of webflow state encoded entirely on the client
+ * with state kept in a {@link WebflowStateStore} behind a short reference.
+ * Run via {@link #main(String[])} from the test classpath.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebflowStateStorageBenchmark {
+    private static final int SIGNING_KEY_SIZE = 512;
+
+    private static final int ENCRYPTION_KEY_SIZE = 16;
+
+    private static final int STATE_STORE_CAPACITY = 100_000;
+
+    private static final Duration STATE_STORE_TIMEOUT = Duration.ofMinutes(5);
+
+    @Param({"10", "100", "1000"})
+    private int attributes;
+
+    private HashMap<String, String> state;
+
+    private Transcoder clientTranscoder;
+
+    private WebflowStateStoreTranscoder stateStoreTranscoder;
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(WebflowStateStorageBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        val cipher = new WebflowCipherBean(new WebflowConversationStateCipherExecutor(null, null, "AES", SIGNING_KEY_SIZE, ENCRYPTION_KEY_SIZE, "webflow"));
+        clientTranscoder = new EncryptedTranscoder(cipher);
+        stateStoreTranscoder = new WebflowStateStoreTranscoder(new InMemoryWebflowStateStore(STATE_STORE_CAPACITY, STATE_STORE_TIMEOUT), cipher, true);
+        state = new HashMap<>();
+        IntStream.range(0, attributes).forEach(i -> state.put("attribute" + i, "value" + i));
+    }
+
+    @Benchmark
+    public Object clientStorage() throws Exception {
+        return clientTranscoder.decode(clientTranscoder.encode(state));
+    }
+
+    @Benchmark
+    public Object stateStoreStorage() throws Exception {
+        val encoded = stateStoreTranscoder.encode(state);
+        val result = stateStoreTranscoder.decode(encoded);
+        stateStoreTranscoder.remove(encoded);
+        return result;
+    }
+}
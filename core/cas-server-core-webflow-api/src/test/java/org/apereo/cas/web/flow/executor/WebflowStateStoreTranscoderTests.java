@@ -0,0 +1,59 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutor;
+
+import lombok.val;
+import org.apereo.spring.webflow.plugin.EncryptedTranscoder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link WebflowStateStoreTranscoderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class WebflowStateStoreTranscoderTests {
+    private static final WebflowCipherBean CIPHER = new WebflowCipherBean(
+        new WebflowConversationStateCipherExecutor(null, null, "AES", 512, 16, "webflow"));
+
+    private static HashMap<String, String> getState() {
+        val state = new HashMap<String, String>();
+        IntStream.range(0, 100).forEach(i -> state.put("attribute" + i, "value" + i));
+        return state;
+    }
+
+    @Test
+    public void verifyStateIsKeptInStore() throws Exception {
+        val store = new InMemoryWebflowStateStore(100, Duration.ofMinutes(1));
+        val transcoder = new WebflowStateStoreTranscoder(store, CIPHER, true);
+        val state = getState();
+        val encoded = transcoder.encode(state);
+        assertEquals(state, transcoder.decode(encoded));
+        assertTrue(encoded.length < new EncryptedTranscoder(CIPHER).encode(state).length);
+    }
+
+    @Test
+    public void verifyRemovedStateCannotBeDecoded() throws Exception {
+        val store = new InMemoryWebflowStateStore(100, Duration.ofMinutes(1));
+        val transcoder = new WebflowStateStoreTranscoder(store, CIPHER, false);
+        val encoded = transcoder.encode(getState());
+        transcoder.remove(encoded);
+        assertThrows(IOException.class, () -> transcoder.decode(encoded));
+    }
+
+    @Test
+    public void verifyForgedReferenceIsRejected() throws Exception {
+        val store = new InMemoryWebflowStateStore(100, Duration.ofMinutes(1));
+        val transcoder = new WebflowStateStoreTranscoder(store, CIPHER, false);
+        val encoded = transcoder.encode(getState());
+        encoded[encoded.length / 2] ^= 1;
+        assertThrows(Exception.class, () -> transcoder.decode(encoded));
+    }
+}
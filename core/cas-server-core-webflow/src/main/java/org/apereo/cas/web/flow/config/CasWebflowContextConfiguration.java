@@ -1,6 +1,7 @@
 package org.apereo.cas.web.flow.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.throttle.AuthenticationThrottlingExecutionPlan;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -15,7 +16,9 @@ import org.apereo.cas.web.flow.configurer.DefaultLoginWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.DefaultLogoutWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.GroovyWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.plan.DefaultCasWebflowExecutionPlan;
+import org.apereo.cas.web.flow.executor.InMemoryWebflowStateStore;
 import org.apereo.cas.web.flow.executor.WebflowExecutorFactory;
+import org.apereo.cas.web.flow.executor.WebflowStateStore;
 
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
@@ -228,12 +231,20 @@ public class CasWebflowContextConfiguration {
         return builder.build();
     }
 
+    @ConditionalOnMissingBean(name = "webflowStateStore")
+    @Bean
+    public WebflowStateStore webflowStateStore() {
+        val stateStore = casProperties.getWebflow().getSession().getStateStore();
+        return new InMemoryWebflowStateStore(stateStore.getMaximumSize(), Beans.newDuration(stateStore.getTimeout()));
+    }
+
     @RefreshScope
     @Bean
     @Lazy(false)
     public FlowExecutor logoutFlowExecutor() {
         val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
-            logoutFlowRegistry(), this.webflowCipherExecutor.getIfAvailable(), FLOW_EXECUTION_LISTENERS);
+            logoutFlowRegistry(), this.webflowCipherExecutor.getIfAvailable(), FLOW_EXECUTION_LISTENERS,
+            webflowStateStore());
         return factory.build();
     }
 
@@ -243,7 +254,7 @@ public class CasWebflowContextConfiguration {
     public FlowExecutor loginFlowExecutor() {
         val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
             loginFlowRegistry(), this.webflowCipherExecutor.getIfAvailable(),
-            FLOW_EXECUTION_LISTENERS);
+            FLOW_EXECUTION_LISTENERS, webflowStateStore());
 
         return factory.build();
     }
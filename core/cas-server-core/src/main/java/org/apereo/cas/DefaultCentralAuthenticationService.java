@@ -55,6 +55,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -73,8 +74,6 @@ import java.util.List;
 public class DefaultCentralAuthenticationService extends AbstractCentralAuthenticationService {
     private static final long serialVersionUID = -8943828074939533986L;
 
-    private final transient Object serviceTicketValidationLock = new Object();
-
     public DefaultCentralAuthenticationService(final ApplicationEventPublisher applicationEventPublisher,
                                                final TicketRegistry ticketRegistry,
                                                final ServicesManager servicesManager,
@@ -142,8 +141,10 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
         AuthenticationCredentialsThreadLocalBinder.bindCurrent(latestAuthentication);
         val principal = latestAuthentication.getPrincipal();
         val factory = (ServiceTicketFactory) this.ticketFactory.get(ServiceTicket.class);
+        val trackedServiceTickets = new HashSet<String>(ticketGrantingTicket.getServices().keySet());
         val serviceTicket = factory.create(ticketGrantingTicket, selectedService, credentialProvided, ServiceTicket.class);
-        this.ticketRegistry.updateTicket(ticketGrantingTicket);
+        trackedServiceTickets.removeAll(ticketGrantingTicket.getServices().keySet());
+        this.ticketRegistry.updateTicketGrantingTicket(ticketGrantingTicket, serviceTicket.getId(), trackedServiceTickets);
         this.ticketRegistry.addTicket(serviceTicket);
 
         LOGGER.info("Granted service ticket [{}] for service [{}] and principal [{}]",
@@ -179,9 +180,11 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
 
         val principal = authentication.getPrincipal();
         val factory = (ProxyTicketFactory) this.ticketFactory.get(ProxyTicket.class);
+        val trackedServiceTickets = new HashSet<String>(proxyGrantingTicketObject.getServices().keySet());
         val proxyTicket = factory.create(proxyGrantingTicketObject, service, ProxyTicket.class);
+        trackedServiceTickets.removeAll(proxyGrantingTicketObject.getServices().keySet());
 
-        this.ticketRegistry.updateTicket(proxyGrantingTicketObject);
+        this.ticketRegistry.updateTicketGrantingTicket(proxyGrantingTicketObject, proxyTicket.getId(), trackedServiceTickets);
         this.ticketRegistry.addTicket(proxyTicket);
 
         LOGGER.info("Granted proxy ticket [{}] for service [{}] for user [{}]",
@@ -248,90 +251,73 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
             throw new InvalidTicketException(serviceTicketId);
         }
 
-        val serviceTicket = this.ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class);
+        val resolvedService = resolveServiceFromAuthenticationRequest(service);
+        val serviceTicket = this.ticketRegistry.consumeTicket(serviceTicketId, ServiceTicket.class, ticket -> {
+            if (ticket.isExpired()) {
+                LOGGER.info("ServiceTicket [{}] has expired.", serviceTicketId);
+                throw new InvalidTicketException(serviceTicketId);
+            }
+            val ticketService = resolveServiceFromAuthenticationRequest(ticket.getService());
+            LOGGER.debug("Resolved service [{}] from the authentication request with service [{}] linked to service ticket [{}]",
+                resolvedService, ticketService, ticket.getId());
+            if (!this.serviceMatchingStrategy.matches(ticketService, resolvedService)) {
+                LOGGER.error("Service ticket [{}] with service [{}] does not match supplied service [{}]",
+                    serviceTicketId, ticket.getService().getId(), resolvedService.getId());
+                throw new UnrecognizableServiceForServiceTicketValidationException(ticketService);
+            }
+            TicketState.class.cast(ticket).update();
+        });
 
         if (serviceTicket == null) {
             LOGGER.warn("Service ticket [{}] does not exist.", serviceTicketId);
             throw new InvalidTicketException(serviceTicketId);
         }
 
-        try {
-            val selectedService = resolveServiceFromAuthenticationRequest(serviceTicket.getService());
-            val resolvedService = resolveServiceFromAuthenticationRequest(service);
-            LOGGER.debug("Resolved service [{}] from the authentication request with service [{}] linked to service ticket [{}]",
-                resolvedService, selectedService, serviceTicket.getId());
-            /*
-             * Synchronization on ticket object in case of cache based registry doesn't serialize
-             * access to critical section. The reason is that cache pulls serialized data and
-             * builds new object, most likely for each pull. Is this synchronization needed here?
-             */
-            synchronized (this.serviceTicketValidationLock) {
-                if (serviceTicket.isExpired()) {
-                    LOGGER.info("ServiceTicket [{}] has expired.", serviceTicketId);
-                    throw new InvalidTicketException(serviceTicketId);
-                }
-
-                if (!this.serviceMatchingStrategy.matches(selectedService, resolvedService)) {
-                    LOGGER.error("Service ticket [{}] with service [{}] does not match supplied service [{}]",
-                        serviceTicketId, serviceTicket.getService().getId(), resolvedService.getId());
-                    throw new UnrecognizableServiceForServiceTicketValidationException(selectedService);
-                }
-                val ticketState = TicketState.class.cast(serviceTicket);
-                ticketState.update();
-            }
+        val selectedService = resolveServiceFromAuthenticationRequest(serviceTicket.getService());
+        val registeredService = this.servicesManager.findServiceBy(selectedService);
+        LOGGER.trace("Located registered service definition [{}] from [{}] to handle validation request", registeredService, selectedService);
+        RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(selectedService, registeredService);
 
+        val root = serviceTicket.getTicketGrantingTicket().getRoot();
+        val authentication = getAuthenticationSatisfiedByPolicy(root.getAuthentication(),
+            new ServiceContext(selectedService, registeredService));
+        val principal = authentication.getPrincipal();
 
-            val registeredService = this.servicesManager.findServiceBy(selectedService);
-            LOGGER.trace("Located registered service definition [{}] from [{}] to handle validation request", registeredService, selectedService);
-            RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(selectedService, registeredService);
-
-            val root = serviceTicket.getTicketGrantingTicket().getRoot();
-            val authentication = getAuthenticationSatisfiedByPolicy(root.getAuthentication(),
-                new ServiceContext(selectedService, registeredService));
-            val principal = authentication.getPrincipal();
-
-            val attributePolicy = registeredService.getAttributeReleasePolicy();
-            LOGGER.debug("Attribute policy [{}] is associated with service [{}]", attributePolicy, registeredService);
-
-            val attributesToRelease = attributePolicy != null
-                ? attributePolicy.getAttributes(principal, selectedService, registeredService)
-                : new HashMap<String, List<Object>>();
-
-            LOGGER.debug("Calculated attributes for release per the release policy are [{}]",
-                attributesToRelease.keySet());
-
-            val principalId = registeredService.getUsernameAttributeProvider()
-                .resolveUsername(principal, selectedService, registeredService);
-            val builder = DefaultAuthenticationBuilder.of(
-                    principal,
-                    this.principalFactory,
-                    attributesToRelease,
-                    selectedService,
-                    registeredService,
-                    authentication);
-            LOGGER.debug("Principal determined for release to [{}] is [{}]", registeredService.getServiceId(), principalId);
-
-            val finalAuthentication = builder.build();
-
-            enforceRegisteredServiceAccess(finalAuthentication, selectedService, registeredService);
-
-            AuthenticationCredentialsThreadLocalBinder.bindCurrent(finalAuthentication);
-
-            val assertion = new DefaultAssertionBuilder(finalAuthentication)
-                .with(selectedService)
-                .with(serviceTicket.getTicketGrantingTicket().getChainedAuthentications())
-                .with(serviceTicket.isFromNewLogin())
-                .build();
-
-            doPublishEvent(new CasServiceTicketValidatedEvent(this, serviceTicket, assertion));
-            return assertion;
-        } finally {
-            if (serviceTicket.isExpired()) {
-                deleteTicket(serviceTicketId);
-            } else {
-                this.ticketRegistry.updateTicket(serviceTicket);
-            }
-        }
+        val attributePolicy = registeredService.getAttributeReleasePolicy();
+        LOGGER.debug("Attribute policy [{}] is associated with service [{}]", attributePolicy, registeredService);
+
+        val attributesToRelease = attributePolicy != null
+            ? attributePolicy.getAttributes(principal, selectedService, registeredService)
+            : new HashMap<String, List<Object>>();
+
+        LOGGER.debug("Calculated attributes for release per the release policy are [{}]",
+            attributesToRelease.keySet());
+
+        val principalId = registeredService.getUsernameAttributeProvider()
+            .resolveUsername(principal, selectedService, registeredService);
+        val builder = DefaultAuthenticationBuilder.of(
+                principal,
+                this.principalFactory,
+                attributesToRelease,
+                selectedService,
+                registeredService,
+                authentication);
+        LOGGER.debug("Principal determined for release to [{}] is [{}]", registeredService.getServiceId(), principalId);
+
+        val finalAuthentication = builder.build();
+
+        enforceRegisteredServiceAccess(finalAuthentication, selectedService, registeredService);
+
+        AuthenticationCredentialsThreadLocalBinder.bindCurrent(finalAuthentication);
+
+        val assertion = new DefaultAssertionBuilder(finalAuthentication)
+            .with(selectedService)
+            .with(serviceTicket.getTicketGrantingTicket().getChainedAuthentications())
+            .with(serviceTicket.isFromNewLogin())
+            .build();
+
+        doPublishEvent(new CasServiceTicketValidatedEvent(this, serviceTicket, assertion));
+        return assertion;
     }
 
     @Audit(
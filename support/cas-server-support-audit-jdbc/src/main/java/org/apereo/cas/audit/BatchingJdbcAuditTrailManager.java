@@ -0,0 +1,117 @@
+package org.apereo.cas.audit;
+
+import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.audit.support.JdbcAuditTrailManager;
+import org.apereo.inspektr.common.Cleanable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This is {@link BatchingJdbcAuditTrailManager} that saves audit records
+ * which are recorded asynchronously using JDBC batch inserts.
+ * Audit records that are recorded synchronously, as well as queries and clean-up operations
+ * are delegated to the underlying {@link JdbcAuditTrailManager} which owns the table layout.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class BatchingJdbcAuditTrailManager extends AbstractAuditTrailManager implements Cleanable {
+    private static final String INSERT_SQL_TEMPLATE = "INSERT INTO %s (AUD_USER, AUD_CLIENT_IP, AUD_SERVER_IP, "
+        + "AUD_RESOURCE, AUD_ACTION, APPLIC_CD, AUD_DATE) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int COLUMN_INDEX_USER = 1;
+
+    private static final int COLUMN_INDEX_CLIENT_IP = 2;
+
+    private static final int COLUMN_INDEX_SERVER_IP = 3;
+
+    private static final int COLUMN_INDEX_RESOURCE = 4;
+
+    private static final int COLUMN_INDEX_ACTION = 5;
+
+    private static final int COLUMN_INDEX_APPLICATION_CODE = 6;
+
+    private static final int COLUMN_INDEX_DATE = 7;
+
+    private final JdbcAuditTrailManager delegate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String insertSql;
+
+    private final int columnLength;
+
+    public BatchingJdbcAuditTrailManager(final JdbcAuditTrailManager delegate,
+                                         final TransactionTemplate transactionTemplate,
+                                         final DataSource dataSource,
+                                         final String tableName,
+                                         final int columnLength,
+                                         final boolean asynchronous) {
+        super(asynchronous);
+        this.delegate = delegate;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.insertSql = String.format(INSERT_SQL_TEMPLATE, tableName);
+        this.columnLength = columnLength;
+    }
+
+    @Override
+    protected void saveAuditRecord(final AuditActionContext audit) {
+        delegate.record(audit);
+    }
+
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        LOGGER.trace("Inserting [{}] audit records", audits.size());
+        transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(insertSql, audits, audits.size(), (ps, audit) -> {
+            ps.setString(COLUMN_INDEX_USER, trimColumnValue(audit.getPrincipal()));
+            ps.setString(COLUMN_INDEX_CLIENT_IP, trimColumnValue(audit.getClientIpAddress()));
+            ps.setString(COLUMN_INDEX_SERVER_IP, trimColumnValue(audit.getServerIpAddress()));
+            ps.setString(COLUMN_INDEX_RESOURCE, trimColumnValue(audit.getResourceOperatedUpon()));
+            ps.setString(COLUMN_INDEX_ACTION, trimColumnValue(audit.getActionPerformed()));
+            ps.setString(COLUMN_INDEX_APPLICATION_CODE, trimColumnValue(audit.getApplicationCode()));
+            ps.setTimestamp(COLUMN_INDEX_DATE, new Timestamp(audit.getWhenActionWasPerformed().getTime()));
+        }));
+    }
+
+    @Override
+    public Set<? extends AuditActionContext> getAuditRecordsSince(final LocalDate localDate) {
+        return delegate.getAuditRecordsSince(localDate);
+    }
+
+    @Override
+    public void removeAll() {
+        delegate.removeAll();
+    }
+
+    @Override
+    public void clean() {
+        delegate.clean();
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        delegate.destroy();
+    }
+
+    private String trimColumnValue(final String value) {
+        if (columnLength <= 0) {
+            return value;
+        }
+        return StringUtils.substring(value, 0, columnLength);
+    }
+}
@@ -7,7 +7,10 @@ import org.apereo.cas.config.CasCoreUtilConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 
 import lombok.Getter;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
@@ -15,6 +18,11 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 
+import java.time.LocalDate;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * This is {@link CasSupportJdbcAuditConfigurationTests}.
  *
@@ -35,4 +43,23 @@ public class CasSupportJdbcAuditConfigurationTests extends BaseAuditConfiguratio
     @Autowired
     @Qualifier("jdbcAuditTrailManager")
     private AuditTrailManager auditTrailManager;
+
+    @Test
+    public void verifyAuditRecordsSavedInBatches() throws Exception {
+        val manager = (BatchingJdbcAuditTrailManager) auditTrailManager;
+        manager.setAsynchronous(true);
+        try {
+            for (var i = 0; i < 5; i++) {
+                manager.record(new AuditActionContext("casuser" + i, "TEST", "TEST",
+                    "CAS", new Date(), "1.2.3.4", "1.2.3.4"));
+            }
+            val since = LocalDate.now().minusDays(2);
+            for (var i = 0; i < 50 && manager.getAuditRecordsSince(since).size() < 5; i++) {
+                Thread.sleep(100);
+            }
+            assertEquals(5, manager.getAuditRecordsSince(since).size());
+        } finally {
+            manager.setAsynchronous(false);
+        }
+    }
 }
@@ -8,10 +8,13 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.audit.AuditActionContext;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -48,6 +51,22 @@ public class RedisAuditTrailManager extends AbstractAuditTrailManager {
         }
     }
 
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        try {
+            this.redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(final RedisOperations<K, V> operations) {
+                    val ops = (RedisOperations<String, AuditActionContext>) operations;
+                    audits.forEach(audit -> ops.opsForValue().set(getAuditRedisKey(audit), audit));
+                    return null;
+                }
+            });
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
     @Override
     public Set<? extends AuditActionContext> getAuditRecordsSince(final LocalDate localDate) {
         try {
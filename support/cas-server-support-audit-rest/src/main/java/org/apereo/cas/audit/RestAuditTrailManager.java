@@ -18,7 +18,9 @@ import org.apereo.inspektr.audit.AuditActionContext;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link RestAuditTrailManager}.
@@ -52,6 +54,24 @@ public class RestAuditTrailManager extends AbstractAuditTrailManager {
         }
     }
 
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        if (!properties.isBatchRequests()) {
+            super.saveAuditRecords(audits);
+            return;
+        }
+        HttpResponse response = null;
+        try {
+            val auditJson = audits.stream().map(serializer::toString).collect(Collectors.joining(",", "[", "]"));
+            LOGGER.debug("Sending [{}] audit action contexts to REST endpoint [{}]", audits.size(), properties.getUrl());
+            response = HttpUtils.executePost(properties.getUrl(), properties.getBasicAuthUsername(), properties.getBasicAuthPassword(), auditJson);
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        } finally {
+            HttpUtils.close(response);
+        }
+    }
+
     @Override
     public void removeAll() {
     }
@@ -7,23 +7,42 @@ import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.google.common.util.concurrent.MoreExecutors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.DisposableBean;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link CassandraTicketRegistry}.
+ * <p>
+ * Statements are prepared once per ticket definition and executed asynchronously,
+ * while the number of requests in flight against the cluster is bounded.
+ * Tickets are written with a time-to-live that is derived from their expiration policy,
+ * allowing Cassandra to remove tickets on its own.
  *
  * @author Misagh Moayyed
  * @author doomviking
@@ -36,6 +55,8 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
     private final CassandraTicketRegistryProperties properties;
     private final Session cassandraSession;
     private final TicketSerializationManager ticketSerializationManager;
+    private final Map<String, TicketStatements> preparedStatements = new ConcurrentHashMap<>();
+    private final Semaphore inFlightRequests;
 
     public CassandraTicketRegistry(final TicketCatalog ticketCatalog,
                                    final CassandraSessionFactory cassandraSessionFactory,
@@ -45,6 +66,7 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         this.properties = properties;
         this.cassandraSession = cassandraSessionFactory.getSession();
         this.ticketSerializationManager = ticketSerializationManager;
+        this.inFlightRequests = new Semaphore(Math.max(1, properties.getMaxInFlightRequests()));
 
         createTablesIfNecessary();
     }
@@ -64,13 +86,14 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
             return null;
         }
 
-        val holder = findCassandraTicketBy(definition, encodedTicketId);
-        if (holder == null || holder.isEmpty()) {
+        val select = getStatements(definition).getSelect().bind().setString("id", encodedTicketId);
+        val row = execute(select).one();
+        if (row == null) {
             LOGGER.debug("Ticket [{}] could not be found in Cassandra", encodedTicketId);
             return null;
         }
 
-        val deserialized = deserialize(holder.iterator().next());
+        val deserialized = deserialize(toTicketHolder(row));
         val result = decodeTicket(deserialized);
         if (result != null && predicate.test(result)) {
             return result;
@@ -80,7 +103,6 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         return null;
     }
 
-
     @Override
     public void addTicket(final Ticket ticket) {
         try {
@@ -90,6 +112,28 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         }
     }
 
+    @Override
+    public void addTickets(final Collection<? extends Ticket> tickets) {
+        val futures = new LinkedHashMap<Ticket, ResultSetFuture>(tickets.size());
+        tickets.forEach(ticket -> {
+            try {
+                val statement = buildAddStatement(ticket, true);
+                if (statement != null) {
+                    futures.put(ticket, executeAsync(statement));
+                }
+            } catch (final Exception e) {
+                LOGGER.error(String.format("Failed adding %s", ticket), e);
+            }
+        });
+        futures.forEach((ticket, future) -> {
+            try {
+                future.getUninterruptibly();
+            } catch (final Exception e) {
+                LOGGER.error(String.format("Failed adding %s", ticket), e);
+            }
+        });
+    }
+
     @Override
     public Ticket updateTicket(final Ticket ticket) {
         addTicketToCassandra(ticket, false);
@@ -98,19 +142,15 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
 
     @Override
     public Collection<Ticket> getTickets() {
-        return this.ticketCatalog.findAll()
+        val futures = this.ticketCatalog.findAll()
             .stream()
-            .map(definition -> {
-                val results = findCassandraTicketBy(definition);
-                return results
-                    .stream()
-                    .map(holder -> {
-                        val deserialized = deserialize(holder);
-                        return decodeTicket(deserialized);
-                    })
-                    .collect(Collectors.toSet());
-            })
-            .flatMap(Set::stream)
+            .map(this::findCassandraTicketsBy)
+            .collect(Collectors.toList());
+        return futures
+            .stream()
+            .map(ResultSetFuture::getUninterruptibly)
+            .flatMap(results -> results.all().stream())
+            .map(row -> decodeTicket(deserialize(toTicketHolder(row))))
             .filter(Objects::nonNull)
             .collect(Collectors.toSet());
     }
@@ -125,12 +165,9 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
                 LOGGER.debug("Ticket definition [{}] could not be found in the ticket catalog", ticketId);
                 return false;
             }
-            val delete = QueryBuilder.delete()
-                .from(this.properties.getKeyspace(), definition.getProperties().getStorageName())
-                .where(QueryBuilder.eq("id", ticketId))
-                .setConsistencyLevel(getConsistencyLevel());
-            LOGGER.trace("Attempting to delete ticket via query [{}]", delete);
-            cassandraSession.execute(delete);
+            val delete = getStatements(definition).getDelete().bind().setString("id", ticketId);
+            LOGGER.trace("Attempting to delete ticket [{}] from [{}]", ticketId, definition.getProperties().getStorageName());
+            execute(delete);
             return true;
         } catch (final Exception e) {
             LOGGER.error("Failed deleting [{}]: [{}]", ticketId, e);
@@ -138,14 +175,57 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         return false;
     }
 
+    /**
+     * Delete tickets, typically those issued by a ticket-granting ticket.
+     * Each ticket is kept in its own partition, and is removed via an asynchronous
+     * single-partition delete rather than a multi-partition batch. The number of deletes
+     * in flight is bounded in the same way as all other requests.
+     *
+     * @param ticketIds the ticket ids
+     * @return the count of tickets that were removed
+     */
+    @Override
+    protected int deleteSingleTickets(final Collection<String> ticketIds) {
+        val futures = new LinkedHashMap<String, ResultSetFuture>(ticketIds.size());
+        ticketIds.forEach(ticketIdToDelete -> {
+            val definition = this.ticketCatalog.find(ticketIdToDelete);
+            if (definition == null) {
+                LOGGER.debug("Ticket definition [{}] could not be found in the ticket catalog", ticketIdToDelete);
+                return;
+            }
+            try {
+                val delete = getStatements(definition).getDelete().bind().setString("id", encodeTicketId(ticketIdToDelete));
+                futures.put(ticketIdToDelete, executeAsync(delete));
+            } catch (final DriverException e) {
+                LOGGER.error("Failed deleting [{}]: [{}]", ticketIdToDelete, e);
+            }
+        });
+        LOGGER.trace("Attempting to delete [{}] ticket(s)", futures.size());
+        return (int) futures.entrySet()
+            .stream()
+            .filter(entry -> {
+                try {
+                    entry.getValue().getUninterruptibly();
+                    return true;
+                } catch (final DriverException e) {
+                    LOGGER.error("Failed deleting [{}]: [{}]", entry.getKey(), e);
+                }
+                return false;
+            })
+            .count();
+    }
+
     @Override
     public long deleteAll() {
-        this.ticketCatalog.findAll()
-            .forEach(definition -> {
+        final List<ResultSetFuture> futures = this.ticketCatalog.findAll()
+            .stream()
+            .map(definition -> {
                 val delete = QueryBuilder.truncate(this.properties.getKeyspace(), definition.getProperties().getStorageName());
                 LOGGER.trace("Attempting to delete all via query [{}]", delete);
-                cassandraSession.execute(delete);
-            });
+                return executeAsync(delete);
+            })
+            .collect(Collectors.toList());
+        futures.forEach(ResultSetFuture::getUninterruptibly);
         return -1;
     }
 
@@ -164,35 +244,74 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
 
     private static int getTimeToLive(final Ticket ticket) {
         val expirationPolicy = ticket.getExpirationPolicy();
-        val ttl = Math.toIntExact(expirationPolicy.getTimeToLive());
-        if (ttl >= CassandraSessionFactory.MAX_TTL) {
+        val ttl = expirationPolicy.getTimeToLive();
+        if (ttl == null || ttl >= CassandraSessionFactory.MAX_TTL) {
             return CassandraSessionFactory.MAX_TTL;
         }
-        return ttl;
+        return (int) Math.max(1, ttl);
     }
-    private Collection<CassandraTicketHolder> findCassandraTicketBy(final TicketDefinition definition) {
-        return findCassandraTicketBy(definition, null);
+
+    private static CassandraTicketHolder toTicketHolder(final Row row) {
+        val id = row.get("id", String.class);
+        val data = row.get("data", String.class);
+        val type = row.get("type", String.class);
+        return new CassandraTicketHolder(id, data, type);
     }
-    
-    private Collection<CassandraTicketHolder> findCassandraTicketBy(final TicketDefinition definition, final String ticketId) {
+
+    private ResultSetFuture findCassandraTicketsBy(final TicketDefinition definition) {
         val select = QueryBuilder.select().all()
-            .from(this.properties.getKeyspace(), definition.getProperties().getStorageName());
-        if (StringUtils.isNotBlank(ticketId)) {
-            select.where(QueryBuilder.eq("id", ticketId))
-                .limit(1);
+            .from(this.properties.getKeyspace(), definition.getProperties().getStorageName())
+            .setConsistencyLevel(getConsistencyLevel());
+        LOGGER.trace("Attempting to locate tickets via query [{}]", select);
+        return executeAsync(select);
+    }
+
+    private TicketStatements getStatements(final TicketDefinition definition) {
+        return preparedStatements.computeIfAbsent(definition.getProperties().getStorageName(), this::prepareStatements);
+    }
+
+    private TicketStatements prepareStatements(final String tableName) {
+        val keyspace = this.properties.getKeyspace();
+        LOGGER.trace("Preparing statements for Cassandra table [{}.{}]", keyspace, tableName);
+        val select = prepare(QueryBuilder.select().all()
+            .from(keyspace, tableName)
+            .where(QueryBuilder.eq("id", QueryBuilder.bindMarker("id")))
+            .limit(1));
+        val insert = prepare(QueryBuilder.insertInto(keyspace, tableName)
+            .value("id", QueryBuilder.bindMarker("id"))
+            .value("data", QueryBuilder.bindMarker("data"))
+            .value("type", QueryBuilder.bindMarker("type"))
+            .using(QueryBuilder.ttl(QueryBuilder.bindMarker("ttl"))));
+        val update = prepare(QueryBuilder.update(keyspace, tableName)
+            .with(QueryBuilder.set("data", QueryBuilder.bindMarker("data")))
+            .where(QueryBuilder.eq("id", QueryBuilder.bindMarker("id")))
+            .and(QueryBuilder.eq("type", QueryBuilder.bindMarker("type")))
+            .using(QueryBuilder.ttl(QueryBuilder.bindMarker("ttl"))));
+        val delete = prepare(QueryBuilder.delete()
+            .from(keyspace, tableName)
+            .where(QueryBuilder.eq("id", QueryBuilder.bindMarker("id"))));
+        return new TicketStatements(select, insert, update, delete);
+    }
+
+    private PreparedStatement prepare(final RegularStatement statement) {
+        LOGGER.trace("Preparing statement [{}]", statement);
+        return this.cassandraSession.prepare(statement).setConsistencyLevel(getConsistencyLevel());
+    }
+
+    private ResultSet execute(final Statement statement) {
+        return executeAsync(statement).getUninterruptibly();
+    }
+
+    private ResultSetFuture executeAsync(final Statement statement) {
+        inFlightRequests.acquireUninterruptibly();
+        try {
+            val future = this.cassandraSession.executeAsync(statement);
+            future.addListener(inFlightRequests::release, MoreExecutors.directExecutor());
+            return future;
+        } catch (final DriverException e) {
+            inFlightRequests.release();
+            throw e;
         }
-        select.setConsistencyLevel(getConsistencyLevel());
-        LOGGER.trace("Attempting to locate ticket via query [{}]", select);
-        val results = cassandraSession.execute(select);
-        return results.all()
-            .stream()
-            .map(row -> {
-                val id = row.get("id", String.class);
-                val data = row.get("data", String.class);
-                val type = row.get("type", String.class);
-                return new CassandraTicketHolder(id, data, type);
-            })
-            .collect(Collectors.toList());
     }
 
     private void createTablesIfNecessary() {
@@ -239,33 +358,44 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
     }
 
     private void addTicketToCassandra(final Ticket ticket, final boolean inserting) {
+        val statement = buildAddStatement(ticket, inserting);
+        if (statement != null) {
+            execute(statement);
+            LOGGER.debug("Added ticket [{}]", ticket.getId());
+        }
+    }
+
+    private BoundStatement buildAddStatement(final Ticket ticket, final boolean inserting) {
         LOGGER.debug("Adding ticket [{}]", ticket.getId());
         val metadata = this.ticketCatalog.find(ticket);
         if (metadata == null) {
             LOGGER.error("Could not locate ticket definition in the catalog for ticket [{}]", ticket.getId());
-            return;
+            return null;
         }
         LOGGER.trace("Located ticket definition [{}] in the ticket catalog", metadata);
         val encTicket = encodeTicket(ticket);
         val data = ticketSerializationManager.serializeTicket(encTicket);
-        val ttl = getTimeToLive(ticket);
-        var insert = (Statement) null;
-        if (inserting) {
-            insert = QueryBuilder.insertInto(this.properties.getKeyspace(), metadata.getProperties().getStorageName())
-                .value("id", encTicket.getId())
-                .value("data", data)
-                .value("type", encTicket.getClass().getName())
-                .using(QueryBuilder.ttl(ttl))
-                .setConsistencyLevel(getConsistencyLevel());
-        } else {
-            insert = QueryBuilder.update(this.properties.getKeyspace(), metadata.getProperties().getStorageName())
-                .with(QueryBuilder.set("data", data))
-                .where(QueryBuilder.eq("id", encTicket.getId())).and(QueryBuilder.eq("type", encTicket.getClass().getName()))
-                .using(QueryBuilder.ttl(ttl))
-                .setConsistencyLevel(getConsistencyLevel());
-        }
-        LOGGER.trace("Attempting to locate ticket via query [{}]", insert);
-        cassandraSession.execute(insert);
-        LOGGER.debug("Added ticket [{}]", encTicket.getId());
+        val statements = getStatements(metadata);
+        val prepared = inserting ? statements.getInsert() : statements.getUpdate();
+        return prepared.bind()
+            .setString("id", encTicket.getId())
+            .setString("data", data)
+            .setString("type", encTicket.getClass().getName())
+            .setInt("ttl", getTimeToLive(ticket));
+    }
+
+    /**
+     * Statements prepared for a ticket definition.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class TicketStatements {
+        private final PreparedStatement select;
+
+        private final PreparedStatement insert;
+
+        private final PreparedStatement update;
+
+        private final PreparedStatement delete;
     }
 }
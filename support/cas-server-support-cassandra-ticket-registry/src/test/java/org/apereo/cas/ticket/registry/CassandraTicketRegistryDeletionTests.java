@@ -0,0 +1,87 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.cassandra.CassandraSessionFactory;
+import org.apereo.cas.configuration.model.support.cassandra.ticketregistry.CassandraTicketRegistryProperties;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CassandraTicketRegistryDeletionTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class CassandraTicketRegistryDeletionTests {
+    private Session session;
+
+    private CassandraTicketRegistry ticketRegistry;
+
+    private static ResultSetFuture completedFuture() {
+        val future = mock(ResultSetFuture.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(future).addListener(any(), any());
+        return future;
+    }
+
+    @BeforeEach
+    public void initialize() {
+        session = mock(Session.class);
+        when(session.prepare(any(RegularStatement.class))).thenAnswer(invocation -> mock(PreparedStatement.class, RETURNS_DEEP_STUBS));
+
+        val sessionFactory = mock(CassandraSessionFactory.class);
+        when(sessionFactory.getSession()).thenReturn(session);
+
+        val definition = mock(TicketDefinition.class, RETURNS_DEEP_STUBS);
+        when(definition.getProperties().getStorageName()).thenReturn("serviceTicketsTable");
+        val ticketCatalog = mock(TicketCatalog.class);
+        when(ticketCatalog.find(anyString())).thenReturn(definition);
+
+        val properties = new CassandraTicketRegistryProperties();
+        properties.setMaxInFlightRequests(1);
+        ticketRegistry = new CassandraTicketRegistry(ticketCatalog, sessionFactory, properties, mock(TicketSerializationManager.class));
+    }
+
+    @Test
+    public void verifyTicketsDeletedWithoutMultiPartitionBatch() {
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> completedFuture());
+        assertEquals(3, ticketRegistry.deleteSingleTickets(List.of("ST-1", "ST-2", "ST-3")));
+        verify(session, times(3)).executeAsync(any(Statement.class));
+        verify(session, never()).executeAsync(any(BatchStatement.class));
+    }
+
+    @Test
+    public void verifyFailedDeletesAreNotCounted() {
+        val failed = completedFuture();
+        when(failed.getUninterruptibly()).thenThrow(new NoHostAvailableException(Map.of()));
+        when(session.executeAsync(any(Statement.class)))
+            .thenAnswer(invocation -> completedFuture())
+            .thenReturn(failed)
+            .thenThrow(new NoHostAvailableException(Map.of()))
+            .thenAnswer(invocation -> completedFuture());
+        val removed = assertTimeoutPreemptively(Duration.ofSeconds(5),
+            () -> ticketRegistry.deleteSingleTickets(List.of("ST-1", "ST-2", "ST-3", "ST-4")));
+        assertEquals(2, removed);
+    }
+}
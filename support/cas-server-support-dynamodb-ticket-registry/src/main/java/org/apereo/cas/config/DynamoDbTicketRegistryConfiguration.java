@@ -1,15 +1,22 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.dynamodb.AmazonDynamoDbClientFactory;
+import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.DynamoDbTicketRegistry;
 import org.apereo.cas.ticket.registry.DynamoDbTicketRegistryFacilitator;
+import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.support.LockingStrategy;
 import org.apereo.cas.util.CoreTicketUtils;
 
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -18,6 +25,9 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
 
 /**
  * This is {@link DynamoDbTicketRegistryConfiguration}.
@@ -27,6 +37,7 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration("dynamoDbTicketRegistryConfiguration")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
+@Slf4j
 public class DynamoDbTicketRegistryConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
@@ -46,9 +57,13 @@ public class DynamoDbTicketRegistryConfiguration {
     @Bean
     public DynamoDbTicketRegistryFacilitator dynamoDbTicketRegistryFacilitator(@Qualifier("ticketCatalog") final TicketCatalog ticketCatalog) {
         val db = casProperties.getTicket().getRegistry().getDynamoDb();
-        val f = new DynamoDbTicketRegistryFacilitator(ticketCatalog, db, amazonDynamoDbTicketRegistryClient());
+        val executorService = Executors.newFixedThreadPool(Math.max(1, db.getScanSegments()),
+            new CustomizableThreadFactory("cas-dynamodb-ticket-registry-"));
+        val f = new DynamoDbTicketRegistryFacilitator(ticketCatalog, db, amazonDynamoDbTicketRegistryClient(), executorService);
         if (!db.isPreventTableCreationOnStartup()) {
             f.createTicketTables(db.isDropTablesOnStartup());
+        } else if (db.isTimeToLiveEnabled()) {
+            f.enableTimeToLive();
         }
         return f;
     }
@@ -62,4 +77,30 @@ public class DynamoDbTicketRegistryConfiguration {
         val factory = new AmazonDynamoDbClientFactory();
         return factory.createAmazonDynamoDb(dynamoDbProperties);
     }
+
+    @Autowired
+    @Bean
+    public TicketRegistryCleaner ticketRegistryCleaner(@Qualifier("lockingStrategy") final LockingStrategy lockingStrategy,
+                                                       @Qualifier("logoutManager") final LogoutManager logoutManager,
+                                                       @Qualifier("ticketRegistry") final TicketRegistry ticketRegistry,
+                                                       @Qualifier("dynamoDbTicketRegistryFacilitator")
+                                                       final DynamoDbTicketRegistryFacilitator dynamoDbTicketRegistryFacilitator) {
+        val db = casProperties.getTicket().getRegistry().getDynamoDb();
+        val cleaner = casProperties.getTicket().getRegistry().getCleaner();
+        val timeToLiveEnabled = db.isTimeToLiveEnabled() && dynamoDbTicketRegistryFacilitator.isTimeToLiveEnabled();
+        if (db.isTimeToLiveEnabled() && !timeToLiveEnabled) {
+            LOGGER.warn("Time-to-live is not enabled for all DynamoDb ticket tables; expired tickets are cleaned by CAS instead");
+        }
+        if (cleaner.getSchedule().isEnabled() && !timeToLiveEnabled) {
+            LOGGER.debug("Ticket registry cleaner for DynamoDb is enabled.");
+            val registryCleaner = new DefaultTicketRegistryCleaner(lockingStrategy, logoutManager, ticketRegistry);
+            registryCleaner.setBatchSize(cleaner.getBatchSize());
+            registryCleaner.setMaxCleanDuration(Beans.newDuration(cleaner.getMaxCleanDuration()));
+            return registryCleaner;
+        }
+        LOGGER.debug("Ticket registry cleaner for DynamoDb is not enabled. "
+            + "Expired tickets are not forcefully collected and cleaned by CAS. It is up to DynamoDb to "
+            + "remove tickets based on the time-to-live setting of each table.");
+        return NoOpTicketRegistryCleaner.getInstance();
+    }
 }
@@ -1,6 +1,8 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.extern.slf4j.Slf4j;
@@ -9,9 +11,12 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * This is {@link DynamoDbTicketRegistry}.
+ * Tickets that are added or removed together are written in batches,
+ * and tickets are counted without being fetched.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -37,6 +42,16 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         }
     }
 
+    @Override
+    public void addTickets(final Collection<? extends Ticket> tickets) {
+        try {
+            LOGGER.debug("Adding [{}] tickets", tickets.size());
+            this.dbTableService.put(tickets, this::encodeTicket);
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         val encTicketId = encodeTicketId(ticketId);
@@ -62,6 +77,21 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         return decodeTickets(this.dbTableService.getAll());
     }
 
+    @Override
+    public Stream<? extends Ticket> getTicketsStream() {
+        return decodeTickets(this.dbTableService.stream());
+    }
+
+    @Override
+    public long sessionCount() {
+        return this.dbTableService.count(TicketGrantingTicket.class);
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return this.dbTableService.count(ServiceTicket.class);
+    }
+
     @Override
     public Ticket updateTicket(final Ticket ticket) {
         addTicket(ticket);
@@ -73,4 +103,14 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         val ticketId = encodeTicketId(ticketIdToDelete);
         return this.dbTableService.delete(ticketIdToDelete, ticketId);
     }
+
+    @Override
+    protected int deleteSingleTickets(final Collection<String> ticketIds) {
+        try {
+            return this.dbTableService.delete(ticketIds, this::encodeTicketId);
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return 0;
+    }
 }
@@ -8,36 +8,61 @@ import org.apereo.cas.util.CollectionUtils;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.model.AttributeDefinition;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
 import com.amazonaws.services.dynamodbv2.model.CreateTableRequest;
 import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteRequest;
 import com.amazonaws.services.dynamodbv2.model.DeleteTableRequest;
 import com.amazonaws.services.dynamodbv2.model.DescribeTableRequest;
+import com.amazonaws.services.dynamodbv2.model.DescribeTimeToLiveRequest;
 import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
 import com.amazonaws.services.dynamodbv2.model.KeySchemaElement;
 import com.amazonaws.services.dynamodbv2.model.KeyType;
 import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughput;
 import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
 import com.amazonaws.services.dynamodbv2.model.ScalarAttributeType;
 import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.services.dynamodbv2.model.Select;
+import com.amazonaws.services.dynamodbv2.model.TimeToLiveSpecification;
+import com.amazonaws.services.dynamodbv2.model.TimeToLiveStatus;
+import com.amazonaws.services.dynamodbv2.model.UpdateTimeToLiveRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
 import com.amazonaws.services.dynamodbv2.util.TableUtils;
+import com.google.common.collect.Lists;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.SerializationUtils;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * This is {@link DynamoDbTicketRegistryFacilitator}.
+ * <p>
+ * Tables are read via paginated scans, and are scanned in parallel segments when tickets
+ * are fetched or counted in full. Counting tickets only returns the number of matching items
+ * rather than the items themselves. Tickets that are added or removed together are written
+ * in batches, and expired tickets may be removed by DynamoDb using the time-to-live setting of each table.
+ * The executor service used to scan segments is owned by this component and is shut down when it is destroyed.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -45,10 +70,24 @@ import java.util.stream.Collectors;
 @Slf4j
 @Getter
 @RequiredArgsConstructor
-public class DynamoDbTicketRegistryFacilitator {
+public class DynamoDbTicketRegistryFacilitator implements DisposableBean {
+    private static final int MAX_BATCH_WRITE_ITEMS = 25;
+
+    private static final int MAX_BATCH_WRITE_ATTEMPTS = 10;
+
+    private static final long BATCH_WRITE_RETRY_DELAY = 50;
+
+    private static final int MAX_BATCH_WRITE_BACKOFF_SHIFT = 6;
+
     private final TicketCatalog ticketCatalog;
     private final DynamoDbTicketRegistryProperties dynamoDbProperties;
     private final AmazonDynamoDB amazonDynamoDBClient;
+    private final ExecutorService executorService;
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
 
     private static Ticket deserializeTicket(final Map<String, AttributeValue> returnItem) {
         val bb = returnItem.get(ColumnNames.ENCODED.getColumnName()).getB();
@@ -81,39 +120,78 @@ public class DynamoDbTicketRegistryFacilitator {
         return false;
     }
 
+    /**
+     * Delete the tickets in batches. Tickets that cannot be located in the catalog are skipped.
+     *
+     * @param ticketIds       the ticket ids
+     * @param ticketIdEncoder the function that encodes ticket ids
+     * @return the number of tickets submitted for removal
+     */
+    public int delete(final Collection<String> ticketIds, final UnaryOperator<String> ticketIdEncoder) {
+        val requests = ticketIds.stream()
+            .map(ticketId -> buildDeleteRequest(ticketId, ticketIdEncoder))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        batchWrite(requests);
+        return requests.size();
+    }
+
     /**
      * Delete all.
      *
      * @return the int
      */
     public int deleteAll() {
-        val count = new AtomicInteger();
-        val metadata = this.ticketCatalog.findAll();
-        metadata.forEach(r -> {
-            val scan = new ScanRequest(r.getProperties().getStorageName());
-            LOGGER.debug("Submitting scan request [{}] to table [{}]", scan, r.getProperties().getStorageName());
-            count.addAndGet(this.amazonDynamoDBClient.scan(scan).getCount());
-        });
+        val count = getStorageNames(Ticket.class)
+            .mapToLong(tableName -> countItems(tableName, UnaryOperator.identity()))
+            .sum();
         createTicketTables(true);
-        return count.get();
+        return (int) count;
     }
 
     /**
      * Gets all.
+     * Each table is scanned in parallel segments.
      *
      * @return the all
      */
     public Collection<Ticket> getAll() {
-        val tickets = new ArrayList<Ticket>();
-        val metadata = this.ticketCatalog.findAll();
-        metadata.forEach(r -> {
-            val scan = new ScanRequest(r.getProperties().getStorageName());
-            LOGGER.debug("Scanning table with request [{}]", scan);
-            val result = this.amazonDynamoDBClient.scan(scan);
-            LOGGER.debug("Scanned table with result [{}]", scan);
-            tickets.addAll(result.getItems().stream().map(DynamoDbTicketRegistryFacilitator::deserializeTicket).collect(Collectors.toList()));
-        });
-        return tickets;
+        return getStorageNames(Ticket.class)
+            .flatMap(tableName -> scanSegments(tableName, UnaryOperator.identity(),
+                result -> result.getItems().stream().map(DynamoDbTicketRegistryFacilitator::deserializeTicket)))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets all tickets as a stream, fetching a page of items at a time as the stream is consumed.
+     *
+     * @return the stream
+     */
+    public Stream<Ticket> stream() {
+        return getStorageNames(Ticket.class)
+            .flatMap(tableName -> scanPages(new ScanRequest(tableName)))
+            .flatMap(result -> result.getItems().stream())
+            .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            .filter(Objects::nonNull);
+    }
+
+    /**
+     * Count the unexpired tickets of the given type.
+     * Tickets that have expired but are not yet removed by DynamoDb are skipped,
+     * if tickets are stored with an expiration attribute.
+     *
+     * @param type the ticket type
+     * @return the count
+     */
+    public long count(final Class<? extends Ticket> type) {
+        val now = new AttributeValue().withN(Long.toString(Instant.now().getEpochSecond()));
+        return getStorageNames(type)
+            .mapToLong(tableName -> countItems(tableName, request -> request
+                .withFilterExpression("attribute_not_exists(#expiration) OR #expiration > :now")
+                .withExpressionAttributeNames(CollectionUtils.wrap("#expiration", ColumnNames.EXPIRATION.getColumnName()))
+                .withExpressionAttributeValues(CollectionUtils.wrap(":now", now))))
+            .sum();
     }
 
     /**
@@ -154,13 +232,30 @@ public class DynamoDbTicketRegistryFacilitator {
      */
     public void put(final Ticket ticket, final Ticket encodedTicket) {
         val metadata = this.ticketCatalog.find(ticket);
+        if (metadata == null) {
+            LOGGER.warn("No ticket definition could be found in the catalog to match [{}]", encodedTicket.getId());
+            return;
+        }
         val values = buildTableAttributeValuesMapFromTicket(ticket, encodedTicket);
         LOGGER.debug("Adding ticket id [{}] with attribute values [{}]", encodedTicket.getId(), values);
         val putItemRequest = new PutItemRequest(metadata.getProperties().getStorageName(), values);
         LOGGER.debug("Submitting put request [{}] for ticket id [{}]", putItemRequest, encodedTicket.getId());
         val putItemResult = amazonDynamoDBClient.putItem(putItemRequest);
         LOGGER.debug("Ticket added with result [{}]", putItemResult);
-        getAll();
+    }
+
+    /**
+     * Put tickets in batches. Tickets that cannot be located in the catalog are skipped.
+     *
+     * @param tickets       the tickets
+     * @param ticketEncoder the function that encodes tickets
+     */
+    public void put(final Collection<? extends Ticket> tickets, final UnaryOperator<Ticket> ticketEncoder) {
+        val requests = tickets.stream()
+            .map(ticket -> buildPutRequest(ticket, ticketEncoder))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        batchWrite(requests);
     }
 
     /**
@@ -189,9 +284,37 @@ public class DynamoDbTicketRegistryFacilitator {
             LOGGER.debug("Sending request [{}] to obtain table description...", describeTableRequest);
             val tableDescription = amazonDynamoDBClient.describeTable(describeTableRequest).getTable();
             LOGGER.debug("Located newly created table with description: [{}]", tableDescription);
+            if (dynamoDbProperties.isTimeToLiveEnabled()) {
+                enableTimeToLiveForTable(request.getTableName());
+            }
         }));
     }
 
+    /**
+     * Enable time-to-live on all ticket tables, regardless of whether tables are created by CAS.
+     *
+     * @return true if time-to-live is enabled on all ticket tables
+     */
+    public boolean enableTimeToLive() {
+        val failed = this.ticketCatalog.findAll()
+            .stream()
+            .map(metadata -> metadata.getProperties().getStorageName())
+            .filter(tableName -> !enableTimeToLiveForTable(tableName))
+            .count();
+        return failed == 0;
+    }
+
+    /**
+     * Verify that time-to-live is enabled on all ticket tables.
+     *
+     * @return true if time-to-live is enabled on all ticket tables
+     */
+    public boolean isTimeToLiveEnabled() {
+        return this.ticketCatalog.findAll()
+            .stream()
+            .allMatch(metadata -> isTimeToLiveEnabledForTable(metadata.getProperties().getStorageName()));
+    }
+
     /**
      * Build table attribute values from ticket map.
      *
@@ -208,10 +331,160 @@ public class DynamoDbTicketRegistryFacilitator {
         values.put(ColumnNames.TIME_TO_LIVE.getColumnName(), new AttributeValue().withN(Long.toString(ticket.getExpirationPolicy().getTimeToLive())));
         values.put(ColumnNames.TIME_TO_IDLE.getColumnName(), new AttributeValue().withN(Long.toString(ticket.getExpirationPolicy().getTimeToIdle())));
         values.put(ColumnNames.ENCODED.getColumnName(), new AttributeValue().withB(ByteBuffer.wrap(SerializationUtils.serialize(encTicket))));
+        values.put(ColumnNames.EXPIRATION.getColumnName(), new AttributeValue().withN(Long.toString(getExpirationTime(ticket))));
         LOGGER.debug("Created attribute values [{}] based on provided ticket [{}]", values, encTicket.getId());
         return values;
     }
 
+    /**
+     * Calculate the time, in seconds since the epoch, after which the ticket is certainly expired
+     * given that it is stored now. Tickets may expire sooner, based on their expiration policy.
+     *
+     * @param ticket the ticket
+     * @return the expiration time
+     */
+    private static long getExpirationTime(final Ticket ticket) {
+        val timeToLive = Math.max(1, Math.min(ticket.getExpirationPolicy().getTimeToLive(), Integer.MAX_VALUE));
+        return Instant.now().getEpochSecond() + timeToLive;
+    }
+
+    private boolean enableTimeToLiveForTable(final String tableName) {
+        if (isTimeToLiveEnabledForTable(tableName)) {
+            LOGGER.debug("Time-to-live is already enabled for table [{}]", tableName);
+            return true;
+        }
+        try {
+            val request = new UpdateTimeToLiveRequest()
+                .withTableName(tableName)
+                .withTimeToLiveSpecification(new TimeToLiveSpecification()
+                    .withAttributeName(ColumnNames.EXPIRATION.getColumnName())
+                    .withEnabled(Boolean.TRUE));
+            LOGGER.debug("Sending request [{}] to enable time-to-live for table [{}]", request, tableName);
+            amazonDynamoDBClient.updateTimeToLive(request);
+            return true;
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to enable time-to-live for table [{}]: [{}]", tableName, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isTimeToLiveEnabledForTable(final String tableName) {
+        try {
+            val description = amazonDynamoDBClient.describeTimeToLive(new DescribeTimeToLiveRequest().withTableName(tableName))
+                .getTimeToLiveDescription();
+            val status = description == null ? null : TimeToLiveStatus.fromValue(description.getTimeToLiveStatus());
+            return status == TimeToLiveStatus.ENABLED || status == TimeToLiveStatus.ENABLING;
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to describe time-to-live for table [{}]: [{}]", tableName, e.getMessage());
+            return false;
+        }
+    }
+
+    private Stream<String> getStorageNames(final Class<? extends Ticket> type) {
+        return this.ticketCatalog.findAll()
+            .stream()
+            .filter(metadata -> type.isAssignableFrom(metadata.getImplementationClass()))
+            .map(metadata -> metadata.getProperties().getStorageName())
+            .distinct();
+    }
+
+    private long countItems(final String tableName, final UnaryOperator<ScanRequest> customizer) {
+        return scanSegments(tableName,
+            request -> customizer.apply(request.withSelect(Select.COUNT)),
+            result -> Stream.of(result.getCount().longValue()))
+            .mapToLong(Long::longValue)
+            .sum();
+    }
+
+    /**
+     * Scan the table in parallel segments, and collect the results of each segment.
+     *
+     * @param <T>        the type of results
+     * @param tableName  the table name
+     * @param customizer the customizer of scan requests
+     * @param mapper     the function that maps each page of items to results
+     * @return the results
+     */
+    private <T> Stream<T> scanSegments(final String tableName, final UnaryOperator<ScanRequest> customizer,
+                                       final Function<ScanResult, Stream<T>> mapper) {
+        val totalSegments = Math.max(1, dynamoDbProperties.getScanSegments());
+        final List<Future<List<T>>> futures = IntStream.range(0, totalSegments)
+            .mapToObj(segment -> executorService.submit(() -> {
+                val request = customizer.apply(new ScanRequest(tableName)
+                    .withSegment(segment)
+                    .withTotalSegments(totalSegments));
+                LOGGER.debug("Scanning segment [{}] of table [{}] with request [{}]", segment, tableName, request);
+                try (val pages = scanPages(request)) {
+                    return pages.flatMap(mapper).collect(Collectors.toList());
+                }
+            }))
+            .collect(Collectors.toList());
+        return futures.stream()
+            .map(Unchecked.function(Future::get))
+            .flatMap(List::stream);
+    }
+
+    /**
+     * Scan the table one page at a time, as the stream is consumed.
+     *
+     * @param request the request
+     * @return the stream of pages
+     */
+    private Stream<ScanResult> scanPages(final ScanRequest request) {
+        return Stream.iterate(amazonDynamoDBClient.scan(request),
+            Objects::nonNull,
+            result -> result.getLastEvaluatedKey() == null
+                ? null
+                : amazonDynamoDBClient.scan(request.clone().withExclusiveStartKey(result.getLastEvaluatedKey())));
+    }
+
+    private Map.Entry<String, WriteRequest> buildDeleteRequest(final String ticketId, final UnaryOperator<String> ticketIdEncoder) {
+        val metadata = this.ticketCatalog.find(ticketId);
+        if (metadata == null) {
+            LOGGER.warn("No ticket definition could be found in the catalog to match [{}]", ticketId);
+            return null;
+        }
+        val request = new DeleteRequest()
+            .withKey(CollectionUtils.wrap(ColumnNames.ID.getColumnName(), new AttributeValue(ticketIdEncoder.apply(ticketId))));
+        return Map.entry(metadata.getProperties().getStorageName(), new WriteRequest(request));
+    }
+
+    private Map.Entry<String, WriteRequest> buildPutRequest(final Ticket ticket, final UnaryOperator<Ticket> ticketEncoder) {
+        val metadata = this.ticketCatalog.find(ticket);
+        if (metadata == null) {
+            LOGGER.warn("No ticket definition could be found in the catalog to match [{}]", ticket.getId());
+            return null;
+        }
+        val values = buildTableAttributeValuesMapFromTicket(ticket, ticketEncoder.apply(ticket));
+        return Map.entry(metadata.getProperties().getStorageName(), new WriteRequest(new PutRequest(values)));
+    }
+
+    /**
+     * Submit write requests in batches, and resubmit items that are left unprocessed
+     * with an increasing delay, should requests be throttled. Fails if items
+     * remain unprocessed once all attempts are exhausted.
+     *
+     * @param requests the write requests, keyed by table name
+     */
+    private void batchWrite(final List<Map.Entry<String, WriteRequest>> requests) {
+        Lists.partition(requests, MAX_BATCH_WRITE_ITEMS).forEach(Unchecked.consumer(batch -> {
+            Map<String, List<WriteRequest>> items = batch.stream()
+                .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+            for (var attempt = 1; !items.isEmpty(); attempt++) {
+                if (attempt > MAX_BATCH_WRITE_ATTEMPTS) {
+                    throw new IllegalStateException("Unable to write " + items.values().stream().mapToInt(List::size).sum()
+                        + " item(s) after " + MAX_BATCH_WRITE_ATTEMPTS + " attempt(s)");
+                }
+                if (attempt > 1) {
+                    Thread.sleep(BATCH_WRITE_RETRY_DELAY << Math.min(attempt - 2, MAX_BATCH_WRITE_BACKOFF_SHIFT));
+                }
+                LOGGER.debug("Submitting batch write request for [{}] item(s)", items.values().stream().mapToInt(List::size).sum());
+                val unprocessed = amazonDynamoDBClient.batchWriteItem(new BatchWriteItemRequest(items)).getUnprocessedItems();
+                items = unprocessed == null ? Map.of() : unprocessed;
+            }
+        }));
+    }
+
     /**
      * Column names for tables holding tickets.
      */
@@ -245,7 +518,11 @@ public class DynamoDbTicketRegistryFacilitator {
         /**
          * encoded column.
          */
-        ENCODED("encoded");
+        ENCODED("encoded"),
+        /**
+         * expiration column, in seconds since the epoch.
+         */
+        EXPIRATION("expiration");
 
         private final String columnName;
 
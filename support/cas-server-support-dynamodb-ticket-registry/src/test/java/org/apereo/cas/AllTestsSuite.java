@@ -2,6 +2,7 @@
 package org.apereo.cas;
 
 import org.apereo.cas.ticket.registry.DynamoDbTicketRegistryFacilitatorTests;
+import org.apereo.cas.ticket.registry.DynamoDbTicketRegistryFacilitatorTimeToLiveTests;
 import org.apereo.cas.ticket.registry.DynamoDbTicketRegistryTests;
 
 import org.junit.platform.runner.JUnitPlatform;
@@ -16,7 +17,8 @@ import org.junit.runner.RunWith;
  */
 @SelectClasses({
     DynamoDbTicketRegistryTests.class,
-    DynamoDbTicketRegistryFacilitatorTests.class
+    DynamoDbTicketRegistryFacilitatorTests.class,
+    DynamoDbTicketRegistryFacilitatorTimeToLiveTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
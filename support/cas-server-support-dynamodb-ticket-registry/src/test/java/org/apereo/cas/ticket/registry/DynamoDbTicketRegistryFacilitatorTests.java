@@ -23,6 +23,8 @@ import org.apereo.cas.config.DynamoDbTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
 import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.junit.EnabledIfContinuousIntegration;
 import org.apereo.cas.util.junit.EnabledIfPortOpen;
@@ -36,6 +38,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 
 import java.util.Arrays;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -109,4 +114,21 @@ public class DynamoDbTicketRegistryFacilitatorTests {
         assertTrue(dynamoDbTicketRegistryFacilitator.deleteAll() > 0);
 
     }
+
+    @Test
+    public void verifyBatchOperations() {
+        dynamoDbTicketRegistryFacilitator.createTicketTables(true);
+        val tickets = IntStream.range(0, 60)
+            .mapToObj(i -> new MockTicketGrantingTicket("casuser" + i))
+            .collect(Collectors.toList());
+        dynamoDbTicketRegistryFacilitator.put(tickets, UnaryOperator.identity());
+        assertEquals(tickets.size(), dynamoDbTicketRegistryFacilitator.count(TicketGrantingTicket.class));
+        assertEquals(tickets.size(), dynamoDbTicketRegistryFacilitator.getAll().size());
+        try (val stream = dynamoDbTicketRegistryFacilitator.stream()) {
+            assertEquals(tickets.size(), stream.count());
+        }
+        val ticketIds = tickets.stream().map(Ticket::getId).collect(Collectors.toList());
+        assertEquals(tickets.size(), dynamoDbTicketRegistryFacilitator.delete(ticketIds, UnaryOperator.identity()));
+        assertEquals(0, dynamoDbTicketRegistryFacilitator.count(TicketGrantingTicket.class));
+    }
 }
@@ -0,0 +1,130 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.dynamodb.DynamoDbTicketRegistryProperties;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.DescribeTimeToLiveRequest;
+import com.amazonaws.services.dynamodbv2.model.DescribeTimeToLiveResult;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.ResourceNotFoundException;
+import com.amazonaws.services.dynamodbv2.model.TimeToLiveDescription;
+import com.amazonaws.services.dynamodbv2.model.TimeToLiveStatus;
+import com.amazonaws.services.dynamodbv2.model.UpdateTimeToLiveRequest;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DynamoDbTicketRegistryFacilitatorTimeToLiveTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class DynamoDbTicketRegistryFacilitatorTimeToLiveTests {
+    private AmazonDynamoDB amazonDynamoDBClient;
+
+    private TicketCatalog ticketCatalog;
+
+    private DynamoDbTicketRegistryFacilitator facilitator;
+
+    private static TicketDefinition newTicketDefinition(final String storageName) {
+        val definition = mock(TicketDefinition.class, RETURNS_DEEP_STUBS);
+        when(definition.getProperties().getStorageName()).thenReturn(storageName);
+        return definition;
+    }
+
+    private static DescribeTimeToLiveResult newTimeToLiveResult(final TimeToLiveStatus status) {
+        return new DescribeTimeToLiveResult().withTimeToLiveDescription(new TimeToLiveDescription().withTimeToLiveStatus(status));
+    }
+
+    @BeforeEach
+    public void initialize() {
+        amazonDynamoDBClient = mock(AmazonDynamoDB.class);
+        ticketCatalog = mock(TicketCatalog.class);
+        val first = newTicketDefinition("firstTicketsTable");
+        val second = newTicketDefinition("secondTicketsTable");
+        when(ticketCatalog.findAll()).thenReturn(List.of(first, second));
+        facilitator = new DynamoDbTicketRegistryFacilitator(ticketCatalog, new DynamoDbTicketRegistryProperties(),
+            amazonDynamoDBClient, Executors.newSingleThreadExecutor());
+    }
+
+    @AfterEach
+    public void shutdown() {
+        facilitator.destroy();
+    }
+
+    @Test
+    public void verifyTimeToLiveEnabledOnlyWhereDisabled() {
+        when(amazonDynamoDBClient.describeTimeToLive(any(DescribeTimeToLiveRequest.class)))
+            .thenReturn(newTimeToLiveResult(TimeToLiveStatus.ENABLED))
+            .thenReturn(newTimeToLiveResult(TimeToLiveStatus.DISABLED));
+        assertTrue(facilitator.enableTimeToLive());
+
+        val captor = ArgumentCaptor.forClass(UpdateTimeToLiveRequest.class);
+        verify(amazonDynamoDBClient).updateTimeToLive(captor.capture());
+        assertEquals("secondTicketsTable", captor.getValue().getTableName());
+        assertEquals(DynamoDbTicketRegistryFacilitator.ColumnNames.EXPIRATION.getColumnName(),
+            captor.getValue().getTimeToLiveSpecification().getAttributeName());
+    }
+
+    @Test
+    public void verifyTimeToLiveFailureIsReported() {
+        when(amazonDynamoDBClient.describeTimeToLive(any(DescribeTimeToLiveRequest.class)))
+            .thenReturn(newTimeToLiveResult(TimeToLiveStatus.DISABLED));
+        when(amazonDynamoDBClient.updateTimeToLive(any(UpdateTimeToLiveRequest.class)))
+            .thenThrow(new ResourceNotFoundException("Table is not found"))
+            .thenReturn(null);
+        assertFalse(facilitator.enableTimeToLive());
+        verify(amazonDynamoDBClient, times(2)).updateTimeToLive(any(UpdateTimeToLiveRequest.class));
+    }
+
+    @Test
+    public void verifyTimeToLiveStatus() {
+        when(amazonDynamoDBClient.describeTimeToLive(any(DescribeTimeToLiveRequest.class)))
+            .thenReturn(newTimeToLiveResult(TimeToLiveStatus.ENABLED))
+            .thenReturn(newTimeToLiveResult(TimeToLiveStatus.ENABLING));
+        assertTrue(facilitator.isTimeToLiveEnabled());
+
+        when(amazonDynamoDBClient.describeTimeToLive(any(DescribeTimeToLiveRequest.class)))
+            .thenReturn(newTimeToLiveResult(TimeToLiveStatus.DISABLED));
+        assertFalse(facilitator.isTimeToLiveEnabled());
+
+        when(amazonDynamoDBClient.describeTimeToLive(any(DescribeTimeToLiveRequest.class)))
+            .thenThrow(new ResourceNotFoundException("Table is not found"));
+        assertFalse(facilitator.isTimeToLiveEnabled());
+    }
+
+    @Test
+    public void verifyTicketsWithoutDefinitionAreSkipped() {
+        val known = new MockTicketGrantingTicket("casuser");
+        val unknown = new MockTicketGrantingTicket("casuser");
+        val definition = newTicketDefinition("ticketGrantingTicketsTable");
+        when(ticketCatalog.find(any(Ticket.class))).thenAnswer(invocation -> invocation.getArgument(0) == known ? definition : null);
+        when(amazonDynamoDBClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(new BatchWriteItemResult());
+
+        facilitator.put(unknown, unknown);
+        verify(amazonDynamoDBClient, never()).putItem(any(PutItemRequest.class));
+
+        facilitator.put(List.of(known, unknown), ticket -> ticket);
+        val captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(amazonDynamoDBClient).batchWriteItem(captor.capture());
+        val items = captor.getValue().getRequestItems();
+        assertEquals(1, items.size());
+        assertEquals(1, items.get("ticketGrantingTicketsTable").size());
+    }
+}
@@ -0,0 +1,152 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.Getter;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serializable;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This is {@link AuthenticationRiskProfile} that summarizes the authentication history
+ * of a principal as weighted frequency histograms of client ip addresses, user agents,
+ * geolocations and hours of the day, so that risk may be calculated without examining
+ * each authentication event.
+ * <p>
+ * If a decay rate is defined, each event is weighed by how recently it occurred.
+ * Weights grow exponentially relative to the time the profile is created rather than shrinking
+ * as time passes, so that recording an event never requires adjusting existing weights;
+ * the ratio of any two weights remains the same either way.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@ToString(of = {"principal", "total"})
+public class AuthenticationRiskProfile implements Serializable {
+    private static final long serialVersionUID = 2437813650587324913L;
+
+    private static final int HOURS_IN_DAY = 24;
+
+    @Getter
+    private final String principal;
+
+    private final long referenceTime;
+
+    private final double decayRate;
+
+    private final Map<String, Double> ipAddresses = new HashMap<>();
+
+    private final Map<String, Double> userAgents = new HashMap<>();
+
+    private final Map<String, Double> geoLocations = new HashMap<>();
+
+    private final double[] hours = new double[HOURS_IN_DAY];
+
+    private double total;
+
+    public AuthenticationRiskProfile(final String principal, final long referenceTime, final double decayRate) {
+        this.principal = principal;
+        this.referenceTime = referenceTime;
+        this.decayRate = decayRate;
+    }
+
+    private static String getGeoLocationKey(final String latitude, final String longitude) {
+        return Objects.toString(latitude) + ',' + Objects.toString(longitude);
+    }
+
+    private static double getWeight(final Map<String, Double> histogram, final String key) {
+        return key == null ? 0 : histogram.getOrDefault(key, 0D);
+    }
+
+    /**
+     * Record the authentication event in this profile.
+     *
+     * @param event the event
+     */
+    public synchronized void record(final CasEvent event) {
+        val time = DateTimeUtils.convertToZonedDateTime(event.getCreationTime());
+        val weight = decayRate > 0 ? Math.exp(decayRate * (time.toInstant().toEpochMilli() - referenceTime)) : 1D;
+
+        if (event.getClientIpAddress() != null) {
+            ipAddresses.merge(event.getClientIpAddress().toLowerCase(), weight, Double::sum);
+        }
+        if (event.getAgent() != null) {
+            userAgents.merge(event.getAgent().toLowerCase(), weight, Double::sum);
+        }
+        val location = event.getGeoLocation();
+        geoLocations.merge(getGeoLocationKey(location.getLatitude(), location.getLongitude()), weight, Double::sum);
+        hours[time.withZoneSameInstant(ZoneOffset.UTC).getHour()] += weight;
+        total += weight;
+    }
+
+    /**
+     * Gets the total weight of all events.
+     *
+     * @return the total weight
+     */
+    public synchronized double getTotalWeight() {
+        return total;
+    }
+
+    /**
+     * Is this profile empty?
+     *
+     * @return true if no events are recorded
+     */
+    public synchronized boolean isEmpty() {
+        return total <= 0;
+    }
+
+    /**
+     * Gets the weight of events from the given client ip address.
+     *
+     * @param ipAddress the ip address
+     * @return the weight
+     */
+    public synchronized double getIpAddressWeight(final String ipAddress) {
+        return getWeight(ipAddresses, StringUtils.lowerCase(ipAddress));
+    }
+
+    /**
+     * Gets the weight of events from the given user agent.
+     *
+     * @param userAgent the user agent
+     * @return the weight
+     */
+    public synchronized double getUserAgentWeight(final String userAgent) {
+        return getWeight(userAgents, StringUtils.lowerCase(userAgent));
+    }
+
+    /**
+     * Gets the weight of events from the given geolocation.
+     *
+     * @param latitude  the latitude
+     * @param longitude the longitude
+     * @return the weight
+     */
+    public synchronized double getGeoLocationWeight(final String latitude, final String longitude) {
+        return getWeight(geoLocations, getGeoLocationKey(latitude, longitude));
+    }
+
+    /**
+     * Gets the weight of events whose hour of the day in UTC falls within the given range, inclusively.
+     *
+     * @param fromHour the starting hour
+     * @param toHour   the ending hour
+     * @return the weight
+     */
+    public synchronized double getHourOfDayWeight(final int fromHour, final int toHour) {
+        var weight = 0D;
+        for (var hour = Math.max(0, fromHour); hour <= Math.min(HOURS_IN_DAY - 1, toHour); hour++) {
+            weight += hours[hour];
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,28 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+
+/**
+ * This is {@link AuthenticationRiskProfileStore} that keeps track of risk profiles
+ * for principals, built from their authentication history.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public interface AuthenticationRiskProfileStore {
+
+    /**
+     * Gets the risk profile for the principal.
+     *
+     * @param principal the principal
+     * @return the profile
+     */
+    AuthenticationRiskProfile getProfile(String principal);
+
+    /**
+     * Record the authentication event in the risk profile of its principal.
+     *
+     * @param event the event
+     */
+    void record(CasEvent event);
+}
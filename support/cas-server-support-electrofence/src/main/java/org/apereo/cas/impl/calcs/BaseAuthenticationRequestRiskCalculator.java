@@ -1,13 +1,12 @@
 package org.apereo.cas.impl.calcs;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
-import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,12 +15,12 @@ import lombok.val;
 import javax.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import java.util.Collection;
 
 /**
  * This is {@link BaseAuthenticationRequestRiskCalculator}.
+ * <p>
+ * Calculators score authentication requests against the risk profile of the principal,
+ * which summarizes recent authentication history, rather than examining each authentication event.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -32,9 +31,9 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
 
 
     /**
-     * CAS event repository instance.
+     * Risk profile store instance.
      */
-    protected final CasEventRepository casEventRepository;
+    protected final AuthenticationRiskProfileStore authenticationRiskProfileStore;
 
     /**
      * CAS settings.
@@ -46,11 +45,11 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
                                                    final RegisteredService service,
                                                    final HttpServletRequest request) {
         val principal = authentication.getPrincipal();
-        val events = getCasTicketGrantingTicketCreatedEventsFor(principal.getId());
-        if (events.isEmpty()) {
+        val profile = authenticationRiskProfileStore.getProfile(principal.getId());
+        if (profile == null || profile.isEmpty()) {
             return new AuthenticationRiskScore(HIGHEST_RISK_SCORE);
         }
-        val score = new AuthenticationRiskScore(calculateScore(request, authentication, service, events));
+        val score = new AuthenticationRiskScore(calculateScore(request, authentication, service, profile));
         LOGGER.debug("Calculated authentication risk score by [{}] is [{}]", getClass().getSimpleName(), score);
         return score;
     }
@@ -61,47 +60,32 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
      * @param request        the request
      * @param authentication the authentication
      * @param service        the service
-     * @param events         the events
+     * @param profile        the risk profile of the principal
      * @return the authentication risk score
      */
     protected BigDecimal calculateScore(final HttpServletRequest request,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final Collection<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         return HIGHEST_RISK_SCORE;
     }
 
     /**
-     * Gets cas ticket granting ticket created events.
-     *
-     * @param principal the principal
-     * @return the cas ticket granting ticket created events for
-     */
-    protected Collection<? extends CasEvent> getCasTicketGrantingTicketCreatedEventsFor(final String principal) {
-        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
-        LOGGER.debug("Retrieving events of type [{}] for [{}]", type, principal);
-
-        val date = ZonedDateTime.now(ZoneOffset.UTC)
-            .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getDaysInRecentHistory());
-        return casEventRepository.getEventsOfTypeForPrincipal(type, principal, date);
-    }
-
-    /**
-     * Calculate score based on events count big decimal.
+     * Calculate score based on the weight of matching events in the profile.
      *
      * @param authentication the authentication
-     * @param events         the events
-     * @param count          the count
+     * @param profile        the risk profile of the principal
+     * @param count          the weight of matching events
      * @return the big decimal
      */
     protected BigDecimal calculateScoreBasedOnEventsCount(final Authentication authentication,
-                                                          final Collection<? extends CasEvent> events,
-                                                          final long count) {
-        if (count == events.size()) {
+                                                          final AuthenticationRiskProfile profile,
+                                                          final double count) {
+        if (count >= profile.getTotalWeight()) {
             LOGGER.debug("Principal [{}] is assigned to the lowest risk score with attempted count of [{}]", authentication.getPrincipal(), count);
             return LOWEST_RISK_SCORE;
         }
-        return getFinalAveragedScore(count, events.size());
+        return getFinalAveragedScore(count, profile.getTotalWeight());
     }
 
     /**
@@ -111,7 +95,7 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
      * @param total      the total
      * @return the final averaged score
      */
-    protected BigDecimal getFinalAveragedScore(final long eventCount, final long total) {
+    protected BigDecimal getFinalAveragedScore(final double eventCount, final double total) {
         val score = BigDecimal.valueOf(eventCount)
             .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
         return HIGHEST_RISK_SCORE.subtract(score);
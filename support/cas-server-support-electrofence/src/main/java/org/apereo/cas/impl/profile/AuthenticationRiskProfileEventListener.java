@@ -0,0 +1,52 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.serialization.TicketIdSanitizationUtils;
+import org.apereo.cas.web.support.WebUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link AuthenticationRiskProfileEventListener} that records the creation
+ * of ticket-granting tickets in risk profiles as it happens.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiredArgsConstructor
+public class AuthenticationRiskProfileEventListener {
+    private final AuthenticationRiskProfileStore authenticationRiskProfileStore;
+
+    /**
+     * Handle TGT creation event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCasTicketGrantingTicketCreatedEvent(final CasTicketGrantingTicketCreatedEvent event) {
+        val ticketGrantingTicket = event.getTicketGrantingTicket();
+        val dto = new CasEvent();
+        dto.setType(event.getClass().getName());
+        dto.putTimestamp(event.getTimestamp());
+        dto.setCreationTime(ticketGrantingTicket.getCreationTime().toString());
+        dto.putEventId(TicketIdSanitizationUtils.sanitize(ticketGrantingTicket.getId()));
+        dto.setPrincipalId(ticketGrantingTicket.getAuthentication().getPrincipal().getId());
+
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        if (clientInfo != null) {
+            dto.putClientIpAddress(clientInfo.getClientIpAddress());
+            dto.putServerIpAddress(clientInfo.getServerIpAddress());
+        }
+        dto.putAgent(WebUtils.getHttpServletRequestUserAgentFromRequestContext());
+        val location = WebUtils.getHttpServletRequestGeoLocationFromRequestContext();
+        if (location != null) {
+            dto.putGeoLocation(location);
+        }
+        authenticationRiskProfileStore.record(dto);
+    }
+}
@@ -0,0 +1,76 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
+import org.apereo.cas.configuration.model.core.authentication.RiskBasedAuthenticationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileStore} that builds the risk profile of a principal
+ * from recent authentication events in the CAS event repository once, and caches it for a period of time.
+ * Authentication events that are recorded while the profile is cached are added to the profile incrementally.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+public class DefaultAuthenticationRiskProfileStore implements AuthenticationRiskProfileStore {
+    private static final String EVENT_TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private final CasEventRepository casEventRepository;
+
+    private final RiskBasedAuthenticationProperties properties;
+
+    private final double decayRate;
+
+    private final LoadingCache<String, AuthenticationRiskProfile> profiles;
+
+    public DefaultAuthenticationRiskProfileStore(final CasEventRepository casEventRepository,
+                                                 final RiskBasedAuthenticationProperties properties) {
+        this.casEventRepository = casEventRepository;
+        this.properties = properties;
+
+        val halfLife = Beans.newDuration(properties.getProfile().getDecayHalfLife()).toMillis();
+        this.decayRate = halfLife > 0 ? Math.log(2) / halfLife : 0;
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(properties.getProfile().getMaximumSize())
+            .expireAfterWrite(Beans.newDuration(properties.getProfile().getExpiration()))
+            .build(this::buildProfile);
+    }
+
+    @Override
+    public AuthenticationRiskProfile getProfile(final String principal) {
+        return profiles.get(principal);
+    }
+
+    @Override
+    public void record(final CasEvent event) {
+        if (EVENT_TYPE.equals(event.getType()) && event.getPrincipalId() != null) {
+            val profile = profiles.getIfPresent(event.getPrincipalId());
+            if (profile != null) {
+                LOGGER.trace("Recording authentication event [{}] in risk profile [{}]", event.getEventId(), profile);
+                profile.record(event);
+            }
+        }
+    }
+
+    private AuthenticationRiskProfile buildProfile(final String principal) {
+        LOGGER.debug("Building risk profile for [{}] from events of type [{}]", principal, EVENT_TYPE);
+        val date = ZonedDateTime.now(ZoneOffset.UTC).minusDays(properties.getDaysInRecentHistory());
+        val profile = new AuthenticationRiskProfile(principal, System.currentTimeMillis(), decayRate);
+        casEventRepository.getEventsOfTypeForPrincipal(EVENT_TYPE, principal, date).forEach(profile::record);
+        LOGGER.debug("Built risk profile [{}]", profile);
+        return profile;
+    }
+}
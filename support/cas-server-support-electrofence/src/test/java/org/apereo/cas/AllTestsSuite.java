@@ -6,6 +6,7 @@ import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculatorTes
 import org.apereo.cas.impl.calcs.UserAgentAuthenticationRequestRiskCalculatorTests;
 import org.apereo.cas.impl.notify.AuthenticationRiskEmailNotifierTests;
 import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifierTests;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileStoreTests;
 
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.platform.suite.api.SelectClasses;
@@ -23,7 +24,8 @@ import org.junit.runner.RunWith;
     IpAddressAuthenticationRequestRiskCalculatorTests.class,
     UserAgentAuthenticationRequestRiskCalculatorTests.class,
     AuthenticationRiskEmailNotifierTests.class,
-    AuthenticationRiskSmsNotifierTests.class
+    AuthenticationRiskSmsNotifierTests.class,
+    DefaultAuthenticationRiskProfileStoreTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
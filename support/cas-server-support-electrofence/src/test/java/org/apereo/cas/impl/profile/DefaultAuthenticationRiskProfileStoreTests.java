@@ -0,0 +1,94 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.configuration.model.core.authentication.RiskBasedAuthenticationProperties;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class DefaultAuthenticationRiskProfileStoreTests {
+
+    private static CasEvent getEvent(final String ipAddress, final ZonedDateTime creationTime) {
+        val dto = new CasEvent();
+        dto.setType(CasTicketGrantingTicketCreatedEvent.class.getName());
+        dto.putTimestamp(creationTime.toInstant().toEpochMilli());
+        dto.setCreationTime(creationTime.toString());
+        dto.putEventId("TGT-" + ipAddress);
+        dto.setPrincipalId("casuser");
+        dto.putClientIpAddress(ipAddress);
+        dto.putAgent("Mozilla/5.0 (Windows NT 10.1; rv:10.0) Gecko/20100101 Firefox/10.0");
+        dto.putGeoLocation(new GeoLocationRequest(40.71, -74.005));
+        return dto;
+    }
+
+    @Test
+    public void verifyProfileIsBuiltOnce() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val repository = mock(CasEventRepository.class);
+        doReturn(List.of(getEvent("185.86.151.11", now), getEvent("185.86.151.12", now)))
+            .when(repository).getEventsOfTypeForPrincipal(anyString(), eq("casuser"), any(ZonedDateTime.class));
+
+        val store = new DefaultAuthenticationRiskProfileStore(repository, new RiskBasedAuthenticationProperties());
+        val profile = store.getProfile("casuser");
+        assertSame(profile, store.getProfile("casuser"));
+        verify(repository, times(1)).getEventsOfTypeForPrincipal(anyString(), eq("casuser"), any(ZonedDateTime.class));
+
+        assertEquals(2, profile.getTotalWeight());
+        assertEquals(1, profile.getIpAddressWeight("185.86.151.11"));
+        assertEquals(2, profile.getGeoLocationWeight("40.71", "-74.005"));
+        assertEquals(2, profile.getUserAgentWeight("MOZILLA/5.0 (Windows NT 10.1; rv:10.0) Gecko/20100101 Firefox/10.0"));
+        assertEquals(2, profile.getHourOfDayWeight(0, 23));
+        assertTrue(store.getProfile("nobody").isEmpty());
+    }
+
+    @Test
+    public void verifyEventsAreRecordedIncrementally() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val repository = mock(CasEventRepository.class);
+        doReturn(List.of(getEvent("185.86.151.11", now)))
+            .when(repository).getEventsOfTypeForPrincipal(anyString(), eq("casuser"), any(ZonedDateTime.class));
+
+        val store = new DefaultAuthenticationRiskProfileStore(repository, new RiskBasedAuthenticationProperties());
+        store.record(getEvent("185.86.151.11", now));
+        val profile = store.getProfile("casuser");
+        assertEquals(1, profile.getTotalWeight());
+
+        store.record(getEvent("185.86.151.11", now));
+        assertEquals(2, store.getProfile("casuser").getIpAddressWeight("185.86.151.11"));
+        verify(repository, times(1)).getEventsOfTypeForPrincipal(anyString(), eq("casuser"), any(ZonedDateTime.class));
+    }
+
+    @Test
+    public void verifyRecentEventsWeighMore() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val repository = mock(CasEventRepository.class);
+        doReturn(List.of(getEvent("185.86.151.11", now.minusDays(2)), getEvent("185.86.151.12", now)))
+            .when(repository).getEventsOfTypeForPrincipal(anyString(), eq("casuser"), any(ZonedDateTime.class));
+
+        val props = new RiskBasedAuthenticationProperties();
+        props.getProfile().setDecayHalfLife("P1D");
+        val store = new DefaultAuthenticationRiskProfileStore(repository, props);
+        val profile = store.getProfile("casuser");
+        val older = profile.getIpAddressWeight("185.86.151.11");
+        val recent = profile.getIpAddressWeight("185.86.151.12");
+        assertEquals(4, recent / older, 0.01);
+        assertEquals(older + recent, profile.getTotalWeight(), 0.0001);
+    }
+}
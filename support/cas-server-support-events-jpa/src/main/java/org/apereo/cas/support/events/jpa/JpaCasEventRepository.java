@@ -24,7 +24,7 @@ import java.util.Collection;
 @ToString
 public class JpaCasEventRepository extends AbstractCasEventRepository {
 
-    private static final String SELECT_QUERY = "SELECT r from CasEvent r ";
+    private static final String SELECT_QUERY = "SELECT DISTINCT r from CasEvent r LEFT JOIN FETCH r.properties ";
 
     @PersistenceContext(unitName = "eventsEntityManagerFactory")
     private transient EntityManager entityManager;
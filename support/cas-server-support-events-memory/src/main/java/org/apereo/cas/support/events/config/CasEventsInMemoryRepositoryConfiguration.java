@@ -1,19 +1,17 @@
 package org.apereo.cas.support.events.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
 import org.apereo.cas.support.events.dao.InMemoryCasEventRepository;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * This is {@link CasEventsInMemoryRepositoryConfiguration}.
  *
@@ -25,23 +23,14 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class CasEventsInMemoryRepositoryConfiguration {
 
-
-    private static final int INITIAL_CACHE_SIZE = 50;
-    private static final long MAX_CACHE_SIZE = 1_000_000;
-    private static final long EXPIRATION_TIME = 2;
+    @Autowired
+    private CasConfigurationProperties casProperties;
 
     @Bean
     public CasEventRepository casEventRepository() {
-        final LoadingCache<String, CasEvent> storage = Caffeine.newBuilder()
-            .initialCapacity(INITIAL_CACHE_SIZE)
-            .maximumSize(MAX_CACHE_SIZE)
-            .recordStats()
-            .expireAfterWrite(EXPIRATION_TIME, TimeUnit.HOURS)
-            .build(s -> {
-                LOGGER.error("Load operation of the cache is not supported.");
-                return null;
-            });
-        LOGGER.debug("Created an in-memory event repository to store CAS events for [{}] hours", EXPIRATION_TIME);
-        return new InMemoryCasEventRepository(storage);
+        val memory = casProperties.getEvents().getMemory();
+        val expiration = Beans.newDuration(memory.getExpiration());
+        LOGGER.debug("Created an in-memory event repository to store up to [{}] CAS events for [{}]", memory.getMaximumSize(), expiration);
+        return new InMemoryCasEventRepository(memory.getMaximumSize(), expiration);
     }
 }
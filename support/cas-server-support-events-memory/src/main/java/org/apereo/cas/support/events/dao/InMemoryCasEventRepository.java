@@ -1,39 +1,194 @@
 package org.apereo.cas.support.events.dao;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.apereo.cas.util.DateTimeUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.Collection;
-import java.util.UUID;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link InMemoryCasEventRepository}.
+ * <p>
+ * Events are kept in a cache that is bounded by size and age, and are indexed
+ * by principal and type in creation-time order, so that events
+ * of a principal or type after a given date may be found without examining all events.
+ * Indexes are updated as events are evicted from the cache.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
-@RequiredArgsConstructor
+@Slf4j
 public class InMemoryCasEventRepository extends AbstractCasEventRepository {
-    private final LoadingCache<String, CasEvent> cache;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final NavigableSet<EventKey> timeline = new ConcurrentSkipListSet<>();
+
+    private final Map<String, NavigableSet<EventKey>> types = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, NavigableSet<EventKey>>> principals = new ConcurrentHashMap<>();
+
+    private final Cache<EventKey, CasEvent> cache;
+
+    public InMemoryCasEventRepository(final long maximumSize, final Duration expiration) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expiration)
+            .recordStats()
+            .executor(Runnable::run)
+            .removalListener(this::removeEvent)
+            .build();
+    }
+
+    private static NavigableSet<EventKey> addKey(final NavigableSet<EventKey> keys, final EventKey key) {
+        val index = keys == null ? new ConcurrentSkipListSet<EventKey>() : keys;
+        index.add(key);
+        return index;
+    }
+
+    private static NavigableSet<EventKey> removeKey(final NavigableSet<EventKey> keys, final EventKey key) {
+        keys.remove(key);
+        return keys.isEmpty() ? null : keys;
+    }
+
+    private static NavigableSet<EventKey> since(final NavigableSet<EventKey> keys, final ZonedDateTime dateTime) {
+        return keys.tailSet(new EventKey(dateTime.toInstant().toEpochMilli(), Long.MIN_VALUE), true);
+    }
+
+    private static String getPrincipalKey(final String principal) {
+        return StringUtils.defaultString(principal).toLowerCase();
+    }
+
+    private static long getCreationTime(final CasEvent event) {
+        if (StringUtils.isBlank(event.getCreationTime())) {
+            return Long.MIN_VALUE;
+        }
+        return DateTimeUtils.convertToZonedDateTime(event.getCreationTime()).toInstant().toEpochMilli();
+    }
 
     @Override
     public void save(final CasEvent event) {
-        cache.put(UUID.randomUUID().toString(), event);
+        val key = new EventKey(getCreationTime(event), sequence.incrementAndGet());
+        val type = StringUtils.defaultString(event.getType());
+        timeline.add(key);
+        types.compute(type, (t, keys) -> addKey(keys, key));
+        principals.compute(getPrincipalKey(event.getPrincipalId()), (principal, index) -> {
+            val principalIndex = index == null ? new ConcurrentHashMap<String, NavigableSet<EventKey>>() : index;
+            principalIndex.compute(type, (t, keys) -> addKey(keys, key));
+            return principalIndex;
+        });
+        cache.put(key, event);
     }
 
     @Override
     public Collection<? extends CasEvent> load() {
-        return cache.asMap().values();
+        return getEvents(timeline);
+    }
+
+    @Override
+    public Collection<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return getEvents(since(timeline, dateTime));
+    }
+
+    @Override
+    public Collection<? extends CasEvent> getEventsOfType(final String type) {
+        return getEvents(getTypeIndex(type));
+    }
+
+    @Override
+    public Collection<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return getEvents(since(getTypeIndex(type), dateTime));
+    }
+
+    @Override
+    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return getEvents(getPrincipalIndex(principal, type));
+    }
+
+    @Override
+    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal, final ZonedDateTime dateTime) {
+        return getEvents(since(getPrincipalIndex(principal, type), dateTime));
     }
 
     @Override
     public Collection<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return cache
-            .asMap()
-            .values()
-            .stream()
-            .filter(e -> e.getPrincipalId().equalsIgnoreCase(id))
-            .collect(Collectors.toSet());
+        return getPrincipalIndex(id).flatMap(keys -> getEvents(keys).stream()).collect(Collectors.toList());
+    }
+
+    @Override
+    public Collection<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
+        return getPrincipalIndex(id).flatMap(keys -> getEvents(since(keys, dateTime)).stream()).collect(Collectors.toList());
+    }
+
+    private NavigableSet<EventKey> getTypeIndex(final String type) {
+        return types.getOrDefault(StringUtils.defaultString(type), Collections.emptyNavigableSet());
+    }
+
+    private NavigableSet<EventKey> getPrincipalIndex(final String principal, final String type) {
+        return principals.getOrDefault(getPrincipalKey(principal), Map.of())
+            .getOrDefault(StringUtils.defaultString(type), Collections.emptyNavigableSet());
+    }
+
+    private Stream<NavigableSet<EventKey>> getPrincipalIndex(final String principal) {
+        return principals.getOrDefault(getPrincipalKey(principal), Map.of()).values().stream();
+    }
+
+    private Collection<CasEvent> getEvents(final Collection<EventKey> keys) {
+        return keys.stream()
+            .map(cache::getIfPresent)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private void removeEvent(final EventKey key, final CasEvent event, final RemovalCause cause) {
+        if (key == null || event == null) {
+            return;
+        }
+        LOGGER.trace("Removing event [{}] from indexes; cause: [{}]", event.getEventId(), cause);
+        val type = StringUtils.defaultString(event.getType());
+        timeline.remove(key);
+        types.computeIfPresent(type, (t, keys) -> removeKey(keys, key));
+        principals.computeIfPresent(getPrincipalKey(event.getPrincipalId()), (principal, index) -> {
+            index.computeIfPresent(type, (t, keys) -> removeKey(keys, key));
+            return index.isEmpty() ? null : index;
+        });
+    }
+
+    /**
+     * Orders events by creation time, and then by the order in which they are recorded.
+     */
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static class EventKey implements Comparable<EventKey> {
+        private static final Comparator<EventKey> COMPARATOR = Comparator
+            .comparingLong((EventKey key) -> key.creationTime)
+            .thenComparingLong(key -> key.sequence);
+
+        private final long creationTime;
+
+        private final long sequence;
+
+        @Override
+        public int compareTo(final EventKey other) {
+            return COMPARATOR.compare(this, other);
+        }
     }
 }
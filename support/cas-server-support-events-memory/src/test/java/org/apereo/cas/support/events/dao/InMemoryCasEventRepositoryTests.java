@@ -5,11 +5,19 @@ import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.config.CasEventsInMemoryRepositoryConfiguration;
 
 import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * This is {@link InMemoryCasEventRepositoryTests}.
  *
@@ -25,4 +33,45 @@ public class InMemoryCasEventRepositoryTests extends AbstractCasEventRepositoryT
     @Autowired
     @Qualifier("casEventRepository")
     private CasEventRepository eventRepository;
+
+    private static CasEvent getCasEvent(final String type, final String principal, final ZonedDateTime creationTime) {
+        val dto = new CasEvent();
+        dto.setType(type);
+        dto.setPrincipalId(principal);
+        dto.setCreationTime(creationTime.toString());
+        dto.putTimestamp(creationTime.toInstant().toEpochMilli());
+        return dto;
+    }
+
+    @Test
+    public void verifyEventsAreIndexed() {
+        val repository = new InMemoryCasEventRepository(100, Duration.ofHours(1));
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        repository.save(getCasEvent("login", "casuser", now.minusDays(3)));
+        repository.save(getCasEvent("login", "CASUser", now.minusDays(1)));
+        repository.save(getCasEvent("logout", "casuser", now.minusHours(1)));
+        repository.save(getCasEvent("login", "someone", now));
+
+        assertEquals(4, repository.load().size());
+        assertEquals(3, repository.load(now.minusDays(1)).size());
+        assertEquals(3, repository.getEventsOfType("login").size());
+        assertEquals(2, repository.getEventsOfType("login", now.minusDays(2)).size());
+        assertEquals(3, repository.getEventsForPrincipal("casuser").size());
+        assertEquals(2, repository.getEventsForPrincipal("casuser", now.minusDays(2)).size());
+        assertEquals(2, repository.getEventsOfTypeForPrincipal("login", "casuser").size());
+        assertEquals(1, repository.getEventsOfTypeForPrincipal("login", "casuser", now.minusDays(2)).size());
+        assertTrue(repository.getEventsOfTypeForPrincipal("unknown", "casuser").isEmpty());
+        assertTrue(repository.getEventsForPrincipal("nobody").isEmpty());
+    }
+
+    @Test
+    public void verifyEvictedEventsAreRemovedFromIndexes() {
+        val repository = new InMemoryCasEventRepository(1, Duration.ofHours(1));
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        for (var i = 0; i < 10; i++) {
+            repository.save(getCasEvent("login", "casuser", now.minusMinutes(i)));
+        }
+        assertTrue(repository.load().size() <= 1);
+        assertTrue(repository.getEventsOfTypeForPrincipal("login", "casuser", now.minusDays(1)).size() <= 1);
+    }
 }
@@ -3,10 +3,11 @@ package org.apereo.cas.support.events.mongo;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
 
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.val;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
@@ -15,17 +16,28 @@ import java.util.Collection;
 
 /**
  * This is {@link MongoDbCasEventRepository} that stores event data into a mongodb database.
+ * The collection is indexed by principal, type and creation time so that queries are answered by the database.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @ToString
-@RequiredArgsConstructor
 public class MongoDbCasEventRepository extends AbstractCasEventRepository {
 
     private final MongoOperations mongoTemplate;
     private final String collectionName;
 
+    public MongoDbCasEventRepository(final MongoOperations mongoTemplate, final String collectionName) {
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = collectionName;
+
+        val indexes = mongoTemplate.indexOps(collectionName);
+        indexes.ensureIndex(new Index().on(PRINCIPAL_ID_PARAM, Sort.Direction.ASC)
+            .on(TYPE_PARAM, Sort.Direction.ASC).on(CREATION_TIME_PARAM, Sort.Direction.ASC));
+        indexes.ensureIndex(new Index().on(TYPE_PARAM, Sort.Direction.ASC).on(CREATION_TIME_PARAM, Sort.Direction.ASC));
+        indexes.ensureIndex(new Index().on(CREATION_TIME_PARAM, Sort.Direction.ASC));
+    }
+
     @Override
     public void save(final CasEvent event) {
         this.mongoTemplate.save(event, this.collectionName);
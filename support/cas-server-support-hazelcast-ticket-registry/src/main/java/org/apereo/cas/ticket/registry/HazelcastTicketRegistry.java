@@ -3,6 +3,7 @@ package org.apereo.cas.ticket.registry;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
@@ -14,8 +15,10 @@ import org.springframework.beans.factory.DisposableBean;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -25,6 +28,9 @@ import java.util.stream.Collectors;
  * which is an extension of the standard Java's {@code ConcurrentMap}.</p>
  * <p>The heavy lifting of distributed data partitioning, network cluster discovery and
  * join, data replication, etc. is done by Hazelcast's Map implementation.</p>
+ * <p>Ticket-granting tickets are changed in place via entry processors as they grant
+ * service tickets, rather than rewritten as a whole. Tickets are consumed via entry processors
+ * that only write back the ticket if it's not consumed by another member in the meantime.</p>
  *
  * @author Dmitriy Kopylenko
  * @author Jonathan Johnson
@@ -33,6 +39,8 @@ import java.util.stream.Collectors;
 @Slf4j
 @RequiredArgsConstructor
 public class HazelcastTicketRegistry extends AbstractTicketRegistry implements AutoCloseable, DisposableBean {
+    private static final int MAX_CONSUME_ATTEMPTS = 5;
+
     private final HazelcastInstance hazelcastInstance;
     private final TicketCatalog ticketCatalog;
     private final long pageSize;
@@ -43,6 +51,36 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         return ticket;
     }
 
+    /**
+     * Apply the changes to the stored ticket-granting ticket via an entry processor
+     * on the member that owns the ticket. Encrypted tickets cannot be changed in place,
+     * and are updated as a whole instead.
+     *
+     * @param ticketGrantingTicket    the ticket-granting ticket
+     * @param serviceTicketId         the id of the granted ticket
+     * @param removedServiceTicketIds the ids of tickets whose services are no longer tracked
+     * @return the updated ticket
+     */
+    @Override
+    public Ticket updateTicketGrantingTicket(final TicketGrantingTicket ticketGrantingTicket,
+                                             final String serviceTicketId,
+                                             final Collection<String> removedServiceTicketIds) {
+        if (isCipherExecutorEnabled()) {
+            return updateTicket(ticketGrantingTicket);
+        }
+        val metadata = this.ticketCatalog.find(ticketGrantingTicket);
+        val ticketMap = getTicketMapInstanceByMetadata(metadata);
+        val processor = new TicketGrantingTicketUpdateEntryProcessor(serviceTicketId,
+            ticketGrantingTicket.getServices().get(serviceTicketId), new HashSet<>(removedServiceTicketIds));
+        val updated = ticketMap.executeOnKey(ticketGrantingTicket.getId(), processor);
+        if (!Boolean.TRUE.equals(updated)) {
+            LOGGER.debug("Ticket [{}] cannot be updated in place and will be updated as a whole", ticketGrantingTicket.getId());
+            return updateTicket(ticketGrantingTicket);
+        }
+        LOGGER.debug("Updated ticket [{}] in place with ticket [{}]", ticketGrantingTicket.getId(), serviceTicketId);
+        return ticketGrantingTicket;
+    }
+
     @Override
     public void addTicket(final Ticket ticket) {
         val ttl = ticket.getExpirationPolicy().getTimeToLive();
@@ -86,6 +124,57 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         return null;
     }
 
+    /**
+     * Consume the ticket and write it back via an entry processor on the member that owns the ticket,
+     * and retry with a fresh copy of the ticket if the ticket is consumed elsewhere in the meantime.
+     *
+     * @param <T>      the generic ticket type
+     * @param ticketId the ticket id
+     * @param clazz    the expected class of the ticket
+     * @param consumer the consumer that checks and updates the ticket
+     * @return the consumed ticket, or null if the ticket cannot be found or remains in contention.
+     */
+    @Override
+    public <T extends Ticket> T consumeTicket(final String ticketId, final Class<T> clazz, final Consumer<T> consumer) {
+        val encTicketId = encodeTicketId(ticketId);
+        val metadata = StringUtils.isBlank(encTicketId) ? null : this.ticketCatalog.find(ticketId);
+        if (metadata == null) {
+            LOGGER.warn("No ticket definition could be found in the catalog to match [{}]", ticketId);
+            return null;
+        }
+        val map = getTicketMapInstanceByMetadata(metadata);
+        for (var attempt = 1; attempt <= MAX_CONSUME_ATTEMPTS; attempt++) {
+            val found = map.get(encTicketId);
+            val ticket = decodeTicket(found);
+            if (ticket == null) {
+                return null;
+            }
+            if (!clazz.isAssignableFrom(ticket.getClass())) {
+                throw new ClassCastException("Ticket [" + ticket.getId() + " is of type " + ticket.getClass() + " when we were expecting " + clazz);
+            }
+            val result = clazz.cast(ticket);
+            if (result.isExpired()) {
+                LOGGER.debug("Ticket [{}] has expired and is now removed from the ticket registry", result.getId());
+                map.remove(encTicketId);
+                return null;
+            }
+            val version = TicketConsumptionEntryProcessor.getVersionOf(found);
+            var consumed = false;
+            try {
+                consumer.accept(result);
+            } finally {
+                val processor = new TicketConsumptionEntryProcessor(version, result.isExpired() ? null : encodeTicket(result));
+                consumed = Boolean.TRUE.equals(map.executeOnKey(encTicketId, processor));
+            }
+            if (consumed) {
+                return result;
+            }
+            LOGGER.debug("Ticket [{}] was modified while it was consumed; retrying attempt [{}]", ticketId, attempt);
+        }
+        LOGGER.warn("Unable to consume ticket [{}] after [{}] attempt(s)", ticketId, MAX_CONSUME_ATTEMPTS);
+        return null;
+    }
+
     @Override
     public boolean deleteSingleTicket(final String ticketIdToDelete) {
         val encTicketId = encodeTicketId(ticketIdToDelete);
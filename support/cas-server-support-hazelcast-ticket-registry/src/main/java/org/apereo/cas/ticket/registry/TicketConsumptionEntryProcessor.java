@@ -0,0 +1,57 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketState;
+
+import com.hazelcast.map.AbstractEntryProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This is {@link TicketConsumptionEntryProcessor} that writes back a consumed ticket,
+ * or removes the ticket if it has expired once consumed, on the member that owns the ticket.
+ * The ticket is only changed if the stored ticket is used as many times as the ticket that was consumed,
+ * so that a ticket consumed by another CAS server in the meantime is not overwritten.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiredArgsConstructor
+public class TicketConsumptionEntryProcessor extends AbstractEntryProcessor<String, Ticket> {
+    private static final long serialVersionUID = -3305934187432618527L;
+
+    private final Serializable expectedVersion;
+
+    private final Ticket updatedTicket;
+
+    /**
+     * Gets the version of the stored ticket, which is the number of times the ticket is used,
+     * or the encoded ticket itself if the ticket is encrypted.
+     *
+     * @param ticket the stored ticket
+     * @return the version, or null if the ticket cannot be versioned.
+     */
+    static Serializable getVersionOf(final Ticket ticket) {
+        if (ticket instanceof EncodedTicket) {
+            return ((EncodedTicket) ticket).getEncodedTicket();
+        }
+        if (ticket instanceof TicketState) {
+            return ((TicketState) ticket).getCountOfUses();
+        }
+        return null;
+    }
+
+    @Override
+    public Object process(final Map.Entry<String, Ticket> entry) {
+        val ticket = entry.getValue();
+        if (ticket == null || expectedVersion == null || !Objects.deepEquals(getVersionOf(ticket), expectedVersion)) {
+            return Boolean.FALSE;
+        }
+        entry.setValue(updatedTicket);
+        return Boolean.TRUE;
+    }
+}
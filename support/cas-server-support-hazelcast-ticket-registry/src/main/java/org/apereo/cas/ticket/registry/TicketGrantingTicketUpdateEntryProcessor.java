@@ -0,0 +1,50 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketState;
+
+import com.hazelcast.map.AbstractEntryProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * This is {@link TicketGrantingTicketUpdateEntryProcessor} that applies the changes
+ * made to a ticket-granting ticket as it grants a service or proxy ticket to the stored ticket,
+ * on the member that owns the ticket. Only the granted service and the ids of services
+ * that are no longer tracked are sent to the member, rather than the whole ticket.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiredArgsConstructor
+public class TicketGrantingTicketUpdateEntryProcessor extends AbstractEntryProcessor<String, Ticket> {
+    private static final long serialVersionUID = 4170398613405217322L;
+
+    private final String serviceTicketId;
+
+    private final Service service;
+
+    private final HashSet<String> removedServiceTicketIds;
+
+    @Override
+    public Object process(final Map.Entry<String, Ticket> entry) {
+        val ticket = entry.getValue();
+        if (!(ticket instanceof TicketGrantingTicket)) {
+            return Boolean.FALSE;
+        }
+        val ticketGrantingTicket = (TicketGrantingTicket) ticket;
+        if (ticketGrantingTicket instanceof TicketState) {
+            ((TicketState) ticketGrantingTicket).update();
+        }
+        val services = ticketGrantingTicket.getServices();
+        removedServiceTicketIds.forEach(services::remove);
+        services.put(serviceTicketId, service);
+        entry.setValue(ticketGrantingTicket);
+        return Boolean.TRUE;
+    }
+}
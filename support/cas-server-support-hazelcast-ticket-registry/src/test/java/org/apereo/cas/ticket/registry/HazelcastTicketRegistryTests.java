@@ -21,7 +21,9 @@ import org.apereo.cas.config.HazelcastTicketRegistryConfiguration;
 import org.apereo.cas.config.HazelcastTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
 import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
+import org.apereo.cas.ticket.TicketCatalog;
 
+import com.hazelcast.core.HazelcastInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -64,8 +66,21 @@ public class HazelcastTicketRegistryTests extends BaseTicketRegistryTests {
     @Qualifier("ticketRegistry")
     private TicketRegistry ticketRegistry;
 
+    @Autowired
+    @Qualifier("casTicketRegistryHazelcastInstance")
+    private HazelcastInstance hazelcastInstance;
+
+    @Autowired
+    @Qualifier("ticketCatalog")
+    private TicketCatalog ticketCatalog;
+
     @Override
     public TicketRegistry getNewTicketRegistry() {
         return ticketRegistry;
     }
+
+    @Override
+    protected TicketRegistry getNewTicketRegistryForAnotherNode() {
+        return new HazelcastTicketRegistry(hazelcastInstance, ticketCatalog, 0);
+    }
 }
@@ -2,20 +2,35 @@ package org.apereo.cas.services;
 
 import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 import lombok.val;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.Column;
+import javax.persistence.Entity;
 import javax.persistence.EntityManager;
+import javax.persistence.Id;
+import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of the ServiceRegistry based on JPA.
+ * Saved and removed services are recorded in a change table, along with a version counter that advances
+ * with each change, so that the services changed after a given version can be found without loading all services.
+ * The version counter is locked until the change is committed, so changes become visible in version order.
  *
  * @author Scott Battaglia
  * @author Dmitriy Kopylenko
@@ -27,6 +42,9 @@ import java.util.stream.Collectors;
 public class JpaServiceRegistry extends AbstractServiceRegistry {
     private static final String ENTITY_NAME = AbstractRegisteredService.class.getSimpleName();
 
+    private static final String CHANGE_ENTITY_NAME = RegisteredServiceChange.class.getSimpleName();
+
+    private static final String CHANGE_VERSION_NAME = RegisteredService.class.getSimpleName();
 
     @PersistenceContext(unitName = "serviceEntityManagerFactory")
     private transient EntityManager entityManager;
@@ -43,6 +61,7 @@ public class JpaServiceRegistry extends AbstractServiceRegistry {
         } else {
             this.entityManager.remove(this.entityManager.merge(registeredService));
         }
+        recordChange(registeredService.getId());
         return true;
     }
 
@@ -66,6 +85,7 @@ public class JpaServiceRegistry extends AbstractServiceRegistry {
         if (!isNew) {
             this.entityManager.persist(r);
         }
+        recordChange(r.getId());
         return r;
     }
 
@@ -79,4 +99,83 @@ public class JpaServiceRegistry extends AbstractServiceRegistry {
         val query = String.format("SELECT count(r) from %s r", ENTITY_NAME);
         return this.entityManager.createQuery(query, Long.class).getSingleResult();
     }
+
+    @Override
+    public long getChangeVersion() {
+        return Optional.ofNullable(this.entityManager.find(RegisteredServiceChangeVersion.class, CHANGE_VERSION_NAME))
+            .map(RegisteredServiceChangeVersion::getChangeVersion)
+            .orElse(0L);
+    }
+
+    @Override
+    public ServiceRegistryChanges loadChanges(final long version) {
+        val query = String.format("SELECT c from %s c WHERE c.changeVersion > :version", CHANGE_ENTITY_NAME);
+        val changes = this.entityManager.createQuery(query, RegisteredServiceChange.class)
+            .setParameter("version", version)
+            .getResultList();
+        val saved = new ArrayList<RegisteredService>();
+        val deleted = new ArrayList<Long>();
+        var latestVersion = version;
+        for (val change : changes) {
+            val service = Optional.ofNullable(findServiceById(change.getServiceId()))
+                .map(this::invokeServiceRegistryListenerPostLoad);
+            if (service.isPresent()) {
+                saved.add(service.get());
+            } else {
+                deleted.add(change.getServiceId());
+            }
+            latestVersion = Math.max(latestVersion, change.getChangeVersion());
+        }
+        return new ServiceRegistryChanges(latestVersion, saved, deleted);
+    }
+
+    private void recordChange(final long id) {
+        var version = this.entityManager.find(RegisteredServiceChangeVersion.class, CHANGE_VERSION_NAME, LockModeType.PESSIMISTIC_WRITE);
+        if (version == null) {
+            version = new RegisteredServiceChangeVersion(CHANGE_VERSION_NAME, 0);
+            this.entityManager.persist(version);
+        }
+        version.setChangeVersion(version.getChangeVersion() + 1);
+        this.entityManager.merge(new RegisteredServiceChange(id, version.getChangeVersion()));
+    }
+
+    /**
+     * Describes the version at which a registered service was last saved or removed.
+     */
+    @Entity
+    @Table(name = "RegisteredServiceChange")
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RegisteredServiceChange implements Serializable {
+        private static final long serialVersionUID = 2180498762310563462L;
+
+        @Id
+        @Column(name = "serviceId")
+        private long serviceId;
+
+        @Column(name = "changeVersion", nullable = false)
+        private long changeVersion;
+    }
+
+    /**
+     * Describes the version counter that advances with each change to registered services.
+     */
+    @Entity
+    @Table(name = "RegisteredServiceChangeVersion")
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RegisteredServiceChangeVersion implements Serializable {
+        private static final long serialVersionUID = -4409152173468526410L;
+
+        @Id
+        @Column(name = "name")
+        private String name;
+
+        @Column(name = "changeVersion", nullable = false)
+        private long changeVersion;
+    }
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.ticket.AbstractTicketException;
 import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
@@ -24,6 +25,8 @@ import javax.persistence.TypedQuery;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -81,6 +84,10 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
+        return getTicket(ticketId, predicate, this.lockType);
+    }
+
+    private Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate, final LockModeType lockModeType) {
         try {
             val encTicketId = encodeTicketId(ticketId);
             if (StringUtils.isBlank(encTicketId)) {
@@ -91,7 +98,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             val sql = String.format("SELECT t FROM %s t WHERE t.id = :id", getTicketEntityName(tkt));
             val query = entityManager.createQuery(sql, getTicketImplementationClass(tkt));
             query.setParameter("id", encTicketId);
-            query.setLockMode(this.lockType);
+            query.setLockMode(lockModeType);
             val ticket = query.getSingleResult();
             val result = decodeTicket(ticket);
             if (predicate.test(result)) {
@@ -106,6 +113,46 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    /**
+     * Consume the ticket while holding a pessimistic write lock on the ticket row
+     * until the transaction completes, so that a ticket is consumed once
+     * even if it's validated by several CAS servers at the same time.
+     * Tickets rejected by the consumer are still updated, and the update is not rolled back.
+     *
+     * @param <T>      the generic ticket type
+     * @param ticketId the ticket id
+     * @param clazz    the expected class of the ticket
+     * @param consumer the consumer that checks and updates the ticket
+     * @return the consumed ticket, or null if the ticket cannot be found.
+     */
+    @Override
+    @Transactional(transactionManager = "ticketTransactionManager", noRollbackFor = AbstractTicketException.class)
+    public <T extends Ticket> T consumeTicket(final String ticketId, final Class<T> clazz, final Consumer<T> consumer) {
+        val ticket = getTicket(ticketId, Objects::nonNull, LockModeType.PESSIMISTIC_WRITE);
+        if (ticket == null) {
+            return null;
+        }
+        if (!clazz.isAssignableFrom(ticket.getClass())) {
+            throw new ClassCastException("Ticket [" + ticket.getId() + " is of type " + ticket.getClass() + " when we were expecting " + clazz);
+        }
+        val result = clazz.cast(ticket);
+        if (result.isExpired()) {
+            LOGGER.debug("Ticket [{}] has expired and is now removed from the ticket registry", ticketId);
+            deleteSingleTicket(ticketId);
+            return null;
+        }
+        try {
+            consumer.accept(result);
+        } finally {
+            if (result.isExpired()) {
+                deleteTicket(result);
+            } else {
+                updateTicket(result);
+            }
+        }
+        return result;
+    }
+
     @Override
     public Collection<? extends Ticket> getTickets() {
         if (isCipherExecutorEnabled()) {
@@ -23,8 +23,13 @@ import org.apereo.cas.config.JpaTicketRegistryConfiguration;
 import org.apereo.cas.config.JpaTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
 import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.DefaultSecurityTokenTicketFactory;
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TicketState;
+import org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
 
@@ -113,4 +118,24 @@ public class JpaTicketRegistryTests extends BaseTicketRegistryTests {
         this.ticketRegistry.deleteTicket(token);
         assertNull(this.ticketRegistry.getTicket(token.getId()));
     }
+
+    @RepeatedTest(2)
+    @Transactional(transactionManager = "ticketTransactionManager", propagation = Propagation.NOT_SUPPORTED)
+    public void verifyTicketRejectedByConsumerIsUpdated() {
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        this.ticketRegistry.addTicket(tgt);
+        val service = RegisteredServiceTestUtils.getService("TGT_CONSUME_TEST");
+        val st = tgt.grantServiceTicket(serviceTicketId, service, new MultiTimeUseOrTimeoutExpirationPolicy(2, 60), false, true);
+        this.ticketRegistry.addTicket(st);
+        this.ticketRegistry.updateTicket(tgt);
+
+        assertThrows(InvalidTicketException.class, () -> this.ticketRegistry.consumeTicket(serviceTicketId, ServiceTicket.class, ticket -> {
+            TicketState.class.cast(ticket).update();
+            throw new InvalidTicketException(ticket.getId());
+        }));
+        val ticket = this.ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class);
+        assertNotNull(ticket);
+        assertEquals(1, TicketState.class.cast(ticket).getCountOfUses());
+    }
 }
@@ -63,13 +63,35 @@ public class MemcachedUtils {
                 return whalinv1;
             case "kryo":
             default:
-                val kryoPool = new CasKryoPool(kryoSerializableClasses, true,
-                    memcachedProperties.isKryoRegistrationRequired(),
-                    memcachedProperties.isKryoObjectsByReference(),
-                    memcachedProperties.isKryoAutoReset());
-                val kryo = new CasKryoTranscoder(kryoPool);
+                val kryo = new CasKryoTranscoder(newKryoPool(memcachedProperties, kryoSerializableClasses));
                 LOGGER.debug("Creating memcached transcoder [{}]", kryo.getClass().getName());
                 return kryo;
         }
     }
+
+    /**
+     * Whether the configured transcoder is based on Kryo.
+     *
+     * @param memcachedProperties the memcached properties
+     * @return true/false
+     */
+    public static boolean isKryoTranscoder(final BaseMemcachedProperties memcachedProperties) {
+        val transcoder = StringUtils.trimToEmpty(memcachedProperties.getTranscoder()).toLowerCase();
+        return !"serial".equals(transcoder) && !"whalin".equals(transcoder) && !"whalinv1".equals(transcoder);
+    }
+
+    /**
+     * New kryo pool.
+     *
+     * @param memcachedProperties     the memcached properties
+     * @param kryoSerializableClasses the kryo serializable classes
+     * @return the kryo pool
+     */
+    public static CasKryoPool newKryoPool(final BaseMemcachedProperties memcachedProperties,
+                                          final Collection<Class> kryoSerializableClasses) {
+        return new CasKryoPool(kryoSerializableClasses, true,
+            memcachedProperties.isKryoRegistrationRequired(),
+            memcachedProperties.isKryoObjectsByReference(),
+            memcachedProperties.isKryoAutoReset());
+    }
 }
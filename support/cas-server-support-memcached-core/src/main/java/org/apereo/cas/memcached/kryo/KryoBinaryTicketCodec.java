@@ -0,0 +1,60 @@
+package org.apereo.cas.memcached.kryo;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.BinaryTicketCodec;
+import org.apereo.cas.ticket.registry.DefaultBinaryTicketCodec;
+
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * This is {@link KryoBinaryTicketCodec} that serializes tickets using Kryo.
+ * Values that were previously produced by Java serialization
+ * are still recognized and decoded via {@link DefaultBinaryTicketCodec}, so tickets
+ * written before the switch remain readable.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class KryoBinaryTicketCodec implements BinaryTicketCodec {
+    private static final int BUFFER_SIZE = 512;
+
+    private final CasKryoPool kryoPool;
+
+    private final BinaryTicketCodec defaultCodec = new DefaultBinaryTicketCodec();
+
+    @Override
+    public byte[] encode(final Ticket ticket) {
+        try (val kryo = this.kryoPool.borrow();
+             val byteStream = new ByteArrayOutputStream(BUFFER_SIZE);
+             val output = new Output(byteStream)) {
+            kryo.writeClassAndObject(output, ticket);
+            output.flush();
+            return byteStream.toByteArray();
+        } catch (final Exception exception) {
+            throw new KryoException(exception);
+        }
+    }
+
+    @Override
+    public Ticket decode(final byte[] value) {
+        if (DefaultBinaryTicketCodec.isSerializedObject(value)) {
+            LOGGER.trace("Decoding ticket using Java serialization");
+            return defaultCodec.decode(value);
+        }
+        try (val kryo = this.kryoPool.borrow();
+             val input = new Input(value)) {
+            return (Ticket) kryo.readClassAndObject(input);
+        } catch (final Exception exception) {
+            throw new KryoException(exception);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.apereo.cas.memcached;
 
 import org.apereo.cas.memcached.kryo.CasKryoTranscoderTests;
+import org.apereo.cas.memcached.kryo.KryoBinaryTicketCodecTests;
 import org.apereo.cas.memcached.kryo.ZonedDateTimeSerializerTests;
 
 import org.junit.platform.runner.JUnitPlatform;
@@ -15,6 +16,7 @@ import org.junit.runner.RunWith;
  */
 @SelectClasses({
     CasKryoTranscoderTests.class,
+    KryoBinaryTicketCodecTests.class,
     ZonedDateTimeSerializerTests.class
 })
 @RunWith(JUnitPlatform.class)
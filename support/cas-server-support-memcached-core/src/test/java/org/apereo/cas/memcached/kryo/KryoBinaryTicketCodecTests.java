@@ -0,0 +1,56 @@
+package org.apereo.cas.memcached.kryo;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.DefaultBinaryTicketCodec;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link KryoBinaryTicketCodecTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class KryoBinaryTicketCodecTests {
+    private static final String TGT_ID = "TGT-1234567890ABCDEFGHIJKLMNOPQRSTUVWXYZ01234567890ABCDEFGHIJK-cas1";
+
+    private static final String ST_ID = "ST-1234567890ABCDEFGHIJKLMNOPQRSTUVWXYZ01234567890ABCDEFGHIJK";
+
+    private final KryoBinaryTicketCodec codec = new KryoBinaryTicketCodec(new CasKryoPool());
+
+    private static TicketGrantingTicketImpl getTicketGrantingTicket() {
+        return new TicketGrantingTicketImpl(TGT_ID, CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+    }
+
+    @Test
+    public void verifyEncodeDecode() {
+        val tgt = getTicketGrantingTicket();
+        val st = tgt.grantServiceTicket(ST_ID, RegisteredServiceTestUtils.getService(),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        assertEquals(tgt, codec.decode(codec.encode(tgt)));
+        assertEquals(st, codec.decode(codec.encode(st)));
+    }
+
+    @Test
+    public void verifyDecodeSerializedTicket() {
+        val tgt = getTicketGrantingTicket();
+        val serialized = new DefaultBinaryTicketCodec().encode(tgt);
+        assertTrue(DefaultBinaryTicketCodec.isSerializedObject(serialized));
+        assertEquals(tgt, codec.decode(serialized));
+    }
+
+    @Test
+    public void verifySmallerThanSerialization() {
+        val tgt = getTicketGrantingTicket();
+        val encoded = codec.encode(tgt);
+        assertFalse(DefaultBinaryTicketCodec.isSerializedObject(encoded));
+        assertTrue(encoded.length < new DefaultBinaryTicketCodec().encode(tgt).length);
+    }
+}
@@ -0,0 +1,140 @@
+package org.apereo.cas.memcached.kryo;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.BinaryTicketCodec;
+import org.apereo.cas.ticket.registry.DefaultBinaryTicketCodec;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.cipher.AesGcmTicketCipherExecutor;
+import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketRegistryEncodingBenchmark}.
+ * Compares the cost of encoding and decoding tickets for each ticket type with
+ * Java serialization and the default signed cipher, Java serialization and {@code AES/GCM},
+ * and Kryo and {@code AES/GCM}, as well as hashing ticket ids with and without the digest cache.
+ * Ticket ids are only digested by the ticket registry if its cipher is enabled, which is verified during setup.
+ * Run via {@link #main(String[])} from the test classpath.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketRegistryEncodingBenchmark {
+    private static final int SIGNING_KEY_SIZE = 512;
+
+    private static final int ENCRYPTION_KEY_SIZE = 16;
+
+    @Param({"TGT", "ST", "PGT"})
+    private String ticketType;
+
+    private Ticket ticket;
+
+    private BinaryTicketCodec serializationCodec;
+
+    private BinaryTicketCodec kryoCodec;
+
+    private CipherExecutor<byte[], byte[]> defaultCipher;
+
+    private CipherExecutor<byte[], byte[]> gcmCipher;
+
+    private EncodingTicketRegistry ticketRegistry;
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(TicketRegistryEncodingBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    @Setup
+    public void setup() {
+        val tgt = new TicketGrantingTicketImpl("TGT-1-" + DigestUtils.sha("benchmark"),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val st = tgt.grantServiceTicket("ST-1-" + DigestUtils.sha("benchmark"), RegisteredServiceTestUtils.getService(),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        switch (ticketType) {
+            case "ST":
+                this.ticket = st;
+                break;
+            case "PGT":
+                this.ticket = st.grantProxyGrantingTicket("PGT-1-" + DigestUtils.sha("benchmark"),
+                    CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+                break;
+            case "TGT":
+            default:
+                this.ticket = tgt;
+                break;
+        }
+        this.serializationCodec = new DefaultBinaryTicketCodec();
+        this.kryoCodec = new KryoBinaryTicketCodec(new CasKryoPool());
+        this.defaultCipher = new DefaultTicketCipherExecutor(null, null, "AES", SIGNING_KEY_SIZE, ENCRYPTION_KEY_SIZE, "benchmark");
+        this.gcmCipher = new AesGcmTicketCipherExecutor(null, ENCRYPTION_KEY_SIZE, "benchmark");
+        this.ticketRegistry = new EncodingTicketRegistry();
+        this.ticketRegistry.setCipherExecutor(defaultCipher);
+        if (ticket.getId().equals(ticketRegistry.digest(ticket.getId()))) {
+            throw new IllegalStateException("Ticket registry cipher is not enabled; ticket ids would not be digested");
+        }
+    }
+
+    @Benchmark
+    public Ticket serializationWithDefaultCipher() {
+        return roundTrip(serializationCodec, defaultCipher);
+    }
+
+    @Benchmark
+    public Ticket serializationWithGcmCipher() {
+        return roundTrip(serializationCodec, gcmCipher);
+    }
+
+    @Benchmark
+    public Ticket kryoWithGcmCipher() {
+        return roundTrip(kryoCodec, gcmCipher);
+    }
+
+    @Benchmark
+    public String ticketIdDigest() {
+        return DigestUtils.sha512(ticket.getId());
+    }
+
+    @Benchmark
+    public String cachedTicketIdDigest() {
+        return ticketRegistry.digest(ticket.getId());
+    }
+
+    private Ticket roundTrip(final BinaryTicketCodec codec, final CipherExecutor<byte[], byte[]> cipher) {
+        return codec.decode(cipher.decode(cipher.encode(codec.encode(ticket))));
+    }
+
+    private static class EncodingTicketRegistry extends DefaultTicketRegistry {
+        String digest(final String ticketId) {
+            return encodeTicketId(ticketId);
+        }
+    }
+}
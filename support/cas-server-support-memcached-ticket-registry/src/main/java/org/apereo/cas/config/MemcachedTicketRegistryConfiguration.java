@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.memcached.MemcachedPooledClientConnectionFactory;
 import org.apereo.cas.memcached.MemcachedUtils;
+import org.apereo.cas.memcached.kryo.KryoBinaryTicketCodec;
 import org.apereo.cas.ticket.registry.MemcachedTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
@@ -62,6 +63,11 @@ public class MemcachedTicketRegistryConfiguration {
         val registry = new MemcachedTicketRegistry(factory.getObjectPool());
         val cipherExecutor = CoreTicketUtils.newTicketRegistryCipherExecutor(memcached.getCrypto(), "memcached");
         registry.setCipherExecutor(cipherExecutor);
+        val serializationPlan = componentSerializationPlan.getIfAvailable();
+        if (MemcachedUtils.isKryoTranscoder(memcached) && serializationPlan != null) {
+            val kryoPool = MemcachedUtils.newKryoPool(memcached, serializationPlan.getRegisteredClasses());
+            registry.setBinaryTicketCodec(new KryoBinaryTicketCodec(kryoPool));
+        }
         return registry;
     }
 
@@ -5,13 +5,18 @@ import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.bson.Document;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -20,6 +25,9 @@ import java.util.stream.Collectors;
  * <p>The class will automatically create a default collection to use with services. The name
  * of the collection may be specified.
  * It also presents the ability to drop an existing collection and start afresh.
+ * <p>Saved and removed services are recorded in a separate collection, named after the collection of services,
+ * along with a version counter that advances with each change, so that the services changed
+ * after a given version can be found without loading all services.
  *
  * @author Misagh Moayyed
  * @since 4.1
@@ -28,8 +36,19 @@ import java.util.stream.Collectors;
 @ToString
 public class MongoDbServiceRegistry extends AbstractServiceRegistry {
 
+    private static final String CHANGES_COLLECTION_SUFFIX = "Changes";
+
+    private static final String CHANGE_VERSION_ID = RegisteredService.class.getSimpleName() + "Version";
+
+    private static final String FIELD_ID = "_id";
+
+    private static final String FIELD_CHANGE_VERSION = "changeVersion";
+
+    private static final String FIELD_LATEST_VERSION = "latestVersion";
+
     private final MongoOperations mongoTemplate;
     private final String collectionName;
+    private final String changesCollectionName;
 
     public MongoDbServiceRegistry(final ApplicationEventPublisher eventPublisher,
                                   final MongoOperations mongoTemplate,
@@ -38,12 +57,14 @@ public class MongoDbServiceRegistry extends AbstractServiceRegistry {
         super(eventPublisher, serviceRegistryListeners);
         this.mongoTemplate = mongoTemplate;
         this.collectionName = collectionName;
+        this.changesCollectionName = collectionName + CHANGES_COLLECTION_SUFFIX;
     }
 
     @Override
     public boolean delete(final RegisteredService svc) {
         if (this.findServiceById(svc.getId()) != null) {
             this.mongoTemplate.remove(svc, this.collectionName);
+            recordChange(svc.getId());
             LOGGER.debug("Removed registered service: [{}]", svc);
             return true;
         }
@@ -83,6 +104,7 @@ public class MongoDbServiceRegistry extends AbstractServiceRegistry {
         }
         invokeServiceRegistryListenerPreSave(svc);
         this.mongoTemplate.save(svc, this.collectionName);
+        recordChange(svc.getId());
         LOGGER.debug("Saved registered service: [{}]", svc);
         return this.findServiceById(svc.getId());
     }
@@ -91,4 +113,43 @@ public class MongoDbServiceRegistry extends AbstractServiceRegistry {
     public long size() {
         return this.mongoTemplate.count(new Query(), RegisteredService.class, this.collectionName);
     }
+
+    @Override
+    public long getChangeVersion() {
+        val version = this.mongoTemplate.findOne(new Query(Criteria.where(FIELD_ID).is(CHANGE_VERSION_ID)),
+            Document.class, this.changesCollectionName);
+        return version == null ? 0 : version.get(FIELD_LATEST_VERSION, Number.class).longValue();
+    }
+
+    @Override
+    public ServiceRegistryChanges loadChanges(final long version) {
+        val changes = this.mongoTemplate.find(new Query(Criteria.where(FIELD_CHANGE_VERSION).gt(version)),
+            Document.class, this.changesCollectionName);
+        val saved = new ArrayList<RegisteredService>();
+        val deleted = new ArrayList<Long>();
+        var latestVersion = version;
+        for (val change : changes) {
+            val id = change.get(FIELD_ID, Number.class).longValue();
+            val service = Optional.ofNullable(findServiceById(id))
+                .map(this::invokeServiceRegistryListenerPostLoad);
+            if (service.isPresent()) {
+                saved.add(service.get());
+            } else {
+                deleted.add(id);
+            }
+            latestVersion = Math.max(latestVersion, change.get(FIELD_CHANGE_VERSION, Number.class).longValue());
+        }
+        LOGGER.trace("Loaded [{}] changed and [{}] removed registered services since version [{}]", saved.size(), deleted.size(), version);
+        return new ServiceRegistryChanges(latestVersion, saved, deleted);
+    }
+
+    private void recordChange(final long id) {
+        val version = this.mongoTemplate.findAndModify(new Query(Criteria.where(FIELD_ID).is(CHANGE_VERSION_ID)),
+            new Update().inc(FIELD_LATEST_VERSION, 1),
+            FindAndModifyOptions.options().upsert(true).returnNew(true),
+            Document.class, this.changesCollectionName);
+        val latestVersion = Objects.requireNonNull(version).get(FIELD_LATEST_VERSION, Number.class).longValue();
+        this.mongoTemplate.upsert(new Query(Criteria.where(FIELD_ID).is(id)),
+            new Update().set(FIELD_CHANGE_VERSION, latestVersion), this.changesCollectionName);
+    }
 }
@@ -30,12 +30,15 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * A Ticket Registry storage backend based on MongoDB.
+ * Tickets are consumed via {@code findAndModify} on the number of times the ticket is used,
+ * so that a ticket is consumed once even if it's validated by several CAS servers at the same time.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -43,6 +46,7 @@ import java.util.stream.Stream;
 @Slf4j
 public class MongoDbTicketRegistry extends AbstractTicketRegistry {
     private static final ImmutableSet<String> MONGO_INDEX_KEYS = ImmutableSet.of("v", "key", "name", "ns");
+    private static final int MAX_CONSUME_ATTEMPTS = 5;
 
     private final TicketCatalog ticketCatalog;
     private final MongoOperations mongoTemplate;
@@ -79,7 +83,8 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
                 return null;
             }
             val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_ID).is(holder.getTicketId()));
-            val update = Update.update(TicketHolder.FIELD_NAME_JSON, holder.getJson());
+            val update = Update.update(TicketHolder.FIELD_NAME_JSON, holder.getJson())
+                .set(TicketHolder.FIELD_NAME_COUNT_OF_USES, holder.getCountOfUses());
             this.mongoTemplate.upsert(query, update, collectionName);
             LOGGER.debug("Updated ticket [{}]", ticket);
         } catch (final Exception e) {
@@ -144,6 +149,58 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    /**
+     * Consume the ticket and conditionally write it back if the number of times the ticket
+     * is used has not changed in the meantime, and retry with a fresh copy of the ticket otherwise.
+     *
+     * @param <T>      the generic ticket type
+     * @param ticketId the ticket id
+     * @param clazz    the expected class of the ticket
+     * @param consumer the consumer that checks and updates the ticket
+     * @return the consumed ticket, or null if the ticket cannot be found or remains in contention.
+     */
+    @Override
+    public <T extends Ticket> T consumeTicket(final String ticketId, final Class<T> clazz, final Consumer<T> consumer) {
+        val encTicketId = encodeTicketId(ticketId);
+        val metadata = StringUtils.isBlank(encTicketId) ? null : this.ticketCatalog.find(ticketId);
+        if (metadata == null) {
+            LOGGER.debug("Ticket definition [{}] could not be found in the ticket catalog", ticketId);
+            return null;
+        }
+        val collectionName = getTicketCollectionInstanceByMetadata(metadata);
+        for (var attempt = 1; attempt <= MAX_CONSUME_ATTEMPTS; attempt++) {
+            val found = this.mongoTemplate.findOne(new Query(Criteria.where(TicketHolder.FIELD_NAME_ID).is(encTicketId)),
+                TicketHolder.class, collectionName);
+            val ticket = found == null ? null : decodeTicket(deserializeTicketFromMongoDocument(found));
+            if (ticket == null) {
+                return null;
+            }
+            if (!clazz.isAssignableFrom(ticket.getClass())) {
+                throw new ClassCastException("Ticket [" + ticket.getId() + " is of type " + ticket.getClass() + " when we were expecting " + clazz);
+            }
+            val result = clazz.cast(ticket);
+            if (result.isExpired()) {
+                LOGGER.debug("Ticket [{}] has expired and is now removed from the ticket registry", result.getId());
+                deleteSingleTicket(ticketId);
+                return null;
+            }
+            val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_ID).is(encTicketId)
+                .and(TicketHolder.FIELD_NAME_COUNT_OF_USES).is(found.getCountOfUses()));
+            var consumed = false;
+            try {
+                consumer.accept(result);
+            } finally {
+                consumed = writeConsumedTicket(query, result, collectionName);
+            }
+            if (consumed) {
+                return result;
+            }
+            LOGGER.debug("Ticket [{}] was modified while it was consumed; retrying attempt [{}]", ticketId, attempt);
+        }
+        LOGGER.warn("Unable to consume ticket [{}] after [{}] attempt(s)", ticketId, MAX_CONSUME_ATTEMPTS);
+        return null;
+    }
+
     @Override
     public Collection<? extends Ticket> getTickets() {
         return this.ticketCatalog.findAll().stream()
@@ -212,13 +269,33 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .sum();
     }
 
+    /**
+     * Write back or remove the consumed ticket, if the stored ticket still matches the query.
+     *
+     * @param query          the query that matches the ticket as it was before it was consumed
+     * @param ticket         the consumed ticket
+     * @param collectionName the collection name
+     * @return true if the stored ticket was changed, false if the ticket was changed by someone else in the meantime
+     */
+    private boolean writeConsumedTicket(final Query query, final Ticket ticket, final String collectionName) {
+        if (ticket.isExpired()) {
+            return this.mongoTemplate.findAndRemove(query, TicketHolder.class, collectionName) != null;
+        }
+        val holder = buildTicketAsDocument(ticket);
+        val update = Update.update(TicketHolder.FIELD_NAME_JSON, holder.getJson())
+            .set(TicketHolder.FIELD_NAME_COUNT_OF_USES, holder.getCountOfUses())
+            .set(TicketHolder.FIELD_NAME_EXPIRE_AT, holder.getExpireAt());
+        return this.mongoTemplate.findAndModify(query, update, TicketHolder.class, collectionName) != null;
+    }
+
     private TicketHolder buildTicketAsDocument(final Ticket ticket) {
         val encTicket = encodeTicket(ticket);
         val json = serializeTicketForMongoDocument(encTicket);
         if (StringUtils.isNotBlank(json)) {
             LOGGER.trace("Serialized ticket into a JSON document as \n [{}]", JsonValue.readJSON(json).toString(Stringify.FORMATTED));
             val expireAt = getExpireAt(ticket);
-            return new TicketHolder(json, encTicket.getId(), encTicket.getClass().getName(), expireAt);
+            val countOfUses = ticket instanceof TicketState ? ((TicketState) ticket).getCountOfUses() : null;
+            return new TicketHolder(json, encTicket.getId(), encTicket.getClass().getName(), expireAt, countOfUses);
         }
         throw new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized to JSON");
     }
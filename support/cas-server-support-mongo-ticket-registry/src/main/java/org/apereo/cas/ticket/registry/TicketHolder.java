@@ -38,6 +38,11 @@ public class TicketHolder implements Serializable {
      */
     public static final String FIELD_NAME_ID = "ticketId";
 
+    /**
+     * Field name to hold the number of times the ticket is used.
+     */
+    public static final String FIELD_NAME_COUNT_OF_USES = "countOfUses";
+
     private static final long serialVersionUID = -4843440028617071224L;
 
     @JsonProperty
@@ -50,4 +55,7 @@ public class TicketHolder implements Serializable {
     private final String type;
 
     private final Date expireAt;
+
+    @JsonProperty
+    private final Integer countOfUses;
 }
@@ -21,6 +21,8 @@ import org.apereo.cas.config.MongoDbTicketRegistryConfiguration;
 import org.apereo.cas.config.MongoDbTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
 import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.junit.EnabledIfContinuousIntegration;
 import org.apereo.cas.util.junit.EnabledIfPortOpen;
 
@@ -31,6 +33,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.test.annotation.DirtiesContext;
 
@@ -84,6 +87,18 @@ public class MongoDbTicketRegistryTests extends BaseTicketRegistryTests {
     @Qualifier("ticketRegistry")
     private TicketRegistry ticketRegistry;
 
+    @Autowired
+    @Qualifier("mongoDbTicketRegistryTemplate")
+    private MongoTemplate mongoDbTicketRegistryTemplate;
+
+    @Autowired
+    @Qualifier("ticketCatalog")
+    private TicketCatalog ticketCatalog;
+
+    @Autowired
+    @Qualifier("ticketSerializationManager")
+    private TicketSerializationManager ticketSerializationManager;
+
     @BeforeEach
     public void before() {
         ticketRegistry.deleteAll();
@@ -93,4 +108,9 @@ public class MongoDbTicketRegistryTests extends BaseTicketRegistryTests {
     public TicketRegistry getNewTicketRegistry() {
         return this.ticketRegistry;
     }
+
+    @Override
+    protected TicketRegistry getNewTicketRegistryForAnotherNode() {
+        return new MongoDbTicketRegistry(ticketCatalog, mongoDbTicketRegistryTemplate, false, ticketSerializationManager);
+    }
 }
@@ -0,0 +1,35 @@
+package org.apereo.cas.support.oauth.services;
+
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceIndex;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * This is {@link OAuthRegisteredServiceClientIdIndex} that indexes OAuth and OpenID Connect
+ * relying parties by their client id.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class OAuthRegisteredServiceClientIdIndex implements RegisteredServiceIndex {
+    /**
+     * Shared instance of the index.
+     */
+    public static final RegisteredServiceIndex INSTANCE = new OAuthRegisteredServiceClientIdIndex();
+
+    @Override
+    public Collection<String> getKeys(final RegisteredService registeredService) {
+        if (registeredService instanceof OAuthRegisteredService) {
+            val clientId = ((OAuthRegisteredService) registeredService).getClientId();
+            if (StringUtils.isNotBlank(clientId)) {
+                return List.of(clientId);
+            }
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,29 @@
+package org.apereo.cas.support.oauth.services;
+
+import org.apereo.cas.services.RegexRegisteredService;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link OAuthRegisteredServiceClientIdIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Tag("OAuth")
+public class OAuthRegisteredServiceClientIdIndexTests {
+
+    @Test
+    public void verifyKeys() {
+        val service = new OAuthRegisteredService();
+        service.setClientId("clientid");
+        assertEquals("clientid", OAuthRegisteredServiceClientIdIndex.INSTANCE.getKeys(service).iterator().next());
+
+        assertTrue(OAuthRegisteredServiceClientIdIndex.INSTANCE.getKeys(new OAuthRegisteredService()).isEmpty());
+        assertTrue(OAuthRegisteredServiceClientIdIndex.INSTANCE.getKeys(new RegexRegisteredService()).isEmpty());
+    }
+}
@@ -12,6 +12,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+import org.apereo.cas.support.oauth.validator.token.RequestValidatorTestUtils;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CollectionUtils;
@@ -83,8 +84,9 @@ public abstract class BaseOAuth20AuthenticatorTests {
         serviceWithoutSecret.setClientId("clientWithoutSecret");
 
 
-        servicesManager = mock(ServicesManager.class);
+        servicesManager = mock(ServicesManager.class, CALLS_REAL_METHODS);
         when(servicesManager.getAllServices()).thenReturn(CollectionUtils.wrapList(service, serviceWithoutSecret));
+        RequestValidatorTestUtils.mockFindServiceById(servicesManager);
 
         serviceFactory = mock(ServiceFactory.class);
         when(serviceFactory.createService(anyString())).thenReturn(RegisteredServiceTestUtils.getService());
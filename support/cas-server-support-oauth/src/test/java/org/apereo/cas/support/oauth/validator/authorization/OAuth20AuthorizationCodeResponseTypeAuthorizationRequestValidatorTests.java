@@ -7,6 +7,7 @@ import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+import org.apereo.cas.support.oauth.validator.token.RequestValidatorTestUtils;
 import org.apereo.cas.util.CollectionUtils;
 
 import lombok.val;
@@ -32,7 +33,7 @@ import static org.mockito.Mockito.*;
 public class OAuth20AuthorizationCodeResponseTypeAuthorizationRequestValidatorTests {
     @Test
     public void verifyValidator() {
-        val serviceManager = mock(ServicesManager.class);
+        val serviceManager = mock(ServicesManager.class, CALLS_REAL_METHODS);
         val service = new OAuthRegisteredService();
         service.setName("OAuth");
         service.setClientId("client");
@@ -40,6 +41,7 @@ public class OAuth20AuthorizationCodeResponseTypeAuthorizationRequestValidatorTe
         service.setServiceId("https://callback.example.org");
 
         when(serviceManager.getAllServices()).thenReturn((Collection) CollectionUtils.toCollection(service));
+        RequestValidatorTestUtils.mockFindServiceById(serviceManager);
         val v = new OAuth20AuthorizationCodeResponseTypeAuthorizationRequestValidator(serviceManager, new WebApplicationServiceFactory(),
             new RegisteredServiceAccessStrategyAuditableEnforcer());
 
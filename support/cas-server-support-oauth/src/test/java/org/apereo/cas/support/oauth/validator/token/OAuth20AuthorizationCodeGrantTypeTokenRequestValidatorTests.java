@@ -89,7 +89,7 @@ public class OAuth20AuthorizationCodeGrantTypeTokenRequestValidatorTests extends
 
     @BeforeEach
     public void before() {
-        val serviceManager = mock(ServicesManager.class);
+        val serviceManager = mock(ServicesManager.class, CALLS_REAL_METHODS);
         val supportingService = RequestValidatorTestUtils.getService(
             RegisteredServiceTestUtils.CONST_TEST_URL,
             RequestValidatorTestUtils.SUPPORTING_CLIENT_ID,
@@ -119,6 +119,7 @@ public class OAuth20AuthorizationCodeGrantTypeTokenRequestValidatorTests extends
                 supportingService,
                 nonSupportingService,
                 promiscuousService));
+        RequestValidatorTestUtils.mockFindServiceById(serviceManager);
 
         val context = OAuth20ConfigurationContext.builder()
             .servicesManager(serviceManager)
@@ -39,7 +39,7 @@ public class OAuth20PasswordGrantTypeTokenRequestValidatorTests {
 
     @BeforeEach
     public void before() {
-        val serviceManager = mock(ServicesManager.class);
+        val serviceManager = mock(ServicesManager.class, CALLS_REAL_METHODS);
         supportingService = RequestValidatorTestUtils.getService(
                 RegisteredServiceTestUtils.CONST_TEST_URL,
                 RequestValidatorTestUtils.SUPPORTING_CLIENT_ID,
@@ -60,6 +60,7 @@ public class OAuth20PasswordGrantTypeTokenRequestValidatorTests {
 
         when(serviceManager.getAllServices()).thenReturn(CollectionUtils.wrapList(
                 supportingService, nonSupportingService, promiscuousService));
+        RequestValidatorTestUtils.mockFindServiceById(serviceManager);
 
         val context = OAuth20ConfigurationContext.builder()
             .servicesManager(serviceManager)
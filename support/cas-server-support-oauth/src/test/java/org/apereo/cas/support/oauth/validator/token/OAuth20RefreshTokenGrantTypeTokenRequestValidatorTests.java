@@ -50,7 +50,7 @@ public class OAuth20RefreshTokenGrantTypeTokenRequestValidatorTests {
 
     @BeforeEach
     public void before() {
-        val servicesManager = mock(ServicesManager.class);
+        val servicesManager = mock(ServicesManager.class, CALLS_REAL_METHODS);
 
         val supportingService = RequestValidatorTestUtils.getService(
             RegisteredServiceTestUtils.CONST_TEST_URL,
@@ -71,6 +71,7 @@ public class OAuth20RefreshTokenGrantTypeTokenRequestValidatorTests {
             RequestValidatorTestUtils.SHARED_SECRET);
         when(servicesManager.getAllServices()).thenReturn(CollectionUtils.wrapList(supportingService,
             nonSupportingService, promiscuousService));
+        RequestValidatorTestUtils.mockFindServiceById(servicesManager);
 
         this.ticketRegistry = mock(TicketRegistry.class);
 
@@ -1,14 +1,19 @@
 package org.apereo.cas.support.oauth.validator.token;
 
+import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import lombok.val;
+import org.apache.commons.lang3.RandomUtils;
 
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
 /**
  * Some utils for creating test services for request validator testing.
  *
@@ -26,6 +31,7 @@ public class RequestValidatorTestUtils {
                                                     final String clientSecret,
                                                     final Set<OAuth20GrantTypes> grantTypes) {
         val registeredService = new OAuthRegisteredService();
+        registeredService.setId(RandomUtils.nextLong());
         registeredService.setName(name);
         registeredService.setClientId(clientId);
         registeredService.setClientSecret(clientSecret);
@@ -41,4 +47,17 @@ public class RequestValidatorTestUtils {
                                                                final String clientSecret) {
         return getService(serviceId, name, clientId, clientSecret, new LinkedHashSet<>());
     }
+
+    /**
+     * Look up services of the mocked services manager by id among all of its services.
+     *
+     * @param servicesManager the services manager
+     */
+    public static void mockFindServiceById(final ServicesManager servicesManager) {
+        when(servicesManager.findServiceBy(anyLong())).thenAnswer(invocation -> servicesManager.getAllServices()
+            .stream()
+            .filter(service -> service.getId() == invocation.getArgument(0, Long.class))
+            .findFirst()
+            .orElse(null));
+    }
 }
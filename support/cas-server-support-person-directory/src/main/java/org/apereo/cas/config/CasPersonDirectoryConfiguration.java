@@ -4,9 +4,11 @@ import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.principal.resolvers.InternalGroovyScriptDao;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.core.authentication.JdbcPrincipalAttributesProperties;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.persondir.DefaultPersonDirectoryAttributeRepositoryPlan;
+import org.apereo.cas.persondir.ParallelMergingPersonAttributeDao;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryPlanConfigurer;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LdapUtils;
@@ -46,6 +48,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import javax.naming.directory.SearchControls;
 
@@ -55,6 +58,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -368,10 +372,18 @@ public class CasPersonDirectoryConfiguration {
     @Bean
     @ConditionalOnMissingBean(name = "aggregatingAttributeRepository")
     public IPersonAttributeDao aggregatingAttributeRepository() {
-        val mergingDao = new MergingPersonAttributeDaoImpl();
-        val merger = StringUtils.defaultIfBlank(casProperties.getAuthn().getAttributeRepository().getMerger(), "replace").trim();
+        val props = casProperties.getAuthn().getAttributeRepository();
+        val mergingDao = props.isParallel()
+            ? new ParallelMergingPersonAttributeDao(
+                Executors.newFixedThreadPool(Math.max(1, props.getPoolSize()), new CustomizableThreadFactory("cas-attribute-repository-")),
+                Beans.newDuration(props.getQueryTimeout()))
+            : new MergingPersonAttributeDaoImpl();
+        val merger = StringUtils.defaultIfBlank(props.getMerger(), "replace").trim();
         LOGGER.trace("Configured merging strategy for attribute sources is [{}]", merger);
         mergingDao.setMerger(CoreAuthenticationUtils.getAttributeMerger(merger));
+        if (props.getFailurePolicy() != null) {
+            mergingDao.setRecoverExceptions(props.getFailurePolicy() == PrincipalAttributesProperties.FailurePolicies.IGNORE);
+        }
 
         val list = attributeRepositories();
         mergingDao.setPersonAttributeDaos(list);
@@ -0,0 +1,164 @@
+package org.apereo.cas.persondir;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.IPersonAttributes;
+import org.apereo.services.persondir.support.MergingPersonAttributeDaoImpl;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link ParallelMergingPersonAttributeDao} that queries all attribute repository sources
+ * concurrently, and waits for each source up to the configured timeout, measured from when
+ * the query to that source begins. Results are merged
+ * in the order in which sources are defined using the configured merger, so the outcome
+ * is the same as querying the sources one after another. Sources that fail or time out are skipped
+ * if exceptions are recoverable; otherwise, attribute resolution is aborted.
+ * <p>
+ * The time spent querying each source is reported as a metric, tagged with the source
+ * identifier and the outcome of the query. The executor service is owned by this
+ * component and is shut down when it is destroyed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ParallelMergingPersonAttributeDao extends MergingPersonAttributeDaoImpl implements DisposableBean {
+    private final ExecutorService executorService;
+
+    private final Duration timeout;
+
+    private static String getSourceId(final IPersonAttributeDao dao) {
+        return String.join(",", Objects.requireNonNullElse(dao.getId(), new String[]{dao.getClass().getSimpleName()}));
+    }
+
+    private static Set<IPersonAttributes> queryAttributeRepository(final IPersonAttributeDao dao,
+                                                                   final Map<String, List<Object>> query,
+                                                                   final IPersonAttributeDaoFilter filter) {
+        val start = System.nanoTime();
+        var outcome = "failure";
+        try {
+            val results = dao.getPeopleWithMultivaluedAttributes(query, filter);
+            outcome = "success";
+            return results;
+        } finally {
+            Timer.builder("cas.person.directory.query")
+                .tag("source", getSourceId(dao))
+                .tag("outcome", outcome)
+                .register(Metrics.globalRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                     final IPersonAttributeDaoFilter filter) {
+        val daos = getPersonAttributeDaos()
+            .stream()
+            .filter(dao -> filter == null || filter.choosePersonAttributeDao(dao))
+            .collect(Collectors.toList());
+        val startedAt = new AtomicLongArray(daos.size());
+        val futures = IntStream.range(0, daos.size())
+            .mapToObj(i -> submitQuery(daos.get(i), query, filter, startedAt, i))
+            .collect(Collectors.toList());
+
+        Set<IPersonAttributes> resultPeople = null;
+        try {
+            for (var i = 0; i < daos.size(); i++) {
+                val dao = daos.get(i);
+                try {
+                    val people = waitForQuery(futures.get(i), startedAt, i);
+                    if (people != null) {
+                        resultPeople = resultPeople == null ? new LinkedHashSet<>(people) : getMerger().mergeResults(resultPeople, people);
+                    }
+                    if (isStopOnSuccess()) {
+                        LOGGER.debug("Retrieved attributes from [{}] and stopping on success", getSourceId(dao));
+                        break;
+                    }
+                } catch (final TimeoutException e) {
+                    handleFailure(dao, new IllegalStateException("Attribute repository source did not respond within " + timeout));
+                } catch (final ExecutionException e) {
+                    handleFailure(dao, e.getCause());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    handleFailure(dao, e);
+                }
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        LOGGER.debug("Aggregated search results [{}] for query [{}]", resultPeople, query);
+        return resultPeople;
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    private Future<Set<IPersonAttributes>> submitQuery(final IPersonAttributeDao dao,
+                                                       final Map<String, List<Object>> query,
+                                                       final IPersonAttributeDaoFilter filter,
+                                                       final AtomicLongArray startedAt,
+                                                       final int index) {
+        return executorService.submit(() -> {
+            startedAt.set(index, System.nanoTime());
+            return queryAttributeRepository(dao, query, filter);
+        });
+    }
+
+    /**
+     * Wait for the query to the source up to the timeout, measured from when the query began.
+     * A query that has not yet begun is given the timeout from when waiting begins, and
+     * its full timeout once it begins.
+     */
+    private Set<IPersonAttributes> waitForQuery(final Future<Set<IPersonAttributes>> future,
+                                                final AtomicLongArray startedAt,
+                                                final int index) throws InterruptedException, ExecutionException, TimeoutException {
+        val waitingSince = System.nanoTime();
+        while (true) {
+            val started = startedAt.get(index);
+            val deadline = (started == 0 ? waitingSince : started) + timeout.toNanos();
+            try {
+                return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (final TimeoutException e) {
+                if (started != 0 || startedAt.get(index) == 0) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void handleFailure(final IPersonAttributeDao dao, final Throwable e) {
+        val source = getSourceId(dao);
+        if (isRecoverExceptions()) {
+            LOGGER.warn("Unable to fetch attributes from [{}]: [{}]. Results from this source are ignored", source, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            return;
+        }
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        throw new IllegalStateException("Unable to fetch attributes from " + source, e);
+    }
+}
@@ -16,7 +16,8 @@ import org.junit.runner.RunWith;
     JdbcSingleRowAttributeRepositoryTests.class,
     RestfulPersonAttributeDaoTests.class,
     CachingAttributeRepositoryTests.class,
-    JdbcSingleRowAttributeRepositoryPostgresTests.class
+    JdbcSingleRowAttributeRepositoryPostgresTests.class,
+    ParallelMergingPersonAttributeDaoTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
@@ -0,0 +1,175 @@
+package org.apereo.cas;
+
+import org.apereo.cas.persondir.ParallelMergingPersonAttributeDao;
+
+import lombok.val;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.IPersonAttributes;
+import org.apereo.services.persondir.support.AbstractAggregatingDefaultQueryPersonAttributeDao;
+import org.apereo.services.persondir.support.MergingPersonAttributeDaoImpl;
+import org.apereo.services.persondir.support.StubPersonAttributeDao;
+import org.apereo.services.persondir.support.merger.ReplacingAttributeAdder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ParallelMergingPersonAttributeDaoTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class ParallelMergingPersonAttributeDaoTests {
+    private static final Map<String, List<Object>> QUERY = Map.of("username", List.of("casuser"));
+
+    private ExecutorService executorService;
+
+    private static IPersonAttributeDao newAttributeRepository(final String id, final long delay,
+                                                              final Map<String, List<Object>> attributes) {
+        val dao = new StubPersonAttributeDao(attributes) {
+            @Override
+            public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                             final IPersonAttributeDaoFilter filter) {
+                sleep(delay);
+                return super.getPeopleWithMultivaluedAttributes(query, filter);
+            }
+        };
+        dao.setId(id);
+        return dao;
+    }
+
+    private static IPersonAttributeDao newFailingAttributeRepository() {
+        val dao = new StubPersonAttributeDao() {
+            @Override
+            public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                             final IPersonAttributeDaoFilter filter) {
+                throw new IllegalArgumentException("Attribute repository is unavailable");
+            }
+        };
+        dao.setId("failing");
+        return dao;
+    }
+
+    private static Set<IPersonAttributes> query(final AbstractAggregatingDefaultQueryPersonAttributeDao dao,
+                                                final List<IPersonAttributeDao> daos,
+                                                final boolean recoverExceptions,
+                                                final boolean stopOnSuccess) {
+        dao.setPersonAttributeDaos(daos);
+        dao.setMerger(new ReplacingAttributeAdder());
+        dao.setRecoverExceptions(recoverExceptions);
+        dao.setStopOnSuccess(stopOnSuccess);
+        return dao.getPeopleWithMultivaluedAttributes(QUERY, null);
+    }
+
+    private static Map<String, List<Object>> getAttributes(final Set<IPersonAttributes> people) {
+        assertEquals(1, people.size());
+        return people.iterator().next().getAttributes();
+    }
+
+    private static void sleep(final long delay) {
+        try {
+            Thread.sleep(delay);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @BeforeEach
+    public void initialize() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void verifyMergeOrderMatchesSequentialMerger() {
+        val daos = List.of(
+            newAttributeRepository("first", 300, Map.of("color", List.of("blue"), "shared", List.of("first"))),
+            newAttributeRepository("second", 0, Map.of("shape", List.of("round"), "shared", List.of("second"))));
+        val expected = query(new MergingPersonAttributeDaoImpl(), daos, true, false);
+        val results = query(new ParallelMergingPersonAttributeDao(executorService, Duration.ofSeconds(5)), daos, true, false);
+        assertEquals(getAttributes(expected), getAttributes(results));
+        assertEquals(List.of("second"), getAttributes(results).get("shared"));
+    }
+
+    @Test
+    public void verifyStopOnSuccessMatchesSequentialMerger() {
+        val daos = List.of(
+            newAttributeRepository("first", 100, Map.of("color", List.of("blue"))),
+            newAttributeRepository("second", 0, Map.of("shape", List.of("round"))));
+        val expected = query(new MergingPersonAttributeDaoImpl(), daos, true, true);
+        val results = query(new ParallelMergingPersonAttributeDao(executorService, Duration.ofSeconds(5)), daos, true, true);
+        assertEquals(getAttributes(expected), getAttributes(results));
+        assertFalse(getAttributes(results).containsKey("shape"));
+    }
+
+    @Test
+    public void verifySourceTimeoutIgnored() {
+        val daos = List.of(
+            newAttributeRepository("slow", 5000, Map.of("color", List.of("blue"))),
+            newAttributeRepository("fast", 0, Map.of("shape", List.of("round"))));
+        val start = System.nanoTime();
+        val results = query(new ParallelMergingPersonAttributeDao(executorService, Duration.ofMillis(200)), daos, true, false);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+        val attributes = getAttributes(results);
+        assertFalse(attributes.containsKey("color"));
+        assertEquals(List.of("round"), attributes.get("shape"));
+    }
+
+    @Test
+    public void verifySourceTimeoutAppliesToEachSource() {
+        val daos = List.of(
+            newAttributeRepository("first", 300, Map.of("color", List.of("blue"))),
+            newAttributeRepository("second", 300, Map.of("shape", List.of("round"))));
+        val dao = new ParallelMergingPersonAttributeDao(Executors.newSingleThreadExecutor(), Duration.ofMillis(500));
+        try {
+            val attributes = getAttributes(query(dao, daos, false, false));
+            assertEquals(List.of("blue"), attributes.get("color"));
+            assertEquals(List.of("round"), attributes.get("shape"));
+        } finally {
+            dao.destroy();
+        }
+    }
+
+    @Test
+    public void verifySourceTimeoutFails() {
+        val daos = List.of(
+            newAttributeRepository("slow", 5000, Map.of("color", List.of("blue"))),
+            newAttributeRepository("fast", 0, Map.of("shape", List.of("round"))));
+        val dao = new ParallelMergingPersonAttributeDao(executorService, Duration.ofMillis(200));
+        assertThrows(IllegalStateException.class, () -> query(dao, daos, false, false));
+    }
+
+    @Test
+    public void verifyFailingSourceIgnoredLikeSequentialMerger() {
+        val daos = List.of(
+            newFailingAttributeRepository(),
+            newAttributeRepository("fast", 0, Map.of("shape", List.of("round"))));
+        val expected = query(new MergingPersonAttributeDaoImpl(), daos, true, false);
+        val results = query(new ParallelMergingPersonAttributeDao(executorService, Duration.ofSeconds(5)), daos, true, false);
+        assertEquals(getAttributes(expected), getAttributes(results));
+    }
+
+    @Test
+    public void verifyFailingSourceFailsLikeSequentialMerger() {
+        val daos = List.of(
+            newFailingAttributeRepository(),
+            newAttributeRepository("fast", 0, Map.of("shape", List.of("round"))));
+        assertThrows(IllegalArgumentException.class, () -> query(new MergingPersonAttributeDaoImpl(), daos, false, false));
+        val dao = new ParallelMergingPersonAttributeDao(executorService, Duration.ofSeconds(5));
+        assertThrows(IllegalArgumentException.class, () -> query(dao, daos, false, false));
+    }
+}
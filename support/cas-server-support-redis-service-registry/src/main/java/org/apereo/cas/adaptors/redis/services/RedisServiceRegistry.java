@@ -2,6 +2,7 @@ package org.apereo.cas.adaptors.redis.services;
 
 import org.apereo.cas.services.AbstractServiceRegistry;
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServiceRegistryChanges;
 import org.apereo.cas.services.ServiceRegistryListener;
 import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
@@ -11,16 +12,23 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of the service registry interface which stores the services in a redis instance.
+ * Saved and removed services are recorded in a sorted set, scored by a version counter that advances
+ * with each change, so that the services changed after a given version can be found without loading all services.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -31,6 +39,14 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
 
     private static final String CAS_SERVICE_PREFIX = RegisteredService.class.getSimpleName() + ':';
 
+    private static final byte[] CAS_SERVICE_VERSION_KEY = (RegisteredService.class.getSimpleName() + "Version").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] CAS_SERVICE_CHANGES_KEY = (RegisteredService.class.getSimpleName() + "Changes").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] RECORD_CHANGE_SCRIPT = ("local version = redis.call('INCR', KEYS[1]); "
+        + "redis.call('ZADD', KEYS[2], version, ARGV[1]); "
+        + "return version").getBytes(StandardCharsets.UTF_8);
+
     private final RedisTemplate<String, RegisteredService> template;
 
     public RedisServiceRegistry(final ApplicationEventPublisher eventPublisher,
@@ -47,6 +63,7 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
             val redisKey = getRegisteredServiceRedisKey(rs);
             invokeServiceRegistryListenerPreSave(rs);
             this.template.boundValueOps(redisKey).set(rs);
+            recordChange(rs.getId());
             LOGGER.trace("Saved registered service [{}]", rs);
             publishEvent(new CasRegisteredServiceSavedEvent(this, rs));
         } catch (final Exception e) {
@@ -61,6 +78,7 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
             LOGGER.trace("Deleting registered service [{}]", registeredService);
             val redisKey = getRegisteredServiceRedisKey(registeredService);
             this.template.delete(redisKey);
+            recordChange(registeredService.getId());
             LOGGER.trace("Deleted registered service [{}]", registeredService);
             publishEvent(new CasRegisteredServiceDeletedEvent(this, registeredService));
             return true;
@@ -113,6 +131,49 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
         return null;
     }
 
+    @Override
+    public long getChangeVersion() {
+        try {
+            val version = this.template.execute((RedisCallback<byte[]>) connection -> connection.get(CAS_SERVICE_VERSION_KEY));
+            return version == null ? 0 : Long.parseLong(new String(version, StandardCharsets.UTF_8));
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return -1;
+    }
+
+    @Override
+    public ServiceRegistryChanges loadChanges(final long version) {
+        try {
+            val changes = this.template.execute((RedisCallback<Set<RedisZSetCommands.Tuple>>) connection ->
+                connection.zRangeByScoreWithScores(CAS_SERVICE_CHANGES_KEY, RedisZSetCommands.Range.range().gt(version)));
+            val saved = new ArrayList<RegisteredService>();
+            val deleted = new ArrayList<Long>();
+            var latestVersion = version;
+            for (val change : Objects.requireNonNull(changes)) {
+                val id = Long.parseLong(new String(change.getValue(), StandardCharsets.UTF_8));
+                val service = Optional.ofNullable(findServiceById(id))
+                    .map(this::invokeServiceRegistryListenerPostLoad);
+                if (service.isPresent()) {
+                    saved.add(service.get());
+                } else {
+                    deleted.add(id);
+                }
+                latestVersion = Math.max(latestVersion, change.getScore().longValue());
+            }
+            LOGGER.trace("Loaded [{}] changed and [{}] removed registered services since version [{}]", saved.size(), deleted.size(), version);
+            return new ServiceRegistryChanges(latestVersion, saved, deleted);
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    private void recordChange(final long id) {
+        this.template.execute((RedisCallback<Long>) connection -> connection.eval(RECORD_CHANGE_SCRIPT, ReturnType.INTEGER, 2,
+            CAS_SERVICE_VERSION_KEY, CAS_SERVICE_CHANGES_KEY, String.valueOf(id).getBytes(StandardCharsets.UTF_8)));
+    }
+
     private static String getRegisteredServiceRedisKey(final RegisteredService registeredService) {
         return getRegisteredServiceRedisKey(registeredService.getId());
     }
@@ -3,6 +3,8 @@ package org.apereo.cas.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.redis.core.RedisObjectFactory;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.NearCacheInvalidationChannel;
+import org.apereo.cas.ticket.registry.RedisNearCacheInvalidationChannel;
 import org.apereo.cas.ticket.registry.RedisTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CoreTicketUtils;
@@ -16,6 +18,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
  * This is {@link RedisTicketRegistryConfiguration}.
@@ -43,12 +46,27 @@ public class RedisTicketRegistryConfiguration {
         return RedisObjectFactory.newRedisTemplate(redisTicketConnectionFactory());
     }
 
+    @Bean
+    @ConditionalOnMissingBean(name = "redisTicketRegistryMessageListenerContainer")
+    public RedisMessageListenerContainer redisTicketRegistryMessageListenerContainer() {
+        val container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisTicketConnectionFactory());
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "redisTicketRegistryNearCacheInvalidationChannel")
+    public NearCacheInvalidationChannel redisTicketRegistryNearCacheInvalidationChannel() {
+        return new RedisNearCacheInvalidationChannel(ticketRedisTemplate(), redisTicketRegistryMessageListenerContainer());
+    }
+
     @Bean
     @RefreshScope
     public TicketRegistry ticketRegistry() {
         val redis = casProperties.getTicket().getRegistry().getRedis();
         val r = new RedisTicketRegistry(ticketRedisTemplate());
         r.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(redis.getCrypto(), "redis"));
+        r.setPageSize(redis.getPageSize());
         return r;
     }
 }
@@ -0,0 +1,65 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link RedisNearCacheInvalidationChannel} that carries
+ * near-cache invalidation messages over redis publish/subscribe.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisNearCacheInvalidationChannel implements NearCacheInvalidationChannel {
+    /**
+     * Channel name.
+     */
+    public static final String CHANNEL_NAME = "CasTicketRegistryNearCacheInvalidation";
+
+    private static final ChannelTopic TOPIC = new ChannelTopic(CHANNEL_NAME);
+
+    private final RedisTemplate<String, Ticket> redisTemplate;
+
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<Consumer<NearCacheInvalidationMessage>, MessageListener> messageListeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(final NearCacheInvalidationMessage message) {
+        LOGGER.trace("Publishing near-cache invalidation message [{}]", message);
+        redisTemplate.convertAndSend(CHANNEL_NAME, message);
+    }
+
+    @Override
+    public void subscribe(final Consumer<NearCacheInvalidationMessage> listener) {
+        val messageListener = messageListeners.computeIfAbsent(listener, key -> (message, pattern) -> {
+            val body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body instanceof NearCacheInvalidationMessage) {
+                key.accept((NearCacheInvalidationMessage) body);
+            }
+        });
+        listenerContainer.addMessageListener(messageListener, TOPIC);
+    }
+
+    @Override
+    public void unsubscribe(final Consumer<NearCacheInvalidationMessage> listener) {
+        val messageListener = messageListeners.remove(listener);
+        if (messageListener != null) {
+            LOGGER.trace("Removing near-cache invalidation listener [{}]", listener);
+            listenerContainer.removeMessageListener(messageListener, TOPIC);
+        }
+    }
+}
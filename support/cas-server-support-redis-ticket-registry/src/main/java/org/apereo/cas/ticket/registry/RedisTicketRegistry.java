@@ -1,19 +1,30 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 
+import com.google.common.collect.Iterators;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -21,6 +32,10 @@ import java.util.stream.StreamSupport;
 
 /**
  * Key-value ticket registry implementation that stores tickets in redis keyed on the ticket ID.
+ * Scanning, clearing and removing tickets and their children is done in pages of keys
+ * via {@code MGET} and {@code UNLINK}, to avoid a round trip per ticket.
+ * Tickets are consumed via optimistic transactions, so that a ticket
+ * is consumed once even if it's validated by several CAS servers at the same time.
  *
  * @author serv
  * @since 5.1.0
@@ -29,10 +44,19 @@ import java.util.stream.StreamSupport;
 @RequiredArgsConstructor
 public class RedisTicketRegistry extends AbstractTicketRegistry {
     private static final String CAS_TICKET_PREFIX = "CAS_TICKET:";
-    private static final long SCAN_COUNT = 100L;
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final int MAX_CONSUME_ATTEMPTS = 5;
 
     private final RedisTemplate<String, Ticket> client;
 
+    /**
+     * Number of keys fetched or removed per batch.
+     */
+    @Setter
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
+    private volatile boolean unlinkSupported = true;
+
     /**
      * If not time out value is specified, expire the ticket immediately.
      *
@@ -57,16 +81,22 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         return CAS_TICKET_PREFIX + '*';
     }
 
+    private static boolean isUnknownCommand(final Throwable e) {
+        return ExceptionUtils.getThrowableList(e)
+            .stream()
+            .anyMatch(cause -> StringUtils.containsIgnoreCase(cause.getMessage(), "unknown command"));
+    }
+
     @Override
     public long deleteAll() {
-        val redisKeys = this.client.keys(getPatternTicketRedisKey());
-        if (redisKeys == null) {
-            LOGGER.warn("Unable to locate tickets via redis key");
-            return 0;
+        try (val keys = getKeysStream()) {
+            var count = 0L;
+            val pages = Iterators.partition(keys.iterator(), pageSize);
+            while (pages.hasNext()) {
+                count += deleteKeys(pages.next());
+            }
+            return count;
         }
-        val size = redisKeys.size();
-        this.client.delete(redisKeys);
-        return size;
     }
 
     @Override
@@ -94,6 +124,26 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         }
     }
 
+    @Override
+    public void addTickets(final Collection<? extends Ticket> tickets) {
+        try {
+            LOGGER.debug("Adding [{}] tickets", tickets.size());
+            this.client.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(final RedisOperations<K, V> operations) {
+                    val ops = (RedisOperations<String, Ticket>) operations;
+                    tickets.forEach(ticket -> {
+                        val redisKey = getTicketRedisKey(encodeTicketId(ticket.getId()));
+                        ops.opsForValue().set(redisKey, encodeTicket(ticket), getTimeout(ticket), TimeUnit.SECONDS);
+                    });
+                    return null;
+                }
+            });
+        } catch (final Exception e) {
+            LOGGER.error("Failed to add [{}] tickets", tickets.size(), e);
+        }
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         try {
@@ -123,18 +173,13 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Stream<? extends Ticket> getTicketsStream() {
-        return getKeysStream()
-            .map(redisKey -> {
-                val ticket = this.client.boundValueOps(redisKey).get();
-                if (ticket == null) {
-                    this.client.delete(redisKey);
-                    return null;
-                }
-                return ticket;
-            })
-            .filter(Objects::nonNull)
+        val keys = getKeysStream();
+        val pages = Iterators.partition(keys.iterator(), pageSize);
+        return StreamSupport
+            .stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED), false)
+            .onClose(keys::close)
+            .flatMap(this::getTicketsFor)
             .map(this::decodeTicket);
-
     }
 
     @Override
@@ -154,21 +199,187 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    /**
+     * Consume the ticket in a transaction that watches the ticket key, and retry
+     * the transaction with a fresh copy of the ticket if the ticket is modified in the meantime.
+     *
+     * @param <T>      the generic ticket type
+     * @param ticketId the ticket id
+     * @param clazz    the expected class of the ticket
+     * @param consumer the consumer that checks and updates the ticket
+     * @return the consumed ticket, or null if the ticket cannot be found or remains in contention.
+     */
+    @Override
+    public <T extends Ticket> T consumeTicket(final String ticketId, final Class<T> clazz, final Consumer<T> consumer) {
+        val redisKey = getTicketRedisKey(encodeTicketId(ticketId));
+        for (var attempt = 1; attempt <= MAX_CONSUME_ATTEMPTS; attempt++) {
+            val result = this.client.execute(new SessionCallback<ConsumedTicket<T>>() {
+                @Override
+                public <K, V> ConsumedTicket<T> execute(final RedisOperations<K, V> operations) {
+                    val ops = (RedisOperations<String, Ticket>) operations;
+                    return consumeTicketWithinTransaction(ops, redisKey, clazz, consumer);
+                }
+            });
+            if (result != null) {
+                return result.getTicket();
+            }
+            LOGGER.debug("Ticket [{}] was modified while it was consumed; retrying attempt [{}]", ticketId, attempt);
+        }
+        LOGGER.warn("Unable to consume ticket [{}] after [{}] attempt(s)", ticketId, MAX_CONSUME_ATTEMPTS);
+        return null;
+    }
+
+    /**
+     * Delete tickets in pages. Tickets in each page are fetched in a single round trip;
+     * ticket-granting tickets are removed along with their related tickets,
+     * and all other tickets in the page are removed together.
+     *
+     * @param tickets the tickets
+     * @return the total number of deleted tickets
+     */
+    @Override
+    protected int deleteTickets(final Stream<String> tickets) {
+        var count = 0;
+        val pages = Iterators.partition(tickets.filter(StringUtils::isNotBlank).iterator(), pageSize);
+        while (pages.hasNext()) {
+            val redisKeys = pages.next().stream()
+                .map(ticketId -> getTicketRedisKey(encodeTicketId(ticketId)))
+                .collect(Collectors.toList());
+            val found = getTicketsFor(redisKeys)
+                .map(this::decodeTicket)
+                .filter(Objects::nonNull)
+                .collect(Collectors.partitioningBy(TicketGrantingTicket.class::isInstance));
+            for (val ticket : found.get(Boolean.TRUE)) {
+                count += deleteTicket(ticket);
+            }
+            val ticketIds = found.get(Boolean.FALSE).stream().map(Ticket::getId).collect(Collectors.toList());
+            count += deleteSingleTickets(ticketIds);
+        }
+        return count;
+    }
+
+    @Override
+    protected int deleteSingleTickets(final Collection<String> ticketIds) {
+        try {
+            val redisKeys = ticketIds.stream()
+                .map(ticketId -> getTicketRedisKey(encodeTicketId(ticketId)))
+                .collect(Collectors.toList());
+            val removed = deleteKeys(redisKeys);
+            LOGGER.debug("Removed [{}] out of [{}] tickets", removed, redisKeys.size());
+            return (int) removed;
+        } catch (final Exception e) {
+            LOGGER.error("Failed deleting [{}] tickets", ticketIds.size(), e);
+        }
+        return 0;
+    }
+
+    /**
+     * Remove the keys in a single round trip. Uses {@code UNLINK} to reclaim memory
+     * in the background where available, and falls back to {@code DEL} for Redis servers prior to 4.0
+     * that reject the command as unknown.
+     *
+     * @param redisKeys the redis keys
+     * @return the number of keys removed
+     */
+    private long deleteKeys(final Collection<String> redisKeys) {
+        if (redisKeys.isEmpty()) {
+            return 0;
+        }
+        if (unlinkSupported) {
+            try {
+                val removed = this.client.unlink(redisKeys);
+                return removed == null ? 0 : removed;
+            } catch (final DataAccessException e) {
+                if (!isUnknownCommand(e)) {
+                    throw e;
+                }
+                LOGGER.debug("Redis server does not support unlinking keys; falling back to deleting keys instead", e);
+                unlinkSupported = false;
+            }
+        }
+        val removed = this.client.delete(redisKeys);
+        return removed == null ? 0 : removed;
+    }
+
+    /**
+     * Consume the ticket and write it back in a transaction, if the watched ticket key is not modified in the meantime.
+     * Failures of the consumer are passed on once the ticket is written back.
+     *
+     * @param <T>      the generic ticket type
+     * @param ops      the redis operations bound to the session
+     * @param redisKey the redis key
+     * @param clazz    the expected class of the ticket
+     * @param consumer the consumer that checks and updates the ticket
+     * @return the consumed ticket, or null if the transaction is aborted.
+     */
+    private <T extends Ticket> ConsumedTicket<T> consumeTicketWithinTransaction(final RedisOperations<String, Ticket> ops, final String redisKey,
+                                                                               final Class<T> clazz, final Consumer<T> consumer) {
+        ops.watch(redisKey);
+        val found = ops.opsForValue().get(redisKey);
+        val ticket = found == null ? null : decodeTicket(found);
+        if (ticket == null) {
+            ops.unwatch();
+            return new ConsumedTicket<>(null);
+        }
+        if (!clazz.isAssignableFrom(ticket.getClass())) {
+            ops.unwatch();
+            throw new ClassCastException("Ticket [" + ticket.getId() + " is of type " + ticket.getClass() + " when we were expecting " + clazz);
+        }
+        val result = clazz.cast(ticket);
+        if (result.isExpired()) {
+            LOGGER.debug("Ticket [{}] has expired and is now removed from the ticket registry", result.getId());
+            ops.unwatch();
+            ops.delete(redisKey);
+            return new ConsumedTicket<>(null);
+        }
+        List<Object> replies = null;
+        try {
+            consumer.accept(result);
+        } finally {
+            ops.multi();
+            if (result.isExpired()) {
+                ops.delete(redisKey);
+            } else {
+                ops.opsForValue().set(redisKey, encodeTicket(result), getTimeout(result), TimeUnit.SECONDS);
+            }
+            replies = ops.exec();
+        }
+        if (replies == null || replies.isEmpty()) {
+            return null;
+        }
+        return new ConsumedTicket<>(result);
+    }
+
+    /**
+     * Fetch the tickets for a page of keys in a single round trip.
+     * Keys that have expired in the meantime are skipped. Since a scan may return
+     * the same key more than once, keys are deduplicated within the page.
+     *
+     * @param redisKeys the redis keys
+     * @return the stream of tickets
+     */
+    private Stream<Ticket> getTicketsFor(final List<String> redisKeys) {
+        val tickets = this.client.opsForValue().multiGet(redisKeys.stream().distinct().collect(Collectors.toList()));
+        if (tickets == null) {
+            return Stream.empty();
+        }
+        return tickets.stream().filter(Objects::nonNull);
+    }
+
     /**
      * Get a stream of all CAS-related keys from Redis DB.
+     * Keys are not deduplicated across the scan, so as not to hold all keys in memory.
      *
      * @return stream of all CAS-related keys from Redis DB
      */
     private Stream<String> getKeysStream() {
         val cursor = client.getConnectionFactory().getConnection()
                 .scan(ScanOptions.scanOptions().match(getPatternTicketRedisKey())
-                .count(SCAN_COUNT)
+                .count(pageSize)
                 .build());
         return StreamSupport
             .stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
             .map(key -> (String) client.getKeySerializer().deserialize(key))
-            .collect(Collectors.toSet())
-            .stream()
             .onClose(() -> {
                 try {
                     cursor.close();
@@ -177,4 +388,10 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
                 }
             });
     }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class ConsumedTicket<T extends Ticket> {
+        private final T ticket;
+    }
 }
@@ -14,7 +14,8 @@ import org.junit.runner.RunWith;
     RedisEmbeddedTicketRegistryTests.class,
     SentinelEmbeddedTicketRegistryTests.class,
     RedisServerTicketRegistryTests.class,
-    SentinelServerTicketRegistryTests.class
+    SentinelServerTicketRegistryTests.class,
+    RedisTicketRegistryDeletionTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllRedisTicketRegistryTestsSuite {
@@ -0,0 +1,101 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link RedisTicketRegistryDeletionTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class RedisTicketRegistryDeletionTests {
+    private RedisTemplate<String, Ticket> client;
+
+    private ValueOperations<String, Ticket> valueOperations;
+
+    private RedisTicketRegistry ticketRegistry;
+
+    private static Ticket newServiceTicket(final String id) {
+        val ticket = mock(ServiceTicket.class);
+        when(ticket.getId()).thenReturn(id);
+        return ticket;
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void initialize() {
+        client = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(client.opsForValue()).thenReturn(valueOperations);
+        ticketRegistry = new RedisTicketRegistry(client);
+        ticketRegistry.setPageSize(2);
+    }
+
+    @Test
+    public void verifyTicketsDeletedInPages() {
+        val firstPage = List.of(newServiceTicket("ST-1"), newServiceTicket("ST-2"));
+        val secondPage = List.of(newServiceTicket("ST-3"));
+        when(valueOperations.multiGet(anyCollection())).thenReturn(firstPage).thenReturn(secondPage);
+        when(client.unlink(anyCollection())).thenReturn(2L).thenReturn(1L);
+        assertEquals(3, ticketRegistry.deleteTickets(List.of("ST-1", "ST-2", "ST-3")));
+        verify(valueOperations, times(2)).multiGet(anyCollection());
+        verify(client).unlink(List.of("CAS_TICKET:ST-1", "CAS_TICKET:ST-2"));
+        verify(client).unlink(List.of("CAS_TICKET:ST-3"));
+    }
+
+    @Test
+    public void verifyTicketGrantingTicketDeletedWithChildren() {
+        val tgt = mock(TicketGrantingTicket.class);
+        when(tgt.getId()).thenReturn("TGT-1");
+        val service = mock(Service.class);
+        when(tgt.getServices()).thenReturn(Map.of("ST-1", service));
+        when(tgt.getProxyGrantingTickets()).thenReturn(new HashMap<>());
+        val tickets = List.of(tgt, newServiceTicket("ST-2"));
+        when(valueOperations.multiGet(anyCollection())).thenReturn(tickets);
+        when(client.unlink(anyCollection())).thenReturn(1L);
+        assertEquals(3, ticketRegistry.deleteTickets(List.of("TGT-1", "ST-2")));
+        verify(client).unlink(List.of("CAS_TICKET:ST-1"));
+        verify(client).unlink(List.of("CAS_TICKET:ST-2"));
+        verify(client).delete("CAS_TICKET:TGT-1");
+    }
+
+    @Test
+    public void verifyUnlinkFallsBackToDeleteWhenUnknown() {
+        when(client.unlink(anyCollection())).thenThrow(new RedisSystemException("ERR unknown command 'UNLINK'",
+            new IllegalArgumentException("ERR unknown command 'UNLINK'")));
+        when(client.delete(anyCollection())).thenReturn(1L);
+        assertEquals(1, ticketRegistry.deleteSingleTickets(List.of("ST-1")));
+        assertEquals(1, ticketRegistry.deleteSingleTickets(List.of("ST-2")));
+        verify(client, times(1)).unlink(anyCollection());
+        verify(client, times(2)).delete(anyCollection());
+    }
+
+    @Test
+    public void verifyUnlinkRetriedAfterFailure() {
+        when(client.unlink(anyCollection()))
+            .thenThrow(new RedisSystemException("Connection is closed", new IllegalStateException("Connection is closed")))
+            .thenReturn(1L);
+        assertEquals(0, ticketRegistry.deleteSingleTickets(List.of("ST-1")));
+        assertEquals(1, ticketRegistry.deleteSingleTickets(List.of("ST-1")));
+        verify(client, times(2)).unlink(anyCollection());
+        verify(client, never()).delete(anyCollection());
+    }
+}
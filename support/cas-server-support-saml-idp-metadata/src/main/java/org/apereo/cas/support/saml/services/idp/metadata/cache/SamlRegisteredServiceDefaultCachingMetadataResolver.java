@@ -4,34 +4,58 @@ import org.apereo.cas.support.saml.services.SamlRegisteredService;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * An adaptation of metadata resolver which handles the resolution of metadata resources
  * inside a cache. It basically is a fancy wrapper around a cache, and constructs the cache
  * semantics before processing the resolution of metadata for a SAML service.
+ * <p>
+ * Metadata resolvers are cached per metadata location, so services that share the same
+ * metadata source also share the same resolver. Loading a resolver only blocks requests for the same key.
+ * Once the cache duration of a resolver has elapsed, the stale resolver continues to be served
+ * while a fresh copy is loaded in the background; if that fails, the stale copy remains in use
+ * and the refresh is attempted again later. Resolvers that are not used within the configured
+ * expiration period are removed from the cache. The refresh executor is owned by this resolver,
+ * and is shut down when the resolver is destroyed.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @Slf4j
-public class SamlRegisteredServiceDefaultCachingMetadataResolver implements SamlRegisteredServiceCachingMetadataResolver {
+public class SamlRegisteredServiceDefaultCachingMetadataResolver implements SamlRegisteredServiceCachingMetadataResolver, DisposableBean {
 
     private static final int MAX_CACHE_SIZE = 10_000;
 
+    private static final long REFRESH_RETRY_DELAY = TimeUnit.MINUTES.toNanos(1);
+
+    private static final long MAX_REFRESH_INTERVAL = TimeUnit.DAYS.toNanos(365);
+
     private final SamlRegisteredServiceMetadataResolverCacheLoader chainingMetadataResolverCacheLoader;
-    private final LoadingCache<SamlRegisteredServiceCacheKey, MetadataResolver> cache;
+    private final SamlRegisteredServiceMetadataExpirationPolicy expirationPolicy;
+    private final Executor refreshExecutor;
+    private final LoadingCache<SamlRegisteredServiceCacheKey, CachedMetadataResolver> cache;
 
     public SamlRegisteredServiceDefaultCachingMetadataResolver(final long metadataCacheExpirationMinutes,
-                                                               final SamlRegisteredServiceMetadataResolverCacheLoader loader) {
+                                                               final SamlRegisteredServiceMetadataResolverCacheLoader loader,
+                                                               final Executor refreshExecutor) {
         this.chainingMetadataResolverCacheLoader = loader;
+        this.expirationPolicy = new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpirationMinutes);
+        this.refreshExecutor = refreshExecutor;
         this.cache = Caffeine.newBuilder()
             .maximumSize(MAX_CACHE_SIZE)
-            .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpirationMinutes))
-            .build(this.chainingMetadataResolverCacheLoader);
+            .expireAfterAccess(metadataCacheExpirationMinutes, TimeUnit.MINUTES)
+            .build(this::loadMetadataResolver);
     }
 
     @Override
@@ -39,10 +63,15 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         LOGGER.debug("Resolving metadata for [{}] at [{}].", service.getName(), service.getMetadataLocation());
         val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
         LOGGER.trace("Locating cached metadata resolver using key [{}] for service [{}]", cacheKey.getId(), service.getName());
-        val resolver = this.cache.get(cacheKey);
-        if (resolver == null) {
+        val cached = this.cache.get(cacheKey);
+        if (cached == null) {
             throw new IllegalArgumentException("Unable to determine and load metadata resolver");
         }
+        if (cached.isStale() && cached.getRefreshing().compareAndSet(false, true)) {
+            LOGGER.debug("Cached SAML metadata from [{}] is stale and will be refreshed in the background", service.getMetadataLocation());
+            refreshExecutor.execute(() -> refresh(cacheKey, cached));
+        }
+        val resolver = cached.getMetadataResolver();
         LOGGER.debug("Loaded and cached SAML metadata [{}] from [{}]", resolver.getId(), service.getMetadataLocation());
         return resolver;
     }
@@ -59,4 +88,56 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         val k = new SamlRegisteredServiceCacheKey(service, criteriaSet);
         this.cache.invalidate(k);
     }
+
+    @Override
+    public void destroy() {
+        if (refreshExecutor instanceof ExecutorService) {
+            ((ExecutorService) refreshExecutor).shutdownNow();
+        }
+    }
+
+    private CachedMetadataResolver loadMetadataResolver(final SamlRegisteredServiceCacheKey cacheKey) {
+        val resolver = this.chainingMetadataResolverCacheLoader.load(cacheKey);
+        val duration = expirationPolicy.expireAfterCreate(cacheKey, resolver, System.nanoTime());
+        return new CachedMetadataResolver(resolver, System.nanoTime() + Math.min(duration, MAX_REFRESH_INTERVAL));
+    }
+
+    private void refresh(final SamlRegisteredServiceCacheKey cacheKey, final CachedMetadataResolver cached) {
+        try {
+            val refreshed = loadMetadataResolver(cacheKey);
+            this.cache.asMap().replace(cacheKey, cached, refreshed);
+            LOGGER.debug("Refreshed SAML metadata from [{}]", cacheKey.getRegisteredService().getMetadataLocation());
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to refresh SAML metadata from [{}]; stale metadata will continue to be used: [{}]",
+                cacheKey.getRegisteredService().getMetadataLocation(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            cached.postpone(REFRESH_RETRY_DELAY);
+        }
+    }
+
+    /**
+     * A metadata resolver that is cached until it turns stale.
+     */
+    @Getter
+    private static class CachedMetadataResolver {
+        private final MetadataResolver metadataResolver;
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private volatile long staleAfter;
+
+        CachedMetadataResolver(final MetadataResolver metadataResolver, final long staleAfter) {
+            this.metadataResolver = metadataResolver;
+            this.staleAfter = staleAfter;
+        }
+
+        boolean isStale() {
+            return System.nanoTime() - staleAfter >= 0;
+        }
+
+        void postpone(final long delay) {
+            this.staleAfter = System.nanoTime() + delay;
+            this.refreshing.set(false);
+        }
+    }
 }
@@ -8,7 +8,6 @@ import org.apereo.cas.util.http.HttpClient;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
-import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.opensaml.saml.metadata.resolver.ChainingMetadataResolver;
@@ -22,6 +21,8 @@ import java.util.Objects;
  * to keep track of metadata resources and resolvers. The cache loader here supports loading
  * metadata resources from SAML services, supports dynamic metadata queries and is able
  * to run various validation filters on the metadata before finally caching the resolver.
+ * Resolvers for different cache keys may be loaded concurrently; the cache itself is
+ * responsible for making sure the same key is not loaded more than once at a time.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -43,7 +44,6 @@ public class SamlRegisteredServiceMetadataResolverCacheLoader implements CacheLo
     private final SamlRegisteredServiceMetadataResolutionPlan metadataResolutionPlan;
 
     @Override
-    @Synchronized
     @SneakyThrows
     public ChainingMetadataResolver load(final SamlRegisteredServiceCacheKey cacheKey) {
 
@@ -11,6 +11,10 @@ import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.HttpRequestUtils;
 import org.apereo.cas.util.HttpUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -31,6 +35,7 @@ import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 import java.io.File;
@@ -41,9 +46,15 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * This is {@link UrlResourceMetadataResolver}.
+ * <p>
+ * Metadata that is loaded from a URL is remembered along with its entity tag and last modification date,
+ * when the metadata source provides them. Subsequent fetches are then made conditional, and if the source
+ * responds that the metadata is not modified, the previously loaded metadata is reused without
+ * downloading or parsing it again.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -53,8 +64,14 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
     private static final String FILENAME_EXTENSION_XML = ".xml";
     private static final String DIRNAME_METADATA_BACKUPS = "metadata-backups";
 
+    private static final int MAX_METADATA_SOURCES = 1_000;
+
     private final File metadataBackupDirectory;
 
+    private final Cache<String, MetadataSource> metadataSources = Caffeine.newBuilder()
+        .maximumSize(MAX_METADATA_SOURCES)
+        .build();
+
     @SneakyThrows
     public UrlResourceMetadataResolver(final SamlIdPProperties samlIdPProperties,
                                        final OpenSamlConfigBean configBean) {
@@ -87,11 +104,17 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             LOGGER.debug("Metadata backup file will be at [{}]", canonicalPath);
             FileUtils.forceMkdirParent(backupFile);
 
+            val metadataSource = metadataSources.getIfPresent(metadataLocation);
             response = fetchMetadata(metadataLocation, criteriaSet);
             val status = HttpStatus.valueOf(response.getStatusLine().getStatusCode());
+            if (status == HttpStatus.NOT_MODIFIED && metadataSource != null) {
+                LOGGER.debug("Metadata at [{}] is not modified; previously loaded metadata will be used", metadataLocation);
+                return CollectionUtils.wrap(metadataSource.getMetadataResolver());
+            }
             if (shouldHttpResponseStatusBeProcessed(status)) {
                 val metadataProvider = getMetadataResolverFromResponse(response, backupFile);
                 configureAndInitializeSingleMetadataResolver(metadataProvider, service);
+                rememberMetadataSource(metadataLocation, response, metadataProvider);
                 return CollectionUtils.wrap(metadataProvider);
             }
         } catch (final UnauthorizedServiceException e) {
@@ -145,7 +168,28 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
      */
     protected HttpResponse fetchMetadata(final String metadataLocation, final CriteriaSet criteriaSet) {
         LOGGER.debug("Fetching metadata from [{}]", metadataLocation);
-        return HttpUtils.executeGet(metadataLocation, new LinkedHashMap<>());
+        return HttpUtils.executeGet(metadataLocation, new LinkedHashMap<>(), getConditionalRequestHeaders(metadataLocation));
+    }
+
+    /**
+     * Gets the headers that allow the metadata source to indicate that
+     * the metadata previously loaded from the given location is not modified.
+     *
+     * @param metadataLocation the metadata location
+     * @return the conditional request headers
+     */
+    protected Map<String, Object> getConditionalRequestHeaders(final String metadataLocation) {
+        val headers = new LinkedHashMap<String, Object>();
+        val metadataSource = metadataSources.getIfPresent(metadataLocation);
+        if (metadataSource != null) {
+            if (StringUtils.isNotBlank(metadataSource.getEntityTag())) {
+                headers.put(HttpHeaders.IF_NONE_MATCH, metadataSource.getEntityTag());
+            }
+            if (StringUtils.isNotBlank(metadataSource.getLastModified())) {
+                headers.put(HttpHeaders.IF_MODIFIED_SINCE, metadataSource.getLastModified());
+            }
+        }
+        return headers;
     }
 
     /**
@@ -159,6 +203,23 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
         return service.getMetadataLocation();
     }
 
+    private static String getHeaderValue(final HttpResponse response, final String name) {
+        val header = response.getFirstHeader(name);
+        return header != null ? header.getValue() : null;
+    }
+
+    private void rememberMetadataSource(final String metadataLocation, final HttpResponse response,
+                                        final AbstractMetadataResolver metadataResolver) {
+        val entityTag = getHeaderValue(response, HttpHeaders.ETAG);
+        val lastModified = getHeaderValue(response, HttpHeaders.LAST_MODIFIED);
+        if (StringUtils.isNotBlank(entityTag) || StringUtils.isNotBlank(lastModified)) {
+            LOGGER.trace("Metadata at [{}] is tagged with [{}] and was last modified at [{}]", metadataLocation, entityTag, lastModified);
+            metadataSources.put(metadataLocation, new MetadataSource(entityTag, lastModified, metadataResolver));
+        } else {
+            metadataSources.invalidate(metadataLocation);
+        }
+    }
+
     private void cleanUpExpiredBackupMetadataFilesFor(final AbstractResource metadataResource, final SamlRegisteredService service) {
         val prefix = getBackupMetadataFilenamePrefix(metadataResource, service);
         val backups = FileUtils.listFiles(this.metadataBackupDirectory,
@@ -239,4 +300,18 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
         }
         return false;
     }
+
+    /**
+     * Metadata that is loaded from a URL along with the validators
+     * that are used to check whether the metadata is modified.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class MetadataSource {
+        private final String entityTag;
+
+        private final String lastModified;
+
+        private final AbstractMetadataResolver metadataResolver;
+    }
 }
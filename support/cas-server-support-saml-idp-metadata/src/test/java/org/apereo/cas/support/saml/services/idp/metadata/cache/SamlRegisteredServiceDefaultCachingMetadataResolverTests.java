@@ -0,0 +1,94 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache;
+
+import org.apereo.cas.support.saml.SamlException;
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
+
+import lombok.val;
+import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opensaml.saml.metadata.resolver.ChainingMetadataResolver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SamlRegisteredServiceDefaultCachingMetadataResolverTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Tag("SAML")
+public class SamlRegisteredServiceDefaultCachingMetadataResolverTests {
+    private static SamlRegisteredService getSamlRegisteredService(final String name, final String expiration) {
+        val service = new SamlRegisteredService();
+        service.setName(name);
+        service.setServiceId("https://sp.example.org/" + name);
+        service.setMetadataLocation("https://md.example.org/aggregate.xml");
+        service.setMetadataExpirationDuration(expiration);
+        return service;
+    }
+
+    @Test
+    public void verifyResolverIsSharedByMetadataLocation() {
+        val loader = new CountingCacheLoader(false);
+        val resolver = new SamlRegisteredServiceDefaultCachingMetadataResolver(TimeUnit.DAYS.toMinutes(1), loader, Runnable::run);
+        val first = resolver.resolve(getSamlRegisteredService("first", "PT1H"), new CriteriaSet());
+        val second = resolver.resolve(getSamlRegisteredService("second", "PT1H"), new CriteriaSet());
+        assertSame(first, second);
+        assertEquals(1, loader.getCount().get());
+    }
+
+    @Test
+    public void verifyStaleResolverIsServedAndRefreshed() {
+        val loader = new CountingCacheLoader(false);
+        val resolver = new SamlRegisteredServiceDefaultCachingMetadataResolver(TimeUnit.DAYS.toMinutes(1), loader, Runnable::run);
+        val service = getSamlRegisteredService("stale", "PT0S");
+        val stale = resolver.resolve(service, new CriteriaSet());
+        assertEquals("1", stale.getId());
+        assertEquals(2, loader.getCount().get());
+
+        val refreshed = resolver.resolve(service, new CriteriaSet());
+        assertNotSame(stale, refreshed);
+        assertEquals("2", refreshed.getId());
+    }
+
+    @Test
+    public void verifyStaleResolverIsKeptWhenRefreshFails() {
+        val loader = new CountingCacheLoader(true);
+        val resolver = new SamlRegisteredServiceDefaultCachingMetadataResolver(TimeUnit.DAYS.toMinutes(1), loader, Runnable::run);
+        val service = getSamlRegisteredService("failing", "PT0S");
+        val first = resolver.resolve(service, new CriteriaSet());
+        assertSame(first, resolver.resolve(service, new CriteriaSet()));
+        assertSame(first, resolver.resolve(service, new CriteriaSet()));
+        assertEquals(2, loader.getCount().get());
+    }
+
+    private static class CountingCacheLoader extends SamlRegisteredServiceMetadataResolverCacheLoader {
+        private final AtomicInteger count = new AtomicInteger();
+
+        private final boolean failOnRefresh;
+
+        CountingCacheLoader(final boolean failOnRefresh) {
+            super(null, null, null);
+            this.failOnRefresh = failOnRefresh;
+        }
+
+        AtomicInteger getCount() {
+            return count;
+        }
+
+        @Override
+        public ChainingMetadataResolver load(final SamlRegisteredServiceCacheKey cacheKey) {
+            val attempt = count.incrementAndGet();
+            if (failOnRefresh && attempt > 1) {
+                throw new SamlException("Metadata is unavailable");
+            }
+            val resolver = new ChainingMetadataResolver();
+            resolver.setId(String.valueOf(attempt));
+            return resolver;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
 import org.apereo.cas.services.ServicesManager;
@@ -138,6 +139,10 @@ public class SamlIdPConfiguration {
     @Qualifier("noRedirectHttpClient")
     private ObjectProvider<HttpClient> httpClient;
 
+    @Autowired
+    @Qualifier("singleLogoutMessageDispatcher")
+    private ObjectProvider<SingleLogoutMessageDispatcher> singleLogoutMessageDispatcher;
+
     @Autowired
     @Qualifier("authenticationServiceSelectionPlan")
     private ObjectProvider<AuthenticationServiceSelectionPlan> authenticationServiceSelectionPlan;
@@ -164,7 +169,7 @@ public class SamlIdPConfiguration {
     @ConditionalOnMissingBean(name = "samlSingleLogoutServiceMessageHandler")
     @Bean
     public SingleLogoutServiceMessageHandler samlSingleLogoutServiceMessageHandler() {
-        return new SamlIdPSingleLogoutServiceMessageHandler(httpClient.getIfAvailable(),
+        val handler = new SamlIdPSingleLogoutServiceMessageHandler(httpClient.getIfAvailable(),
             samlLogoutBuilder(),
             servicesManager.getIfAvailable(),
             samlSingleLogoutServiceLogoutUrlBuilder(),
@@ -172,6 +177,8 @@ public class SamlIdPConfiguration {
             authenticationServiceSelectionPlan.getIfAvailable(),
             defaultSamlRegisteredServiceCachingMetadataResolver.getIfAvailable(),
             velocityEngineFactory.getIfAvailable());
+        handler.setMessageDispatcher(singleLogoutMessageDispatcher.getIfAvailable());
+        return handler;
     }
 
     @ConditionalOnMissingBean(name = "samlProfileSamlResponseBuilder")
@@ -58,8 +58,10 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import java.net.URL;
+import java.util.concurrent.Executors;
 
 /**
  * This is {@link SamlIdPMetadataConfiguration}.
@@ -205,7 +207,8 @@ public class SamlIdPMetadataConfiguration {
     public SamlRegisteredServiceCachingMetadataResolver defaultSamlRegisteredServiceCachingMetadataResolver() {
         return new SamlRegisteredServiceDefaultCachingMetadataResolver(
             casProperties.getAuthn().getSamlIdp().getMetadata().getCacheExpirationMinutes(),
-            chainingMetadataResolverCacheLoader()
+            chainingMetadataResolverCacheLoader(),
+            Executors.newFixedThreadPool(2, new CustomizableThreadFactory("cas-saml-metadata-refresh-"))
         );
     }
 
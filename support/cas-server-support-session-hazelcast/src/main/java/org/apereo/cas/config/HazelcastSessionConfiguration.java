@@ -1,6 +1,9 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.web.flow.executor.HazelcastWebflowStateStore;
+import org.apereo.cas.web.flow.executor.WebflowStateStore;
 
 import com.hazelcast.config.XmlConfigBuilder;
 import com.hazelcast.core.Hazelcast;
@@ -8,6 +11,7 @@ import com.hazelcast.core.HazelcastInstance;
 import lombok.SneakyThrows;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -47,4 +51,11 @@ public class HazelcastSessionConfiguration {
         return Hazelcast.newHazelcastInstance(config);
     }
 
+    @Autowired
+    @Bean
+    public WebflowStateStore webflowStateStore(@Qualifier("hazelcastInstance") final HazelcastInstance hazelcastInstance) {
+        val timeout = Beans.newDuration(casProperties.getWebflow().getSession().getStateStore().getTimeout());
+        return new HazelcastWebflowStateStore(hazelcastInstance.getMap("cas-webflow-state"), timeout);
+    }
+
 }
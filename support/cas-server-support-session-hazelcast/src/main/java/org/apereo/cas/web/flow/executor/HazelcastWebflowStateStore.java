@@ -0,0 +1,36 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.hazelcast.core.IMap;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link HazelcastWebflowStateStore} that keeps webflow state in a distributed Hazelcast map,
+ * and lets Hazelcast expire state once the timeout elapses.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiredArgsConstructor
+public class HazelcastWebflowStateStore implements WebflowStateStore {
+    private final IMap<String, byte[]> storage;
+
+    private final Duration timeout;
+
+    @Override
+    public void put(final String id, final byte[] state) {
+        storage.set(id, state, timeout.getSeconds(), TimeUnit.SECONDS);
+    }
+
+    @Override
+    public byte[] get(final String id) {
+        return storage.get(id);
+    }
+
+    @Override
+    public void remove(final String id) {
+        storage.delete(id);
+    }
+}
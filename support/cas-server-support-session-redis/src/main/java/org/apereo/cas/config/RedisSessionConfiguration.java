@@ -1,9 +1,19 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.web.flow.executor.RedisWebflowStateStore;
+import org.apereo.cas.web.flow.executor.WebflowStateStore;
 
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
 
 /**
@@ -16,4 +26,21 @@ import org.springframework.session.data.redis.config.annotation.web.http.EnableR
 @EnableRedisHttpSession
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 public class RedisSessionConfiguration {
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Autowired
+    private ObjectProvider<RedisConnectionFactory> redisConnectionFactory;
+
+    @Bean
+    public WebflowStateStore webflowStateStore() {
+        val template = new RedisTemplate<String, byte[]>();
+        template.setConnectionFactory(redisConnectionFactory.getObject());
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        val timeout = Beans.newDuration(casProperties.getWebflow().getSession().getStateStore().getTimeout());
+        return new RedisWebflowStateStore(template, timeout);
+    }
 }
@@ -0,0 +1,37 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * This is {@link RedisWebflowStateStore} that keeps webflow state in Redis,
+ * and lets Redis expire state once the timeout elapses.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@RequiredArgsConstructor
+public class RedisWebflowStateStore implements WebflowStateStore {
+    private static final String KEY_PREFIX = "CAS_WEBFLOW_STATE:";
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+
+    private final Duration timeout;
+
+    @Override
+    public void put(final String id, final byte[] state) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + id, state, timeout);
+    }
+
+    @Override
+    public byte[] get(final String id) {
+        return redisTemplate.opsForValue().get(KEY_PREFIX + id);
+    }
+
+    @Override
+    public void remove(final String id) {
+        redisTemplate.delete(KEY_PREFIX + id);
+    }
+}
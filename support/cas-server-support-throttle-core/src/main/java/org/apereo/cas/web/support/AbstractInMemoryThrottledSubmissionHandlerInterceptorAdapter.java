@@ -4,13 +4,17 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import javax.servlet.http.HttpServletRequest;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of a HandlerInterceptorAdapter that keeps track of a mapping
  * of IP Addresses to number of failures to authenticate.
+ * <p>
+ * Failures are counted per key in a {@link ThrottledSubmissionWindow} whose length
+ * is the failure range; submissions are throttled once the number of failures in the sliding window
+ * reaches the failure threshold. Counters are updated atomically per key and expire lazily;
+ * the backing map is expected to bound its own size and evict idle entries.
  *
  * @author Scott Battaglia
  * @since 3.0.0
@@ -19,50 +23,47 @@ import java.util.concurrent.ConcurrentMap;
 public abstract class AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapter extends AbstractThrottledSubmissionHandlerInterceptorAdapter
     implements InMemoryThrottledSubmissionHandlerInterceptor {
 
-    private static final double SUBMISSION_RATE_DIVIDEND = 1000.0;
-
-    private final ConcurrentMap<String, ZonedDateTime> ipMap;
+    private final ConcurrentMap<String, ThrottledSubmissionWindow> ipMap;
 
     public AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapter(
         final ThrottledSubmissionHandlerConfigurationContext configurationContext,
-        final ConcurrentMap<String, ZonedDateTime> ipMap) {
+        final ConcurrentMap<String, ThrottledSubmissionWindow> ipMap) {
         super(configurationContext);
         this.ipMap = ipMap;
     }
 
-    /**
-     * Computes the instantaneous rate in between two given dates corresponding to two submissions.
-     *
-     * @param a First date.
-     * @param b Second date.
-     * @return Instantaneous submission rate in submissions/sec, e.g. {@code a - b}.
-     */
-    private static double submissionRate(final ZonedDateTime a, final ZonedDateTime b) {
-        return SUBMISSION_RATE_DIVIDEND / (a.toInstant().toEpochMilli() - b.toInstant().toEpochMilli());
-    }
-
     @Override
     public boolean exceedsThreshold(final HttpServletRequest request) {
-        val last = this.ipMap.get(constructKey(request));
-        return last != null && submissionRate(ZonedDateTime.now(ZoneOffset.UTC), last) > getThresholdRate();
+        val window = this.ipMap.get(constructKey(request));
+        if (window == null) {
+            return false;
+        }
+        val failures = window.estimate(System.currentTimeMillis(), getWindowLength());
+        LOGGER.trace("Estimated [{}] failure(s) within the failure range", failures);
+        return failures >= getConfigurationContext().getFailureThreshold();
     }
 
     @Override
     public void recordSubmissionFailure(final HttpServletRequest request) {
         val key = constructKey(request);
         LOGGER.debug("Recording submission failure [{}]", key);
-        this.ipMap.put(key, ZonedDateTime.now(ZoneOffset.UTC));
+        val now = System.currentTimeMillis();
+        val windowLength = getWindowLength();
+        this.ipMap.compute(key, (k, window) -> window == null
+            ? ThrottledSubmissionWindow.of(now, windowLength)
+            : window.increment(now, windowLength));
     }
 
     /**
-     * This class relies on an external configuration to clean it up.
-     * It ignores the threshold data in the parent class.
+     * Failure counters expire lazily as their windows elapse,
+     * and the backing map evicts idle entries on its own.
      */
     @Override
     public void decrement() {
-        LOGGER.info("Beginning audit cleanup...");
-        val now = ZonedDateTime.now(ZoneOffset.UTC);
-        this.ipMap.entrySet().removeIf(entry -> submissionRate(now, entry.getValue()) < getThresholdRate());
-        LOGGER.debug("Done decrementing count for throttler.");
+        LOGGER.trace("Throttling records expire lazily; there is nothing to clean up");
+    }
+
+    private long getWindowLength() {
+        return TimeUnit.SECONDS.toMillis(Math.max(1, getConfigurationContext().getFailureRangeInSeconds()));
     }
 }
@@ -3,7 +3,6 @@ package org.apereo.cas.web.support;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import javax.servlet.http.HttpServletRequest;
-import java.time.ZonedDateTime;
 import java.util.concurrent.ConcurrentMap;
 
 /**
@@ -16,7 +15,7 @@ import java.util.concurrent.ConcurrentMap;
 public class InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapter extends AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapter {
 
     public InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapter(final ThrottledSubmissionHandlerConfigurationContext configurationContext,
-                                                                           final ConcurrentMap<String, ZonedDateTime> ipMap) {
+                                                                           final ConcurrentMap<String, ThrottledSubmissionWindow> ipMap) {
         super(configurationContext, ipMap);
     }
 
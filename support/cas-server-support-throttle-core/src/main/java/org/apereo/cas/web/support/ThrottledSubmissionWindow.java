@@ -0,0 +1,82 @@
+package org.apereo.cas.web.support;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link ThrottledSubmissionWindow} that counts failed submissions
+ * using a sliding window, approximated by the number of failures in the current
+ * fixed window and the one before it. The failures in the previous window are weighted
+ * by how much of that window still overlaps the sliding window.
+ * <p>
+ * Instances are immutable so they can be updated atomically via
+ * {@link java.util.concurrent.ConcurrentMap#compute(Object, java.util.function.BiFunction)},
+ * whether the map is local or distributed. Windows that have elapsed are discarded lazily
+ * when the counter is read or updated.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class ThrottledSubmissionWindow implements Serializable {
+    private static final long serialVersionUID = -3174632814520934120L;
+
+    private final long windowStart;
+
+    private final long currentCount;
+
+    private final long previousCount;
+
+    /**
+     * Record a failed submission in a new window.
+     *
+     * @param now          the current time in milliseconds
+     * @param windowLength the window length in milliseconds
+     * @return the window
+     */
+    public static ThrottledSubmissionWindow of(final long now, final long windowLength) {
+        return new ThrottledSubmissionWindow(now - Math.floorMod(now, windowLength), 1, 0);
+    }
+
+    /**
+     * Record a failed submission.
+     *
+     * @param now          the current time in milliseconds
+     * @param windowLength the window length in milliseconds
+     * @return the window that includes the failed submission
+     */
+    public ThrottledSubmissionWindow increment(final long now, final long windowLength) {
+        val window = advance(now, windowLength);
+        return new ThrottledSubmissionWindow(window.windowStart, window.currentCount + 1, window.previousCount);
+    }
+
+    /**
+     * Estimate the number of failed submissions in the sliding window that ends now.
+     *
+     * @param now          the current time in milliseconds
+     * @param windowLength the window length in milliseconds
+     * @return the estimated count
+     */
+    public double estimate(final long now, final long windowLength) {
+        val window = advance(now, windowLength);
+        val weight = 1.0 - (double) (now - window.windowStart) / windowLength;
+        return window.previousCount * Math.max(0, weight) + window.currentCount;
+    }
+
+    private ThrottledSubmissionWindow advance(final long now, final long windowLength) {
+        val elapsedWindows = (now - windowStart) / windowLength;
+        if (elapsedWindows <= 0) {
+            return this;
+        }
+        val start = windowStart + elapsedWindows * windowLength;
+        return new ThrottledSubmissionWindow(start, 0, elapsedWindows == 1 ? currentCount : 0);
+    }
+}
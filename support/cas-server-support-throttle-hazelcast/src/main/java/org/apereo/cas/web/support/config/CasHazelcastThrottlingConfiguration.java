@@ -38,8 +38,10 @@ public class CasHazelcastThrottlingConfiguration {
 
     @Bean
     public IMap throttleSubmissionMap() {
-        val hz = casProperties.getAuthn().getThrottle().getHazelcast();
-        val timeout = Beans.newDuration(casProperties.getAuthn().getThrottle().getSchedule().getRepeatInterval()).getSeconds();
+        val throttle = casProperties.getAuthn().getThrottle();
+        val hz = throttle.getHazelcast();
+        val timeout = Math.max(Beans.newDuration(throttle.getSchedule().getRepeatInterval()).getSeconds(),
+            2L * throttle.getFailure().getRangeSeconds());
         val factory = new HazelcastConfigurationFactory();
         LOGGER.debug("Creating [{}] to record failed logins for throttling with timeout set to [{}]", MAP_KEY, timeout);
         val ipMapConfig = factory.buildMapConfig(hz, MAP_KEY, timeout);
@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.audit.AuditTrailExecutionPlan;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.support.throttle.ThrottleProperties;
 import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.throttle.ThrottledRequestExecutor;
 import org.apereo.cas.throttle.ThrottledRequestResponseHandler;
@@ -9,7 +10,9 @@ import org.apereo.cas.web.support.JdbcThrottledSubmissionHandlerInterceptorAdapt
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerConfigurationContext;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerInterceptor;
 
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -30,6 +33,7 @@ import javax.sql.DataSource;
 @Configuration("casJdbcThrottlingConfiguration")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @AutoConfigureAfter(CasThrottlingConfiguration.class)
+@Slf4j
 public class CasJdbcThrottlingConfiguration {
 
     @Autowired
@@ -70,7 +74,16 @@ public class CasJdbcThrottlingConfiguration {
             .throttledRequestExecutor(throttledRequestExecutor.getIfAvailable())
             .build();
 
+        val jdbc = throttle.getJdbc();
+        val defaults = new ThrottleProperties.Jdbc();
+        var reconciliationQuery = jdbc.getReconciliationQuery();
+        if (!StringUtils.equals(jdbc.getAuditQuery(), defaults.getAuditQuery())
+            && StringUtils.equals(reconciliationQuery, defaults.getReconciliationQuery())) {
+            LOGGER.warn("A custom audit query is defined without a matching reconciliation query; failed attempts will be "
+                + "queried from audit records on each submission. Define a reconciliation query to evaluate failed attempts in memory.");
+            reconciliationQuery = null;
+        }
         return new JdbcThrottledSubmissionHandlerInterceptorAdapter(context, inspektrThrottleDataSource(),
-            throttle.getJdbc().getAuditQuery());
+            jdbc.getAuditQuery(), reconciliationQuery, throttle.getMaximumSize());
     }
 }
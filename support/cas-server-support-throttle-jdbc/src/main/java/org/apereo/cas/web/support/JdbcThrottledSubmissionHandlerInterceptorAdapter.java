@@ -1,14 +1,25 @@
 package org.apereo.cas.web.support;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.sql.DataSource;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Works in conjunction with the Inspektr Library to block attempts to dictionary attack users.
@@ -18,45 +29,219 @@ import java.util.stream.Collectors;
  * <p>
  * This relies on the default Inspektr table layout and username construction.  The username construction can be overridden
  * in a subclass.
+ * <p>
+ * If a reconciliation query is defined, failed attempts are evaluated in memory, per IP address and username,
+ * within the configured failure range so that evaluating the threshold never queries the database.
+ * The audit records remain the source of truth: failed attempts are periodically loaded from recent audit records
+ * of the application, including those recorded by other CAS nodes. Failed attempts observed by this node are kept
+ * until a matching audit record is loaded, since audit records may be written asynchronously.
+ * Since the threshold rate is computed from the two most recent failed attempts, only those are kept
+ * per IP address and username, and the number of IP address and username combinations kept in memory is bounded.
+ * The reconciliation query is expected to return the {@code AUD_CLIENT_IP}, {@code AUD_USER} and {@code AUD_DATE} columns.
+ * <p>
+ * Otherwise, the audit query is executed on each submission to locate recent failed attempts.
  *
  * @author Scott Battaglia
  * @since 3.3.5
  */
+@Slf4j
 public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractInspektrAuditHandlerInterceptorAdapter {
+    private static final String COLUMN_CLIENT_IP_ADDRESS = "AUD_CLIENT_IP";
+
+    private static final String COLUMN_USER = "AUD_USER";
+
+    private static final String COLUMN_DATE = "AUD_DATE";
+
+    /**
+     * Number of most recent failed attempts kept per IP address and username.
+     */
+    private static final int MAXIMUM_FAILURES_PER_KEY = 2;
+
+    /**
+     * Largest gap between a failed attempt observed by this node and the audit record of the same attempt.
+     */
+    private static final long AUDIT_RECORD_TOLERANCE_MILLIS = 1000;
+
+    private static final int RECONCILIATION_FETCH_SIZE = 1000;
+
     private final String sqlQueryAudit;
+
+    private final String sqlQueryReconciliation;
+
+    private final long maximumSize;
+
     private final JdbcTemplate jdbcTemplate;
 
+    private final ConcurrentMap<String, List<Long>> localFailures;
+
+    private volatile Map<String, List<Long>> reconciledFailures = Map.of();
+
+    private volatile long reconciledAt;
+
     public JdbcThrottledSubmissionHandlerInterceptorAdapter(final ThrottledSubmissionHandlerConfigurationContext configurationContext,
                                                             final DataSource dataSource,
-                                                            final String sqlQueryAudit) {
+                                                            final String sqlQueryAudit,
+                                                            final String sqlQueryReconciliation,
+                                                            final long maximumSize) {
         super(configurationContext);
         this.sqlQueryAudit = sqlQueryAudit;
+        this.sqlQueryReconciliation = sqlQueryReconciliation;
+        this.maximumSize = maximumSize;
         this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(RECONCILIATION_FETCH_SIZE);
+        this.localFailures = newFailureMap(maximumSize)
+            .expireAfterWrite(Math.max(1, configurationContext.getFailureRangeInSeconds()), TimeUnit.SECONDS)
+            .<String, List<Long>>build()
+            .asMap();
+    }
+
+    private static Caffeine<Object, Object> newFailureMap(final long maximumSize) {
+        return Caffeine.newBuilder().maximumSize(maximumSize).executor(Runnable::run);
+    }
+
+    private static String getFailureKey(final String remoteAddress, final String username) {
+        return remoteAddress + ';' + username;
     }
 
+    private static List<Long> getMostRecentFailures(final Stream<Long> failures, final long cutoff) {
+        return failures
+            .filter(time -> time >= cutoff)
+            .sorted(Comparator.reverseOrder())
+            .limit(MAXIMUM_FAILURES_PER_KEY)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Failed attempts observed by this node that are not matched by audit records.
+     * Each audit record matches at most one failed attempt, and failed attempts observed
+     * after audit records were loaded cannot be matched by them.
+     */
+    private static List<Long> getUnreconciledFailures(final List<Long> failures, final List<Long> reconciled, final long reconciledAt) {
+        val unmatched = new ArrayList<Long>(reconciled);
+        val results = new ArrayList<Long>(failures.size());
+        for (val time : failures) {
+            if (time >= reconciledAt) {
+                results.add(time);
+                continue;
+            }
+            val match = unmatched.stream()
+                .filter(recorded -> Math.abs(recorded - time) <= AUDIT_RECORD_TOLERANCE_MILLIS)
+                .min(Comparator.comparingLong(recorded -> Math.abs(recorded - time)));
+            if (match.isPresent()) {
+                unmatched.remove(match.get());
+            } else {
+                results.add(time);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Failed attempts observed by this node that remain within the failure range and are not yet audited,
+     * or null if there are none left.
+     */
+    private static List<Long> getRemainingFailures(final List<Long> failures, final List<Long> reconciled,
+                                                   final long reconciledAt, final long cutoff) {
+        val remaining = getMostRecentFailures(getUnreconciledFailures(failures, reconciled, reconciledAt).stream(), cutoff);
+        return remaining.isEmpty() ? null : remaining;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        decrement();
+    }
 
     @Override
     public boolean exceedsThreshold(final HttpServletRequest request) {
         val clientInfo = ClientInfoHolder.getClientInfo();
         val remoteAddress = clientInfo.getClientIpAddress();
+        val username = getUsernameParameterFromRequest(request);
+
+        if (!isReconciliationEnabled()) {
+            val failuresInAudits = this.jdbcTemplate.query(
+                this.sqlQueryAudit,
+                new Object[]{
+                    remoteAddress,
+                    username,
+                    getConfigurationContext().getAuthenticationFailureCode(),
+                    getConfigurationContext().getApplicationCode(),
+                    getFailureInRangeCutOffDate()},
+                new int[]{Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP},
+                (resultSet, i) -> resultSet.getTimestamp(1));
+            val failures = failuresInAudits.stream().map(t -> new Date(t.getTime())).collect(Collectors.toList());
+            return calculateFailureThresholdRateAndCompare(failures);
+        }
 
-        val failuresInAudits = this.jdbcTemplate.query(
-            this.sqlQueryAudit,
-            new Object[]{
-                remoteAddress,
-                getUsernameParameterFromRequest(request),
-                getConfigurationContext().getAuthenticationFailureCode(),
-                getConfigurationContext().getApplicationCode(),
-                getFailureInRangeCutOffDate()},
-            new int[]{Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP},
-            (resultSet, i) -> resultSet.getTimestamp(1));
-
-        val failures = failuresInAudits.stream().map(t -> new Date(t.getTime())).collect(Collectors.toList());
+        val key = getFailureKey(remoteAddress, username);
+        val reconciled = reconciledFailures.getOrDefault(key, List.of());
+        val local = getUnreconciledFailures(localFailures.getOrDefault(key, List.of()), reconciled, this.reconciledAt);
+        val failures = getMostRecentFailures(Stream.concat(local.stream(), reconciled.stream()), getFailureInRangeCutOffDate().getTime())
+            .stream()
+            .map(Date::new)
+            .collect(Collectors.toList());
         return calculateFailureThresholdRateAndCompare(failures);
     }
 
+    @Override
+    public void recordSubmissionFailure(final HttpServletRequest request) {
+        if (!isReconciliationEnabled()) {
+            return;
+        }
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val key = getFailureKey(clientInfo.getClientIpAddress(), getUsernameParameterFromRequest(request));
+        val cutoff = getFailureInRangeCutOffDate().getTime();
+        val now = System.currentTimeMillis();
+        localFailures.compute(key, (k, failures) -> getMostRecentFailures(
+            Stream.concat(Stream.of(now), failures == null ? Stream.empty() : failures.stream()), cutoff));
+    }
+
+    /**
+     * Reload failed attempts from audit records. Failed attempts observed by this node
+     * are kept within the failure range until matching audit records are loaded.
+     */
+    @Override
+    public void decrement() {
+        if (!isReconciliationEnabled()) {
+            LOGGER.trace("Failed attempts are queried from audit records on each submission; there is nothing to reconcile");
+            return;
+        }
+        val startedAt = System.currentTimeMillis();
+        val cutoff = getFailureInRangeCutOffDate();
+        try {
+            val results = newFailureMap(this.maximumSize).<String, List<Long>>build().asMap();
+            this.jdbcTemplate.query(
+                this.sqlQueryReconciliation,
+                new Object[]{
+                    getConfigurationContext().getAuthenticationFailureCode(),
+                    getConfigurationContext().getApplicationCode(),
+                    cutoff},
+                new int[]{Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP},
+                (RowCallbackHandler) resultSet -> {
+                    val key = getFailureKey(resultSet.getString(COLUMN_CLIENT_IP_ADDRESS), resultSet.getString(COLUMN_USER));
+                    val time = resultSet.getTimestamp(COLUMN_DATE).getTime();
+                    results.merge(key, List.of(time),
+                        (failures, recorded) -> getMostRecentFailures(Stream.concat(failures.stream(), recorded.stream()), cutoff.getTime()));
+                });
+            this.reconciledFailures = results;
+            this.reconciledAt = startedAt;
+            LOGGER.debug("Reconciled failed attempts for [{}] IP address and username combination(s) from audit records", results.size());
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to reconcile failed attempts from audit records: [{}]", e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+        val reconciled = this.reconciledFailures;
+        val loadedAt = this.reconciledAt;
+        localFailures.keySet().forEach(key -> localFailures.computeIfPresent(key,
+            (k, failures) -> getRemainingFailures(failures, reconciled.getOrDefault(k, List.of()), loadedAt, cutoff.getTime())));
+    }
+
     @Override
     public String getName() {
         return "InspektrIpAddressUsernameThrottle";
     }
+
+    private boolean isReconciliationEnabled() {
+        return StringUtils.isNotBlank(this.sqlQueryReconciliation);
+    }
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.web.support;
 
+import org.apereo.cas.audit.AuditTrailExecutionPlan;
 import org.apereo.cas.audit.config.CasSupportJdbcAuditConfiguration;
 import org.apereo.cas.audit.spi.config.CasCoreAuditConfiguration;
 import org.apereo.cas.config.CasCoreAuthenticationConfiguration;
@@ -26,10 +27,20 @@ import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguratio
 import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
 
 import lombok.Getter;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Unit test for {@link JdbcThrottledSubmissionHandlerInterceptorAdapter}.
@@ -74,4 +85,55 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapterTests extends BaseT
     @Autowired
     @Qualifier("authenticationThrottle")
     private ThrottledSubmissionHandlerInterceptor throttle;
+
+    @Autowired
+    @Qualifier("auditTrailExecutionPlan")
+    private AuditTrailExecutionPlan auditTrailExecutionPlan;
+
+    private static MockHttpServletRequest newRequest(final String username) {
+        val request = new MockHttpServletRequest();
+        request.setMethod("POST");
+        request.setParameter("username", username);
+        request.setRemoteAddr(IP_ADDRESS);
+        ClientInfoHolder.setClientInfo(new ClientInfo(request));
+        return request;
+    }
+
+    @Test
+    public void verifyFailuresRecordedByOtherNodesAreReconciled() {
+        val request = new MockHttpServletRequest();
+        request.setMethod("POST");
+        request.setParameter("username", "casuser");
+
+        val now = System.currentTimeMillis();
+        for (var i = 0; i < 2; i++) {
+            auditTrailExecutionPlan.record(new AuditActionContext("casuser", "N/A", "AUTHENTICATION_FAILED",
+                "CAS", new Date(now - i * 100), IP_ADDRESS, "5.6.7.8"));
+        }
+        assertFalse(throttle.exceedsThreshold(request));
+        throttle.decrement();
+        assertTrue(throttle.exceedsThreshold(request));
+    }
+
+    @Test
+    public void verifyFailuresRecordedByThisNodeAreKeptUntilAudited() {
+        val request = newRequest("casthrottle");
+        throttle.recordSubmissionFailure(request);
+        throttle.recordSubmissionFailure(request);
+        throttle.decrement();
+        assertTrue(throttle.exceedsThreshold(request));
+    }
+
+    @Test
+    public void verifyFailuresRecordedByThisNodeAreNotCountedTwice() {
+        val request = newRequest("casreconciled");
+        throttle.recordSubmissionFailure(request);
+        auditTrailExecutionPlan.record(new AuditActionContext("casreconciled", "N/A", "AUTHENTICATION_FAILED",
+            "CAS", new Date(), IP_ADDRESS, request.getLocalAddr()));
+        throttle.decrement();
+        assertFalse(throttle.exceedsThreshold(request));
+
+        throttle.recordSubmissionFailure(request);
+        assertTrue(throttle.exceedsThreshold(request));
+    }
 }
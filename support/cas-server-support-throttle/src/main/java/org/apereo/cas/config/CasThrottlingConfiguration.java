@@ -13,7 +13,9 @@ import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressHandlerI
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionCleaner;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerConfigurationContext;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerInterceptor;
+import org.apereo.cas.web.support.ThrottledSubmissionWindow;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -28,9 +30,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 
-import java.time.ZonedDateTime;
+import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
@@ -71,7 +72,12 @@ public class CasThrottlingConfiguration {
     @ConditionalOnMissingBean(name = "throttleSubmissionMap")
     @Bean
     public ConcurrentMap throttleSubmissionMap() {
-        return new ConcurrentHashMap<String, ZonedDateTime>();
+        val throttle = casProperties.getAuthn().getThrottle();
+        val builder = Caffeine.newBuilder().maximumSize(throttle.getMaximumSize());
+        if (throttle.getFailure().getRangeSeconds() > 0) {
+            builder.expireAfterWrite(Duration.ofSeconds(2L * throttle.getFailure().getRangeSeconds()));
+        }
+        return builder.<String, ThrottledSubmissionWindow>build().asMap();
     }
 
     @RefreshScope
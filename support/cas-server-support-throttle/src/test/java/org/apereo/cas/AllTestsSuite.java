@@ -2,6 +2,7 @@ package org.apereo.cas;
 
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapterTests;
 import org.apereo.cas.web.support.InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapterTests;
+import org.apereo.cas.web.support.ThrottledSubmissionWindowTests;
 
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.platform.suite.api.SelectClasses;
@@ -15,7 +16,8 @@ import org.junit.runner.RunWith;
  */
 @SelectClasses({
     InMemoryThrottledSubmissionByIpAddressAndUsernameHandlerInterceptorAdapterTests.class,
-    InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapterTests.class
+    InMemoryThrottledSubmissionByIpAddressHandlerInterceptorAdapterTests.class,
+    ThrottledSubmissionWindowTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
@@ -0,0 +1,44 @@
+package org.apereo.cas.web.support;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ThrottledSubmissionWindowTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class ThrottledSubmissionWindowTests {
+    private static final long WINDOW_LENGTH = 1000;
+
+    @Test
+    public void verifyFailuresCountedInCurrentWindow() {
+        val window = ThrottledSubmissionWindow.of(10_000, WINDOW_LENGTH)
+            .increment(10_100, WINDOW_LENGTH)
+            .increment(10_200, WINDOW_LENGTH);
+        assertEquals(3, window.getCurrentCount());
+        assertEquals(3, window.estimate(10_300, WINDOW_LENGTH));
+    }
+
+    @Test
+    public void verifyPreviousWindowIsWeighted() {
+        val window = ThrottledSubmissionWindow.of(10_000, WINDOW_LENGTH)
+            .increment(10_500, WINDOW_LENGTH)
+            .increment(11_000, WINDOW_LENGTH);
+        assertEquals(1, window.getCurrentCount());
+        assertEquals(2, window.getPreviousCount());
+        assertEquals(2, window.estimate(11_500, WINDOW_LENGTH), 0.001);
+    }
+
+    @Test
+    public void verifyElapsedWindowsExpire() {
+        val window = ThrottledSubmissionWindow.of(10_000, WINDOW_LENGTH).increment(10_100, WINDOW_LENGTH);
+        assertEquals(0, window.estimate(12_500, WINDOW_LENGTH));
+        val next = window.increment(12_500, WINDOW_LENGTH);
+        assertEquals(1, next.getCurrentCount());
+        assertEquals(0, next.getPreviousCount());
+    }
+}
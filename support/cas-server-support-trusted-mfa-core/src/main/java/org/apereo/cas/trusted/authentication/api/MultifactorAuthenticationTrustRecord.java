@@ -17,6 +17,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Lob;
 import javax.persistence.Table;
 import java.time.LocalDateTime;
@@ -30,7 +31,8 @@ import java.time.temporal.ChronoUnit;
  * @since 5.0.0
  */
 @Entity
-@Table(name = "MultifactorAuthenticationTrustRecord")
+@Table(name = "MultifactorAuthenticationTrustRecord", indexes =
+    @Index(name = "MfaTrustRecord_principal_fingerprint", columnList = "principal,deviceFingerprint,recordDate"))
 @JsonIgnoreProperties(ignoreUnknown = true)
 @ToString
 @Getter
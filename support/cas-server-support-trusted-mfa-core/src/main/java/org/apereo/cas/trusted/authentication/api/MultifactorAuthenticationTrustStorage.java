@@ -1,7 +1,9 @@
 package org.apereo.cas.trusted.authentication.api;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link MultifactorAuthenticationTrustStorage}.
@@ -58,6 +60,22 @@ public interface MultifactorAuthenticationTrustStorage {
      */
     Set<? extends MultifactorAuthenticationTrustRecord> get(String principal, LocalDateTime onOrAfterDate);
 
+    /**
+     * Get records by date that are issued to the given device.
+     *
+     * @param principal         the principal id
+     * @param onOrAfterDate     the on or after date
+     * @param deviceFingerprint the device fingerprint
+     * @return the records
+     */
+    default Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final LocalDateTime onOrAfterDate,
+                                                                    final String deviceFingerprint) {
+        return get(principal, onOrAfterDate)
+            .stream()
+            .filter(entry -> entry.getDeviceFingerprint().equals(deviceFingerprint))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     /**
      * Set trusted record.
      *
@@ -5,17 +5,21 @@ import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustS
 import org.apereo.cas.trusted.util.MultifactorAuthenticationTrustUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apereo.inspektr.audit.annotation.Audit;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -33,6 +37,13 @@ public abstract class BaseMultifactorAuthenticationTrustStorage implements Multi
 
     private CipherExecutor<Serializable, String> cipherExecutor;
 
+    /**
+     * Most recent valid records found for a principal and device fingerprint,
+     * which allow devices found to be trusted to be looked up again without querying the storage.
+     */
+    @ToString.Exclude
+    private Cache<Pair<String, String>, MultifactorAuthenticationTrustRecord> trustedDeviceCache;
+
     @Audit(action = "TRUSTED_AUTHENTICATION",
         actionResolverName = "TRUSTED_AUTHENTICATION_ACTION_RESOLVER",
         resourceResolverName = "TRUSTED_AUTHENTICATION_RESOURCE_RESOLVER")
@@ -43,17 +54,37 @@ public abstract class BaseMultifactorAuthenticationTrustStorage implements Multi
         return setInternal(record);
     }
 
+    @Override
+    public void expire(final String key) {
+        if (trustedDeviceCache != null) {
+            trustedDeviceCache.asMap().values().removeIf(entry -> StringUtils.equalsIgnoreCase(entry.getRecordKey(), key));
+        }
+        expireInternal(key);
+    }
+
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final LocalDateTime onOrAfterDate) {
         val res = get(principal);
-        res.removeIf(entry -> {
-            if (entry.getRecordDate().isBefore(onOrAfterDate)) {
-                return true;
+        res.removeIf(entry -> !isTrustedRecord(entry, onOrAfterDate));
+        return res;
+    }
+
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final LocalDateTime onOrAfterDate,
+                                                                   final String deviceFingerprint) {
+        val cacheKey = Pair.of(principal, deviceFingerprint);
+        if (trustedDeviceCache != null) {
+            val cached = trustedDeviceCache.getIfPresent(cacheKey);
+            if (cached != null && !cached.getRecordDate().isBefore(onOrAfterDate)) {
+                LOGGER.trace("Found cached trusted authentication record for [{}] that matches [{}]", principal, deviceFingerprint);
+                return Set.of(cached);
             }
-            val decodedKey = this.cipherExecutor.decode(entry.getRecordKey());
-            val currentKey = MultifactorAuthenticationTrustUtils.generateKey(entry);
-            return StringUtils.isBlank(decodedKey) || !decodedKey.equals(currentKey);
-        });
+        }
+        val res = new LinkedHashSet<MultifactorAuthenticationTrustRecord>(getInternal(principal, onOrAfterDate, deviceFingerprint));
+        res.removeIf(entry -> !entry.getDeviceFingerprint().equals(deviceFingerprint) || !isTrustedRecord(entry, onOrAfterDate));
+        if (trustedDeviceCache != null) {
+            res.stream().max(Comparator.naturalOrder()).ifPresent(entry -> trustedDeviceCache.put(cacheKey, entry));
+        }
         return res;
     }
 
@@ -67,6 +98,21 @@ public abstract class BaseMultifactorAuthenticationTrustStorage implements Multi
         return cipherExecutor.encode(MultifactorAuthenticationTrustUtils.generateKey(r));
     }
 
+    /**
+     * Get records for the principal that are issued to the given device on or after the date.
+     * Storages that are able to query records by device fingerprint should override this method
+     * to avoid loading all records that belong to the principal.
+     *
+     * @param principal         the principal
+     * @param onOrAfterDate     the on or after date
+     * @param deviceFingerprint the device fingerprint
+     * @return the records
+     */
+    protected Set<? extends MultifactorAuthenticationTrustRecord> getInternal(final String principal, final LocalDateTime onOrAfterDate,
+                                                                              final String deviceFingerprint) {
+        return get(principal);
+    }
+
     /**
      * Set records.
      *
@@ -74,4 +120,20 @@ public abstract class BaseMultifactorAuthenticationTrustStorage implements Multi
      * @return the record
      */
     protected abstract MultifactorAuthenticationTrustRecord setInternal(MultifactorAuthenticationTrustRecord record);
+
+    /**
+     * Expire device by registration key.
+     *
+     * @param key the key
+     */
+    protected abstract void expireInternal(String key);
+
+    private boolean isTrustedRecord(final MultifactorAuthenticationTrustRecord entry, final LocalDateTime onOrAfterDate) {
+        if (entry.getRecordDate().isBefore(onOrAfterDate)) {
+            return false;
+        }
+        val decodedKey = this.cipherExecutor.decode(entry.getRecordKey());
+        val currentKey = MultifactorAuthenticationTrustUtils.generateKey(entry);
+        return StringUtils.isNotBlank(decodedKey) && decodedKey.equals(currentKey);
+    }
 }
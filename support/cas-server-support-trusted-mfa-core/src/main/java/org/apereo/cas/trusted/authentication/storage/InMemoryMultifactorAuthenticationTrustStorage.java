@@ -26,7 +26,7 @@ public class InMemoryMultifactorAuthenticationTrustStorage extends BaseMultifact
     private final LoadingCache<String, MultifactorAuthenticationTrustRecord> storage;
 
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         storage.asMap().keySet().removeIf(k -> k.equalsIgnoreCase(key));
     }
 
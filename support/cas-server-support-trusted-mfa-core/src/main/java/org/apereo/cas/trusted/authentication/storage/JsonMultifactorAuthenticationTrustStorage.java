@@ -41,7 +41,7 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
     }
     
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         storage.keySet().removeIf(k -> k.equalsIgnoreCase(key));
         writeTrustedRecordsToResource();
     }
@@ -2,13 +2,18 @@ package org.apereo.cas.trusted.util;
 
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
+import org.apereo.cas.configuration.model.support.mfa.TrustedDevicesMultifactorProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.web.flow.configurer.AbstractMultifactorTrustedDeviceWebflowConfigurer;
 import org.apereo.cas.web.support.WebUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.webflow.execution.RequestContext;
 
@@ -37,6 +42,21 @@ public class MultifactorAuthenticationTrustUtils {
             .toString();
     }
 
+    /**
+     * Build the cache of devices found to be trusted, keyed by principal and device fingerprint.
+     *
+     * @param properties the properties
+     * @return the cache
+     */
+    public static Cache<Pair<String, String>, MultifactorAuthenticationTrustRecord> buildTrustedDeviceCache(
+        final TrustedDevicesMultifactorProperties properties) {
+        val deviceCache = properties.getDeviceCache();
+        return Caffeine.newBuilder()
+            .maximumSize(deviceCache.getMaximumSize())
+            .expireAfterWrite(Beans.newDuration(deviceCache.getTimeToLive()))
+            .build();
+    }
+
     /**
      * Generate geography.
      *
@@ -53,16 +53,11 @@ public class MultifactorAuthenticationVerifyTrustAction extends AbstractAction {
         val principal = authn.getPrincipal().getId();
         val unit = DateTimeUtils.toChronoUnit(trustedProperties.getTimeUnit());
         val onOrAfter = LocalDateTime.now().minus(trustedProperties.getExpiration(), unit);
-        LOGGER.trace("Retrieving trusted authentication records for [{}] that are on/after [{}]", principal, onOrAfter);
-        val results = storage.get(principal, onOrAfter);
-        if (results.isEmpty()) {
-            LOGGER.debug("No valid trusted authentication records could be found for [{}]", principal);
-            return no();
-        }
         val fingerprint = deviceFingerprintStrategy.determineFingerprint(principal, requestContext, false);
-        LOGGER.trace("Retrieving authentication records for [{}] that matches [{}]", principal, fingerprint);
-        if (results.stream().noneMatch(entry -> entry.getDeviceFingerprint().equals(fingerprint))) {
-            LOGGER.debug("No trusted authentication records could be found for [{}] to match the current device fingerprint", principal);
+        LOGGER.trace("Retrieving trusted authentication records for [{}] that are on/after [{}] and match [{}]", principal, onOrAfter, fingerprint);
+        val results = storage.get(principal, onOrAfter, fingerprint);
+        if (results.isEmpty()) {
+            LOGGER.debug("No valid trusted authentication records could be found for [{}] to match the current device fingerprint", principal);
             return no();
         }
 
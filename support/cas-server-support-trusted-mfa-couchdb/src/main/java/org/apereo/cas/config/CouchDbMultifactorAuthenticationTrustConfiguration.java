@@ -5,6 +5,7 @@ import org.apereo.cas.couchdb.core.CouchDbConnectorFactory;
 import org.apereo.cas.couchdb.trusted.MultifactorAuthenticationTrustRecordCouchDbRepository;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.CouchDbMultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.util.MultifactorAuthenticationTrustUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.val;
@@ -62,6 +63,7 @@ public class CouchDbMultifactorAuthenticationTrustConfiguration {
         @Qualifier("couchDbTrustRecordRepository") final MultifactorAuthenticationTrustRecordCouchDbRepository couchDbTrustRecordRepository) {
         val c = new CouchDbMultifactorAuthenticationTrustStorage(couchDbTrustRecordRepository);
         c.setCipherExecutor(mfaTrustCipherExecutor.getIfAvailable());
+        c.setTrustedDeviceCache(MultifactorAuthenticationTrustUtils.buildTrustedDeviceCache(casProperties.getAuthn().getMfa().getTrusted()));
         return c;
     }
 }
@@ -99,6 +99,26 @@ public class MultifactorAuthenticationTrustRecordCouchDbRepository extends Couch
         return db.queryView(view, CouchDbMultifactorAuthenticationTrustRecord.class);
     }
 
+    /**
+     * Find by principal and device fingerprint on or after date.
+     * @param principal Principal to search for
+     * @param deviceFingerprint device fingerprint to search for
+     * @param onOrAfterDate start date for search
+     * @return records for principal and device after date.
+     */
+    @View(name = "by_principal_fingerprint_date",
+        map = "function(doc) { if (doc.recordKey && doc.principal && doc.deviceFingerprint && doc.recordDate) "
+            + "{ emit([doc.principal, doc.deviceFingerprint, doc.recordDate], doc) } }")
+    public List<CouchDbMultifactorAuthenticationTrustRecord> findByPrincipalAndFingerprintAfterDate(final String principal,
+                                                                                                   final String deviceFingerprint,
+                                                                                                   final LocalDateTime onOrAfterDate) {
+        val view = createQuery("by_principal_fingerprint_date")
+            .startKey(ComplexKey.of(principal, deviceFingerprint, onOrAfterDate))
+            .endKey(ComplexKey.of(principal, deviceFingerprint, String.valueOf(Long.MAX_VALUE)));
+
+        return db.queryView(view, CouchDbMultifactorAuthenticationTrustRecord.class);
+    }
+
     /**
      * Delete a record without revision checks.
      * @param record record to be deleted
@@ -41,7 +41,7 @@ public class CouchDbMultifactorAuthenticationTrustStorage extends BaseMultifacto
 
 
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         couchDb.deleteRecord(couchDb.findByRecordKey(key));
     }
 
@@ -64,4 +64,10 @@ public class CouchDbMultifactorAuthenticationTrustStorage extends BaseMultifacto
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final LocalDateTime onOrAfterDate) {
         return CollectionUtils.wrapHashSet(couchDb.findByPrincipalAfterDate(principal, onOrAfterDate));
     }
+
+    @Override
+    protected Set<? extends MultifactorAuthenticationTrustRecord> getInternal(final String principal, final LocalDateTime onOrAfterDate,
+                                                                              final String deviceFingerprint) {
+        return CollectionUtils.wrapHashSet(couchDb.findByPrincipalAndFingerprintAfterDate(principal, deviceFingerprint, onOrAfterDate));
+    }
 }
@@ -32,7 +32,7 @@ public class DynamoDbMultifactorAuthenticationTrustStorage extends BaseMultifact
     }
 
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         dynamoDbFacilitator.remove(key);
     }
 
@@ -50,4 +50,10 @@ public class DynamoDbMultifactorAuthenticationTrustStorage extends BaseMultifact
     public MultifactorAuthenticationTrustRecord get(final long id) {
         return dynamoDbFacilitator.getRecordForId(id);
     }
+
+    @Override
+    protected Set<? extends MultifactorAuthenticationTrustRecord> getInternal(final String principal, final LocalDateTime onOrAfterDate,
+                                                                              final String deviceFingerprint) {
+        return dynamoDbFacilitator.getRecordForPrincipalAndDevice(principal, onOrAfterDate, deviceFingerprint);
+    }
 }
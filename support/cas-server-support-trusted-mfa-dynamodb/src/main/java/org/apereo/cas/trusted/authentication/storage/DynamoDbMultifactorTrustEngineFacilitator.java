@@ -89,31 +89,61 @@ public class DynamoDbMultifactorTrustEngineFacilitator {
         return getRecordsByKeys(keys, ComparisonOperator.EQ);
     }
 
+    /**
+     * Gets records for principal that are issued to the device on or after the date.
+     *
+     * @param principal         the principal
+     * @param onOrAfterDate     the on or after date
+     * @param deviceFingerprint the device fingerprint
+     * @return the records
+     */
+    public Set<MultifactorAuthenticationTrustRecord> getRecordForPrincipalAndDevice(final String principal,
+                                                                                    final LocalDateTime onOrAfterDate,
+                                                                                    final String deviceFingerprint) {
+        val conditions = new HashMap<String, Condition>();
+        conditions.put(ColumnNames.PRINCIPAL.getColumnName(), getCondition(new AttributeValue(principal), ComparisonOperator.EQ));
+        conditions.put(ColumnNames.DEVICE_FINGERPRINT.getColumnName(),
+            getCondition(new AttributeValue(deviceFingerprint), ComparisonOperator.EQ));
+        val time = DateTimeUtils.dateOf(onOrAfterDate).getTime();
+        conditions.put(ColumnNames.RECORD_DATE.getColumnName(),
+            getCondition(new AttributeValue(String.valueOf(time)), ComparisonOperator.GE));
+        return getRecordsByConditions(conditions);
+    }
+
+    private static Condition getCondition(final AttributeValue value, final ComparisonOperator operator) {
+        val cond = new Condition();
+        cond.setComparisonOperator(operator);
+        cond.setAttributeValueList(List.of(value));
+        return cond;
+    }
+
     private Set<MultifactorAuthenticationTrustRecord> getRecordsByKeys(final Map<String, AttributeValue> keys,
                                                                        final ComparisonOperator operator) {
+        val conditions = new HashMap<String, Condition>();
+        keys.forEach((k, v) -> conditions.put(k, getCondition(v, operator)));
+        return getRecordsByConditions(conditions);
+    }
+
+    private Set<MultifactorAuthenticationTrustRecord> getRecordsByConditions(final Map<String, Condition> conditions) {
         val results = new HashSet<MultifactorAuthenticationTrustRecord>();
         try {
-            val scanRequest = new ScanRequest(dynamoDbProperties.getTableName());
-            keys.forEach((k, v) -> {
-                val cond = new Condition();
-                cond.setComparisonOperator(operator);
-                cond.setAttributeValueList(List.of(v));
-                scanRequest.addScanFilterEntry(k, cond);
-            });
-
-            LOGGER.debug("Submitting request [{}] to get record with keys [{}]", scanRequest, keys);
-            val items = amazonDynamoDBClient.scan(scanRequest).getItems();
-            items.forEach(item -> {
-                val record = new MultifactorAuthenticationTrustRecord();
-                record.setId(Long.parseLong(item.get(ColumnNames.ID.getColumnName()).getS()));
-                record.setDeviceFingerprint(item.get(ColumnNames.DEVICE_FINGERPRINT.getColumnName()).getS());
-                record.setName(item.get(ColumnNames.NAME.getColumnName()).getS());
-                record.setPrincipal(item.get(ColumnNames.PRINCIPAL.getColumnName()).getS());
-                record.setRecordKey(item.get(ColumnNames.RECORD_KEY.getColumnName()).getS());
-                val time = Long.parseLong(item.get(ColumnNames.RECORD_DATE.getColumnName()).getS());
-                record.setRecordDate(DateTimeUtils.localDateTimeOf(new Date(time)));
-                results.add(record);
-            });
+            val scanRequest = new ScanRequest(dynamoDbProperties.getTableName()).withScanFilter(conditions);
+            LOGGER.debug("Submitting request [{}] to get record with conditions [{}]", scanRequest, conditions);
+            do {
+                val scanResult = amazonDynamoDBClient.scan(scanRequest);
+                scanResult.getItems().forEach(item -> {
+                    val record = new MultifactorAuthenticationTrustRecord();
+                    record.setId(Long.parseLong(item.get(ColumnNames.ID.getColumnName()).getS()));
+                    record.setDeviceFingerprint(item.get(ColumnNames.DEVICE_FINGERPRINT.getColumnName()).getS());
+                    record.setName(item.get(ColumnNames.NAME.getColumnName()).getS());
+                    record.setPrincipal(item.get(ColumnNames.PRINCIPAL.getColumnName()).getS());
+                    record.setRecordKey(item.get(ColumnNames.RECORD_KEY.getColumnName()).getS());
+                    val time = Long.parseLong(item.get(ColumnNames.RECORD_DATE.getColumnName()).getS());
+                    record.setRecordDate(DateTimeUtils.localDateTimeOf(new Date(time)));
+                    results.add(record);
+                });
+                scanRequest.setExclusiveStartKey(scanResult.getLastEvaluatedKey());
+            } while (scanRequest.getExclusiveStartKey() != null && !scanRequest.getExclusiveStartKey().isEmpty());
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
@@ -5,6 +5,7 @@ import org.apereo.cas.dynamodb.AmazonDynamoDbClientFactory;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.DynamoDbMultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.DynamoDbMultifactorTrustEngineFacilitator;
+import org.apereo.cas.trusted.util.MultifactorAuthenticationTrustUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
@@ -63,6 +64,7 @@ public class DynamoDbMultifactorAuthenticationTrustConfiguration {
         val m = new DynamoDbMultifactorAuthenticationTrustStorage(
             dynamoDbMultifactorTrustEngineFacilitator());
         m.setCipherExecutor(mfaTrustCipherExecutor.getIfAvailable());
+        m.setTrustedDeviceCache(MultifactorAuthenticationTrustUtils.buildTrustedDeviceCache(casProperties.getAuthn().getMfa().getTrusted()));
         return m;
     }
 }
@@ -30,7 +30,7 @@ public class JpaMultifactorAuthenticationTrustStorage extends BaseMultifactorAut
     private transient EntityManager entityManager;
 
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         try {
             val count = this.entityManager.createQuery("DELETE FROM " + TABLE_NAME + " r where r.recordKey = :key")
                 .setParameter("key", key)
@@ -95,6 +95,24 @@ public class JpaMultifactorAuthenticationTrustStorage extends BaseMultifactorAut
         return new HashSet<>(0);
     }
 
+    @Override
+    protected Set<? extends MultifactorAuthenticationTrustRecord> getInternal(final String principal, final LocalDateTime onOrAfterDate,
+                                                                              final String deviceFingerprint) {
+        try {
+            val query = this.entityManager
+                .createQuery("SELECT r FROM " + TABLE_NAME + " r where r.principal = :principal "
+                    + "and r.deviceFingerprint = :deviceFingerprint and r.recordDate >= :date", MultifactorAuthenticationTrustRecord.class)
+                .setParameter("principal", principal)
+                .setParameter("deviceFingerprint", deviceFingerprint)
+                .setParameter("date", onOrAfterDate);
+            val results = query.getResultList();
+            return new HashSet<>(results);
+        } catch (final NoResultException e) {
+            LOGGER.debug("No trusted authentication records could be found for [{}] to match [{}]", principal, deviceFingerprint);
+        }
+        return new HashSet<>(0);
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord setInternal(final MultifactorAuthenticationTrustRecord record) {
         return this.entityManager.merge(record);
@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.model.support.jpa.JpaConfigDataHolder;
 import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.JpaMultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.util.MultifactorAuthenticationTrustUtils;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
@@ -86,6 +87,7 @@ public class JdbcMultifactorAuthnTrustConfiguration {
     public MultifactorAuthenticationTrustStorage mfaTrustEngine() {
         val m = new JpaMultifactorAuthenticationTrustStorage();
         m.setCipherExecutor(mfaTrustCipherExecutor.getIfAvailable());
+        m.setTrustedDeviceCache(MultifactorAuthenticationTrustUtils.buildTrustedDeviceCache(casProperties.getAuthn().getMfa().getTrusted()));
         return m;
     }
 }
@@ -95,6 +95,20 @@ public class JpaMultifactorAuthenticationTrustStorageTests {
         assertEquals(MultifactorAuthenticationTrustUtils.generateKey(original), MultifactorAuthenticationTrustUtils.generateKey(record));
     }
 
+    @Test
+    public void verifyRetrieveByDevice() {
+        val record = MultifactorAuthenticationTrustRecord.newInstance(PRINCIPAL, GEOGRAPHY, DEVICE_FINGERPRINT);
+        mfaTrustEngine.set(record);
+        mfaTrustEngine.set(MultifactorAuthenticationTrustRecord.newInstance(PRINCIPAL, GEOGRAPHY, "otherDeviceFingerprint"));
+        mfaTrustEngine.set(MultifactorAuthenticationTrustRecord.newInstance(PRINCIPAL2, GEOGRAPHY, DEVICE_FINGERPRINT));
+
+        val records = mfaTrustEngine.get(PRINCIPAL, LocalDateTime.now().minusDays(1), DEVICE_FINGERPRINT);
+        assertEquals(1, records.size());
+        assertEquals(MultifactorAuthenticationTrustUtils.generateKey(record),
+            MultifactorAuthenticationTrustUtils.generateKey(records.stream().findFirst().orElseThrow()));
+        assertTrue(mfaTrustEngine.get(PRINCIPAL, LocalDateTime.now().plusDays(1), DEVICE_FINGERPRINT).isEmpty());
+    }
+
     @AfterEach
     public void emptyTrustEngine() {
         Stream.of(PRINCIPAL, PRINCIPAL2)
@@ -2,10 +2,11 @@ package org.apereo.cas.trusted.authentication.storage;
 
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
@@ -20,13 +21,21 @@ import java.util.Set;
  * @since 5.0.0
  */
 @Slf4j
-@RequiredArgsConstructor
 public class MongoDbMultifactorAuthenticationTrustStorage extends BaseMultifactorAuthenticationTrustStorage {
     private final String collectionName;
     private final MongoOperations mongoTemplate;
 
+    public MongoDbMultifactorAuthenticationTrustStorage(final String collectionName, final MongoOperations mongoTemplate) {
+        this.collectionName = collectionName;
+        this.mongoTemplate = mongoTemplate;
+
+        val indexes = mongoTemplate.indexOps(collectionName);
+        indexes.ensureIndex(new Index().on("principal", Sort.Direction.ASC)
+            .on("deviceFingerprint", Sort.Direction.ASC).on("recordDate", Sort.Direction.ASC));
+    }
+
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         try {
             val query = new Query();
             query.addCriteria(Criteria.where("recordKey").is(key));
@@ -80,6 +89,17 @@ public class MongoDbMultifactorAuthenticationTrustStorage extends BaseMultifacto
         return mongoTemplate.findOne(query, MultifactorAuthenticationTrustRecord.class, this.collectionName);
     }
 
+    @Override
+    protected Set<? extends MultifactorAuthenticationTrustRecord> getInternal(final String principal, final LocalDateTime onOrAfterDate,
+                                                                              final String deviceFingerprint) {
+        val query = new Query();
+        query.addCriteria(Criteria.where("principal").is(principal)
+            .and("deviceFingerprint").is(deviceFingerprint)
+            .and("recordDate").gte(onOrAfterDate));
+        val results = mongoTemplate.find(query, MultifactorAuthenticationTrustRecord.class, this.collectionName);
+        return new HashSet<>(results);
+    }
+
     @Override
     protected MultifactorAuthenticationTrustRecord setInternal(final MultifactorAuthenticationTrustRecord record) {
         this.mongoTemplate.save(record, this.collectionName);
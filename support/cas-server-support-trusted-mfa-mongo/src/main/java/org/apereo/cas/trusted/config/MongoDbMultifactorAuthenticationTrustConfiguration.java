@@ -4,6 +4,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.MongoDbMultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.util.MultifactorAuthenticationTrustUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.val;
@@ -60,6 +61,7 @@ public class MongoDbMultifactorAuthenticationTrustConfiguration {
                 mongodb.getCollection(),
                 mongoMfaTrustedAuthnTemplate());
         m.setCipherExecutor(mfaTrustCipherExecutor.getIfAvailable());
+        m.setTrustedDeviceCache(MultifactorAuthenticationTrustUtils.buildTrustedDeviceCache(casProperties.getAuthn().getMfa().getTrusted()));
         return m;
     }
 }
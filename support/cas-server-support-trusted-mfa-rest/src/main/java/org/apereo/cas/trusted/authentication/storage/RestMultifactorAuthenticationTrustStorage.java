@@ -57,7 +57,7 @@ public class RestMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
     }
 
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         val entity = getHttpEntity(key);
         restTemplate.exchange(getEndpointUrl(null), HttpMethod.POST, entity, Object.class);
     }
@@ -3,6 +3,7 @@ package org.apereo.cas.trusted.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.RestMultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.util.MultifactorAuthenticationTrustUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.val;
@@ -37,6 +38,7 @@ public class RestMultifactorAuthenticationTrustConfiguration {
     public MultifactorAuthenticationTrustStorage mfaTrustEngine() {
         val m = new RestMultifactorAuthenticationTrustStorage(new RestTemplate(), casProperties);
         m.setCipherExecutor(mfaTrustCipherExecutor.getIfAvailable());
+        m.setTrustedDeviceCache(MultifactorAuthenticationTrustUtils.buildTrustedDeviceCache(casProperties.getAuthn().getMfa().getTrusted()));
         return m;
     }
 }
@@ -10,6 +10,7 @@ import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustS
 import org.apereo.cas.trusted.authentication.storage.InMemoryMultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.JsonMultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.MultifactorAuthenticationTrustStorageCleaner;
+import org.apereo.cas.trusted.util.MultifactorAuthenticationTrustUtils;
 import org.apereo.cas.trusted.web.MultifactorTrustedDevicesReportEndpoint;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -81,6 +82,7 @@ public class MultifactorAuthnTrustConfiguration {
                 return new InMemoryMultifactorAuthenticationTrustStorage(storage);
             }).get();
         m.setCipherExecutor(mfaTrustCipherExecutor());
+        m.setTrustedDeviceCache(MultifactorAuthenticationTrustUtils.buildTrustedDeviceCache(trusted));
         return m;
     }
 
@@ -73,5 +73,19 @@ public abstract class AbstractMultifactorAuthenticationTrustStorageTests {
         assertFalse(getMfaTrustEngine().get(record.getPrincipal(), LocalDateTime.now()).isEmpty());
     }
 
+    @Test
+    public void verifyTrustedDevice() {
+        val record = getMultifactorAuthenticationTrustRecord();
+        record.setDeviceFingerprint("TrustedDeviceFingerprint");
+        getMfaTrustEngine().set(record);
+        assertFalse(getMfaTrustEngine().get(record.getPrincipal(), LocalDateTime.now(), record.getDeviceFingerprint()).isEmpty());
+        assertFalse(getMfaTrustEngine().get(record.getPrincipal(), LocalDateTime.now(), record.getDeviceFingerprint()).isEmpty());
+        assertTrue(getMfaTrustEngine().get(record.getPrincipal(), LocalDateTime.now(), "UnknownFingerprint").isEmpty());
+        assertTrue(getMfaTrustEngine().get(record.getPrincipal(), LocalDateTime.now().plusDays(2), record.getDeviceFingerprint()).isEmpty());
+
+        getMfaTrustEngine().expire(record.getRecordKey());
+        assertTrue(getMfaTrustEngine().get(record.getPrincipal(), LocalDateTime.now(), record.getDeviceFingerprint()).isEmpty());
+    }
+
     public abstract MultifactorAuthenticationTrustStorage getMfaTrustEngine();
 }
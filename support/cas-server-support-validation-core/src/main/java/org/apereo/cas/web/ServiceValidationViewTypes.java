@@ -12,6 +12,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Getter
 public enum ServiceValidationViewTypes {
+    /**
+     * CAS2 view.
+     */
+    CAS2("cas2"),
+    /**
+     * CAS3 view.
+     */
+    CAS3("cas3"),
     /**
      * JSON view.
      */
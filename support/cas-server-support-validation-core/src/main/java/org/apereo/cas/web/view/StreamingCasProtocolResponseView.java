@@ -0,0 +1,146 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.principal.Principal;
+
+import lombok.Getter;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.StringEscapeUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.view.AbstractView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * This is {@link StreamingCasProtocolResponseView} that writes CAS2 and CAS3 validation responses
+ * straight to the response stream from fixed fragments of the response, rather than rendering view templates.
+ * Successful responses expect the model to be prepared by {@link Cas20ResponseView} or {@link Cas30ResponseView},
+ * with attributes that are already formatted by the protocol attributes renderer.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@Getter
+public class StreamingCasProtocolResponseView extends AbstractView {
+    private static final String RESPONSE_START = "<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>\n";
+
+    private static final String RESPONSE_END = "</cas:serviceResponse>\n";
+
+    private static final String SUCCESS_START = "    <cas:authenticationSuccess>\n";
+
+    private static final String SUCCESS_END = "    </cas:authenticationSuccess>\n";
+
+    private static final String USER_START = "        <cas:user>";
+
+    private static final String USER_END = "</cas:user>\n";
+
+    private static final String PGT_START = "        <cas:proxyGrantingTicket>";
+
+    private static final String PGT_END = "</cas:proxyGrantingTicket>\n";
+
+    private static final String PROXIES_START = "        <cas:proxies>\n";
+
+    private static final String PROXIES_END = "        </cas:proxies>\n";
+
+    private static final String PROXY_START = "            <cas:proxy>";
+
+    private static final String PROXY_END = "</cas:proxy>\n";
+
+    private static final String ATTRIBUTES_START = "        <cas:attributes>\n";
+
+    private static final String ATTRIBUTES_END = "        </cas:attributes>\n";
+
+    private static final String ATTRIBUTE_INDENT = "            ";
+
+    private static final String FAILURE_START = "    <cas:authenticationFailure code=\"";
+
+    private static final String FAILURE_CODE_END = "\">";
+
+    private static final String FAILURE_END = "</cas:authenticationFailure>\n";
+
+    private final boolean successResponse;
+
+    private final boolean renderAttributes;
+
+    public StreamingCasProtocolResponseView(final boolean successResponse, final boolean renderAttributes) {
+        this.successResponse = successResponse;
+        this.renderAttributes = renderAttributes;
+        setContentType(MediaType.APPLICATION_XML_VALUE + ";charset=UTF-8");
+    }
+
+    private static String escape(final Object value) {
+        return StringEscapeUtils.escapeXml10(value.toString());
+    }
+
+    @Override
+    protected void renderMergedOutputModel(final Map<String, Object> model, final HttpServletRequest request,
+                                           final HttpServletResponse response) throws Exception {
+        response.setContentType(getContentType());
+        val writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        writer.write(RESPONSE_START);
+        if (successResponse) {
+            writeAuthenticationSuccess(model, writer);
+        } else {
+            writeAuthenticationFailure(model, writer);
+        }
+        writer.write(RESPONSE_END);
+        writer.flush();
+    }
+
+    private void writeAuthenticationSuccess(final Map<String, Object> model, final Writer writer) throws IOException {
+        writer.write(SUCCESS_START);
+        val principal = (Principal) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL);
+        writer.write(USER_START);
+        writer.write(escape(principal.getId()));
+        writer.write(USER_END);
+
+        val pgtIou = (String) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU);
+        if (StringUtils.isNotBlank(pgtIou)) {
+            writer.write(PGT_START);
+            writer.write(escape(pgtIou));
+            writer.write(PGT_END);
+        }
+
+        val proxies = (Collection<Authentication>) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS);
+        if (proxies != null && !proxies.isEmpty()) {
+            writer.write(PROXIES_START);
+            for (val proxy : proxies) {
+                writer.write(PROXY_START);
+                writer.write(escape(proxy.getPrincipal().getId()));
+                writer.write(PROXY_END);
+            }
+            writer.write(PROXIES_END);
+        }
+
+        val attributes = (Collection<String>) model.get(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES);
+        if (renderAttributes && attributes != null && !attributes.isEmpty()) {
+            writer.write(ATTRIBUTES_START);
+            for (val attribute : attributes) {
+                writer.write(ATTRIBUTE_INDENT);
+                writer.write(attribute);
+                writer.write('\n');
+            }
+            writer.write(ATTRIBUTES_END);
+        }
+        writer.write(SUCCESS_END);
+    }
+
+    private static void writeAuthenticationFailure(final Map<String, Object> model, final Writer writer) throws IOException {
+        writer.write(FAILURE_START);
+        writer.write(escape(model.getOrDefault(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, StringUtils.EMPTY)));
+        writer.write(FAILURE_CODE_END);
+        writer.write(escape(model.getOrDefault(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, StringUtils.EMPTY)));
+        writer.write(FAILURE_END);
+    }
+}
@@ -0,0 +1,43 @@
+package org.apereo.cas.web.view.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.val;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.view.AbstractView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * This is {@link StreamingCasJsonResponseView} that writes the JSON validation response
+ * prepared by {@link Cas30JsonResponseView} straight to the response stream,
+ * via a writer that is configured once for all responses.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class StreamingCasJsonResponseView extends AbstractView {
+    private static final ObjectWriter WRITER = new ObjectMapper()
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+        .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+        .findAndRegisterModules()
+        .writerWithDefaultPrettyPrinter();
+
+    public StreamingCasJsonResponseView() {
+        setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+    }
+
+    @Override
+    protected void renderMergedOutputModel(final Map<String, Object> model, final HttpServletRequest request,
+                                           final HttpServletResponse response) throws Exception {
+        response.setContentType(getContentType());
+        val serviceResponse = model.get(Cas30JsonResponseView.ATTRIBUTE_NAME_MODEL_SERVICE_RESPONSE);
+        val out = response.getOutputStream();
+        WRITER.writeValue(out, Map.of(Cas30JsonResponseView.ATTRIBUTE_NAME_MODEL_SERVICE_RESPONSE, serviceResponse));
+        out.flush();
+    }
+}
@@ -30,11 +30,13 @@ import org.apereo.cas.web.v3.V3ServiceValidateController;
 import org.apereo.cas.web.view.Cas10ResponseView;
 import org.apereo.cas.web.view.Cas20ResponseView;
 import org.apereo.cas.web.view.Cas30ResponseView;
+import org.apereo.cas.web.view.StreamingCasProtocolResponseView;
 import org.apereo.cas.web.view.attributes.AttributeValuesPerLineProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.InlinedCas30ProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.NoOpProtocolAttributesRenderer;
 import org.apereo.cas.web.view.json.Cas30JsonResponseView;
+import org.apereo.cas.web.view.json.StreamingCasJsonResponseView;
 
 import lombok.val;
 import org.apache.commons.lang3.tuple.Pair;
@@ -180,7 +182,9 @@ public class CasValidationConfiguration {
         return new Cas20ResponseView(true,
             protocolAttributeEncoder.getIfAvailable(),
             servicesManager.getIfAvailable(),
-            cas2SuccessView.getIfAvailable(),
+            isStreamingValidationView(ServiceValidationViewTypes.CAS2)
+                ? new StreamingCasProtocolResponseView(true, false)
+                : cas2SuccessView.getIfAvailable(),
             authenticationAttributeReleasePolicy.getIfAvailable(),
             authenticationServiceSelectionPlan.getIfAvailable(),
             NoOpProtocolAttributesRenderer.INSTANCE);
@@ -189,6 +193,15 @@ public class CasValidationConfiguration {
     @Bean
     @ConditionalOnMissingBean(name = "cas3ServiceJsonView")
     public View cas3ServiceJsonView() {
+        if (isStreamingValidationView(ServiceValidationViewTypes.JSON)) {
+            return new Cas30JsonResponseView(true,
+                protocolAttributeEncoder.getIfAvailable(),
+                servicesManager.getIfAvailable(),
+                new StreamingCasJsonResponseView(),
+                authenticationAttributeReleasePolicy.getIfAvailable(),
+                authenticationServiceSelectionPlan.getIfAvailable(),
+                cas3ProtocolAttributesRenderer());
+        }
         return new Cas30JsonResponseView(true,
             protocolAttributeEncoder.getIfAvailable(),
             servicesManager.getIfAvailable(),
@@ -227,7 +240,9 @@ public class CasValidationConfiguration {
         return new Cas30ResponseView(true,
             protocolAttributeEncoder.getIfAvailable(),
             servicesManager.getIfAvailable(),
-            cas3SuccessView.getIfAvailable(),
+            isStreamingValidationView(ServiceValidationViewTypes.CAS3)
+                ? new StreamingCasProtocolResponseView(true, true)
+                : cas3SuccessView.getIfAvailable(),
             authenticationAttributeReleasePolicy.getIfAvailable(),
             authenticationServiceSelectionPlan.getIfAvailable(),
             cas3ProtocolAttributesRenderer());
@@ -252,16 +267,18 @@ public class CasValidationConfiguration {
         viewFactory.registerView(ServiceValidationViewTypes.JSON, cas3ServiceJsonView());
 
         val successViewV3 = cas3ServiceSuccessView();
-        viewFactory.registerView(V3ServiceValidateController.class, Pair.of(successViewV3, cas3ServiceFailureView.getIfAvailable()));
-        viewFactory.registerView(V3ProxyValidateController.class, Pair.of(successViewV3, cas3ServiceFailureView.getIfAvailable()));
+        val failureViewV3 = getServiceFailureView(ServiceValidationViewTypes.CAS3, cas3ServiceFailureView);
+        viewFactory.registerView(V3ServiceValidateController.class, Pair.of(successViewV3, failureViewV3));
+        viewFactory.registerView(V3ProxyValidateController.class, Pair.of(successViewV3, failureViewV3));
 
         if (casProperties.getView().getCas2().isV3ForwardCompatible()) {
-            viewFactory.registerView(ProxyValidateController.class, Pair.of(successViewV3, cas3ServiceFailureView.getIfAvailable()));
-            viewFactory.registerView(ServiceValidateController.class, Pair.of(successViewV3, cas3ServiceFailureView.getIfAvailable()));
+            viewFactory.registerView(ProxyValidateController.class, Pair.of(successViewV3, failureViewV3));
+            viewFactory.registerView(ServiceValidateController.class, Pair.of(successViewV3, failureViewV3));
         } else {
             val successViewV2 = cas2ServiceSuccessView();
-            viewFactory.registerView(ProxyValidateController.class, Pair.of(successViewV2, cas2ServiceFailureView.getIfAvailable()));
-            viewFactory.registerView(ServiceValidateController.class, Pair.of(successViewV2, cas2ServiceFailureView.getIfAvailable()));
+            val failureViewV2 = getServiceFailureView(ServiceValidationViewTypes.CAS2, cas2ServiceFailureView);
+            viewFactory.registerView(ProxyValidateController.class, Pair.of(successViewV2, failureViewV2));
+            viewFactory.registerView(ServiceValidateController.class, Pair.of(successViewV2, failureViewV2));
         }
 
         viewFactory.registerView(LegacyValidateController.class, Pair.of(cas1ServiceSuccessView(), cas1ServiceFailureView()));
@@ -365,6 +382,18 @@ public class CasValidationConfiguration {
         return new ServiceValidateController(context);
     }
 
+    private boolean isStreamingValidationView(final ServiceValidationViewTypes type) {
+        return casProperties.getView().getStreamingValidationViewTypes()
+            .stream()
+            .anyMatch(type.getType()::equalsIgnoreCase);
+    }
+
+    private View getServiceFailureView(final ServiceValidationViewTypes type, final ObjectProvider<View> failureView) {
+        return isStreamingValidationView(type)
+            ? new StreamingCasProtocolResponseView(false, false)
+            : failureView.getIfAvailable();
+    }
+
     private ServiceValidateConfigurationContext.ServiceValidateConfigurationContextBuilder getServiceValidateConfigurationContextBuilder() {
         return ServiceValidateConfigurationContext.builder()
             .authenticationSystemSupport(authenticationSystemSupport.getIfAvailable())
@@ -5,6 +5,8 @@ import org.apereo.cas.web.view.Cas10ResponseViewTests;
 import org.apereo.cas.web.view.Cas20ResponseViewTests;
 import org.apereo.cas.web.view.Cas30JsonResponseViewTests;
 import org.apereo.cas.web.view.Cas30ResponseViewTests;
+import org.apereo.cas.web.view.StreamingCasJsonResponseViewTests;
+import org.apereo.cas.web.view.StreamingCasProtocolResponseViewTests;
 import org.apereo.cas.web.view.attributes.AttributeValuesPerLineProtocolAttributesRendererTests;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRendererTests;
 import org.apereo.cas.web.view.attributes.InlinedCas30ProtocolAttributesRendererTests;
@@ -28,7 +30,9 @@ import org.junit.runner.RunWith;
     Cas30JsonResponseViewTests.class,
     DefaultCas30ProtocolAttributesRendererTests.class,
     InlinedCas30ProtocolAttributesRendererTests.class,
-    AttributeValuesPerLineProtocolAttributesRendererTests.class
+    AttributeValuesPerLineProtocolAttributesRendererTests.class,
+    StreamingCasProtocolResponseViewTests.class,
+    StreamingCasJsonResponseViewTests.class
 })
 @RunWith(JUnitPlatform.class)
 public class AllTestsSuite {
@@ -0,0 +1,65 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.web.view.json.Cas30JsonResponseView;
+import org.apereo.cas.web.view.json.CasJsonServiceResponse;
+import org.apereo.cas.web.view.json.CasJsonServiceResponseAuthenticationFailure;
+import org.apereo.cas.web.view.json.CasJsonServiceResponseAuthenticationSuccess;
+import org.apereo.cas.web.view.json.StreamingCasJsonResponseView;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link StreamingCasJsonResponseViewTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class StreamingCasJsonResponseViewTests {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void verifySuccessResponse() throws Exception {
+        val success = new CasJsonServiceResponseAuthenticationSuccess();
+        success.setUser("casuser");
+        success.setAttributes(Map.of("givenName", List.of("Jo & Ann")));
+        val serviceResponse = new CasJsonServiceResponse();
+        serviceResponse.setAuthenticationSuccess(success);
+
+        val response = new MockHttpServletResponse();
+        new StreamingCasJsonResponseView().render(Map.of(Cas30JsonResponseView.ATTRIBUTE_NAME_MODEL_SERVICE_RESPONSE, serviceResponse),
+            new MockHttpServletRequest(), response);
+        assertTrue(response.getContentType().startsWith("application/json"));
+
+        val result = MAPPER.readTree(response.getContentAsString()).get("serviceResponse");
+        assertNull(result.get("authenticationFailure"));
+        val authenticationSuccess = result.get("authenticationSuccess");
+        assertEquals("casuser", authenticationSuccess.get("user").asText());
+        assertNull(authenticationSuccess.get("proxyGrantingTicket"));
+        assertEquals("Jo & Ann", authenticationSuccess.get("attributes").get("givenName").get(0).asText());
+    }
+
+    @Test
+    public void verifyFailureResponse() throws Exception {
+        val failure = new CasJsonServiceResponseAuthenticationFailure();
+        failure.setCode("INVALID_TICKET");
+        failure.setDescription("Ticket \"ST-1\" not recognized");
+        val serviceResponse = new CasJsonServiceResponse();
+        serviceResponse.setAuthenticationFailure(failure);
+
+        val response = new MockHttpServletResponse();
+        new StreamingCasJsonResponseView().render(Map.of(Cas30JsonResponseView.ATTRIBUTE_NAME_MODEL_SERVICE_RESPONSE, serviceResponse),
+            new MockHttpServletRequest(), response);
+        val result = MAPPER.readTree(response.getContentAsString()).get("serviceResponse").get("authenticationFailure");
+        assertEquals("INVALID_TICKET", result.get("code").asText());
+        assertEquals("Ticket \"ST-1\" not recognized", result.get("description").asText());
+    }
+}
@@ -0,0 +1,77 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link StreamingCasProtocolResponseViewTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+public class StreamingCasProtocolResponseViewTests {
+
+    @Test
+    public void verifySuccessResponse() throws Exception {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("cas<user>&"));
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU, "PGTIOU-1");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS,
+            List.of(CoreAuthenticationTestUtils.getAuthentication("https://proxy.example.org")));
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES,
+            List.of("<cas:givenName>Jo &amp; Ann</cas:givenName>"));
+
+        val response = new MockHttpServletResponse();
+        new StreamingCasProtocolResponseView(true, true).render(model, new MockHttpServletRequest(), response);
+        val content = response.getContentAsString();
+        assertTrue(response.getContentType().startsWith("application/xml"));
+        assertTrue(content.startsWith("<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>"));
+        assertTrue(content.contains("<cas:user>cas&lt;user&gt;&amp;</cas:user>"));
+        assertTrue(content.contains("<cas:proxyGrantingTicket>PGTIOU-1</cas:proxyGrantingTicket>"));
+        assertTrue(content.contains("<cas:proxy>https://proxy.example.org</cas:proxy>"));
+        assertTrue(content.contains("<cas:attributes>"));
+        assertTrue(content.contains("<cas:givenName>Jo &amp; Ann</cas:givenName>"));
+        assertTrue(content.trim().endsWith("</cas:serviceResponse>"));
+    }
+
+    @Test
+    public void verifySuccessResponseWithoutAttributes() throws Exception {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("casuser"));
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES,
+            List.of("<cas:givenName>casuser</cas:givenName>"));
+
+        val response = new MockHttpServletResponse();
+        new StreamingCasProtocolResponseView(true, false).render(model, new MockHttpServletRequest(), response);
+        val content = response.getContentAsString();
+        assertTrue(content.contains("<cas:user>casuser</cas:user>"));
+        assertFalse(content.contains("<cas:proxyGrantingTicket>"));
+        assertFalse(content.contains("<cas:proxies>"));
+        assertFalse(content.contains("<cas:attributes>"));
+    }
+
+    @Test
+    public void verifyFailureResponse() throws Exception {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "INVALID_TICKET");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, "Ticket \"ST-1\" not recognized");
+
+        val response = new MockHttpServletResponse();
+        new StreamingCasProtocolResponseView(false, false).render(model, new MockHttpServletRequest(), response);
+        val content = response.getContentAsString();
+        assertTrue(content.contains("<cas:authenticationFailure code=\"INVALID_TICKET\">"
+            + "Ticket &quot;ST-1&quot; not recognized</cas:authenticationFailure>"));
+        assertFalse(content.contains("<cas:authenticationSuccess>"));
+    }
+}
@@ -0,0 +1,113 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering CAS3 validation responses via the protocol view template
+ * against writing them via {@link StreamingCasProtocolResponseView}.
+ * Run via {@link #main(String[])} from the test classpath.
+ *
+ * @author Misagh Moayyed
+ * @since 6.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationResponseRenderingBenchmark {
+    private static final String TEMPLATE = "<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>\n"
+        + "    <cas:authenticationSuccess>\n"
+        + "        <cas:user th:text=\"${principal.id}\"/>\n"
+        + "        <cas:proxyGrantingTicket th:if=\"${pgtIou}\" th:text=\"${pgtIou}\"/>\n"
+        + "        <cas:proxies th:if=\"${not #lists.isEmpty(chainedAuthentications)}\">\n"
+        + "            <cas:proxy th:each=\"proxy : ${chainedAuthentications}\" th:text=\"${proxy.principal.id}\"/>\n"
+        + "        </cas:proxies>\n"
+        + "        <cas:attributes th:if=\"${not #lists.isEmpty(formattedAttributes)}\">\n"
+        + "            <div th:each=\"attr : ${formattedAttributes}\" th:remove=\"tag\">\n"
+        + "                <div th:utext=\"${attr}\" th:remove=\"tag\"/>\n"
+        + "            </div>\n"
+        + "        </cas:attributes>\n"
+        + "    </cas:authenticationSuccess>\n"
+        + "</cas:serviceResponse>";
+
+    @Param({"5", "50"})
+    private int attributes;
+
+    private Map<String, Object> model;
+
+    private SpringTemplateEngine templateEngine;
+
+    private StreamingCasProtocolResponseView streamingView;
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(ValidationResponseRenderingBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void setup() {
+        model = new HashMap<>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("casuser"));
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU, "PGTIOU-1-casuser");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS, List.of());
+        val formattedAttributes = new ArrayList<String>(attributes);
+        for (var i = 0; i < attributes; i++) {
+            formattedAttributes.add("<cas:attribute" + i + ">value &amp; " + i + "</cas:attribute" + i + '>');
+        }
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES, formattedAttributes);
+
+        val resolver = new StringTemplateResolver();
+        resolver.setTemplateMode(TemplateMode.XML);
+        resolver.setCacheable(true);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        streamingView = new StreamingCasProtocolResponseView(true, true);
+    }
+
+    @Benchmark
+    public String template() throws Exception {
+        val response = new MockHttpServletResponse();
+        response.setContentType("application/xml;charset=UTF-8");
+        templateEngine.process(TEMPLATE, new Context(null, model), response.getWriter());
+        response.getWriter().flush();
+        return response.getContentAsString();
+    }
+
+    @Benchmark
+    public String streaming() throws Exception {
+        val response = new MockHttpServletResponse();
+        streamingView.render(model, new MockHttpServletRequest(), response);
+        return response.getContentAsString();
+    }
+}